@@ -0,0 +1,66 @@
+package ai.timefold.solver.core.impl.bavet;
+
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic fact used by the node benchmarks.
+ * It is mutable, so that benchmarks can simulate a move changing a planning variable
+ * and then trigger an update of the tuple which carries it.
+ * <p>
+ * {@link #key} is the join/group key, {@link #start} and {@link #end} form a time window.
+ */
+public final class BenchmarkFact {
+
+    /**
+     * Creates facts with keys uniformly distributed over {@code keyCount} distinct values.
+     * Seeded, so that every fork of every benchmark sees the same data.
+     *
+     * @param factCount number of facts to create
+     * @param keyCount number of distinct keys; the average fan-out of a join is {@code factCount / keyCount}
+     * @param seed seed for the random number generator
+     * @return never null
+     */
+    public static BenchmarkFact[] generate(int factCount, int keyCount, long seed) {
+        var random = new SplittableRandom(seed);
+        var facts = new BenchmarkFact[factCount];
+        for (var i = 0; i < factCount; i++) {
+            var start = random.nextLong(0, factCount * 10L);
+            facts[i] = new BenchmarkFact(i, random.nextInt(keyCount), start, start + random.nextLong(1, 100));
+        }
+        return facts;
+    }
+
+    public final int id;
+    public int key;
+    public long start;
+    public long end;
+
+    public BenchmarkFact(int id, int key, long start, long end) {
+        this.id = id;
+        this.key = key;
+        this.start = start;
+        this.end = end;
+    }
+
+    public int getKey() {
+        return key;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    public long getEnd() {
+        return end;
+    }
+
+    public int getDuration() {
+        return (int) (end - start);
+    }
+
+    @Override
+    public String toString() {
+        return "Fact-" + id;
+    }
+
+}
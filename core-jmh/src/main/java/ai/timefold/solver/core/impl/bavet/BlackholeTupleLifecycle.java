@@ -0,0 +1,33 @@
+package ai.timefold.solver.core.impl.bavet;
+
+import ai.timefold.solver.core.impl.bavet.common.tuple.AbstractTuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Terminates the node network under benchmark,
+ * so that the JIT can not eliminate the propagation as dead code.
+ *
+ * @param <Tuple_>
+ */
+public record BlackholeTupleLifecycle<Tuple_ extends AbstractTuple>(Blackhole blackhole)
+        implements
+            TupleLifecycle<Tuple_> {
+
+    @Override
+    public void insert(Tuple_ tuple) {
+        blackhole.consume(tuple);
+    }
+
+    @Override
+    public void update(Tuple_ tuple) {
+        blackhole.consume(tuple);
+    }
+
+    @Override
+    public void retract(Tuple_ tuple) {
+        blackhole.consume(tuple);
+    }
+
+}
@@ -0,0 +1,136 @@
+package ai.timefold.solver.core.impl.bavet.bi;
+
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.bavet.BenchmarkFact;
+import ai.timefold.solver.core.impl.bavet.BlackholeTupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.bi.joiner.DefaultBiJoiner;
+import ai.timefold.solver.core.impl.bavet.common.index.IndexerFactory;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link IndexedJoinBiNode} with the left and right inputs already loaded,
+ * so that every operation is the incremental work triggered by a single move.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexedJoinBiNodeBenchmark {
+
+    private static final int STORE_INDEX_KEYS = 0;
+    private static final int STORE_INDEX_ENTRY = 1;
+    private static final int STORE_INDEX_OUT_TUPLE_LIST = 2;
+
+    @Param({ "EQUAL", "EQUAL_AND_LESS_THAN", "OVERLAPPING" })
+    public String joinerType;
+    @Param({ "1000", "10000" })
+    public int factCount;
+    @Param({ "100" })
+    public int keyCount;
+    @Param({ "false", "true" })
+    public boolean recycleTuples;
+
+    private BenchmarkFact[] leftFacts;
+    private BenchmarkFact[] rightFacts;
+    private UniTuple<BenchmarkFact>[] leftTuples;
+    private UniTuple<BenchmarkFact>[] rightTuples;
+    private IndexedJoinBiNode<BenchmarkFact, BenchmarkFact> node;
+    private int cursor = 0;
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setup(Blackhole blackhole) {
+        var joiner = switch (joinerType) {
+            case "EQUAL" -> Joiners.equal(BenchmarkFact::getKey);
+            // Without the equal joiner, the number of out tuples would be quadratic in the number of facts.
+            case "EQUAL_AND_LESS_THAN" -> Joiners.equal(BenchmarkFact::getKey)
+                    .and(Joiners.lessThan(BenchmarkFact::getStart));
+            case "OVERLAPPING" -> Joiners.overlapping(BenchmarkFact::getStart, BenchmarkFact::getEnd);
+            default -> throw new IllegalArgumentException("Unsupported joinerType (%s).".formatted(joinerType));
+        };
+        var indexerFactory = new IndexerFactory<>((DefaultBiJoiner<BenchmarkFact, BenchmarkFact>) joiner);
+        node = new IndexedJoinBiNode<>(indexerFactory,
+                STORE_INDEX_KEYS, STORE_INDEX_ENTRY, STORE_INDEX_OUT_TUPLE_LIST,
+                STORE_INDEX_KEYS, STORE_INDEX_ENTRY, STORE_INDEX_OUT_TUPLE_LIST,
+                new BlackholeTupleLifecycle<>(blackhole), null, 2, 0, 1, recycleTuples);
+        leftFacts = BenchmarkFact.generate(factCount, keyCount, 37);
+        rightFacts = BenchmarkFact.generate(factCount, keyCount, 41);
+        leftTuples = new UniTuple[factCount];
+        rightTuples = new UniTuple[factCount];
+        for (var i = 0; i < factCount; i++) {
+            leftTuples[i] = new UniTuple<>(leftFacts[i], 3);
+            node.insertLeft(leftTuples[i]);
+            rightTuples[i] = new UniTuple<>(rightFacts[i], 3);
+            node.insertRight(rightTuples[i]);
+        }
+        node.getPropagator().propagateEverything();
+    }
+
+    private int nextIndex() {
+        var index = cursor;
+        cursor = index + 1 == factCount ? 0 : index + 1;
+        return index;
+    }
+
+    /**
+     * The index keys do not change, therefore the existing out tuples are only updated.
+     */
+    @Benchmark
+    public void updateLeftSameKeys() {
+        node.updateLeft(leftTuples[nextIndex()]);
+        node.getPropagator().propagateEverything();
+    }
+
+    /**
+     * The index keys change, therefore the existing out tuples are retracted and new ones are inserted.
+     */
+    @Benchmark
+    public void updateLeftChangedKeys() {
+        var i = nextIndex();
+        shift(leftFacts[i]);
+        node.updateLeft(leftTuples[i]);
+        node.getPropagator().propagateEverything();
+    }
+
+    @Benchmark
+    public void updateRightChangedKeys() {
+        var i = nextIndex();
+        shift(rightFacts[i]);
+        node.updateRight(rightTuples[i]);
+        node.getPropagator().propagateEverything();
+    }
+
+    @Benchmark
+    public void retractAndInsertRight() {
+        var rightTuple = rightTuples[nextIndex()];
+        node.retractRight(rightTuple);
+        node.getPropagator().propagateEverything();
+        node.insertRight(rightTuple);
+        node.getPropagator().propagateEverything();
+    }
+
+    private void shift(BenchmarkFact fact) {
+        fact.key = (fact.key + 1) % keyCount;
+        fact.start += 7;
+        fact.end += 7;
+    }
+
+}
@@ -0,0 +1,111 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.impl.bavet.BenchmarkFact;
+import ai.timefold.solver.core.impl.bavet.BlackholeTupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TupleState;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link StaticPropagationQueue} and {@link DynamicPropagationQueue} in isolation.
+ * Every benchmark operation queues a batch of tuples and propagates the whole batch,
+ * which is what a single node does during {@code calculateScore()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropagationQueueBenchmark {
+
+    @Param({ "10", "1000" })
+    public int batchSize;
+
+    private UniTuple<BenchmarkFact>[] tuples;
+    private ExistsCounter<UniTuple<BenchmarkFact>>[] counters;
+    private StaticPropagationQueue<UniTuple<BenchmarkFact>> staticQueue;
+    private DynamicPropagationQueue<UniTuple<BenchmarkFact>, ExistsCounter<UniTuple<BenchmarkFact>>> dynamicQueue;
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setup(Blackhole blackhole) {
+        var facts = BenchmarkFact.generate(batchSize, batchSize, 37);
+        tuples = new UniTuple[batchSize];
+        counters = new ExistsCounter[batchSize];
+        for (var i = 0; i < batchSize; i++) {
+            tuples[i] = new UniTuple<>(facts[i], 0);
+            counters[i] = new ExistsCounter<>(new UniTuple<>(facts[i], 0));
+        }
+        staticQueue = new StaticPropagationQueue<>(new BlackholeTupleLifecycle<>(blackhole));
+        dynamicQueue = new DynamicPropagationQueue<>(new BlackholeTupleLifecycle<>(blackhole));
+        for (var tuple : tuples) {
+            staticQueue.insert(tuple);
+        }
+        staticQueue.propagateEverything();
+        for (var counter : counters) {
+            dynamicQueue.insert(counter);
+        }
+        dynamicQueue.propagateEverything();
+    }
+
+    @Benchmark
+    public void staticUpdate() {
+        for (var tuple : tuples) {
+            staticQueue.update(tuple);
+        }
+        staticQueue.propagateEverything();
+    }
+
+    @Benchmark
+    public void staticRetractAndInsert() {
+        for (var tuple : tuples) {
+            staticQueue.retract(tuple, TupleState.DYING);
+        }
+        staticQueue.propagateEverything();
+        for (var tuple : tuples) {
+            staticQueue.insert(tuple);
+        }
+        staticQueue.propagateEverything();
+    }
+
+    @Benchmark
+    public void dynamicUpdate() {
+        for (var counter : counters) {
+            dynamicQueue.update(counter);
+        }
+        dynamicQueue.propagateEverything();
+    }
+
+    /**
+     * Moving carriers between queues before propagation is what sets the dynamic queue apart.
+     */
+    @Benchmark
+    public void dynamicUpdateThenRetractAndInsert() {
+        for (var counter : counters) {
+            dynamicQueue.update(counter);
+            dynamicQueue.retract(counter, TupleState.DYING);
+        }
+        dynamicQueue.propagateEverything();
+        for (var counter : counters) {
+            dynamicQueue.insert(counter);
+        }
+        dynamicQueue.propagateEverything();
+    }
+
+}
@@ -0,0 +1,104 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.bavet.BenchmarkFact;
+import ai.timefold.solver.core.impl.bavet.bi.joiner.DefaultBiJoiner;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@link Indexer} chain built by {@link IndexerFactory} for a single joiner,
+ * which is {@link EqualsIndexer} for {@code equal} and {@link ComparisonIndexer} for {@code lessThan}.
+ * Each benchmark operation mimics what a join node does for a single tuple.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexerBenchmark {
+
+    @Param({ "EQUAL", "LESS_THAN" })
+    public String joinerType;
+    @Param({ "1000", "100000" })
+    public int factCount;
+    @Param({ "100" })
+    public int keyCount;
+
+    private BenchmarkFact[] facts;
+    private UniTuple<BenchmarkFact>[] tuples;
+    private ElementAwareListEntry<UniTuple<BenchmarkFact>>[] entries;
+    private Indexer<UniTuple<BenchmarkFact>> indexer;
+    private int cursor = 0;
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setup() {
+        var joiner = switch (joinerType) {
+            case "EQUAL" -> Joiners.equal(BenchmarkFact::getKey);
+            case "LESS_THAN" -> Joiners.lessThan(BenchmarkFact::getKey);
+            default -> throw new IllegalArgumentException("Unsupported joinerType (%s).".formatted(joinerType));
+        };
+        indexer = new IndexerFactory<>((DefaultBiJoiner<BenchmarkFact, BenchmarkFact>) joiner).buildIndexer(true);
+        facts = BenchmarkFact.generate(factCount, keyCount, 37);
+        tuples = new UniTuple[factCount];
+        entries = new ElementAwareListEntry[factCount];
+        for (var i = 0; i < factCount; i++) {
+            var fact = facts[i];
+            tuples[i] = new UniTuple<>(fact, 0);
+            entries[i] = indexer.put(IndexKeys.of(fact.key), tuples[i]);
+        }
+    }
+
+    private int nextIndex() {
+        var index = cursor;
+        cursor = index + 1 == factCount ? 0 : index + 1;
+        return index;
+    }
+
+    /**
+     * Equivalent of a tuple changing its index key, such as after a change move.
+     */
+    @Benchmark
+    public void removeAndPut() {
+        var i = nextIndex();
+        var fact = facts[i];
+        indexer.remove(IndexKeys.of(fact.key), entries[i]);
+        fact.key = (fact.key + 1) % keyCount;
+        entries[i] = indexer.put(IndexKeys.of(fact.key), tuples[i]);
+    }
+
+    /**
+     * Equivalent of a join node looking up the tuples on the other side.
+     */
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        indexer.forEach(IndexKeys.of(facts[nextIndex()].key), blackhole::consume);
+    }
+
+    /**
+     * Equivalent of an if-exists node without filtering counting the tuples on the other side.
+     */
+    @Benchmark
+    public int size() {
+        return indexer.size(IndexKeys.of(facts[nextIndex()].key));
+    }
+
+}
@@ -0,0 +1,116 @@
+package ai.timefold.solver.core.impl.bavet.uni;
+
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.BenchmarkFact;
+import ai.timefold.solver.core.impl.bavet.BlackholeTupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.AbstractGroupNode;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@code Group*Mapping*Collector*UniNode} family,
+ * covering a group key without a collector, a collector without a group key and both combined.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GroupUniNodeBenchmark {
+
+    private static final int STORE_INDEX_GROUP = 0;
+    private static final int STORE_INDEX_UNDO = 1;
+
+    @Param({ "Group1Mapping0", "Group0Mapping1", "Group1Mapping1" })
+    public String nodeType;
+    @Param({ "1000", "100000" })
+    public int factCount;
+    @Param({ "100" })
+    public int keyCount;
+    @Param({ "REPRODUCIBLE" })
+    public EnvironmentMode environmentMode;
+
+    private BenchmarkFact[] facts;
+    private UniTuple<BenchmarkFact>[] tuples;
+    private AbstractGroupNode<UniTuple<BenchmarkFact>, ?, ?, ?, ?> node;
+    private int cursor = 0;
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setup(Blackhole blackhole) {
+        node = switch (nodeType) {
+            case "Group1Mapping0" -> new Group1Mapping0CollectorUniNode<>(BenchmarkFact::getKey, STORE_INDEX_GROUP,
+                    new BlackholeTupleLifecycle<>(blackhole), 0, environmentMode);
+            case "Group0Mapping1" -> new Group0Mapping1CollectorUniNode<>(STORE_INDEX_GROUP, STORE_INDEX_UNDO,
+                    ConstraintCollectors.sum(BenchmarkFact::getDuration), new BlackholeTupleLifecycle<>(blackhole), 0,
+                    environmentMode);
+            case "Group1Mapping1" -> new Group1Mapping1CollectorUniNode<>(BenchmarkFact::getKey, STORE_INDEX_GROUP,
+                    STORE_INDEX_UNDO, ConstraintCollectors.sum(BenchmarkFact::getDuration),
+                    new BlackholeTupleLifecycle<>(blackhole), 0, environmentMode);
+            default -> throw new IllegalArgumentException("Unsupported nodeType (%s).".formatted(nodeType));
+        };
+        facts = BenchmarkFact.generate(factCount, keyCount, 37);
+        tuples = new UniTuple[factCount];
+        for (var i = 0; i < factCount; i++) {
+            tuples[i] = new UniTuple<>(facts[i], 2);
+            node.insert(tuples[i]);
+        }
+        node.getPropagator().propagateEverything();
+    }
+
+    private int nextIndex() {
+        var index = cursor;
+        cursor = index + 1 == factCount ? 0 : index + 1;
+        return index;
+    }
+
+    /**
+     * The tuple stays in its group, only the collector result changes.
+     */
+    @Benchmark
+    public void updateSameGroup() {
+        var i = nextIndex();
+        facts[i].end++;
+        node.update(tuples[i]);
+        node.getPropagator().propagateEverything();
+    }
+
+    /**
+     * The tuple moves to a different group.
+     */
+    @Benchmark
+    public void updateChangedGroup() {
+        var i = nextIndex();
+        var fact = facts[i];
+        fact.key = (fact.key + 1) % keyCount;
+        node.update(tuples[i]);
+        node.getPropagator().propagateEverything();
+    }
+
+    @Benchmark
+    public void retractAndInsert() {
+        var tuple = tuples[nextIndex()];
+        node.retract(tuple);
+        node.getPropagator().propagateEverything();
+        node.insert(tuple);
+        node.getPropagator().propagateEverything();
+    }
+
+}
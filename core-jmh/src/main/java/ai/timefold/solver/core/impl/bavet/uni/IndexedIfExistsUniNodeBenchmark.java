@@ -0,0 +1,99 @@
+package ai.timefold.solver.core.impl.bavet.uni;
+
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.bavet.BenchmarkFact;
+import ai.timefold.solver.core.impl.bavet.BlackholeTupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.bi.joiner.DefaultBiJoiner;
+import ai.timefold.solver.core.impl.bavet.common.index.IndexerFactory;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@link IndexedIfExistsUniNode} with the left and right inputs already loaded.
+ * Keys change on every operation, so that counters are moved between indexes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexedIfExistsUniNodeBenchmark {
+
+    private static final int STORE_INDEX_KEYS = 0;
+    private static final int STORE_INDEX_ENTRY = 1;
+
+    @Param({ "true", "false" })
+    public boolean shouldExist;
+    @Param({ "1000", "100000" })
+    public int factCount;
+    @Param({ "100", "10000" })
+    public int keyCount;
+
+    private BenchmarkFact[] leftFacts;
+    private BenchmarkFact[] rightFacts;
+    private UniTuple<BenchmarkFact>[] leftTuples;
+    private UniTuple<BenchmarkFact>[] rightTuples;
+    private IndexedIfExistsUniNode<BenchmarkFact, BenchmarkFact> node;
+    private int cursor = 0;
+
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setup(Blackhole blackhole) {
+        var joiner = (DefaultBiJoiner<BenchmarkFact, BenchmarkFact>) Joiners.equal(BenchmarkFact::getKey);
+        node = new IndexedIfExistsUniNode<>(shouldExist, new IndexerFactory<>(joiner),
+                STORE_INDEX_KEYS, STORE_INDEX_ENTRY, STORE_INDEX_KEYS, STORE_INDEX_ENTRY,
+                new BlackholeTupleLifecycle<>(blackhole));
+        leftFacts = BenchmarkFact.generate(factCount, keyCount, 37);
+        rightFacts = BenchmarkFact.generate(factCount, keyCount, 41);
+        leftTuples = new UniTuple[factCount];
+        rightTuples = new UniTuple[factCount];
+        for (var i = 0; i < factCount; i++) {
+            leftTuples[i] = new UniTuple<>(leftFacts[i], 2);
+            node.insertLeft(leftTuples[i]);
+            rightTuples[i] = new UniTuple<>(rightFacts[i], 2);
+            node.insertRight(rightTuples[i]);
+        }
+        node.getPropagator().propagateEverything();
+    }
+
+    private int nextIndex() {
+        var index = cursor;
+        cursor = index + 1 == factCount ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public void updateLeftChangedKey() {
+        var i = nextIndex();
+        var fact = leftFacts[i];
+        fact.key = (fact.key + 1) % keyCount;
+        node.updateLeft(leftTuples[i]);
+        node.getPropagator().propagateEverything();
+    }
+
+    @Benchmark
+    public void updateRightChangedKey() {
+        var i = nextIndex();
+        var fact = rightFacts[i];
+        fact.key = (fact.key + 1) % keyCount;
+        node.updateRight(rightTuples[i]);
+        node.getPropagator().propagateEverything();
+    }
+
+}
@@ -3,10 +3,18 @@ package ai.timefold.solver.core.api.score.stream;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
 
 import ai.timefold.solver.core.api.function.PentaPredicate;
 import ai.timefold.solver.core.api.function.QuadFunction;
 import ai.timefold.solver.core.api.function.QuadPredicate;
+import ai.timefold.solver.core.api.function.ToIntQuadFunction;
+import ai.timefold.solver.core.api.function.ToIntTriFunction;
+import ai.timefold.solver.core.api.function.ToLongQuadFunction;
+import ai.timefold.solver.core.api.function.ToLongTriFunction;
 import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.api.function.TriPredicate;
 import ai.timefold.solver.core.api.score.stream.bi.BiConstraintStream;
@@ -18,6 +26,7 @@ import ai.timefold.solver.core.api.score.stream.uni.UniConstraintStream;
 import ai.timefold.solver.core.impl.bavet.bi.joiner.DefaultBiJoiner;
 import ai.timefold.solver.core.impl.bavet.bi.joiner.FilteringBiJoiner;
 import ai.timefold.solver.core.impl.bavet.common.joiner.JoinerType;
+import ai.timefold.solver.core.impl.bavet.common.joiner.PrimitiveKeyMapping;
 import ai.timefold.solver.core.impl.bavet.penta.joiner.DefaultPentaJoiner;
 import ai.timefold.solver.core.impl.bavet.penta.joiner.FilteringPentaJoiner;
 import ai.timefold.solver.core.impl.bavet.quad.joiner.DefaultQuadJoiner;
@@ -78,6 +87,58 @@ public final class Joiners {
         return new DefaultBiJoiner<>(leftMapping, JoinerType.EQUAL, rightMapping);
     }
 
+    /**
+     * As defined by {@link #equalInt(ToIntFunction, ToIntFunction)} with both arguments using the same mapping.
+     *
+     * @param <A> the type of both objects
+     * @param mapping mapping function to apply to both A and B
+     */
+    public static <A> @NonNull BiJoiner<A, A> equalInt(@NonNull ToIntFunction<A> mapping) {
+        return equalInt(mapping, mapping);
+    }
+
+    /**
+     * As defined by {@link #equal(Function, Function)},
+     * but specialized for properties of type {@code int}, such as numeric ids or day indexes.
+     * The join index stores these properties unboxed,
+     * which is faster and puts less pressure on the garbage collector than {@link #equal(Function, Function)}.
+     *
+     * @param <A> the type of object on the left
+     * @param <B> the type of object on the right
+     * @param leftMapping mapping function to apply to A
+     * @param rightMapping mapping function to apply to B
+     */
+    public static <A, B> @NonNull BiJoiner<A, B> equalInt(@NonNull ToIntFunction<A> leftMapping,
+            @NonNull ToIntFunction<B> rightMapping) {
+        return new DefaultBiJoiner<>(PrimitiveKeyMapping.ofInt(leftMapping), JoinerType.EQUAL,
+                PrimitiveKeyMapping.ofInt(rightMapping));
+    }
+
+    /**
+     * As defined by {@link #equalLong(ToLongFunction, ToLongFunction)} with both arguments using the same mapping.
+     *
+     * @param <A> the type of both objects
+     * @param mapping mapping function to apply to both A and B
+     */
+    public static <A> @NonNull BiJoiner<A, A> equalLong(@NonNull ToLongFunction<A> mapping) {
+        return equalLong(mapping, mapping);
+    }
+
+    /**
+     * As defined by {@link #equalInt(ToIntFunction, ToIntFunction)},
+     * but for properties of type {@code long}, such as timestamps.
+     *
+     * @param <A> the type of object on the left
+     * @param <B> the type of object on the right
+     * @param leftMapping mapping function to apply to A
+     * @param rightMapping mapping function to apply to B
+     */
+    public static <A, B> @NonNull BiJoiner<A, B> equalLong(@NonNull ToLongFunction<A> leftMapping,
+            @NonNull ToLongFunction<B> rightMapping) {
+        return new DefaultBiJoiner<>(PrimitiveKeyMapping.ofLong(leftMapping), JoinerType.EQUAL,
+                PrimitiveKeyMapping.ofLong(rightMapping));
+    }
+
     /**
      * As defined by {@link #lessThan(Function, Function)} with both arguments using the same mapping.
      *
@@ -276,6 +337,36 @@ public final class Joiners {
         return new DefaultTriJoiner<>(leftMapping, JoinerType.EQUAL, rightMapping);
     }
 
+    /**
+     * As defined by {@link #equalInt(ToIntFunction, ToIntFunction)}.
+     *
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the object on the right
+     * @param leftMapping mapping function to apply to (A,B)
+     * @param rightMapping mapping function to apply to C
+     */
+    public static <A, B, C> @NonNull TriJoiner<A, B, C> equalInt(@NonNull ToIntBiFunction<A, B> leftMapping,
+            @NonNull ToIntFunction<C> rightMapping) {
+        return new DefaultTriJoiner<>(PrimitiveKeyMapping.ofInt(leftMapping), JoinerType.EQUAL,
+                PrimitiveKeyMapping.ofInt(rightMapping));
+    }
+
+    /**
+     * As defined by {@link #equalLong(ToLongFunction, ToLongFunction)}.
+     *
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the object on the right
+     * @param leftMapping mapping function to apply to (A,B)
+     * @param rightMapping mapping function to apply to C
+     */
+    public static <A, B, C> @NonNull TriJoiner<A, B, C> equalLong(@NonNull ToLongBiFunction<A, B> leftMapping,
+            @NonNull ToLongFunction<C> rightMapping) {
+        return new DefaultTriJoiner<>(PrimitiveKeyMapping.ofLong(leftMapping), JoinerType.EQUAL,
+                PrimitiveKeyMapping.ofLong(rightMapping));
+    }
+
     /**
      * As defined by {@link #lessThan(Function, Function)}.
      *
@@ -387,6 +478,38 @@ public final class Joiners {
         return new DefaultQuadJoiner<>(leftMapping, JoinerType.EQUAL, rightMapping);
     }
 
+    /**
+     * As defined by {@link #equalInt(ToIntFunction, ToIntFunction)}.
+     *
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of the object on the right
+     * @param leftMapping mapping function to apply to (A,B,C)
+     * @param rightMapping mapping function to apply to D
+     */
+    public static <A, B, C, D> @NonNull QuadJoiner<A, B, C, D> equalInt(
+            @NonNull ToIntTriFunction<A, B, C> leftMapping, @NonNull ToIntFunction<D> rightMapping) {
+        return new DefaultQuadJoiner<>(PrimitiveKeyMapping.ofInt(leftMapping), JoinerType.EQUAL,
+                PrimitiveKeyMapping.ofInt(rightMapping));
+    }
+
+    /**
+     * As defined by {@link #equalLong(ToLongFunction, ToLongFunction)}.
+     *
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of the object on the right
+     * @param leftMapping mapping function to apply to (A,B,C)
+     * @param rightMapping mapping function to apply to D
+     */
+    public static <A, B, C, D> @NonNull QuadJoiner<A, B, C, D> equalLong(
+            @NonNull ToLongTriFunction<A, B, C> leftMapping, @NonNull ToLongFunction<D> rightMapping) {
+        return new DefaultQuadJoiner<>(PrimitiveKeyMapping.ofLong(leftMapping), JoinerType.EQUAL,
+                PrimitiveKeyMapping.ofLong(rightMapping));
+    }
+
     /**
      * As defined by {@link #lessThan(Function, Function)}.
      *
@@ -505,6 +628,40 @@ public final class Joiners {
         return new DefaultPentaJoiner<>(leftMapping, JoinerType.EQUAL, rightMapping);
     }
 
+    /**
+     * As defined by {@link #equalInt(ToIntFunction, ToIntFunction)}.
+     *
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of the fourth object on the left
+     * @param <E> the type of the object on the right
+     * @param leftMapping mapping function to apply to (A,B,C,D)
+     * @param rightMapping mapping function to apply to E
+     */
+    public static <A, B, C, D, E> @NonNull PentaJoiner<A, B, C, D, E> equalInt(
+            @NonNull ToIntQuadFunction<A, B, C, D> leftMapping, @NonNull ToIntFunction<E> rightMapping) {
+        return new DefaultPentaJoiner<>(PrimitiveKeyMapping.ofInt(leftMapping), JoinerType.EQUAL,
+                PrimitiveKeyMapping.ofInt(rightMapping));
+    }
+
+    /**
+     * As defined by {@link #equalLong(ToLongFunction, ToLongFunction)}.
+     *
+     * @param <A> the type of the first object on the left
+     * @param <B> the type of the second object on the left
+     * @param <C> the type of the third object on the left
+     * @param <D> the type of the fourth object on the left
+     * @param <E> the type of the object on the right
+     * @param leftMapping mapping function to apply to (A,B,C,D)
+     * @param rightMapping mapping function to apply to E
+     */
+    public static <A, B, C, D, E> @NonNull PentaJoiner<A, B, C, D, E> equalLong(
+            @NonNull ToLongQuadFunction<A, B, C, D> leftMapping, @NonNull ToLongFunction<E> rightMapping) {
+        return new DefaultPentaJoiner<>(PrimitiveKeyMapping.ofLong(leftMapping), JoinerType.EQUAL,
+                PrimitiveKeyMapping.ofLong(rightMapping));
+    }
+
     /**
      * As defined by {@link #lessThan(Function, Function)}
      *
@@ -1197,6 +1197,52 @@ public interface UniConstraintStream<A> extends ConstraintStream {
             @NonNull Function<A, GroupKey_> groupKeyMapping,
             @NonNull UniConstraintCollector<A, ResultContainer_, Result_> collector);
 
+    /**
+     * As {@link #groupBy(Function)}, but for an {@code int} group key.
+     * The group key is only boxed once per group,
+     * so that the tuples need not be boxed and hashed as objects every time the stream is updated.
+     *
+     * @param groupKeyMapping mapping function to convert each element in the stream to an {@code int}
+     */
+    @NonNull
+    UniConstraintStream<Integer> groupByInt(@NonNull ToIntFunction<A> groupKeyMapping);
+
+    /**
+     * As {@link #groupBy(Function, UniConstraintCollector)}, but for an {@code int} group key.
+     * The group key is only boxed once per group,
+     * so that the tuples need not be boxed and hashed as objects every time the stream is updated.
+     *
+     * @param groupKeyMapping function to convert the fact in the original tuple to an {@code int}
+     * @param collector the collector to perform the grouping operation with
+     *        See {@link ConstraintCollectors} for common operations, such as {@code count()}, {@code sum()} and others.
+     * @param <ResultContainer_> the mutable accumulation type (often hidden as an implementation detail)
+     * @param <Result_> the type of the second fact in the destination {@link BiConstraintStream}'s tuple
+     */
+    <ResultContainer_, Result_> @NonNull BiConstraintStream<Integer, Result_> groupByInt(
+            @NonNull ToIntFunction<A> groupKeyMapping,
+            @NonNull UniConstraintCollector<A, ResultContainer_, Result_> collector);
+
+    /**
+     * As {@link #groupByInt(ToIntFunction)}, but for a {@code long} group key.
+     *
+     * @param groupKeyMapping mapping function to convert each element in the stream to a {@code long}
+     */
+    @NonNull
+    UniConstraintStream<Long> groupByLong(@NonNull ToLongFunction<A> groupKeyMapping);
+
+    /**
+     * As {@link #groupByInt(ToIntFunction, UniConstraintCollector)}, but for a {@code long} group key.
+     *
+     * @param groupKeyMapping function to convert the fact in the original tuple to a {@code long}
+     * @param collector the collector to perform the grouping operation with
+     *        See {@link ConstraintCollectors} for common operations, such as {@code count()}, {@code sum()} and others.
+     * @param <ResultContainer_> the mutable accumulation type (often hidden as an implementation detail)
+     * @param <Result_> the type of the second fact in the destination {@link BiConstraintStream}'s tuple
+     */
+    <ResultContainer_, Result_> @NonNull BiConstraintStream<Long, Result_> groupByLong(
+            @NonNull ToLongFunction<A> groupKeyMapping,
+            @NonNull UniConstraintCollector<A, ResultContainer_, Result_> collector);
+
     /**
      * Convert the {@link UniConstraintStream} to a {@link TriConstraintStream}, consisting of unique tuples with three
      * facts.
@@ -15,6 +15,8 @@ import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
 import ai.timefold.solver.core.api.score.calculator.EasyScoreCalculator;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.config.solver.SolverConfig;
 import ai.timefold.solver.core.impl.solver.DefaultSolutionManager;
 import ai.timefold.solver.core.preview.api.domain.solution.diff.PlanningSolutionDiff;
 
@@ -164,6 +166,27 @@ public interface SolutionManager<Solution_, Score_ extends Score<Score_>> {
     @NonNull
     PlanningSolutionDiff<Solution_> diff(@NonNull Solution_ oldSolution, @NonNull Solution_ newSolution);
 
+    /**
+     * Opens a session which keeps a planning clone of the solution and its score calculation,
+     * so that it answers a series of {@link #analyze(Object) analyses}
+     * and {@link #recommendAssignment(Object, Object, Function) assignment recommendations} on that solution
+     * without building the score calculation from scratch for every query.
+     * Between queries, {@link SolutionSession#applyProblemChange(ProblemChange) problem changes}
+     * only recalculate the part of the score they affect.
+     * <p>
+     * Prefer this over the methods of this class that take a solution,
+     * when the same large solution is queried many times with small changes in between.
+     * The session updates the shadow variables of its clone,
+     * as {@link SolutionUpdatePolicy#UPDATE_ALL} would.
+     *
+     * @param solution never changed by the session
+     * @return never null, close it when it is no longer used
+     * @throws IllegalStateException when constraint matching is not supported by the underlying score calculator,
+     *         such as {@link EasyScoreCalculator}.
+     */
+    @NonNull
+    SolutionSession<Solution_, Score_> openSession(@NonNull Solution_ solution);
+
     /**
      * As defined by {@link #recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy)},
      * with {@link ScoreAnalysisFetchPolicy#FETCH_ALL}.
@@ -275,6 +298,49 @@ public interface SolutionManager<Solution_, Score_ extends Score<Score_>> {
             @NonNull Function<EntityOrElement_, Proposition_> propositionFunction,
             @NonNull ScoreAnalysisFetchPolicy fetchPolicy);
 
+    /**
+     * As defined by {@link #recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy)},
+     * but only returns the best recommendations.
+     * Every placement is still evaluated,
+     * but the score analysis is only built and the proposition function is only called
+     * for placements which are among the best ones evaluated so far.
+     * Use this when only the first few recommendations are displayed,
+     * as building the score analysis takes most of the time.
+     *
+     * @param resultLimit at least 1, the maximum number of recommendations returned
+     * @return sorted from best to worst, the same as the first recommendations
+     *         of {@link #recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy)}
+     */
+    default <EntityOrElement_, Proposition_> @NonNull List<RecommendedAssignment<Proposition_, Score_>>
+            recommendAssignment(@NonNull Solution_ solution, @NonNull EntityOrElement_ evaluatedEntityOrElement,
+                    @NonNull Function<EntityOrElement_, Proposition_> propositionFunction,
+                    @NonNull ScoreAnalysisFetchPolicy fetchPolicy, int resultLimit) {
+        return recommendAssignment(solution, evaluatedEntityOrElement, propositionFunction, fetchPolicy, resultLimit, 1);
+    }
+
+    /**
+     * As defined by {@link #recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy, int)},
+     * but evaluates the placements on multiple threads.
+     * Every thread works on its own planning clone of the solution,
+     * so the recommendations are the same and in the same order as when they are evaluated on a single thread.
+     * The proposition function is then called from multiple threads at the same time, so it needs to be thread-safe.
+     * <p>
+     * Every thread first clones the solution and calculates its score from scratch,
+     * so fewer threads are used if there are too few placements to make up for that.
+     * The threads are created by the {@link SolverConfig#getThreadFactoryClass() threadFactoryClass}
+     * of the solver configuration, if any.
+     *
+     * @param resultLimit at least 1, the maximum number of recommendations returned
+     * @param threadCount at least 1, the maximum number of threads to evaluate the placements on;
+     *        1 evaluates them on the calling thread
+     * @return sorted from best to worst, the same as the first recommendations
+     *         of {@link #recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy)}
+     */
+    <EntityOrElement_, Proposition_> @NonNull List<RecommendedAssignment<Proposition_, Score_>> recommendAssignment(
+            @NonNull Solution_ solution, @NonNull EntityOrElement_ evaluatedEntityOrElement,
+            @NonNull Function<EntityOrElement_, Proposition_> propositionFunction,
+            @NonNull ScoreAnalysisFetchPolicy fetchPolicy, int resultLimit, int threadCount);
+
     /**
      * As defined by {@link #recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy)},
      * with {@link ScoreAnalysisFetchPolicy#FETCH_ALL}.
@@ -0,0 +1,117 @@
+package ai.timefold.solver.core.api.solver;
+
+import static ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy.FETCH_ALL;
+
+import java.util.List;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Keeps a working copy of a solution and its score calculation warm between queries,
+ * so that a series of what-if questions about the same solution does not pay
+ * for building the score calculation from scratch every time.
+ * Create it with {@link SolutionManager#openSession(Object)}.
+ * <p>
+ * The session works on its own planning clone of the solution.
+ * Change it with {@link #applyProblemChange(ProblemChange)},
+ * which only recalculates the part of the score affected by that change.
+ * The solution passed to {@link SolutionManager#openSession(Object)} is never changed.
+ * <p>
+ * A session is not thread-safe.
+ * {@link #close() Close} it to release its resources.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Score_> the actual score type
+ */
+public interface SolutionSession<Solution_, Score_ extends Score<Score_>> extends AutoCloseable {
+
+    /**
+     * Applies the change to the working solution of this session.
+     * As in {@link SolverJob#addProblemChange(ProblemChange)},
+     * the change must use the {@link ai.timefold.solver.core.api.solver.change.ProblemChangeDirector}
+     * to look up the working objects and to tell the score calculation what changed.
+     *
+     * @param problemChange the change to apply to the working solution
+     */
+    void applyProblemChange(@NonNull ProblemChange<Solution_> problemChange);
+
+    /**
+     * As defined by {@link SolutionManager#update(Object)},
+     * for the working solution of this session, including all changes applied so far.
+     * Unlike {@link SolutionManager#update(Object)}, the solution passed to {@link SolutionManager#openSession(Object)}
+     * is not changed; the result is a planning clone of the working solution instead.
+     *
+     * @return a planning clone of the working solution, with its shadow variables and score up to date
+     */
+    @NonNull
+    Solution_ update();
+
+    /**
+     * As defined by {@link #analyze(ScoreAnalysisFetchPolicy)},
+     * with {@link ScoreAnalysisFetchPolicy#FETCH_ALL}.
+     */
+    default @NonNull ScoreAnalysis<Score_> analyze() {
+        return analyze(FETCH_ALL);
+    }
+
+    /**
+     * As defined by {@link SolutionManager#analyze(Object, ScoreAnalysisFetchPolicy)},
+     * for the working solution of this session, including all changes applied so far.
+     */
+    @NonNull
+    ScoreAnalysis<Score_> analyze(@NonNull ScoreAnalysisFetchPolicy fetchPolicy);
+
+    /**
+     * As defined by {@link #recommendAssignment(Object, Function, ScoreAnalysisFetchPolicy)},
+     * with {@link ScoreAnalysisFetchPolicy#FETCH_ALL}.
+     */
+    default <EntityOrElement_, Proposition_> @NonNull List<RecommendedAssignment<Proposition_, Score_>>
+            recommendAssignment(@NonNull EntityOrElement_ evaluatedEntityOrElement,
+                    @NonNull Function<EntityOrElement_, Proposition_> propositionFunction) {
+        return recommendAssignment(evaluatedEntityOrElement, propositionFunction, FETCH_ALL);
+    }
+
+    /**
+     * As defined by {@link SolutionManager#recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy)},
+     * for the working solution of this session, including all changes applied so far.
+     * Afterwards, the working solution is as it was before this call.
+     *
+     * @param evaluatedEntityOrElement the working object is looked up,
+     *        so this may be an object of the solution passed to {@link SolutionManager#openSession(Object)}
+     *        or of a problem change
+     */
+    default <EntityOrElement_, Proposition_> @NonNull List<RecommendedAssignment<Proposition_, Score_>>
+            recommendAssignment(@NonNull EntityOrElement_ evaluatedEntityOrElement,
+                    @NonNull Function<EntityOrElement_, Proposition_> propositionFunction,
+                    @NonNull ScoreAnalysisFetchPolicy fetchPolicy) {
+        return recommendAssignment(evaluatedEntityOrElement, propositionFunction, fetchPolicy, Integer.MAX_VALUE);
+    }
+
+    /**
+     * As defined by {@link SolutionManager#recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy, int)},
+     * for the working solution of this session, including all changes applied so far.
+     * Afterwards, the working solution is as it was before this call.
+     *
+     * @param evaluatedEntityOrElement the working object is looked up,
+     *        so this may be an object of the solution passed to {@link SolutionManager#openSession(Object)}
+     *        or of a problem change
+     */
+    <EntityOrElement_, Proposition_> @NonNull List<RecommendedAssignment<Proposition_, Score_>> recommendAssignment(
+            @NonNull EntityOrElement_ evaluatedEntityOrElement,
+            @NonNull Function<EntityOrElement_, Proposition_> propositionFunction,
+            @NonNull ScoreAnalysisFetchPolicy fetchPolicy, int resultLimit);
+
+    /**
+     * Releases the resources of this session.
+     * The session cannot be used afterwards.
+     */
+    @Override
+    void close();
+
+}
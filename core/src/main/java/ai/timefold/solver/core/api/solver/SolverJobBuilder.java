@@ -1,6 +1,8 @@
 package ai.timefold.solver.core.api.solver;
 
+import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -66,6 +68,22 @@ public interface SolverJobBuilder<Solution_, ProblemId_> {
     @NonNull
     SolverJobBuilder<Solution_, ProblemId_> withBestSolutionConsumer(@NonNull Consumer<? super Solution_> bestSolutionConsumer);
 
+    /**
+     * Limits how often the best solution consumer is called.
+     * The consumers never block the solver thread:
+     * while the best solution consumer is busy or waiting for this interval to pass,
+     * every new best solution replaces the one waiting to be consumed,
+     * so the consumer only ever receives the latest best solution.
+     * <p>
+     * Defaults to {@link Duration#ZERO}, which calls the consumer as soon as it is done with the previous best solution.
+     *
+     * @param bestSolutionConsumerInterval {@code >= 0}, the minimum time between the start of two consecutive calls
+     *        of the best solution consumer
+     * @return this
+     */
+    @NonNull
+    SolverJobBuilder<Solution_, ProblemId_> withBestSolutionConsumerInterval(@NonNull Duration bestSolutionConsumerInterval);
+
     /**
      * Sets the final best solution consumer, which is called at the end of the solving process and returns the final
      * best solution.
@@ -111,6 +129,50 @@ public interface SolverJobBuilder<Solution_, ProblemId_> {
      */
     SolverJobBuilder<Solution_, ProblemId_> withSolverJobStartedConsumer(Consumer<? super Solution_> solverJobStartedConsumer);
 
+    /**
+     * Sets the executor which calls the consumers of this solver job, instead of a new thread for every solver job.
+     * The same executor may be shared by many solver jobs;
+     * the consumers of a single solver job are still called one at a time, in order.
+     * The {@link SolverManager} does not shut this executor down.
+     *
+     * @param consumerExecutor runs the consumers of this solver job
+     * @return this
+     */
+    @NonNull
+    SolverJobBuilder<Solution_, ProblemId_> withConsumerExecutor(@NonNull Executor consumerExecutor);
+
+    /**
+     * Sets the priority of this solver job.
+     * When more solver jobs are waiting than
+     * {@link ai.timefold.solver.core.config.solver.SolverManagerConfig#getParallelSolverCount() parallelSolverCount}
+     * allows to solve at the same time, the higher priority jobs start solving first.
+     * With {@link ai.timefold.solver.core.config.solver.SolverManagerConfig#getPreemptiveScheduling() preemptive scheduling},
+     * a waiting job also {@link SolverJob#terminateEarly() terminates} a solving job of a lower priority early,
+     * to take its place.
+     * <p>
+     * Defaults to 0.
+     *
+     * @param priority higher is more important, may be negative
+     * @return this
+     */
+    @NonNull
+    SolverJobBuilder<Solution_, ProblemId_> withPriority(int priority);
+
+    /**
+     * Sets the tenant of this solver job.
+     * Of the waiting solver jobs with the same priority,
+     * the jobs of the tenant with the fewest solving jobs start solving first,
+     * so that many jobs of one tenant do not hold up the jobs of the other tenants.
+     * Otherwise, solver jobs start in the order in which they were submitted.
+     * <p>
+     * All solver jobs without a tenant share the same tenant.
+     *
+     * @param tenantId an immutable class, such as {@link Long}, {@link String} or {@link UUID}
+     * @return this
+     */
+    @NonNull
+    SolverJobBuilder<Solution_, ProblemId_> withTenantId(@NonNull Object tenantId);
+
     /**
      * Sets the custom exception handler.
      *
@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.api.solver.event;
 
 import java.util.EventObject;
+import java.util.function.Supplier;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
@@ -19,7 +20,7 @@ public class BestSolutionChangedEvent<Solution_> extends EventObject {
 
     private final Solver<Solution_> solver;
     private final long timeMillisSpent;
-    private final Solution_ newBestSolution;
+    private final Supplier<Solution_> newBestSolutionSupplier;
     private final Score newBestScore;
     private final boolean isNewBestSolutionInitialized;
 
@@ -39,10 +40,22 @@ public class BestSolutionChangedEvent<Solution_> extends EventObject {
     public BestSolutionChangedEvent(@NonNull Solver<Solution_> solver, long timeMillisSpent,
             @NonNull Solution_ newBestSolution, @NonNull Score newBestScore,
             boolean isNewBestSolutionInitialized) {
+        this(solver, timeMillisSpent, () -> newBestSolution, newBestScore, isNewBestSolutionInitialized);
+    }
+
+    /**
+     * For when the new best solution is only planning cloned once it is needed.
+     *
+     * @param timeMillisSpent {@code >= 0L}
+     * @param newBestSolutionSupplier must return the same instance every time, from any thread
+     */
+    public BestSolutionChangedEvent(@NonNull Solver<Solution_> solver, long timeMillisSpent,
+            @NonNull Supplier<Solution_> newBestSolutionSupplier, @NonNull Score newBestScore,
+            boolean isNewBestSolutionInitialized) {
         super(solver);
         this.solver = solver;
         this.timeMillisSpent = timeMillisSpent;
-        this.newBestSolution = newBestSolution;
+        this.newBestSolutionSupplier = newBestSolutionSupplier;
         this.newBestScore = newBestScore;
         this.isNewBestSolutionInitialized = isNewBestSolutionInitialized;
     }
@@ -62,11 +75,13 @@ public class BestSolutionChangedEvent<Solution_> extends EventObject {
      * check {@link #isEveryProblemFactChangeProcessed()}.</li>
      * <li>this {@link PlanningSolution} might be uninitialized: check {@link #isNewBestSolutionInitialized()}.</li>
      * <li>this {@link PlanningSolution} might be infeasible: check {@link Score#isFeasible()}.</li>
+     * <li>with lazy cloning enabled, the first call planning clones this {@link PlanningSolution},
+     * so listeners which do not need it should not call this method.</li>
      * </ul>
      *
      */
     public @NonNull Solution_ getNewBestSolution() {
-        return newBestSolution;
+        return newBestSolutionSupplier.get();
     }
 
     /**
@@ -34,7 +34,8 @@ import org.jspecify.annotations.Nullable;
         "linearDistributionSizeMaximum",
         "parabolicDistributionSizeMaximum",
         "betaDistributionAlpha",
-        "betaDistributionBeta"
+        "betaDistributionBeta",
+        "parallelDistanceMatrixPrecomputation"
 })
 public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig> {
 
@@ -60,6 +61,8 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
     protected Double betaDistributionAlpha = null;
     protected Double betaDistributionBeta = null;
 
+    protected Boolean parallelDistanceMatrixPrecomputation = null;
+
     public @Nullable EntitySelectorConfig getOriginEntitySelectorConfig() {
         return originEntitySelectorConfig;
     }
@@ -165,6 +168,20 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
         this.betaDistributionBeta = betaDistributionBeta;
     }
 
+    /**
+     * If true, the nearby distances of every origin are measured in parallel when a local search phase starts,
+     * instead of lazily when an origin is first selected.
+     * This requires the {@link NearbyDistanceMeter} to be thread-safe.
+     * Defaults to false.
+     */
+    public @Nullable Boolean getParallelDistanceMatrixPrecomputation() {
+        return parallelDistanceMatrixPrecomputation;
+    }
+
+    public void setParallelDistanceMatrixPrecomputation(@Nullable Boolean parallelDistanceMatrixPrecomputation) {
+        this.parallelDistanceMatrixPrecomputation = parallelDistanceMatrixPrecomputation;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -242,6 +259,12 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
         return this;
     }
 
+    public @NonNull NearbySelectionConfig
+            withParallelDistanceMatrixPrecomputation(@NonNull Boolean parallelDistanceMatrixPrecomputation) {
+        this.setParallelDistanceMatrixPrecomputation(parallelDistanceMatrixPrecomputation);
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -336,6 +359,8 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
                 inheritedConfig.getBetaDistributionAlpha());
         betaDistributionBeta = ConfigUtils.inheritOverwritableProperty(betaDistributionBeta,
                 inheritedConfig.getBetaDistributionBeta());
+        parallelDistanceMatrixPrecomputation = ConfigUtils.inheritOverwritableProperty(
+                parallelDistanceMatrixPrecomputation, inheritedConfig.getParallelDistanceMatrixPrecomputation());
         return this;
     }
 
@@ -27,6 +27,8 @@ import org.jspecify.annotations.Nullable;
         "constraintProviderCustomProperties",
         "constraintStreamImplType",
         "constraintStreamAutomaticNodeSharing",
+        "constraintStreamTupleRecycling",
+        "constraintStreamParallelBulkLoad",
         "incrementalScoreCalculatorClass",
         "incrementalScoreCalculatorCustomProperties",
         "scoreDrlList",
@@ -46,6 +48,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     protected Map<String, String> constraintProviderCustomProperties = null;
     protected ConstraintStreamImplType constraintStreamImplType;
     protected Boolean constraintStreamAutomaticNodeSharing;
+    protected Boolean constraintStreamTupleRecycling;
+    protected Boolean constraintStreamParallelBulkLoad;
 
     protected Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass = null;
 
@@ -126,6 +130,36 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.constraintStreamAutomaticNodeSharing = constraintStreamAutomaticNodeSharing;
     }
 
+    /**
+     * If true, the nodes of the constraint streams reuse the tuples they no longer need
+     * instead of leaving them to the garbage collector.
+     * This reduces allocation during long solves, at the cost of keeping a bounded number of tuples alive.
+     * Defaults to false.
+     */
+    public @Nullable Boolean getConstraintStreamTupleRecycling() {
+        return constraintStreamTupleRecycling;
+    }
+
+    public void setConstraintStreamTupleRecycling(@Nullable Boolean constraintStreamTupleRecycling) {
+        this.constraintStreamTupleRecycling = constraintStreamTupleRecycling;
+    }
+
+    /**
+     * If true, the first score calculation after the working solution is set
+     * (which includes every restart after a problem change)
+     * propagates the parts of the constraint streams which share no nodes in parallel, on the common fork-join pool.
+     * This reduces the latency before the first step on large datasets,
+     * but requires the filters, joiners, mappings and collectors of the constraints to be thread-safe.
+     * Defaults to false.
+     */
+    public @Nullable Boolean getConstraintStreamParallelBulkLoad() {
+        return constraintStreamParallelBulkLoad;
+    }
+
+    public void setConstraintStreamParallelBulkLoad(@Nullable Boolean constraintStreamParallelBulkLoad) {
+        this.constraintStreamParallelBulkLoad = constraintStreamParallelBulkLoad;
+    }
+
     public @Nullable Class<? extends IncrementalScoreCalculator> getIncrementalScoreCalculatorClass() {
         return incrementalScoreCalculatorClass;
     }
@@ -227,6 +261,18 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         return this;
     }
 
+    public @NonNull ScoreDirectorFactoryConfig
+            withConstraintStreamTupleRecycling(@NonNull Boolean constraintStreamTupleRecycling) {
+        this.constraintStreamTupleRecycling = constraintStreamTupleRecycling;
+        return this;
+    }
+
+    public @NonNull ScoreDirectorFactoryConfig
+            withConstraintStreamParallelBulkLoad(@NonNull Boolean constraintStreamParallelBulkLoad) {
+        this.constraintStreamParallelBulkLoad = constraintStreamParallelBulkLoad;
+        return this;
+    }
+
     public @NonNull ScoreDirectorFactoryConfig
             withIncrementalScoreCalculatorClass(
                     @NonNull Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass) {
@@ -288,6 +334,10 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 constraintStreamImplType, inheritedConfig.getConstraintStreamImplType());
         constraintStreamAutomaticNodeSharing = ConfigUtils.inheritOverwritableProperty(constraintStreamAutomaticNodeSharing,
                 inheritedConfig.getConstraintStreamAutomaticNodeSharing());
+        constraintStreamTupleRecycling = ConfigUtils.inheritOverwritableProperty(constraintStreamTupleRecycling,
+                inheritedConfig.getConstraintStreamTupleRecycling());
+        constraintStreamParallelBulkLoad = ConfigUtils.inheritOverwritableProperty(constraintStreamParallelBulkLoad,
+                inheritedConfig.getConstraintStreamParallelBulkLoad());
         incrementalScoreCalculatorClass = ConfigUtils.inheritOverwritableProperty(
                 incrementalScoreCalculatorClass, inheritedConfig.getIncrementalScoreCalculatorClass());
         incrementalScoreCalculatorCustomProperties = ConfigUtils.inheritMergeableMapProperty(
@@ -20,7 +20,16 @@ package ai.timefold.solver.core.config.solver;
 public enum PreviewFeature {
 
     DECLARATIVE_SHADOW_VARIABLES,
+    /**
+     * Consecutive best solutions share the instances of the planning entities which did not change in between.
+     */
+    DELTA_CLONING,
     DIVERSIFIED_LATE_ACCEPTANCE,
+    /**
+     * Best solutions are only planning cloned once they are actually needed,
+     * such as when a best solution consumer takes them.
+     */
+    LAZY_CLONING,
     PLANNING_SOLUTION_DIFF,
     /**
      * Unlike other preview features, Move Streams are an active research project.
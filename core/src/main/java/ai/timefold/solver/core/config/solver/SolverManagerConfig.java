@@ -15,7 +15,9 @@ import org.slf4j.LoggerFactory;
 
 @XmlType(propOrder = {
         "parallelSolverCount",
-        "threadFactoryClass"
+        "threadFactoryClass",
+        "virtualThreadOrchestration",
+        "preemptiveScheduling"
 })
 public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
@@ -25,6 +27,8 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
     protected String parallelSolverCount = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    protected Boolean virtualThreadOrchestration = null;
+    protected Boolean preemptiveScheduling = null;
 
     // Future features:
     // throttlingDelay
@@ -53,6 +57,41 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    /**
+     * If true, everything around solving which only waits runs on virtual threads:
+     * queueing solver jobs until one of the solving threads is free,
+     * delivering best solutions to consumers, completing problem changes
+     * and waiting for {@link ai.timefold.solver.core.api.solver.SolverManager#terminateEarly(Object) terminateEarly()}.
+     * Otherwise, that work runs on a platform thread per solver job, or on the caller's thread.
+     * Solving itself still runs on the {@link #getParallelSolverCount() parallelSolverCount} platform threads.
+     * Requires Java 21 or later; on older JVMs, it logs a warning and uses platform threads.
+     * Jobs which have their own consumer executor deliver their best solutions there.
+     * Defaults to false.
+     */
+    public @Nullable Boolean getVirtualThreadOrchestration() {
+        return virtualThreadOrchestration;
+    }
+
+    public void setVirtualThreadOrchestration(@Nullable Boolean virtualThreadOrchestration) {
+        this.virtualThreadOrchestration = virtualThreadOrchestration;
+    }
+
+    /**
+     * If true, a solver job which waits to start solving
+     * {@link ai.timefold.solver.core.api.solver.SolverJob#terminateEarly() terminates} a solving job
+     * of a lower {@link ai.timefold.solver.core.api.solver.SolverJobBuilder#withPriority(int) priority} early,
+     * to take its place.
+     * The terminated job is not resumed; its best solution so far is its final best solution.
+     * Defaults to false.
+     */
+    public @Nullable Boolean getPreemptiveScheduling() {
+        return preemptiveScheduling;
+    }
+
+    public void setPreemptiveScheduling(@Nullable Boolean preemptiveScheduling) {
+        this.preemptiveScheduling = preemptiveScheduling;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -67,6 +106,16 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return this;
     }
 
+    public @NonNull SolverManagerConfig withVirtualThreadOrchestration(boolean virtualThreadOrchestration) {
+        this.virtualThreadOrchestration = virtualThreadOrchestration;
+        return this;
+    }
+
+    public @NonNull SolverManagerConfig withPreemptiveScheduling(boolean preemptiveScheduling) {
+        this.preemptiveScheduling = preemptiveScheduling;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -113,6 +162,10 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
                 inheritedConfig.getParallelSolverCount());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        virtualThreadOrchestration = ConfigUtils.inheritOverwritableProperty(virtualThreadOrchestration,
+                inheritedConfig.getVirtualThreadOrchestration());
+        preemptiveScheduling = ConfigUtils.inheritOverwritableProperty(preemptiveScheduling,
+                inheritedConfig.getPreemptiveScheduling());
         return this;
     }
 
@@ -14,6 +14,8 @@ import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.impl.statistic.BestScoreStatistic;
 import ai.timefold.solver.core.impl.statistic.BestSolutionMutationCountStatistic;
+import ai.timefold.solver.core.impl.statistic.ConstraintEvaluationTimeStatistic;
+import ai.timefold.solver.core.impl.statistic.ConstraintNodeProfileStatistic;
 import ai.timefold.solver.core.impl.statistic.MemoryUseStatistic;
 import ai.timefold.solver.core.impl.statistic.MoveCountPerTypeStatistic;
 import ai.timefold.solver.core.impl.statistic.PickedMoveBestScoreDiffStatistic;
@@ -61,6 +63,9 @@ public enum SolverMetric {
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF("timefold.solver.move.type.best.score.diff", new PickedMoveBestScoreDiffStatistic<>(),
             true),
     PICKED_MOVE_TYPE_STEP_SCORE_DIFF("timefold.solver.move.type.step.score.diff", new PickedMoveStepScoreDiffStatistic<>(),
+            false),
+    CONSTRAINT_NODE_PROFILE("timefold.solver.constraint.node", new ConstraintNodeProfileStatistic<>(), false),
+    CONSTRAINT_EVALUATION_TIME("timefold.solver.constraint.evaluation.time", new ConstraintEvaluationTimeStatistic<>(),
             false);
 
     private final String meterId;
@@ -1,10 +1,12 @@
 package ai.timefold.solver.core.impl.bavet;
 
+import java.util.Collection;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.stream.Stream;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.impl.bavet.common.NodeNetworkProfiler;
 import ai.timefold.solver.core.impl.bavet.uni.AbstractForEachUniNode;
 import ai.timefold.solver.core.impl.bavet.uni.AbstractForEachUniNode.LifecycleOperation;
 import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
@@ -12,13 +14,23 @@ import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
 public abstract class AbstractSession implements AutoCloseable {
 
     private final NodeNetwork nodeNetwork;
+    private final NodeNetworkProfiler profiler;
     private final Map<Class<?>, AbstractForEachUniNode.InitializableForEachNode<Object>[]> initializeEffectiveClassToNodeArrayMap;
     private final Map<Class<?>, AbstractForEachUniNode<Object>[]> insertEffectiveClassToNodeArrayMap;
     private final Map<Class<?>, AbstractForEachUniNode<Object>[]> updateEffectiveClassToNodeArrayMap;
     private final Map<Class<?>, AbstractForEachUniNode<Object>[]> retractEffectiveClassToNodeArrayMap;
 
     protected AbstractSession(NodeNetwork nodeNetwork) {
+        this(nodeNetwork, null);
+    }
+
+    /**
+     * @param nodeNetwork never null
+     * @param profiler null if the nodes are not profiled
+     */
+    protected AbstractSession(NodeNetwork nodeNetwork, NodeNetworkProfiler profiler) {
         this.nodeNetwork = nodeNetwork;
+        this.profiler = profiler;
         this.initializeEffectiveClassToNodeArrayMap = new IdentityHashMap<>(nodeNetwork.forEachNodeCount());
         this.insertEffectiveClassToNodeArrayMap = new IdentityHashMap<>(nodeNetwork.forEachNodeCount());
         this.updateEffectiveClassToNodeArrayMap = new IdentityHashMap<>(nodeNetwork.forEachNodeCount());
@@ -34,7 +46,62 @@ public abstract class AbstractSession implements AutoCloseable {
     public final void insert(Object fact) {
         var factClass = fact.getClass();
         for (var node : findNodes(factClass, LifecycleOperation.INSERT)) {
-            node.insert(fact);
+            if (profiler == null) {
+                node.insert(fact);
+            } else {
+                profiler.insert(node, fact);
+            }
+        }
+    }
+
+    /**
+     * As calling {@link #insert(Object)} for every fact, in the same order.
+     * However, the nodes are sized for all of their facts up front,
+     * instead of growing repeatedly while the facts are inserted one by one,
+     * and the nodes of a fact class are only looked up once for each run of facts of that class.
+     * Like any insert, the facts propagate together on the next {@link #settle()}.
+     *
+     * @param facts never null
+     */
+    public final void insertAll(Collection<?> facts) {
+        var classToFactCountMap = new IdentityHashMap<Class<?>, int[]>();
+        Class<?> previousFactClass = null;
+        int[] factCount = null;
+        for (var fact : facts) {
+            var factClass = fact.getClass();
+            if (factClass != previousFactClass) {
+                factCount = classToFactCountMap.get(factClass);
+                if (factCount == null) {
+                    factCount = new int[1];
+                    classToFactCountMap.put(factClass, factCount);
+                }
+                previousFactClass = factClass;
+            }
+            factCount[0]++;
+        }
+        // Different classes share a node if it is for their common superclass.
+        var nodeToFactCountMap = new IdentityHashMap<AbstractForEachUniNode<Object>, Integer>();
+        classToFactCountMap.forEach((factClass, count) -> {
+            for (var node : findNodes(factClass, LifecycleOperation.INSERT)) {
+                nodeToFactCountMap.merge(node, count[0], Integer::sum);
+            }
+        });
+        nodeToFactCountMap.forEach(AbstractForEachUniNode::ensureCapacity);
+        previousFactClass = null;
+        AbstractForEachUniNode<Object>[] nodes = null;
+        for (var fact : facts) {
+            var factClass = fact.getClass();
+            if (factClass != previousFactClass) {
+                nodes = findNodes(factClass, LifecycleOperation.INSERT);
+                previousFactClass = factClass;
+            }
+            for (var node : nodes) {
+                if (profiler == null) {
+                    node.insert(fact);
+                } else {
+                    profiler.insert(node, fact);
+                }
+            }
         }
     }
 
@@ -82,14 +149,22 @@ public abstract class AbstractSession implements AutoCloseable {
     public final void update(Object fact) {
         var factClass = fact.getClass();
         for (var node : findNodes(factClass, LifecycleOperation.UPDATE)) {
-            node.update(fact);
+            if (profiler == null) {
+                node.update(fact);
+            } else {
+                profiler.update(node, fact);
+            }
         }
     }
 
     public final void retract(Object fact) {
         var factClass = fact.getClass();
         for (var node : findNodes(factClass, LifecycleOperation.RETRACT)) {
-            node.retract(fact);
+            if (profiler == null) {
+                node.retract(fact);
+            } else {
+                profiler.retract(node, fact);
+            }
         }
     }
 
@@ -97,6 +172,13 @@ public abstract class AbstractSession implements AutoCloseable {
         nodeNetwork.settle();
     }
 
+    /**
+     * @return null unless the nodes are profiled
+     */
+    public final NodeNetworkProfiler getProfiler() {
+        return profiler;
+    }
+
     @Override
     public final void close() {
         for (var node : findInitializableNodes()) {
@@ -48,7 +48,7 @@ public record NodeNetwork(Map<Class<?>, List<AbstractForEachUniNode<?>>> declare
         }
     }
 
-    private static void settleLayer(Propagator[] nodesInLayer) {
+    static void settleLayer(Propagator[] nodesInLayer) {
         var nodeCount = nodesInLayer.length;
         if (nodeCount == 1) {
             nodesInLayer[0].propagateEverything();
@@ -0,0 +1,255 @@
+package ai.timefold.solver.core.impl.bavet;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.impl.bavet.common.AbstractNode;
+import ai.timefold.solver.core.impl.bavet.common.AbstractScorer;
+import ai.timefold.solver.core.impl.bavet.common.Propagator;
+import ai.timefold.solver.core.impl.bavet.common.StaticPropagationQueue;
+import ai.timefold.solver.core.impl.bavet.common.tuple.AbstractTuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * Settles a {@link NodeNetwork} for the first time,
+ * propagating its independent sub-networks in parallel, each on a thread of its own.
+ * <p>
+ * Every node other than a forEach node belongs to exactly one sub-network,
+ * which consists of that node, its parents and its children, transitively, but without the forEach nodes.
+ * Therefore two sub-networks share no nodes,
+ * and the only thing they have in common are the tuples of the forEach nodes,
+ * of which every node only touches its own store slots.
+ * A scorer which directly follows a forEach node (maybe through some filters) forms a sub-network of its own.
+ * <p>
+ * The calling thread only takes the inserted tuples out of the forEach nodes.
+ * Every sub-network then propagates those tuples from the forEach nodes into its own nodes,
+ * through its own part of the {@link TupleLifecycle lifecycles} downstream of the forEach nodes,
+ * and then propagates its own nodes layer by layer.
+ * A filter directly downstream of a forEach node is therefore evaluated once for every sub-network that it leads to.
+ * <p>
+ * The scorers are the exception, as all of them modify the same score.
+ * Their impacts are deferred during the propagation and applied on the calling thread afterwards.
+ * <p>
+ * This is only correct for the first settle of a session, where every tuple is an insert.
+ * It also requires the user code in the constraints (filters, joiners, mappings, collectors, ...) to be thread-safe.
+ */
+public final class ParallelNodeNetworkSettler {
+
+    private final List<StaticPropagationQueue<AbstractTuple>> forEachQueueList;
+    private final List<SubNetwork> subNetworkList;
+    private final List<AbstractScorer<?>> scorerList;
+    private final ThreadFactory threadFactory;
+
+    /**
+     * @param nodeList never null, all nodes of the node network, parents before children
+     * @param parentNodesFunction never null, returns the parent nodes of a given node
+     * @param scorerList never null, all scorers of the node network
+     * @param threadFactory never null, creates the threads that the sub-networks are propagated on
+     */
+    public ParallelNodeNetworkSettler(List<AbstractNode> nodeList,
+            Function<AbstractNode, List<AbstractNode>> parentNodesFunction, List<AbstractScorer<?>> scorerList,
+            ThreadFactory threadFactory) {
+        this.forEachQueueList = nodeList.stream()
+                .filter(ParallelNodeNetworkSettler::isForEachNode)
+                .map(ParallelNodeNetworkSettler::getForEachQueue)
+                .toList();
+        this.subNetworkList = splitIntoSubNetworks(nodeList, parentNodesFunction, forEachQueueList);
+        this.scorerList = List.copyOf(scorerList);
+        this.threadFactory = Objects.requireNonNull(threadFactory);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StaticPropagationQueue<AbstractTuple> getForEachQueue(AbstractNode forEachNode) {
+        if (!(forEachNode.getPropagator() instanceof StaticPropagationQueue<?> forEachQueue)) {
+            throw new IllegalStateException("Impossible state: the forEach node (%s) has an unexpected propagator (%s)."
+                    .formatted(forEachNode, forEachNode.getPropagator()));
+        }
+        return (StaticPropagationQueue<AbstractTuple>) forEachQueue;
+    }
+
+    private static List<SubNetwork> splitIntoSubNetworks(List<AbstractNode> nodeList,
+            Function<AbstractNode, List<AbstractNode>> parentNodesFunction,
+            List<StaticPropagationQueue<AbstractTuple>> forEachQueueList) {
+        var nodeCount = nodeList.size();
+        var nodeIndexMap = new IdentityHashMap<AbstractNode, Integer>(nodeCount);
+        for (var i = 0; i < nodeCount; i++) {
+            nodeIndexMap.put(nodeList.get(i), i);
+        }
+        // Union-find; the forEach nodes are left out, otherwise everything would end up in a single sub-network.
+        var representatives = new int[nodeCount];
+        for (var i = 0; i < nodeCount; i++) {
+            representatives[i] = i;
+        }
+        for (var i = 0; i < nodeCount; i++) {
+            var node = nodeList.get(i);
+            if (isForEachNode(node)) {
+                continue;
+            }
+            for (var parentNode : parentNodesFunction.apply(node)) {
+                if (!isForEachNode(parentNode)) {
+                    var parentRepresentative = findRepresentative(representatives, nodeIndexMap.get(parentNode));
+                    representatives[parentRepresentative] = findRepresentative(representatives, i);
+                }
+            }
+        }
+        // A sub-network is identified by its representative node, or by its scorer if it has no nodes.
+        Function<Object, Object> subNetworkKeyFunction = target -> {
+            if (!(target instanceof AbstractNode node)) {
+                return target;
+            }
+            var nodeIndex = nodeIndexMap.get(node);
+            if (nodeIndex == null || isForEachNode(node)) {
+                throw new IllegalStateException("Impossible state: the node (%s) is not downstream of a forEach node."
+                        .formatted(node));
+            }
+            return nodeList.get(findRepresentative(representatives, nodeIndex));
+        };
+        var subNetworkIndexMap = new IdentityHashMap<Object, Integer>();
+        var layerMapList = new ArrayList<TreeMap<Long, List<Propagator>>>();
+        Function<Object, Integer> subNetworkIndexFunction = target -> subNetworkIndexMap.computeIfAbsent(
+                subNetworkKeyFunction.apply(target), key -> {
+                    layerMapList.add(new TreeMap<>());
+                    return layerMapList.size() - 1;
+                });
+        for (var node : nodeList) {
+            if (isForEachNode(node)) {
+                continue;
+            }
+            layerMapList.get(subNetworkIndexFunction.apply(node))
+                    .computeIfAbsent(node.getLayerIndex(), k -> new ArrayList<>())
+                    .add(node.getPropagator());
+        }
+        for (var forEachQueue : forEachQueueList) {
+            // Restricting to every target visits them all, which registers the scorers directly downstream.
+            forEachQueue.getNextNodesTupleLifecycle().restrict(target -> {
+                subNetworkIndexFunction.apply(target);
+                return true;
+            });
+        }
+        var subNetworkList = new ArrayList<SubNetwork>(layerMapList.size());
+        for (var i = 0; i < layerMapList.size(); i++) {
+            var subNetworkIndex = i;
+            var forEachEdgeList = new ArrayList<ForEachEdge>();
+            for (var j = 0; j < forEachQueueList.size(); j++) {
+                var lifecycle = forEachQueueList.get(j).getNextNodesTupleLifecycle()
+                        .restrict(target -> subNetworkIndexFunction.apply(target) == subNetworkIndex);
+                if (lifecycle != null) {
+                    forEachEdgeList.add(new ForEachEdge(j, lifecycle));
+                }
+            }
+            var layeredNodes = layerMapList.get(i).values().stream()
+                    .map(layer -> layer.toArray(new Propagator[0]))
+                    .toArray(Propagator[][]::new);
+            subNetworkList.add(new SubNetwork(forEachEdgeList.toArray(new ForEachEdge[0]), layeredNodes));
+        }
+        // Start the largest sub-networks first, so that the small ones fill the gaps at the end.
+        subNetworkList.sort(Comparator.comparingInt(SubNetwork::countNodes).reversed());
+        return List.copyOf(subNetworkList);
+    }
+
+    private static boolean isForEachNode(AbstractNode node) {
+        return node.getLayerIndex() == 0;
+    }
+
+    private static int findRepresentative(int[] representatives, int index) {
+        while (representatives[index] != index) {
+            representatives[index] = representatives[representatives[index]]; // Path halving.
+            index = representatives[index];
+        }
+        return index;
+    }
+
+    public int getSubNetworkCount() {
+        return subNetworkList.size();
+    }
+
+    public void settle() {
+        for (var scorer : scorerList) {
+            scorer.deferImpacts();
+        }
+        var forEachInsertLists = new ArrayList<List<AbstractTuple>>(forEachQueueList.size());
+        for (var forEachQueue : forEachQueueList) {
+            // Nothing is propagated here on the first settle, unless a tuple was both inserted and retracted.
+            forEachQueue.propagateRetracts();
+            forEachQueue.propagateUpdates();
+            forEachInsertLists.add(forEachQueue.takeInserts());
+        }
+        var threadCount = Math.min(subNetworkList.size(), Runtime.getRuntime().availableProcessors());
+        var executor = Executors.newFixedThreadPool(threadCount, threadFactory);
+        try {
+            var taskList = subNetworkList.stream()
+                    .map(subNetwork -> (Callable<Void>) () -> {
+                        subNetwork.settle(forEachInsertLists);
+                        return null;
+                    })
+                    .toList();
+            for (var future : executor.invokeAll(taskList)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Constraint Streams were interrupted while settling the sub-networks.", e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Constraint Streams failed to settle a sub-network.", cause);
+        } finally {
+            ThreadUtils.shutdownAwaitOrKill(executor, "", "Constraint Streams bulk load");
+        }
+        for (var scorer : scorerList) {
+            scorer.flushDeferredImpacts();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "%s with %d sub-networks.".formatted(getClass().getSimpleName(), subNetworkList.size());
+    }
+
+    /**
+     * @param forEachIndex the index of the forEach node in {@link #forEachQueueList}
+     * @param lifecycle never null, the part of the lifecycle downstream of the forEach node that leads into the sub-network
+     */
+    private record ForEachEdge(int forEachIndex, TupleLifecycle<AbstractTuple> lifecycle) {
+
+    }
+
+    private record SubNetwork(ForEachEdge[] forEachEdges, Propagator[][] layeredNodes) {
+
+        int countNodes() {
+            var count = 0;
+            for (var layer : layeredNodes) {
+                count += layer.length;
+            }
+            return count;
+        }
+
+        void settle(List<List<AbstractTuple>> forEachInsertLists) {
+            for (var forEachEdge : forEachEdges) {
+                var lifecycle = forEachEdge.lifecycle();
+                for (var tuple : forEachInsertLists.get(forEachEdge.forEachIndex())) {
+                    lifecycle.insert(tuple);
+                }
+            }
+            for (var layer : layeredNodes) {
+                NodeNetwork.settleLayer(layer);
+            }
+        }
+
+    }
+
+}
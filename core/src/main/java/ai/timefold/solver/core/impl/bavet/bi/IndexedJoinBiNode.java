@@ -17,12 +17,13 @@ public final class IndexedJoinBiNode<A, B> extends AbstractIndexedJoinNode<UniTu
             int inputStoreIndexA, int inputStoreIndexEntryA, int inputStoreIndexOutTupleListA,
             int inputStoreIndexB, int inputStoreIndexEntryB, int inputStoreIndexOutTupleListB,
             TupleLifecycle<BiTuple<A, B>> nextNodesTupleLifecycle, BiPredicate<A, B> filtering,
-            int outputStoreSize, int outputStoreIndexOutEntryA, int outputStoreIndexOutEntryB) {
+            int outputStoreSize, int outputStoreIndexOutEntryA, int outputStoreIndexOutEntryB,
+            boolean recycleTuples) {
         super(indexerFactory.buildUniLeftKeysExtractor(), indexerFactory,
                 inputStoreIndexA, inputStoreIndexEntryA, inputStoreIndexOutTupleListA,
                 inputStoreIndexB, inputStoreIndexEntryB, inputStoreIndexOutTupleListB,
                 nextNodesTupleLifecycle, filtering != null,
-                outputStoreIndexOutEntryA, outputStoreIndexOutEntryB);
+                outputStoreIndexOutEntryA, outputStoreIndexOutEntryB, recycleTuples);
         this.filtering = filtering;
         this.outputStoreSize = outputStoreSize;
     }
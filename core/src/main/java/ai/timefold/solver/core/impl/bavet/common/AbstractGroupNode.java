@@ -4,12 +4,16 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.impl.bavet.common.tuple.AbstractTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleState;
+import ai.timefold.solver.core.impl.util.CollectionUtils;
+import ai.timefold.solver.core.impl.util.LongObjectHashMap;
 
 public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple_ extends AbstractTuple, GroupKey_, ResultContainer_, Result_>
         extends AbstractNode
@@ -21,9 +25,18 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
      */
     private final int undoStoreIndex;
     /**
-     * Unused when {@link #hasMultipleGroups} is false.
+     * Unused when {@link #hasMultipleGroups} is false or {@link #hasPrimitiveGroupKey} is true.
      */
     private final Function<InTuple_, GroupKey_> groupKeyFunction;
+    /**
+     * Unused when {@link #hasPrimitiveGroupKey} is false.
+     */
+    private final ToLongFunction<InTuple_> primitiveGroupKeyFunction;
+    /**
+     * Boxes a primitive group key into the key of the out tuple, once per group.
+     * Unused when {@link #hasPrimitiveGroupKey} is false.
+     */
+    private final LongFunction<GroupKey_> primitiveGroupKeyBoxer;
     /**
      * Unused when {@link #hasCollector} is false.
      */
@@ -37,15 +50,27 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
      * In that case, every tuple accumulates into {@link #singletonGroup} and not to {@link #groupMap}.
      */
     private final boolean hasMultipleGroups;
+    /**
+     * Some code paths supply an int or long group key function instead.
+     * In that case, every tuple accumulates into {@link #primitiveGroupMap} and not to {@link #groupMap},
+     * so that the group key is neither boxed nor wrapped on every insert and update.
+     * A primitive group key can not change its hash code, so it also needs no {@link AssertingGroupKey}.
+     */
+    private final boolean hasPrimitiveGroupKey;
     /**
      * Some code paths may decide to not supply a collector.
      * In that case, we skip the code path that would attempt to use it.
      */
     private final boolean hasCollector;
     /**
-     * Used when {@link #hasMultipleGroups} is true, otherwise {@link #singletonGroup} is used.
+     * Used when {@link #hasMultipleGroups} is true and {@link #hasPrimitiveGroupKey} is false,
+     * otherwise {@link #primitiveGroupMap} or {@link #singletonGroup} is used.
      */
-    private final Map<Object, Group<OutTuple_, ResultContainer_>> groupMap;
+    private Map<Object, Group<OutTuple_, ResultContainer_>> groupMap;
+    /**
+     * Used when {@link #hasPrimitiveGroupKey} is true.
+     */
+    private LongObjectHashMap<Group<OutTuple_, ResultContainer_>> primitiveGroupMap;
     /**
      * Used when {@link #hasMultipleGroups} is false, otherwise {@link #groupMap} is used.
      *
@@ -60,19 +85,42 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
             Function<InTuple_, GroupKey_> groupKeyFunction, Supplier<ResultContainer_> supplier,
             Function<ResultContainer_, Result_> finisher,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        this(groupStoreIndex, undoStoreIndex, groupKeyFunction, null, null, supplier, finisher,
+                nextNodesTupleLifecycle, environmentMode);
+    }
+
+    protected AbstractGroupNode(int groupStoreIndex, int undoStoreIndex,
+            ToLongFunction<InTuple_> primitiveGroupKeyFunction, LongFunction<GroupKey_> primitiveGroupKeyBoxer,
+            Supplier<ResultContainer_> supplier, Function<ResultContainer_, Result_> finisher,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        this(groupStoreIndex, undoStoreIndex, null, Objects.requireNonNull(primitiveGroupKeyFunction),
+                Objects.requireNonNull(primitiveGroupKeyBoxer), supplier, finisher, nextNodesTupleLifecycle,
+                environmentMode);
+    }
+
+    private AbstractGroupNode(int groupStoreIndex, int undoStoreIndex,
+            Function<InTuple_, GroupKey_> groupKeyFunction, ToLongFunction<InTuple_> primitiveGroupKeyFunction,
+            LongFunction<GroupKey_> primitiveGroupKeyBoxer, Supplier<ResultContainer_> supplier,
+            Function<ResultContainer_, Result_> finisher,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
         this.groupStoreIndex = groupStoreIndex;
         this.undoStoreIndex = undoStoreIndex;
         this.groupKeyFunction = groupKeyFunction;
+        this.primitiveGroupKeyFunction = primitiveGroupKeyFunction;
+        this.primitiveGroupKeyBoxer = primitiveGroupKeyBoxer;
         this.supplier = supplier;
         this.finisher = finisher;
-        this.hasMultipleGroups = groupKeyFunction != null;
+        this.hasPrimitiveGroupKey = primitiveGroupKeyFunction != null;
+        this.hasMultipleGroups = groupKeyFunction != null || hasPrimitiveGroupKey;
         this.hasCollector = supplier != null;
         /*
          * Not using the default sizing to 1000.
          * The number of groups can be very small, and that situation is not unlikely.
-         * Therefore, the size of these collections is kept default.
+         * Therefore, the size of these collections is kept default,
+         * unless a bulk insert announces its size, see ensureInsertCapacity(int).
          */
-        this.groupMap = hasMultipleGroups ? new HashMap<>() : null;
+        this.groupMap = hasMultipleGroups && !hasPrimitiveGroupKey ? new HashMap<>() : null;
+        this.primitiveGroupMap = hasPrimitiveGroupKey ? new LongObjectHashMap<>() : null;
         this.propagationQueue = hasCollector ? new DynamicPropagationQueue<>(nextNodesTupleLifecycle,
                 group -> {
                     var outTuple = group.getTuple();
@@ -92,18 +140,40 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
                 environmentMode);
     }
 
+    protected AbstractGroupNode(int groupStoreIndex,
+            ToLongFunction<InTuple_> primitiveGroupKeyFunction, LongFunction<GroupKey_> primitiveGroupKeyBoxer,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        this(groupStoreIndex, -1,
+                primitiveGroupKeyFunction, primitiveGroupKeyBoxer, null, null, nextNodesTupleLifecycle,
+                environmentMode);
+    }
+
     @Override
     public final void insert(InTuple_ tuple) {
         if (tuple.getStore(groupStoreIndex) != null) {
             throw new IllegalStateException("Impossible state: the input for the tuple (" + tuple
                     + ") was already added in the tupleStore.");
         }
-        var userSuppliedKey = hasMultipleGroups ? groupKeyFunction.apply(tuple) : null;
-        createTuple(tuple, userSuppliedKey);
+        if (hasPrimitiveGroupKey) {
+            createTuple(tuple, getOrCreatePrimitiveGroup(primitiveGroupKeyFunction.applyAsLong(tuple)));
+        } else {
+            var userSuppliedKey = hasMultipleGroups ? groupKeyFunction.apply(tuple) : null;
+            createTuple(tuple, getOrCreateGroup(userSuppliedKey));
+        }
     }
 
-    private void createTuple(InTuple_ tuple, GroupKey_ userSuppliedKey) {
-        var newGroup = getOrCreateGroup(userSuppliedKey);
+    @Override
+    public final void ensureInsertCapacity(int insertCount) {
+        // At worst, every tuple has a group of its own.
+        if (groupMap != null && groupMap.isEmpty()) {
+            groupMap = CollectionUtils.newHashMap(insertCount);
+        } else if (primitiveGroupMap != null && primitiveGroupMap.isEmpty()) {
+            primitiveGroupMap = new LongObjectHashMap<>(insertCount);
+        }
+        propagationQueue.ensureInsertCapacity(hasMultipleGroups ? insertCount : 1);
+    }
+
+    private void createTuple(InTuple_ tuple, Group<OutTuple_, ResultContainer_> newGroup) {
         var outTuple = accumulate(tuple, newGroup);
         switch (outTuple.state) {
             case CREATING, UPDATING -> {
@@ -131,7 +201,7 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
             // Avoids computeIfAbsent in order to not create lambdas on the hot path.
             var group = groupMap.get(groupMapKey);
             if (group == null) {
-                group = createGroupWithGroupKey(groupMapKey);
+                group = createGroupWithGroupKey(groupMapKey, extractUserSuppliedKey(groupMapKey));
                 groupMap.put(groupMapKey, group);
             } else {
                 group.parentCount++;
@@ -147,8 +217,19 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
         }
     }
 
-    private Group<OutTuple_, ResultContainer_> createGroupWithGroupKey(Object groupMapKey) {
-        var userSuppliedKey = extractUserSuppliedKey(groupMapKey);
+    private Group<OutTuple_, ResultContainer_> getOrCreatePrimitiveGroup(long groupKey) {
+        var group = primitiveGroupMap.get(groupKey);
+        if (group == null) {
+            var userSuppliedKey = primitiveGroupKeyBoxer.apply(groupKey);
+            group = createGroupWithGroupKey(userSuppliedKey, userSuppliedKey);
+            primitiveGroupMap.put(groupKey, group);
+        } else {
+            group.parentCount++;
+        }
+        return group;
+    }
+
+    private Group<OutTuple_, ResultContainer_> createGroupWithGroupKey(Object groupMapKey, GroupKey_ userSuppliedKey) {
         var outTuple = createOutTuple(userSuppliedKey);
         var group = hasCollector ? Group.create(groupMapKey, supplier.get(), outTuple)
                 : Group.<OutTuple_, ResultContainer_> createWithoutAccumulate(groupMapKey, outTuple);
@@ -185,22 +266,36 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
             undoAccumulator.run();
         }
 
+        if (hasPrimitiveGroupKey) {
+            var newGroupKey = primitiveGroupKeyFunction.applyAsLong(tuple);
+            if (newGroupKey == ((Number) oldGroup.getGroupKey()).longValue()) {
+                updateTuple(tuple, oldGroup);
+            } else {
+                killTuple(oldGroup);
+                createTuple(tuple, getOrCreatePrimitiveGroup(newGroupKey));
+            }
+            return;
+        }
         var oldUserSuppliedGroupKey = hasMultipleGroups ? extractUserSuppliedKey(oldGroup.getGroupKey()) : null;
         var newUserSuppliedGroupKey = hasMultipleGroups ? groupKeyFunction.apply(tuple) : null;
         if (Objects.equals(newUserSuppliedGroupKey, oldUserSuppliedGroupKey)) {
-            // No need to change parentCount because it is the same group
-            var outTuple = accumulate(tuple, oldGroup);
-            switch (outTuple.state) {
-                case CREATING, UPDATING -> {
-                    // Already in the correct state.
-                }
-                case OK -> propagationQueue.update(oldGroup);
-                default -> throw new IllegalStateException("Impossible state: The group (" + oldGroup + ") in node (" + this
-                        + ") is in an unexpected state (" + outTuple.state + ").");
-            }
+            updateTuple(tuple, oldGroup);
         } else {
             killTuple(oldGroup);
-            createTuple(tuple, newUserSuppliedGroupKey);
+            createTuple(tuple, getOrCreateGroup(newUserSuppliedGroupKey));
+        }
+    }
+
+    private void updateTuple(InTuple_ tuple, Group<OutTuple_, ResultContainer_> oldGroup) {
+        // No need to change parentCount because it is the same group
+        var outTuple = accumulate(tuple, oldGroup);
+        switch (outTuple.state) {
+            case CREATING, UPDATING -> {
+                // Already in the correct state.
+            }
+            case OK -> propagationQueue.update(oldGroup);
+            default -> throw new IllegalStateException("Impossible state: The group (" + oldGroup + ") in node (" + this
+                    + ") is in an unexpected state (" + outTuple.state + ").");
         }
     }
 
@@ -241,7 +336,9 @@ public abstract class AbstractGroupNode<InTuple_ extends AbstractTuple, OutTuple
     }
 
     private Group<OutTuple_, ResultContainer_> removeGroup(Object groupKey) {
-        if (hasMultipleGroups) {
+        if (hasPrimitiveGroupKey) {
+            return primitiveGroupMap.remove(((Number) groupKey).longValue());
+        } else if (hasMultipleGroups) {
             return groupMap.remove(groupKey);
         } else {
             var oldGroup = singletonGroup;
@@ -38,6 +38,11 @@ public abstract class AbstractIfExistsNode<LeftTuple_ extends AbstractTuple, Rig
         this.propagationQueue = new DynamicPropagationQueue<>(nextNodesTupleLifecycle);
     }
 
+    @Override
+    public void ensureLeftInsertCapacity(int insertCount) {
+        propagationQueue.ensureInsertCapacity(insertCount);
+    }
+
     protected abstract boolean testFiltering(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple);
 
     protected void initCounterLeft(ExistsCounter<LeftTuple_> counter) {
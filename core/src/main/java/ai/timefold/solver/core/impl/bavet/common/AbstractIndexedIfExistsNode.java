@@ -51,6 +51,17 @@ public abstract class AbstractIndexedIfExistsNode<LeftTuple_ extends AbstractTup
         this.indexerRight = indexerFactory.buildIndexer(false);
     }
 
+    @Override
+    public final void ensureLeftInsertCapacity(int insertCount) {
+        indexerLeft.ensureCapacity(insertCount);
+        super.ensureLeftInsertCapacity(insertCount);
+    }
+
+    @Override
+    public final void ensureRightInsertCapacity(int insertCount) {
+        indexerRight.ensureCapacity(insertCount);
+    }
+
     @Override
     public final void insertLeft(LeftTuple_ leftTuple) {
         if (leftTuple.getStore(inputStoreIndexLeftKeys) != null) {
@@ -87,7 +98,7 @@ public abstract class AbstractIndexedIfExistsNode<LeftTuple_ extends AbstractTup
             insertLeft(leftTuple);
             return;
         }
-        var newIndexKeys = keysExtractorLeft.apply(leftTuple);
+        var newIndexKeys = keysExtractorLeft.reapply(leftTuple, oldIndexKeys);
         ElementAwareListEntry<ExistsCounter<LeftTuple_>> counterEntry = leftTuple.getStore(inputStoreIndexLeftCounterEntry);
         var counter = counterEntry.getElement();
 
@@ -169,7 +180,7 @@ public abstract class AbstractIndexedIfExistsNode<LeftTuple_ extends AbstractTup
             insertRight(rightTuple);
             return;
         }
-        var newIndexKeys = keysExtractorRight.apply(rightTuple);
+        var newIndexKeys = keysExtractorRight.reapply(rightTuple, oldIndexKeys);
         if (oldIndexKeys.equals(newIndexKeys)) {
             // No need for re-indexing because the index keys didn't change
             if (isFiltering) {
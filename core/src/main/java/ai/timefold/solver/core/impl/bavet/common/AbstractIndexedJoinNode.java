@@ -39,9 +39,9 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends AbstractTuple,
             int inputStoreIndexLeftKeys, int inputStoreIndexLeftEntry, int inputStoreIndexLeftOutTupleList,
             int inputStoreIndexRightKeys, int inputStoreIndexRightEntry, int inputStoreIndexRightOutTupleList,
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, boolean isFiltering, int outputStoreIndexLeftOutEntry,
-            int outputStoreIndexRightOutEntry) {
+            int outputStoreIndexRightOutEntry, boolean recycleTuples) {
         super(inputStoreIndexLeftOutTupleList, inputStoreIndexRightOutTupleList, nextNodesTupleLifecycle, isFiltering,
-                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry);
+                outputStoreIndexLeftOutEntry, outputStoreIndexRightOutEntry, recycleTuples);
         this.keysExtractorLeft = keysExtractorLeft;
         this.keysExtractorRight = indexerFactory.buildRightKeysExtractor();
         this.inputStoreIndexLeftKeys = inputStoreIndexLeftKeys;
@@ -52,6 +52,19 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends AbstractTuple,
         this.indexerRight = indexerFactory.buildIndexer(false);
     }
 
+    /**
+     * Only the indexers are sized, as the number of joined tuples does not follow from the number of inserts.
+     */
+    @Override
+    public final void ensureLeftInsertCapacity(int insertCount) {
+        indexerLeft.ensureCapacity(insertCount);
+    }
+
+    @Override
+    public final void ensureRightInsertCapacity(int insertCount) {
+        indexerRight.ensureCapacity(insertCount);
+    }
+
     @Override
     public final void insertLeft(LeftTuple_ leftTuple) {
         if (leftTuple.getStore(inputStoreIndexLeftKeys) != null) {
@@ -72,7 +85,7 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends AbstractTuple,
             insertLeft(leftTuple);
             return;
         }
-        var newIndexKeys = keysExtractorLeft.apply(leftTuple);
+        var newIndexKeys = keysExtractorLeft.reapply(leftTuple, oldIndexKeys);
         if (oldIndexKeys.equals(newIndexKeys)) {
             // No need for re-indexing because the index keys didn't change
             // Prefer an update over retract-insert if possible
@@ -128,7 +141,7 @@ public abstract class AbstractIndexedJoinNode<LeftTuple_ extends AbstractTuple,
             insertRight(rightTuple);
             return;
         }
-        var newIndexKeys = keysExtractorRight.apply(rightTuple);
+        var newIndexKeys = keysExtractorRight.reapply(rightTuple, oldIndexKeys);
         if (oldIndexKeys.equals(newIndexKeys)) {
             // No need for re-indexing because the index keys didn't change
             // Prefer an update over retract-insert if possible
@@ -31,6 +31,11 @@ public abstract class AbstractMapNode<InTuple_ extends AbstractTuple, OutTuple_
 
     protected abstract OutTuple_ map(InTuple_ inTuple);
 
+    @Override
+    public final void ensureInsertCapacity(int insertCount) {
+        propagationQueue.ensureInsertCapacity(insertCount);
+    }
+
     @Override
     public final void update(InTuple_ tuple) {
         OutTuple_ outTuple = tuple.getStore(inputStoreIndex);
@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.BiConsumer;
@@ -26,6 +27,7 @@ public abstract class AbstractNodeBuildHelper<Stream_ extends BavetStream> {
     private final Map<Stream_, Integer> storeIndexMap;
 
     private List<AbstractNode> reversedNodeList;
+    private NodeNetworkProfiler profiler = null;
 
     protected AbstractNodeBuildHelper(Set<Stream_> activeStreamSet) {
         this.activeStreamSet = activeStreamSet;
@@ -36,6 +38,26 @@ public abstract class AbstractNodeBuildHelper<Stream_ extends BavetStream> {
         this.reversedNodeList = new ArrayList<>(activeStreamSetSize);
     }
 
+    /**
+     * Must be called before any node is added.
+     *
+     * @param profiler never null, will profile every node added from now on
+     */
+    public void enableProfiling(NodeNetworkProfiler profiler) {
+        if (!reversedNodeList.isEmpty()) {
+            throw new IllegalStateException("Impossible state: profiling enabled after nodes (%s) have been added."
+                    .formatted(reversedNodeList));
+        }
+        this.profiler = Objects.requireNonNull(profiler);
+    }
+
+    /**
+     * @return null unless profiling is enabled
+     */
+    protected final NodeNetworkProfiler getProfiler() {
+        return profiler;
+    }
+
     public boolean isStreamActive(Stream_ stream) {
         return activeStreamSet.contains(stream);
     }
@@ -52,15 +74,24 @@ public abstract class AbstractNodeBuildHelper<Stream_ extends BavetStream> {
                 throw new IllegalStateException("Impossible state: The node (%s) has no parent (%s)."
                         .formatted(node, parent));
             }
-            putInsertUpdateRetract(parent, (TupleLifecycle<? extends AbstractTuple>) node);
+            putInsertUpdateRetract(parent, profile(node, (TupleLifecycle<? extends AbstractTuple>) node));
+        } else if (profiler != null) {
+            profiler.getProfile(node); // The session reports to forEach nodes' profiles directly.
         }
     }
 
     public void addNode(AbstractNode node, Stream_ creator, Stream_ leftParent, Stream_ rightParent) {
         reversedNodeList.add(node);
         nodeCreatorMap.put(node, creator);
-        putInsertUpdateRetract(leftParent, TupleLifecycle.ofLeft((LeftTupleLifecycle<? extends AbstractTuple>) node));
-        putInsertUpdateRetract(rightParent, TupleLifecycle.ofRight((RightTupleLifecycle<? extends AbstractTuple>) node));
+        putInsertUpdateRetract(leftParent,
+                profile(node, TupleLifecycle.ofLeft((LeftTupleLifecycle<? extends AbstractTuple>) node)));
+        putInsertUpdateRetract(rightParent,
+                profile(node, TupleLifecycle.ofRight((RightTupleLifecycle<? extends AbstractTuple>) node)));
+    }
+
+    private <Tuple_ extends AbstractTuple> TupleLifecycle<Tuple_> profile(AbstractNode node,
+            TupleLifecycle<Tuple_> nodeLifecycle) {
+        return profiler == null ? nodeLifecycle : profiler.profile(node, nodeLifecycle);
     }
 
     public <Tuple_ extends AbstractTuple> void putInsertUpdateRetract(Stream_ stream,
@@ -203,22 +234,35 @@ public abstract class AbstractNodeBuildHelper<Stream_ extends BavetStream> {
      * @param buildHelper never null
      * @return at least 0
      */
-    @SuppressWarnings("unchecked")
     private static <Stream_ extends BavetStream> long determineLayerIndex(AbstractNode node,
             AbstractNodeBuildHelper<Stream_> buildHelper) {
         if (node instanceof AbstractForEachUniNode<?>) { // ForEach nodes, and only they, are in layer 0.
             return 0;
+        }
+        var maxParentLayerIndex = 0L;
+        for (var parentNode : buildHelper.findParentNodes(node)) {
+            maxParentLayerIndex = Math.max(maxParentLayerIndex, parentNode.getLayerIndex());
+        }
+        return maxParentLayerIndex + 1;
+    }
+
+    /**
+     * @param node never null
+     * @return never null; empty for forEach nodes, two parents for nodes such as {@link AbstractJoinNode},
+     *         one parent otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public List<AbstractNode> findParentNodes(AbstractNode node) {
+        if (node instanceof AbstractForEachUniNode<?>) {
+            return Collections.emptyList();
         } else if (node instanceof AbstractTwoInputNode<?, ?> joinNode) {
-            var nodeCreator = (BavetStreamBinaryOperation<?>) buildHelper.getNodeCreatingStream(joinNode);
+            var nodeCreator = (BavetStreamBinaryOperation<?>) getNodeCreatingStream(joinNode);
             var leftParent = (Stream_) nodeCreator.getLeftParent();
             var rightParent = (Stream_) nodeCreator.getRightParent();
-            var leftParentNode = buildHelper.findParentNode(leftParent);
-            var rightParentNode = buildHelper.findParentNode(rightParent);
-            return Math.max(leftParentNode.getLayerIndex(), rightParentNode.getLayerIndex()) + 1;
+            return List.of(findParentNode(leftParent), findParentNode(rightParent));
         } else {
-            var nodeCreator = buildHelper.getNodeCreatingStream(node);
-            var parentNode = buildHelper.findParentNode(nodeCreator.getParent());
-            return parentNode.getLayerIndex() + 1;
+            var nodeCreator = getNodeCreatingStream(node);
+            return List.of(findParentNode(nodeCreator.getParent()));
         }
     }
 
@@ -1,5 +1,8 @@
 package ai.timefold.solver.core.impl.bavet.common;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import ai.timefold.solver.core.impl.bavet.common.tuple.AbstractTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.score.stream.common.inliner.UndoScoreImpacter;
@@ -9,6 +12,10 @@ public abstract class AbstractScorer<Tuple_ extends AbstractTuple> implements Tu
 
     protected final WeightedScoreImpacter<?, ?> weightedScoreImpacter;
     private final int inputStoreIndex;
+    /**
+     * Null unless the impacts are being deferred.
+     */
+    private List<Tuple_> deferredInsertList = null;
 
     protected AbstractScorer(WeightedScoreImpacter<?, ?> weightedScoreImpacter, int inputStoreIndex) {
         this.weightedScoreImpacter = weightedScoreImpacter;
@@ -17,6 +24,10 @@ public abstract class AbstractScorer<Tuple_ extends AbstractTuple> implements Tu
 
     @Override
     public final void insert(Tuple_ tuple) {
+        if (deferredInsertList != null) {
+            deferredInsertList.add(tuple);
+            return;
+        }
         if (tuple.getStore(inputStoreIndex) != null) {
             throw new IllegalStateException("Impossible state: the input for the tuple (" + tuple
                     + ") was already added in the tupleStore.");
@@ -26,6 +37,7 @@ public abstract class AbstractScorer<Tuple_ extends AbstractTuple> implements Tu
 
     @Override
     public final void update(Tuple_ tuple) {
+        failIfDeferringImpacts(tuple);
         UndoScoreImpacter undoScoreImpacter = tuple.getStore(inputStoreIndex);
         // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
         if (undoScoreImpacter != null) {
@@ -36,6 +48,37 @@ public abstract class AbstractScorer<Tuple_ extends AbstractTuple> implements Tu
 
     protected abstract UndoScoreImpacter impact(Tuple_ tuple);
 
+    /**
+     * From now on, inserted tuples are only collected and do not impact the score,
+     * until {@link #flushDeferredImpacts()} is called.
+     * This allows the nodes upstream of different scorers to be propagated on different threads,
+     * while the score itself is only ever modified by one thread.
+     * <p>
+     * Only supported during the first settle of a session, where every tuple is an insert.
+     */
+    public final void deferImpacts() {
+        deferredInsertList = new ArrayList<>();
+    }
+
+    private void failIfDeferringImpacts(Tuple_ tuple) {
+        if (deferredInsertList != null) {
+            throw new IllegalStateException(
+                    "Impossible state: the scorer (%s) received something other than an insert (%s) while deferring impacts."
+                            .formatted(this, tuple));
+        }
+    }
+
+    /**
+     * Impacts the score with all tuples inserted since {@link #deferImpacts()}, and stops deferring.
+     */
+    public final void flushDeferredImpacts() {
+        var tupleList = deferredInsertList;
+        deferredInsertList = null;
+        for (var tuple : tupleList) {
+            insert(tuple);
+        }
+    }
+
     /**
      * Helps with debugging exceptions thrown by user code during impact calls.
      *
@@ -52,6 +95,7 @@ public abstract class AbstractScorer<Tuple_ extends AbstractTuple> implements Tu
 
     @Override
     public final void retract(Tuple_ tuple) {
+        failIfDeferringImpacts(tuple);
         UndoScoreImpacter undoScoreImpacter = tuple.getStore(inputStoreIndex);
         // No fail fast if null because we don't track which tuples made it through the filter predicate(s)
         if (undoScoreImpacter != null) {
@@ -2,7 +2,6 @@ package ai.timefold.solver.core.impl.bavet.common;
 
 import java.util.ArrayList;
 import java.util.BitSet;
-import java.util.List;
 import java.util.function.Consumer;
 
 import ai.timefold.solver.core.impl.bavet.common.tuple.AbstractTuple;
@@ -22,7 +21,7 @@ final class DynamicPropagationQueue<Tuple_ extends AbstractTuple, Carrier_ exten
     private static final int INITIAL_CAPACITY = 1000; // Selected arbitrarily.
 
     private final Consumer<Carrier_> preprocessor;
-    private final List<Carrier_> dirtyList;
+    private final ArrayList<Carrier_> dirtyList;
     private final BitSet retractQueue;
     private final BitSet insertQueue;
     private final TupleLifecycle<Tuple_> nextNodesTupleLifecycle;
@@ -50,6 +49,12 @@ final class DynamicPropagationQueue<Tuple_ extends AbstractTuple, Carrier_ exten
         this(nextNodesTupleLifecycle, preprocessor, INITIAL_CAPACITY);
     }
 
+    @Override
+    public void ensureInsertCapacity(int insertCount) {
+        dirtyList.ensureCapacity(insertCount);
+        nextNodesTupleLifecycle.ensureInsertCapacity(insertCount);
+    }
+
     @Override
     public void insert(Carrier_ carrier) {
         var positionInDirtyList = carrier.positionInDirtyList;
@@ -0,0 +1,192 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.impl.bavet.common.tuple.AbstractTuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.uni.AbstractForEachUniNode;
+import ai.timefold.solver.core.impl.bavet.visual.NodeGraph;
+
+/**
+ * Collects a {@link NodeProfile} for every node of a single session.
+ * Nodes are profiled at their inputs:
+ * the {@link AbstractNodeBuildHelper} wraps the input of every node in a profiling {@link TupleLifecycle},
+ * and the session reports the facts it sends into the forEach nodes.
+ * <p>
+ * The scorers are profiled per constraint,
+ * which allows to attribute the time spent in the node network to the constraints, see {@link #getConstraintTimeNanos}.
+ * <p>
+ * Every tuple operation is counted, but only one in every sample interval is timed.
+ * Timing every operation (sample interval 1) is exact, but comes at a noticeable cost;
+ * a larger sample interval makes the cost of reading the clock negligible.
+ * Profiling is opt-in and never enabled for derived sessions.
+ */
+public final class NodeNetworkProfiler {
+
+    /**
+     * Good enough to tell the expensive constraints from the cheap ones,
+     * at a cost low enough to keep profiling enabled in production.
+     */
+    public static final int DEFAULT_SAMPLE_INTERVAL = 16;
+
+    private final int sampleInterval;
+    private final Map<AbstractNode, NodeProfile> profileMap = new IdentityHashMap<>();
+    private final Map<ConstraintRef, TupleLifecycleProfile> scorerProfileMap = new LinkedHashMap<>();
+    private final Map<ConstraintRef, Collection<AbstractNode>> constraintToNodesMap = new LinkedHashMap<>();
+    private final Map<AbstractNode, Integer> nodeToConstraintCountMap = new IdentityHashMap<>();
+    private NodeGraph<?> nodeGraph = null;
+
+    public NodeNetworkProfiler() {
+        this(1);
+    }
+
+    /**
+     * @param sampleInterval a power of 2, 1 to time every tuple operation
+     */
+    public NodeNetworkProfiler(int sampleInterval) {
+        if (sampleInterval < 1 || Integer.bitCount(sampleInterval) != 1) {
+            throw new IllegalArgumentException("The sampleInterval (%d) must be a power of 2."
+                    .formatted(sampleInterval));
+        }
+        this.sampleInterval = sampleInterval;
+    }
+
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * @param node never null
+     * @param nodeLifecycle never null, the input of the node
+     * @return never null, records every call in the {@link NodeProfile} of the node
+     *         and then passes it on to the nodeLifecycle
+     */
+    public <Tuple_ extends AbstractTuple> TupleLifecycle<Tuple_> profile(AbstractNode node,
+            TupleLifecycle<Tuple_> nodeLifecycle) {
+        return new ProfilingTupleLifecycle<>(nodeLifecycle, getProfile(node));
+    }
+
+    public NodeProfile getProfile(AbstractNode node) {
+        return profileMap.computeIfAbsent(node, n -> new NodeProfile(n, sampleInterval));
+    }
+
+    /**
+     * @param constraintRef never null, the constraint of the scorer
+     * @param scorer never null
+     * @return never null, records every call in the profile of the constraint's scorer
+     *         and then passes it on to the scorer
+     */
+    public <Tuple_ extends AbstractTuple> TupleLifecycle<Tuple_> profileScorer(ConstraintRef constraintRef,
+            TupleLifecycle<Tuple_> scorer) {
+        var profile = new TupleLifecycleProfile(sampleInterval);
+        if (scorerProfileMap.put(constraintRef, profile) != null) {
+            throw new IllegalStateException("Impossible state: the constraint (%s) has more than one scorer."
+                    .formatted(constraintRef));
+        }
+        return new ProfilingTupleLifecycle<>(scorer, profile);
+    }
+
+    /**
+     * @param constraintRef never null
+     * @param nodes never null, every node the constraint's scorer depends on, transitively
+     */
+    public void setConstraintNodes(ConstraintRef constraintRef, Collection<AbstractNode> nodes) {
+        var previousNodes = constraintToNodesMap.put(constraintRef, List.copyOf(nodes));
+        if (previousNodes != null) {
+            throw new IllegalStateException("Impossible state: the nodes of the constraint (%s) are already known."
+                    .formatted(constraintRef));
+        }
+        for (var node : nodes) {
+            nodeToConstraintCountMap.merge(node, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * @return never null, the constraints of which {@link #getConstraintTimeNanos} is known
+     */
+    public Set<ConstraintRef> getConstraintRefs() {
+        return constraintToNodesMap.keySet();
+    }
+
+    /**
+     * The time spent in the scorer of the constraint and in the nodes it depends on.
+     * The time of a node shared by several constraints is split evenly between them,
+     * so that the times of all constraints add up to the time of the entire node network.
+     *
+     * @param constraintRef never null
+     * @return 0 if the constraint is not known
+     */
+    public long getConstraintTimeNanos(ConstraintRef constraintRef) {
+        var nodes = constraintToNodesMap.get(constraintRef);
+        if (nodes == null) {
+            return 0L;
+        }
+        var scorerProfile = scorerProfileMap.get(constraintRef);
+        var timeNanos = scorerProfile == null ? 0.0 : scorerProfile.getTimeNanos();
+        for (var node : nodes) {
+            // Not getProfile(node), as this may be called by the thread which publishes the meters.
+            var profile = profileMap.get(node);
+            if (profile != null) {
+                timeNanos += (double) profile.getTimeNanos() / nodeToConstraintCountMap.get(node);
+            }
+        }
+        return (long) timeNanos;
+    }
+
+    public <A> void insert(AbstractForEachUniNode<A> node, A fact) {
+        var profile = getProfile(node);
+        var start = profile.start();
+        node.insert(fact);
+        profile.insertEnded(start);
+    }
+
+    public <A> void update(AbstractForEachUniNode<A> node, A fact) {
+        var profile = getProfile(node);
+        var start = profile.start();
+        node.update(fact);
+        profile.updateEnded(start);
+    }
+
+    public <A> void retract(AbstractForEachUniNode<A> node, A fact) {
+        var profile = getProfile(node);
+        var start = profile.start();
+        node.retract(fact);
+        profile.retractEnded(start);
+    }
+
+    /**
+     * @return never null, ordered by node ID
+     */
+    public List<NodeProfile> getProfileList() {
+        return profileMap.values().stream()
+                .sorted(Comparator.comparingLong(profile -> profile.getNode().getId()))
+                .toList();
+    }
+
+    public void setNodeGraph(NodeGraph<?> nodeGraph) {
+        this.nodeGraph = nodeGraph;
+    }
+
+    /**
+     * @return never null, the node network in Graphviz DOT format, every node annotated with its {@link NodeProfile}
+     */
+    public String buildGraphvizDOT() {
+        if (nodeGraph == null) {
+            throw new IllegalStateException("Impossible state: the node graph of the profiled session is not known.");
+        }
+        return nodeGraph.buildGraphvizDOT(this);
+    }
+
+    @Override
+    public String toString() {
+        return "%s of %d nodes.".formatted(getClass().getSimpleName(), profileMap.size());
+    }
+
+}
@@ -0,0 +1,30 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import java.util.Objects;
+
+/**
+ * Runtime statistics of a single {@link AbstractNode}, collected by {@link NodeNetworkProfiler}.
+ * Counts what the node receives: tuples from its parent nodes, or facts from the session for forEach nodes.
+ * The time is spent inside the node itself while handling those,
+ * which includes the user code it runs (joiners, filters, mappings, collectors, ...),
+ * but not the time its child nodes spend handling what it propagates.
+ */
+public final class NodeProfile extends TupleLifecycleProfile {
+
+    private final AbstractNode node;
+
+    NodeProfile(AbstractNode node, int sampleInterval) {
+        super(sampleInterval);
+        this.node = Objects.requireNonNull(node);
+    }
+
+    public AbstractNode getNode() {
+        return node;
+    }
+
+    @Override
+    public String toString() {
+        return "%s (%s)".formatted(node, super.toString());
+    }
+
+}
@@ -0,0 +1,64 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import ai.timefold.solver.core.impl.bavet.common.tuple.AbstractTuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
+
+/**
+ * Records every call to the node's input in its {@link NodeProfile}, or every call to a scorer in its profile.
+ *
+ * @see NodeNetworkProfiler
+ */
+record ProfilingTupleLifecycle<Tuple_ extends AbstractTuple>(TupleLifecycle<Tuple_> nodeLifecycle,
+        TupleLifecycleProfile profile)
+        implements
+            TupleLifecycle<Tuple_> {
+
+    ProfilingTupleLifecycle {
+        Objects.requireNonNull(nodeLifecycle);
+        Objects.requireNonNull(profile);
+    }
+
+    @Override
+    public void insert(Tuple_ tuple) {
+        var start = profile.start();
+        nodeLifecycle.insert(tuple);
+        profile.insertEnded(start);
+    }
+
+    @Override
+    public void update(Tuple_ tuple) {
+        var start = profile.start();
+        nodeLifecycle.update(tuple);
+        profile.updateEnded(start);
+    }
+
+    @Override
+    public void retract(Tuple_ tuple) {
+        var start = profile.start();
+        nodeLifecycle.retract(tuple);
+        profile.retractEnded(start);
+    }
+
+    @Override
+    public void ensureInsertCapacity(int insertCount) {
+        nodeLifecycle.ensureInsertCapacity(insertCount);
+    }
+
+    @Override
+    public TupleLifecycle<Tuple_> restrict(Predicate<Object> targetPredicate) {
+        var restrictedLifecycle = nodeLifecycle.restrict(targetPredicate);
+        if (restrictedLifecycle == null) {
+            return null;
+        }
+        return restrictedLifecycle == nodeLifecycle ? this : new ProfilingTupleLifecycle<>(restrictedLifecycle, profile);
+    }
+
+    @Override
+    public String toString() {
+        return "Profiling %s".formatted(nodeLifecycle);
+    }
+
+}
@@ -41,4 +41,13 @@ public sealed interface PropagationQueue<T>
 
     void retract(T item, TupleState state);
 
+    /**
+     * Sizes the insert queue for the given number of inserts, if it is empty,
+     * and announces them to the next nodes.
+     *
+     * @param insertCount at least zero
+     * @see TupleLifecycle#ensureInsertCapacity(int)
+     */
+    void ensureInsertCapacity(int insertCount);
+
 }
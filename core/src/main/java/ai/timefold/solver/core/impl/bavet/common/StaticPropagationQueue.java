@@ -1,10 +1,13 @@
 package ai.timefold.solver.core.impl.bavet.common;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
 
 import ai.timefold.solver.core.impl.bavet.common.tuple.AbstractTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TuplePool;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleState;
 
 /**
@@ -20,19 +23,44 @@ public final class StaticPropagationQueue<Tuple_ extends AbstractTuple>
 
     private final Deque<Tuple_> retractQueue;
     private final Deque<Tuple_> updateQueue;
-    private final Deque<Tuple_> insertQueue;
+    private Deque<Tuple_> insertQueue;
     private final TupleLifecycle<Tuple_> nextNodesTupleLifecycle;
+    private final TuplePool<Tuple_> tuplePool;
 
-    public StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle, int size) {
+    private StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle, int size, TuplePool<Tuple_> tuplePool) {
         // Guesstimate that updates are dominant.
         this.retractQueue = new ArrayDeque<>(size / 20);
         this.updateQueue = new ArrayDeque<>((size / 20) * 18);
         this.insertQueue = new ArrayDeque<>(size / 20);
         this.nextNodesTupleLifecycle = nextNodesTupleLifecycle;
+        this.tuplePool = tuplePool;
+    }
+
+    public StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle, int size) {
+        this(nextNodesTupleLifecycle, size, null);
+    }
+
+    /**
+     * @param tuplePool null if dead tuples are not to be recycled
+     */
+    public StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle, TuplePool<Tuple_> tuplePool) {
+        this(nextNodesTupleLifecycle, 1000, tuplePool);
     }
 
     public StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle) {
-        this(nextNodesTupleLifecycle, 1000);
+        this(nextNodesTupleLifecycle, 1000, null);
+    }
+
+    public TupleLifecycle<Tuple_> getNextNodesTupleLifecycle() {
+        return nextNodesTupleLifecycle;
+    }
+
+    @Override
+    public void ensureInsertCapacity(int insertCount) {
+        if (insertQueue.isEmpty()) {
+            insertQueue = new ArrayDeque<>(insertCount);
+        }
+        nextNodesTupleLifecycle.ensureInsertCapacity(insertCount);
     }
 
     @Override
@@ -82,13 +110,23 @@ public final class StaticPropagationQueue<Tuple_ extends AbstractTuple>
                     // Change state before propagation, so that the next node can't make decisions on the original state.
                     tuple.state = TupleState.DEAD;
                     nextNodesTupleLifecycle.retract(tuple);
+                    recycle(tuple);
+                }
+                case ABORTING -> {
+                    tuple.state = TupleState.DEAD;
+                    recycle(tuple);
                 }
-                case ABORTING -> tuple.state = TupleState.DEAD;
             }
         }
         retractQueue.clear();
     }
 
+    private void recycle(Tuple_ tuple) {
+        if (tuplePool != null) {
+            tuplePool.offer(tuple);
+        }
+    }
+
     @Override
     public void propagateUpdates() {
         processAndClear(updateQueue);
@@ -123,6 +161,31 @@ public final class StaticPropagationQueue<Tuple_ extends AbstractTuple>
     @Override
     public void propagateInserts() {
         processAndClear(insertQueue);
+        assertRetractAndUpdateQueuesEmpty();
+    }
+
+    /**
+     * As {@link #propagateInserts()}, but instead of propagating the inserted tuples to the next nodes,
+     * returns them, so that the caller can propagate them to (parts of) the next nodes itself.
+     *
+     * @return never null, the inserted tuples that are still alive, in insertion order
+     * @see #getNextNodesTupleLifecycle()
+     */
+    public List<Tuple_> takeInserts() {
+        var insertList = new ArrayList<Tuple_>(insertQueue.size());
+        for (var tuple : insertQueue) {
+            if (tuple.state == TupleState.DEAD) { // See processAndClear(Deque).
+                continue;
+            }
+            tuple.state = TupleState.OK;
+            insertList.add(tuple);
+        }
+        insertQueue.clear();
+        assertRetractAndUpdateQueuesEmpty();
+        return insertList;
+    }
+
+    private void assertRetractAndUpdateQueuesEmpty() {
         if (!retractQueue.isEmpty()) {
             throw new IllegalStateException("Impossible state: The retract queue (%s) is not empty."
                     .formatted(retractQueue));
@@ -0,0 +1,127 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
+
+/**
+ * Runtime statistics of a {@link TupleLifecycle}, collected by {@link NodeNetworkProfiler}.
+ * Every call is counted, but only every n-th call is timed, n being the sample interval.
+ * The total time is then extrapolated from the timed calls.
+ * With a sample interval of 1, every call is timed and the total time is exact.
+ * <p>
+ * Every node is only ever propagated by one thread at a time, so the counters only ever have one writer.
+ * But the getters may be called by another thread, such as the one which publishes the meters.
+ * Therefore the counters are written and read with opaque access,
+ * which guarantees that the reader eventually sees the latest values without tearing,
+ * while costing the writer no more than a plain write on common hardware.
+ * The counters are not read atomically together,
+ * so the values derived from several of them may be slightly off while the node is being propagated.
+ */
+public sealed class TupleLifecycleProfile permits NodeProfile {
+
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+    private static final VarHandle INSERT_COUNT = findVarHandle("insertCount");
+    private static final VarHandle UPDATE_COUNT = findVarHandle("updateCount");
+    private static final VarHandle RETRACT_COUNT = findVarHandle("retractCount");
+    private static final VarHandle SAMPLE_COUNT = findVarHandle("sampleCount");
+    private static final VarHandle SAMPLED_TIME_NANOS = findVarHandle("sampledTimeNanos");
+
+    private static VarHandle findVarHandle(String fieldName) {
+        try {
+            return MethodHandles.lookup().findVarHandle(TupleLifecycleProfile.class, fieldName, long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Impossible state: the field (%s) does not exist.".formatted(fieldName), e);
+        }
+    }
+
+    private final int sampleMask;
+    private long insertCount = 0L;
+    private long updateCount = 0L;
+    private long retractCount = 0L;
+    private long sampleCount = 0L;
+    private long sampledTimeNanos = 0L;
+
+    /**
+     * @param sampleInterval a power of 2
+     */
+    TupleLifecycleProfile(int sampleInterval) {
+        if (sampleInterval < 1 || Integer.bitCount(sampleInterval) != 1) {
+            throw new IllegalArgumentException("The sampleInterval (%d) must be a power of 2."
+                    .formatted(sampleInterval));
+        }
+        this.sampleMask = sampleInterval - 1;
+    }
+
+    /**
+     * @return the start time if this call is to be timed, {@link #NOT_SAMPLED} otherwise;
+     *         to be passed to {@link #insertEnded(long)}, {@link #updateEnded(long)} or {@link #retractEnded(long)}
+     */
+    long start() {
+        // Only the writing thread calls this, so it can read its own writes without opaque access.
+        return ((insertCount + updateCount + retractCount) & sampleMask) == 0 ? System.nanoTime() : NOT_SAMPLED;
+    }
+
+    void insertEnded(long start) {
+        INSERT_COUNT.setOpaque(this, insertCount + 1);
+        ended(start);
+    }
+
+    void updateEnded(long start) {
+        UPDATE_COUNT.setOpaque(this, updateCount + 1);
+        ended(start);
+    }
+
+    void retractEnded(long start) {
+        RETRACT_COUNT.setOpaque(this, retractCount + 1);
+        ended(start);
+    }
+
+    private void ended(long start) {
+        if (start != NOT_SAMPLED) {
+            SAMPLE_COUNT.setOpaque(this, sampleCount + 1);
+            SAMPLED_TIME_NANOS.setOpaque(this, sampledTimeNanos + (System.nanoTime() - start));
+        }
+    }
+
+    public long getInsertCount() {
+        return (long) INSERT_COUNT.getOpaque(this);
+    }
+
+    public long getUpdateCount() {
+        return (long) UPDATE_COUNT.getOpaque(this);
+    }
+
+    public long getRetractCount() {
+        return (long) RETRACT_COUNT.getOpaque(this);
+    }
+
+    /**
+     * @return the number of tuples received which have not been retracted yet
+     */
+    public long getTupleCount() {
+        return getInsertCount() - getRetractCount();
+    }
+
+    /**
+     * @return exact if every call is timed, extrapolated from the timed calls otherwise
+     */
+    public long getTimeNanos() {
+        var currentSampledTimeNanos = (long) SAMPLED_TIME_NANOS.getOpaque(this);
+        var currentSampleCount = (long) SAMPLE_COUNT.getOpaque(this);
+        if (sampleMask == 0 || currentSampleCount == 0) {
+            return currentSampledTimeNanos;
+        }
+        var callCount = getInsertCount() + getUpdateCount() + getRetractCount();
+        return (long) (currentSampledTimeNanos * ((double) callCount / currentSampleCount));
+    }
+
+    @Override
+    public String toString() {
+        return "inserts: %d, updates: %d, retracts: %d, tuples: %d, time: %d ms"
+                .formatted(getInsertCount(), getUpdateCount(), getRetractCount(), getTupleCount(),
+                        getTimeNanos() / 1_000_000L);
+    }
+
+}
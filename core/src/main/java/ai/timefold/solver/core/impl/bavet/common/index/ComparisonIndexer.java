@@ -1,24 +1,25 @@
 package ai.timefold.solver.core.impl.bavet.common.index;
 
 import java.util.Comparator;
-import java.util.Map;
-import java.util.NavigableMap;
 import java.util.Objects;
-import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import ai.timefold.solver.core.impl.bavet.common.joiner.JoinerType;
 import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
 
+/**
+ * Indexes by a {@link Comparable} key, so that all tuples on one side of a threshold can be visited.
+ * The keys are kept in a {@link SortedBlockMap},
+ * which finds the threshold by binary search and then visits the range without allocating.
+ */
 final class ComparisonIndexer<T, Key_ extends Comparable<Key_>>
         implements Indexer<T> {
 
     private final KeyRetriever<Key_> keyRetriever;
     private final Supplier<Indexer<T>> downstreamIndexerSupplier;
-    private final Comparator<Key_> keyComparator;
     private final boolean hasOrEquals;
-    private final NavigableMap<Key_, Indexer<T>> comparisonMap;
+    private final SortedBlockMap<Key_, Indexer<T>> comparisonMap;
 
     /**
      * Construct an {@link ComparisonIndexer} which immediately ends in a {@link NoneIndexer}.
@@ -48,16 +49,15 @@ final class ComparisonIndexer<T, Key_ extends Comparable<Key_>>
         this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
         /*
          * For GT/GTE, the iteration order is reversed.
-         * This allows us to iterate over the entire map, stopping when the threshold is reached.
-         * This is done so that we can avoid using head/tail sub maps, which are expensive.
+         * This allows us to always visit a head of the map, up to the threshold.
          */
-        this.keyComparator =
+        Comparator<Key_> keyComparator =
                 (comparisonJoinerType == JoinerType.GREATER_THAN || comparisonJoinerType == JoinerType.GREATER_THAN_OR_EQUAL)
                         ? Comparator.<Key_> naturalOrder().reversed()
                         : Comparator.naturalOrder();
         this.hasOrEquals = comparisonJoinerType == JoinerType.GREATER_THAN_OR_EQUAL
                 || comparisonJoinerType == JoinerType.LESS_THAN_OR_EQUAL;
-        this.comparisonMap = new TreeMap<>(keyComparator);
+        this.comparisonMap = new SortedBlockMap<>(keyComparator);
     }
 
     @Override
@@ -92,74 +92,22 @@ final class ComparisonIndexer<T, Key_ extends Comparable<Key_>>
         return downstreamIndexer;
     }
 
-    // TODO clean up DRY
     @Override
     public int size(Object indexKeys) {
-        var mapSize = comparisonMap.size();
-        if (mapSize == 0) {
+        if (comparisonMap.isEmpty()) {
             return 0;
         }
         Key_ indexKey = keyRetriever.apply(indexKeys);
-        if (mapSize == 1) { // Avoid creation of the entry set and iterator.
-            var entry = comparisonMap.firstEntry();
-            var comparison = keyComparator.compare(entry.getKey(), indexKey);
-            if (comparison >= 0) { // Possibility of reaching the boundary condition.
-                if (comparison > 0 || !hasOrEquals) {
-                    // Boundary condition reached when we're out of bounds entirely, or when GTE/LTE is not allowed.
-                    return 0;
-                }
-            }
-            return entry.getValue().size(indexKeys);
-        } else {
-            var size = 0;
-            for (var entry : comparisonMap.entrySet()) {
-                var comparison = keyComparator.compare(entry.getKey(), indexKey);
-                if (comparison >= 0) { // Possibility of reaching the boundary condition.
-                    if (comparison > 0 || !hasOrEquals) {
-                        // Boundary condition reached when we're out of bounds entirely, or when GTE/LTE is not allowed.
-                        break;
-                    }
-                }
-                // Boundary condition not yet reached; include the indexer in the range.
-                size += entry.getValue().size(indexKeys);
-            }
-            return size;
-        }
+        return comparisonMap.sumHead(indexKey, hasOrEquals, Indexer::size, indexKeys);
     }
 
     @Override
     public void forEach(Object indexKeys, Consumer<T> tupleConsumer) {
-        var size = comparisonMap.size();
-        if (size == 0) {
+        if (comparisonMap.isEmpty()) {
             return;
         }
         Key_ indexKey = keyRetriever.apply(indexKeys);
-        if (size == 1) { // Avoid creation of the entry set and iterator.
-            var entry = comparisonMap.firstEntry();
-            visitEntry(indexKeys, tupleConsumer, indexKey, entry);
-        } else {
-            for (var entry : comparisonMap.entrySet()) {
-                var boundaryReached = visitEntry(indexKeys, tupleConsumer, indexKey, entry);
-                if (boundaryReached) {
-                    return;
-                }
-            }
-        }
-    }
-
-    private boolean visitEntry(Object indexKeys, Consumer<T> tupleConsumer, Key_ indexKey,
-            Map.Entry<Key_, Indexer<T>> entry) {
-        // Comparator matches the order of iteration of the map, so the boundary is always found from the bottom up.
-        var comparison = keyComparator.compare(entry.getKey(), indexKey);
-        if (comparison >= 0) { // Possibility of reaching the boundary condition.
-            if (comparison > 0 || !hasOrEquals) {
-                // Boundary condition reached when we're out of bounds entirely, or when GTE/LTE is not allowed.
-                return true;
-            }
-        }
-        // Boundary condition not yet reached; include the indexer in the range.
-        entry.getValue().forEach(indexKeys, tupleConsumer);
-        return false;
+        comparisonMap.forEachHead(indexKey, hasOrEquals, Indexer::forEach, indexKeys, tupleConsumer);
     }
 
     @Override
@@ -6,13 +6,14 @@ import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import ai.timefold.solver.core.impl.util.CollectionUtils;
 import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
 
 final class EqualsIndexer<T, Key_> implements Indexer<T> {
 
     private final KeyRetriever<Key_> keyRetriever;
     private final Supplier<Indexer<T>> downstreamIndexerSupplier;
-    private final Map<Key_, Indexer<T>> downstreamIndexerMap = new HashMap<>();
+    private Map<Key_, Indexer<T>> downstreamIndexerMap = new HashMap<>();
 
     /**
      * Construct an {@link EqualsIndexer} which immediately ends in a {@link NoneIndexer}.
@@ -47,6 +48,13 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
         return downstreamIndexer.put(indexKeys, tuple);
     }
 
+    @Override
+    public void ensureCapacity(int size) {
+        if (downstreamIndexerMap.isEmpty()) {
+            downstreamIndexerMap = CollectionUtils.newHashMap(size);
+        }
+    }
+
     @Override
     public void remove(Object indexKeys, ElementAwareListEntry<T> entry) {
         Key_ indexKey = keyRetriever.apply(indexKeys);
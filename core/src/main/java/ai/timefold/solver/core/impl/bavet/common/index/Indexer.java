@@ -20,7 +20,8 @@ import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
  *        For example for {@code from(A).join(B)}, the tuple is {@code UniTuple<A>} xor {@code UniTuple<B>}.
  *        For example for {@code Bi<A, B>.join(C)}, the tuple is {@code BiTuple<A, B>} xor {@code UniTuple<C>}.
  */
-public sealed interface Indexer<T> permits ComparisonIndexer, EqualsIndexer, NoneIndexer {
+public sealed interface Indexer<T> permits ComparisonIndexer, EqualsIndexer, IntervalIndexer, NoneIndexer,
+        PrimitiveEqualsIndexer {
 
     ElementAwareListEntry<T> put(Object indexKeys, T tuple);
 
@@ -32,4 +33,14 @@ public sealed interface Indexer<T> permits ComparisonIndexer, EqualsIndexer, Non
 
     boolean isEmpty();
 
+    /**
+     * Sizes the indexer for the given number of tuples, if it is empty.
+     * Indexers which do not hash their keys ignore it.
+     *
+     * @param size the number of tuples about to be put, an upper bound for the number of distinct keys
+     */
+    default void ensureCapacity(int size) {
+        // Sorted and unkeyed indexers have nothing to size.
+    }
+
 }
@@ -14,6 +14,7 @@ import ai.timefold.solver.core.api.function.TriFunction;
 import ai.timefold.solver.core.impl.bavet.bi.joiner.DefaultBiJoiner;
 import ai.timefold.solver.core.impl.bavet.common.joiner.AbstractJoiner;
 import ai.timefold.solver.core.impl.bavet.common.joiner.JoinerType;
+import ai.timefold.solver.core.impl.bavet.common.joiner.PrimitiveKeyMapping;
 import ai.timefold.solver.core.impl.bavet.common.tuple.AbstractTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.BiTuple;
 import ai.timefold.solver.core.impl.bavet.common.tuple.QuadTuple;
@@ -67,6 +68,11 @@ import ai.timefold.solver.core.impl.util.Triple;
  * there are three indexers in the chain,
  * and the middle one's keyFunction length is 2.</li>
  * </ul>
+ * <p>
+ * An EQUAL joiner whose keyFunction has length 1 and is a {@link PrimitiveKeyMapping}
+ * results in a {@link PrimitiveEqualsIndexer} instead of an {@link EqualsIndexer}.
+ * A LESS_THAN joiner immediately followed by a GREATER_THAN joiner, as produced by overlapping joiners,
+ * results in a single {@link IntervalIndexer} instead of two {@link ComparisonIndexer}s.
  *
  * @param <Right_>
  */
@@ -168,6 +174,19 @@ public final class IndexerFactory<Right_> {
     }
 
     private static <A> UniKeysExtractor<A> toKeysExtractor(Function<A, Object> keyFunction) {
+        if (keyFunction instanceof PrimitiveKeyMapping.UniMapping<A> primitiveKeyFunction) {
+            return new UniKeysExtractor<>() {
+                @Override
+                public Object apply(UniTuple<A> tuple) {
+                    return primitiveKeyFunction.apply(tuple.factA);
+                }
+
+                @Override
+                public Object reapply(UniTuple<A> tuple, Object oldIndexKeys) {
+                    return PrimitiveKeyMapping.reuseOrBox(primitiveKeyFunction.applyAsLong(tuple.factA), oldIndexKeys);
+                }
+            };
+        }
         return tuple -> {
             var a = tuple.factA;
             return IndexKeys.of(keyFunction.apply(a));
@@ -277,6 +296,20 @@ public final class IndexerFactory<Right_> {
     }
 
     private static <A, B> BiKeysExtractor<A, B> toKeysExtractor(BiFunction<A, B, Object> keyFunction) {
+        if (keyFunction instanceof PrimitiveKeyMapping.BiMapping<A, B> primitiveKeyFunction) {
+            return new BiKeysExtractor<>() {
+                @Override
+                public Object apply(BiTuple<A, B> tuple) {
+                    return primitiveKeyFunction.apply(tuple.factA, tuple.factB);
+                }
+
+                @Override
+                public Object reapply(BiTuple<A, B> tuple, Object oldIndexKeys) {
+                    return PrimitiveKeyMapping.reuseOrBox(primitiveKeyFunction.applyAsLong(tuple.factA, tuple.factB),
+                            oldIndexKeys);
+                }
+            };
+        }
         return tuple -> {
             var a = tuple.factA;
             var b = tuple.factB;
@@ -367,6 +400,20 @@ public final class IndexerFactory<Right_> {
     }
 
     private static <A, B, C> TriKeysExtractor<A, B, C> toKeysExtractor(TriFunction<A, B, C, Object> keyFunction) {
+        if (keyFunction instanceof PrimitiveKeyMapping.TriMapping<A, B, C> primitiveKeyFunction) {
+            return new TriKeysExtractor<>() {
+                @Override
+                public Object apply(TriTuple<A, B, C> tuple) {
+                    return primitiveKeyFunction.apply(tuple.factA, tuple.factB, tuple.factC);
+                }
+
+                @Override
+                public Object reapply(TriTuple<A, B, C> tuple, Object oldIndexKeys) {
+                    return PrimitiveKeyMapping.reuseOrBox(
+                            primitiveKeyFunction.applyAsLong(tuple.factA, tuple.factB, tuple.factC), oldIndexKeys);
+                }
+            };
+        }
         return tuple -> {
             var a = tuple.factA;
             var b = tuple.factB;
@@ -460,6 +507,21 @@ public final class IndexerFactory<Right_> {
     }
 
     private static <A, B, C, D> QuadKeysExtractor<A, B, C, D> toKeysExtractor(QuadFunction<A, B, C, D, Object> keyFunction) {
+        if (keyFunction instanceof PrimitiveKeyMapping.QuadMapping<A, B, C, D> primitiveKeyFunction) {
+            return new QuadKeysExtractor<>() {
+                @Override
+                public Object apply(QuadTuple<A, B, C, D> tuple) {
+                    return primitiveKeyFunction.apply(tuple.factA, tuple.factB, tuple.factC, tuple.factD);
+                }
+
+                @Override
+                public Object reapply(QuadTuple<A, B, C, D> tuple, Object oldIndexKeys) {
+                    return PrimitiveKeyMapping.reuseOrBox(
+                            primitiveKeyFunction.applyAsLong(tuple.factA, tuple.factB, tuple.factC, tuple.factD),
+                            oldIndexKeys);
+                }
+            };
+        }
         return tuple -> {
             var a = tuple.factA;
             var b = tuple.factB;
@@ -483,20 +545,36 @@ public final class IndexerFactory<Right_> {
         } else if (joiner.getJoinerCount() == 1) { // Single joiner maps directly to EqualsIndexer or ComparisonIndexer.
             var joinerType = joiner.getJoinerType(0);
             if (joinerType == JoinerType.EQUAL) {
-                return new EqualsIndexer<>();
+                return hasPrimitiveKey(0, 1) ? new PrimitiveEqualsIndexer<>() : new EqualsIndexer<>();
             } else {
                 return new ComparisonIndexer<>(isLeftBridge ? joinerType : joinerType.flip());
             }
         }
         // The following code builds the children first, so it needs to iterate over the joiners in reverse order.
-        var descendingJoinerTypeMap = joinerTypeMap.descendingMap();
+        var endIndexExclusiveList = new ArrayList<>(joinerTypeMap.keySet());
+        var joinerTypeList = new ArrayList<>(joinerTypeMap.values());
         Supplier<Indexer<T>> noneIndexerSupplier = NoneIndexer::new;
         Supplier<Indexer<T>> downstreamIndexerSupplier = noneIndexerSupplier;
-        var indexPropertyId = descendingJoinerTypeMap.size() - 1;
-        for (var entry : descendingJoinerTypeMap.entrySet()) {
-            var joinerType = entry.getValue();
+        var indexPropertyId = joinerTypeList.size() - 1;
+        while (indexPropertyId >= 0) {
+            var joinerType = joinerTypeList.get(indexPropertyId);
+            if (isOverlapping(joinerTypeList, indexPropertyId)) {
+                // The LESS_THAN joiner on the starts and the GREATER_THAN joiner on the ends share one indexer.
+                var actualDownstreamIndexerSupplier = downstreamIndexerSupplier;
+                var startKeyIndex = isLeftBridge ? indexPropertyId - 1 : indexPropertyId;
+                var endKeyIndex = isLeftBridge ? indexPropertyId : indexPropertyId - 1;
+                downstreamIndexerSupplier =
+                        () -> new IntervalIndexer<>(startKeyIndex, endKeyIndex, actualDownstreamIndexerSupplier);
+                indexPropertyId -= 2;
+                continue;
+            }
+            var endIndexExclusive = endIndexExclusiveList.get(indexPropertyId);
+            var startIndexInclusive = indexPropertyId == 0 ? 0 : endIndexExclusiveList.get(indexPropertyId - 1);
+            var isPrimitive = joinerType == JoinerType.EQUAL && hasPrimitiveKey(startIndexInclusive, endIndexExclusive);
             if (downstreamIndexerSupplier == noneIndexerSupplier && indexPropertyId == 0) {
-                if (joinerType == JoinerType.EQUAL) {
+                if (isPrimitive) {
+                    downstreamIndexerSupplier = PrimitiveEqualsIndexer::new;
+                } else if (joinerType == JoinerType.EQUAL) {
                     downstreamIndexerSupplier = EqualsIndexer::new;
                 } else {
                     var actualJoinerType = isLeftBridge ? joinerType : joinerType.flip();
@@ -505,7 +583,10 @@ public final class IndexerFactory<Right_> {
             } else {
                 var actualDownstreamIndexerSupplier = downstreamIndexerSupplier;
                 var effectivelyFinalIndexPropertyId = indexPropertyId;
-                if (joinerType == JoinerType.EQUAL) {
+                if (isPrimitive) {
+                    downstreamIndexerSupplier = () -> new PrimitiveEqualsIndexer<>(effectivelyFinalIndexPropertyId,
+                            actualDownstreamIndexerSupplier);
+                } else if (joinerType == JoinerType.EQUAL) {
                     downstreamIndexerSupplier =
                             () -> new EqualsIndexer<>(effectivelyFinalIndexPropertyId, actualDownstreamIndexerSupplier);
                 } else {
@@ -519,6 +600,27 @@ public final class IndexerFactory<Right_> {
         return downstreamIndexerSupplier.get();
     }
 
+    /**
+     * {@link ai.timefold.solver.core.api.score.stream.Joiners#overlapping} results in
+     * a LESS_THAN joiner (left start, right end) immediately followed by a GREATER_THAN joiner (left end, right start).
+     * Such a pair is indexed by a single {@link IntervalIndexer}.
+     * Comparison joiners are never merged into composite keys, so each of them has exactly one index property.
+     */
+    private static boolean isOverlapping(List<JoinerType> joinerTypeList, int indexPropertyId) {
+        return indexPropertyId > 0
+                && joinerTypeList.get(indexPropertyId) == JoinerType.GREATER_THAN
+                && joinerTypeList.get(indexPropertyId - 1) == JoinerType.LESS_THAN;
+    }
+
+    /**
+     * Only a key built from a single equal joiner can be primitive;
+     * consecutive equal joiners are merged into a composite key, which is an object.
+     */
+    private boolean hasPrimitiveKey(int startIndexInclusive, int endIndexExclusive) {
+        return endIndexExclusive - startIndexInclusive == 1
+                && joiner.getRightMapping(startIndexInclusive) instanceof PrimitiveKeyMapping;
+    }
+
     /**
      * Represents a function which extracts index keys from a tuple.
      *
@@ -526,6 +628,19 @@ public final class IndexerFactory<Right_> {
      */
     @FunctionalInterface
     public interface KeysExtractor<Tuple_ extends AbstractTuple> extends Function<Tuple_, Object> {
+
+        /**
+         * As {@link #apply(Object)}, but for a tuple which is already indexed.
+         * Extractors of primitive keys return {@code oldIndexKeys} if the key did not change,
+         * so that such updates do not box the key again.
+         *
+         * @param oldIndexKeys never null, the index keys which the tuple is indexed with
+         * @return equal to {@code oldIndexKeys} if the index keys did not change
+         */
+        default Object reapply(Tuple_ tuple, Object oldIndexKeys) {
+            return apply(tuple);
+        }
+
     }
 
     @FunctionalInterface
@@ -0,0 +1,276 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+/**
+ * Indexes by an interval, so that all tuples whose interval overlaps with another interval can be visited.
+ * This is what {@link Joiners#overlapping} decomposes into:
+ * a {@link ai.timefold.solver.core.impl.bavet.common.joiner.JoinerType#LESS_THAN} joiner on the starts
+ * followed by a {@link ai.timefold.solver.core.impl.bavet.common.joiner.JoinerType#GREATER_THAN} joiner on the ends.
+ * Rather than chaining two {@link ComparisonIndexer}s,
+ * where the second one has to be visited for every key on the right side of the first one's threshold,
+ * the intervals are kept in an AVL tree ordered by start and augmented with the maximum end of every subtree.
+ * An overlap query therefore only descends into subtrees which contain at least one match,
+ * and runs in {@code O(log n + k)} for {@code k} overlapping intervals.
+ * <p>
+ * The stored tuple's interval is read from {@link IndexKeys} at {@code startKeyIndex} and {@code endKeyIndex}.
+ * The queried interval is read from the same positions, but swapped,
+ * because a joiner's left and right mappings are always on the opposite sides of the comparison:
+ * a stored interval {@code [start, end)} matches when {@code start < queryEnd && end > queryStart},
+ * where {@code queryEnd} is at {@code startKeyIndex} and {@code queryStart} is at {@code endKeyIndex}.
+ *
+ * @param <T>
+ * @param <Key_>
+ */
+final class IntervalIndexer<T, Key_ extends Comparable<Key_>> implements Indexer<T> {
+
+    private final KeyRetriever<Key_> startKeyRetriever;
+    private final KeyRetriever<Key_> endKeyRetriever;
+    private final Supplier<Indexer<T>> downstreamIndexerSupplier;
+    private Node<T, Key_> root = null;
+    private int nodeCount = 0;
+
+    /**
+     * @param startKeyIndex the index of the stored interval's start within {@link IndexKeys}
+     * @param endKeyIndex the index of the stored interval's end within {@link IndexKeys}
+     * @param downstreamIndexerSupplier the supplier of the downstream indexer
+     */
+    public IntervalIndexer(int startKeyIndex, int endKeyIndex, Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        this.startKeyRetriever = new ManyKeyRetriever<>(startKeyIndex);
+        this.endKeyRetriever = new ManyKeyRetriever<>(endKeyIndex);
+        this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
+    }
+
+    @Override
+    public ElementAwareListEntry<T> put(Object indexKeys, T tuple) {
+        Key_ start = startKeyRetriever.apply(indexKeys);
+        Key_ end = endKeyRetriever.apply(indexKeys);
+        var node = find(start, end);
+        if (node == null) {
+            node = new Node<>(start, end, downstreamIndexerSupplier.get());
+            root = insert(root, node);
+            nodeCount++;
+        }
+        return node.downstreamIndexer.put(indexKeys, tuple);
+    }
+
+    @Override
+    public void remove(Object indexKeys, ElementAwareListEntry<T> entry) {
+        Key_ start = startKeyRetriever.apply(indexKeys);
+        Key_ end = endKeyRetriever.apply(indexKeys);
+        var node = find(start, end);
+        if (node == null) {
+            throw new IllegalStateException(
+                    "Impossible state: the tuple (%s) with indexKeys (%s) doesn't exist in the indexer %s."
+                            .formatted(entry.getElement(), indexKeys, this));
+        }
+        var downstreamIndexer = node.downstreamIndexer;
+        downstreamIndexer.remove(indexKeys, entry);
+        if (downstreamIndexer.isEmpty()) {
+            root = delete(root, start, end);
+            nodeCount--;
+        }
+    }
+
+    @Override
+    public int size(Object indexKeys) {
+        if (root == null) {
+            return 0;
+        }
+        // The stored start is compared to the query end and vice versa.
+        Key_ queryEnd = startKeyRetriever.apply(indexKeys);
+        Key_ queryStart = endKeyRetriever.apply(indexKeys);
+        return size(root, queryStart, queryEnd, indexKeys);
+    }
+
+    private int size(Node<T, Key_> node, Key_ queryStart, Key_ queryEnd, Object indexKeys) {
+        var size = 0;
+        while (node != null && node.maxEnd.compareTo(queryStart) > 0) {
+            size += size(node.left, queryStart, queryEnd, indexKeys);
+            if (node.start.compareTo(queryEnd) >= 0) { // Every node to the right starts too late.
+                return size;
+            }
+            if (node.end.compareTo(queryStart) > 0) {
+                size += node.downstreamIndexer.size(indexKeys);
+            }
+            node = node.right;
+        }
+        return size;
+    }
+
+    @Override
+    public void forEach(Object indexKeys, Consumer<T> tupleConsumer) {
+        if (root == null) {
+            return;
+        }
+        // The stored start is compared to the query end and vice versa.
+        Key_ queryEnd = startKeyRetriever.apply(indexKeys);
+        Key_ queryStart = endKeyRetriever.apply(indexKeys);
+        forEach(root, queryStart, queryEnd, indexKeys, tupleConsumer);
+    }
+
+    private void forEach(Node<T, Key_> node, Key_ queryStart, Key_ queryEnd, Object indexKeys,
+            Consumer<T> tupleConsumer) {
+        // Skip every subtree in which all intervals end too early.
+        while (node != null && node.maxEnd.compareTo(queryStart) > 0) {
+            forEach(node.left, queryStart, queryEnd, indexKeys, tupleConsumer);
+            if (node.start.compareTo(queryEnd) >= 0) { // Every node to the right starts too late.
+                return;
+            }
+            if (node.end.compareTo(queryStart) > 0) {
+                node.downstreamIndexer.forEach(indexKeys, tupleConsumer);
+            }
+            node = node.right;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + nodeCount;
+    }
+
+    // ************************************************************************
+    // AVL tree, ordered by start and then by end
+    // ************************************************************************
+
+    private static <Key_ extends Comparable<Key_>> int compare(Key_ start, Key_ end, Node<?, Key_> node) {
+        var comparison = start.compareTo(node.start);
+        return comparison != 0 ? comparison : end.compareTo(node.end);
+    }
+
+    private Node<T, Key_> find(Key_ start, Key_ end) {
+        var node = root;
+        while (node != null) {
+            var comparison = compare(start, end, node);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> insert(Node<T, Key_> node, Node<T, Key_> newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compare(newNode.start, newNode.end, node) < 0) {
+            node.left = insert(node.left, newNode);
+        } else {
+            node.right = insert(node.right, newNode);
+        }
+        return rebalance(node);
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> delete(Node<T, Key_> node, Key_ start, Key_ end) {
+        var comparison = compare(start, end, node);
+        if (comparison < 0) {
+            node.left = delete(node.left, start, end);
+        } else if (comparison > 0) {
+            node.right = delete(node.right, start, end);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            // The node carries its downstream indexer, so the successor node itself is moved up.
+            var successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return rebalance(node);
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> deleteMin(Node<T, Key_> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteMin(node.left);
+        return rebalance(node);
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> rebalance(Node<T, Key_> node) {
+        node.update();
+        var balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> rotateRight(Node<T, Key_> node) {
+        var left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.update();
+        left.update();
+        return left;
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> rotateLeft(Node<T, Key_> node) {
+        var right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.update();
+        right.update();
+        return right;
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static final class Node<T, Key_ extends Comparable<Key_>> {
+
+        private final Key_ start;
+        private final Key_ end;
+        private final Indexer<T> downstreamIndexer;
+        private Key_ maxEnd;
+        private Node<T, Key_> left = null;
+        private Node<T, Key_> right = null;
+        private int height = 1;
+
+        private Node(Key_ start, Key_ end, Indexer<T> downstreamIndexer) {
+            this.start = Objects.requireNonNull(start);
+            this.end = Objects.requireNonNull(end);
+            this.downstreamIndexer = downstreamIndexer;
+            this.maxEnd = end;
+        }
+
+        private void update() {
+            height = Math.max(height(left), height(right)) + 1;
+            var newMaxEnd = end;
+            if (left != null && left.maxEnd.compareTo(newMaxEnd) > 0) {
+                newMaxEnd = left.maxEnd;
+            }
+            if (right != null && right.maxEnd.compareTo(newMaxEnd) > 0) {
+                newMaxEnd = right.maxEnd;
+            }
+            maxEnd = newMaxEnd;
+        }
+
+    }
+
+}
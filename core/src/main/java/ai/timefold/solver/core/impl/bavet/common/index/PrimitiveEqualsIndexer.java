@@ -0,0 +1,105 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.impl.bavet.common.joiner.PrimitiveKeyMapping;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+import ai.timefold.solver.core.impl.util.LongObjectHashMap;
+
+/**
+ * As {@link EqualsIndexer}, but for keys produced by a {@link PrimitiveKeyMapping}.
+ * The keys are unboxed into a {@link LongObjectHashMap},
+ * which avoids the entry allocation and the {@link Object#hashCode()}/{@link Object#equals(Object)} calls
+ * of a {@link java.util.HashMap}.
+ */
+final class PrimitiveEqualsIndexer<T> implements Indexer<T> {
+
+    private final KeyRetriever<Object> keyRetriever;
+    private final Supplier<Indexer<T>> downstreamIndexerSupplier;
+    private LongObjectHashMap<Indexer<T>> downstreamIndexerMap = new LongObjectHashMap<>();
+
+    /**
+     * Construct an {@link PrimitiveEqualsIndexer} which immediately ends in a {@link NoneIndexer}.
+     * This means {@code indexKeys} must be a single key.
+     */
+    public PrimitiveEqualsIndexer() {
+        this.keyRetriever = new SingleKeyRetriever<>();
+        this.downstreamIndexerSupplier = NoneIndexer::new;
+    }
+
+    /**
+     * Construct an {@link PrimitiveEqualsIndexer} which does not immediately go to a {@link NoneIndexer}.
+     * This means {@code indexKeys} must be an instance of {@link IndexKeys}.
+     *
+     * @param keyIndex the index of the key to use within {@link IndexKeys}.
+     * @param downstreamIndexerSupplier the supplier of the downstream indexer
+     */
+    public PrimitiveEqualsIndexer(int keyIndex, Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        this.keyRetriever = new ManyKeyRetriever<>(keyIndex);
+        this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
+    }
+
+    @Override
+    public ElementAwareListEntry<T> put(Object indexKeys, T tuple) {
+        var indexKey = PrimitiveKeyMapping.unbox(keyRetriever.apply(indexKeys));
+        var downstreamIndexer = downstreamIndexerMap.get(indexKey);
+        if (downstreamIndexer == null) {
+            downstreamIndexer = downstreamIndexerSupplier.get();
+            downstreamIndexerMap.put(indexKey, downstreamIndexer);
+        }
+        return downstreamIndexer.put(indexKeys, tuple);
+    }
+
+    @Override
+    public void ensureCapacity(int size) {
+        if (downstreamIndexerMap.isEmpty()) {
+            downstreamIndexerMap = new LongObjectHashMap<>(size);
+        }
+    }
+
+    @Override
+    public void remove(Object indexKeys, ElementAwareListEntry<T> entry) {
+        var indexKey = PrimitiveKeyMapping.unbox(keyRetriever.apply(indexKeys));
+        var downstreamIndexer = downstreamIndexerMap.get(indexKey);
+        if (downstreamIndexer == null) {
+            throw new IllegalStateException(
+                    "Impossible state: the tuple (%s) with indexKey (%s) doesn't exist in the indexer %s."
+                            .formatted(entry.getElement(), indexKeys, this));
+        }
+        downstreamIndexer.remove(indexKeys, entry);
+        if (downstreamIndexer.isEmpty()) {
+            downstreamIndexerMap.remove(indexKey);
+        }
+    }
+
+    @Override
+    public int size(Object indexKeys) {
+        var downstreamIndexer = downstreamIndexerMap.get(PrimitiveKeyMapping.unbox(keyRetriever.apply(indexKeys)));
+        if (downstreamIndexer == null) {
+            return 0;
+        }
+        return downstreamIndexer.size(indexKeys);
+    }
+
+    @Override
+    public void forEach(Object indexKeys, Consumer<T> tupleConsumer) {
+        var downstreamIndexer = downstreamIndexerMap.get(PrimitiveKeyMapping.unbox(keyRetriever.apply(indexKeys)));
+        if (downstreamIndexer == null) {
+            return;
+        }
+        downstreamIndexer.forEach(indexKeys, tupleConsumer);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return downstreamIndexerMap.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + downstreamIndexerMap.size();
+    }
+
+}
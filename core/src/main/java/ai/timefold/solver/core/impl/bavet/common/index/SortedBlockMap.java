@@ -0,0 +1,324 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.ToIntBiFunction;
+
+import ai.timefold.solver.core.api.function.TriConsumer;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Sorted map backing {@link ComparisonIndexer}, replacing a {@link java.util.TreeMap}.
+ * <p>
+ * The mappings are kept in a sequence of small sorted arrays (blocks),
+ * with the first key of every block duplicated in a directory array.
+ * A lookup is a binary search over the directory followed by a binary search inside one block.
+ * A range scan from the start of the map up to a boundary key
+ * first finds the boundary in the same way, and then walks the blocks without any further comparisons.
+ * Unlike the {@code headMap}/{@code entrySet} views of a {@link java.util.TreeMap},
+ * none of these operations allocate,
+ * and the range scans read contiguous memory instead of chasing the pointers of a red-black tree.
+ * <p>
+ * Insertion and removal shift at most one block and, when a block is split or merged, the directory.
+ * Blocks start small and grow up to {@link #BLOCK_CAPACITY},
+ * so that the many tiny maps of a comparison indexer downstream of an equals indexer stay small.
+ * <p>
+ * This map does not support null keys or null values.
+ * It is not thread-safe.
+ *
+ * @param <Key_>
+ * @param <Value_>
+ */
+@NullMarked
+final class SortedBlockMap<Key_, Value_> {
+
+    static final int BLOCK_CAPACITY = 64;
+    private static final int INITIAL_BLOCK_CAPACITY = 4;
+    private static final int INITIAL_DIRECTORY_CAPACITY = 4;
+
+    private final Comparator<? super Key_> keyComparator;
+    private @Nullable Block[] blocks = new Block[INITIAL_DIRECTORY_CAPACITY];
+    private @Nullable Object[] firstKeys = new Object[INITIAL_DIRECTORY_CAPACITY];
+    private int blockCount = 0;
+    private int size = 0;
+
+    public SortedBlockMap(Comparator<? super Key_> keyComparator) {
+        this.keyComparator = Objects.requireNonNull(keyComparator);
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable Value_ get(Key_ key) {
+        if (blockCount == 0) {
+            return null;
+        }
+        var block = blocks[findBlockIndex(key)];
+        var index = block.indexOf(key, keyComparator);
+        return index < 0 ? null : (Value_) block.values[index];
+    }
+
+    /**
+     * @return the previous value, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable Value_ put(Key_ key, Value_ value) {
+        Objects.requireNonNull(value);
+        if (blockCount == 0) {
+            var block = new Block(INITIAL_BLOCK_CAPACITY);
+            block.insert(0, key, value);
+            insertBlock(0, block);
+            size++;
+            return null;
+        }
+        var blockIndex = findBlockIndex(key);
+        var block = blocks[blockIndex];
+        var index = block.indexOf(key, keyComparator);
+        if (index >= 0) {
+            var oldValue = (Value_) block.values[index];
+            block.values[index] = value;
+            return oldValue;
+        }
+        index = -index - 1;
+        if (block.size == BLOCK_CAPACITY) {
+            var half = BLOCK_CAPACITY / 2;
+            var upperBlock = block.splitOff(half);
+            insertBlock(blockIndex + 1, upperBlock);
+            if (index > half) {
+                blockIndex++;
+                block = upperBlock;
+                index -= half;
+            }
+        }
+        block.insert(index, key, value);
+        firstKeys[blockIndex] = block.keys[0];
+        size++;
+        return null;
+    }
+
+    /**
+     * @return the removed value, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable Value_ remove(Key_ key) {
+        if (blockCount == 0) {
+            return null;
+        }
+        var blockIndex = findBlockIndex(key);
+        var block = blocks[blockIndex];
+        var index = block.indexOf(key, keyComparator);
+        if (index < 0) {
+            return null;
+        }
+        var oldValue = (Value_) block.values[index];
+        block.remove(index);
+        size--;
+        if (block.size == 0) {
+            removeBlock(blockIndex);
+            return oldValue;
+        }
+        firstKeys[blockIndex] = block.keys[0];
+        // Merge underpopulated neighbours, so that the directory does not degenerate into single-key blocks.
+        if (blockIndex + 1 < blockCount && block.size + blocks[blockIndex + 1].size <= BLOCK_CAPACITY / 2) {
+            block.absorb(blocks[blockIndex + 1]);
+            removeBlock(blockIndex + 1);
+        } else if (blockIndex > 0 && blocks[blockIndex - 1].size + block.size <= BLOCK_CAPACITY / 2) {
+            blocks[blockIndex - 1].absorb(block);
+            removeBlock(blockIndex);
+        }
+        return oldValue;
+    }
+
+    /**
+     * Visits the values of all keys which are lower than the given key, in ascending order.
+     *
+     * @param key the boundary key
+     * @param inclusive whether the value of the boundary key itself is visited too
+     * @param valueConsumer receives each value, together with the two passed-through arguments
+     */
+    @SuppressWarnings("unchecked")
+    public <A, B> void forEachHead(Key_ key, boolean inclusive, TriConsumer<Value_, A, B> valueConsumer, A a, B b) {
+        var lastBlockIndex = headLength(firstKeys, blockCount, key, inclusive) - 1;
+        if (lastBlockIndex < 0) {
+            return;
+        }
+        for (var blockIndex = 0; blockIndex < lastBlockIndex; blockIndex++) {
+            var block = blocks[blockIndex];
+            for (var i = 0; i < block.size; i++) {
+                valueConsumer.accept((Value_) block.values[i], a, b);
+            }
+        }
+        var lastBlock = blocks[lastBlockIndex];
+        var lastBlockLength = headLength(lastBlock.keys, lastBlock.size, key, inclusive);
+        for (var i = 0; i < lastBlockLength; i++) {
+            valueConsumer.accept((Value_) lastBlock.values[i], a, b);
+        }
+    }
+
+    /**
+     * As {@link #forEachHead(Object, boolean, TriConsumer, Object, Object)},
+     * but sums up the results of applying the given function to each value instead.
+     */
+    @SuppressWarnings("unchecked")
+    public <A> int sumHead(Key_ key, boolean inclusive, ToIntBiFunction<Value_, A> valueFunction, A a) {
+        var lastBlockIndex = headLength(firstKeys, blockCount, key, inclusive) - 1;
+        if (lastBlockIndex < 0) {
+            return 0;
+        }
+        var sum = 0;
+        for (var blockIndex = 0; blockIndex < lastBlockIndex; blockIndex++) {
+            var block = blocks[blockIndex];
+            for (var i = 0; i < block.size; i++) {
+                sum += valueFunction.applyAsInt((Value_) block.values[i], a);
+            }
+        }
+        var lastBlock = blocks[lastBlockIndex];
+        var lastBlockLength = headLength(lastBlock.keys, lastBlock.size, key, inclusive);
+        for (var i = 0; i < lastBlockLength; i++) {
+            sum += valueFunction.applyAsInt((Value_) lastBlock.values[i], a);
+        }
+        return sum;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the index of the only block which may contain the given key
+     */
+    private int findBlockIndex(Key_ key) {
+        return Math.max(0, headLength(firstKeys, blockCount, key, true) - 1);
+    }
+
+    /**
+     * @return the number of leading keys which are lower than (or equal to, if inclusive) the given key
+     */
+    @SuppressWarnings("unchecked")
+    private int headLength(Object[] keys, int length, Key_ key, boolean inclusive) {
+        var low = 0;
+        var high = length;
+        while (low < high) {
+            var middle = (low + high) >>> 1;
+            var comparison = keyComparator.compare((Key_) keys[middle], key);
+            if (comparison < 0 || (inclusive && comparison == 0)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private void insertBlock(int blockIndex, Block block) {
+        if (blockCount == blocks.length) {
+            blocks = Arrays.copyOf(blocks, blockCount * 2);
+            firstKeys = Arrays.copyOf(firstKeys, blockCount * 2);
+        }
+        System.arraycopy(blocks, blockIndex, blocks, blockIndex + 1, blockCount - blockIndex);
+        System.arraycopy(firstKeys, blockIndex, firstKeys, blockIndex + 1, blockCount - blockIndex);
+        blocks[blockIndex] = block;
+        firstKeys[blockIndex] = block.keys[0];
+        blockCount++;
+    }
+
+    private void removeBlock(int blockIndex) {
+        blockCount--;
+        System.arraycopy(blocks, blockIndex + 1, blocks, blockIndex, blockCount - blockIndex);
+        System.arraycopy(firstKeys, blockIndex + 1, firstKeys, blockIndex, blockCount - blockIndex);
+        blocks[blockCount] = null;
+        firstKeys[blockCount] = null;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + size;
+    }
+
+    private static final class Block {
+
+        private Object[] keys;
+        private Object[] values;
+        private int size = 0;
+
+        private Block(int capacity) {
+            this.keys = new Object[capacity];
+            this.values = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        private <Key_> int indexOf(Key_ key, Comparator<? super Key_> keyComparator) {
+            var low = 0;
+            var high = size - 1;
+            while (low <= high) {
+                var middle = (low + high) >>> 1;
+                var comparison = keyComparator.compare((Key_) keys[middle], key);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > keys.length) {
+                var newCapacity = Math.min(BLOCK_CAPACITY, Math.max(capacity, keys.length * 2));
+                keys = Arrays.copyOf(keys, newCapacity);
+                values = Arrays.copyOf(values, newCapacity);
+            }
+        }
+
+        private void insert(int index, Object key, Object value) {
+            ensureCapacity(size + 1);
+            System.arraycopy(keys, index, keys, index + 1, size - index);
+            System.arraycopy(values, index, values, index + 1, size - index);
+            keys[index] = key;
+            values[index] = value;
+            size++;
+        }
+
+        private void remove(int index) {
+            size--;
+            System.arraycopy(keys, index + 1, keys, index, size - index);
+            System.arraycopy(values, index + 1, values, index, size - index);
+            keys[size] = null;
+            values[size] = null;
+        }
+
+        /**
+         * Moves all mappings from the given index onwards into a new block.
+         */
+        private Block splitOff(int fromIndex) {
+            var upperSize = size - fromIndex;
+            var upperBlock = new Block(BLOCK_CAPACITY);
+            System.arraycopy(keys, fromIndex, upperBlock.keys, 0, upperSize);
+            System.arraycopy(values, fromIndex, upperBlock.values, 0, upperSize);
+            upperBlock.size = upperSize;
+            Arrays.fill(keys, fromIndex, size, null);
+            Arrays.fill(values, fromIndex, size, null);
+            size = fromIndex;
+            return upperBlock;
+        }
+
+        /**
+         * Appends all mappings of the given block, which must all be higher than those of this block.
+         */
+        private void absorb(Block upperBlock) {
+            ensureCapacity(size + upperBlock.size);
+            System.arraycopy(upperBlock.keys, 0, keys, size, upperBlock.size);
+            System.arraycopy(upperBlock.values, 0, values, size, upperBlock.size);
+            size += upperBlock.size;
+        }
+
+    }
+
+}
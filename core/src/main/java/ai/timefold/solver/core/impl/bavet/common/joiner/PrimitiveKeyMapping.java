@@ -0,0 +1,202 @@
+package ai.timefold.solver.core.impl.bavet.common.joiner;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToIntBiFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongBiFunction;
+import java.util.function.ToLongFunction;
+
+import ai.timefold.solver.core.api.function.QuadFunction;
+import ai.timefold.solver.core.api.function.ToIntQuadFunction;
+import ai.timefold.solver.core.api.function.ToIntTriFunction;
+import ai.timefold.solver.core.api.function.ToLongQuadFunction;
+import ai.timefold.solver.core.api.function.ToLongTriFunction;
+import ai.timefold.solver.core.api.function.TriFunction;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.bavet.common.index.IndexerFactory;
+
+/**
+ * Marks a joiner mapping as returning a primitive {@code int} or {@code long},
+ * as created by {@link Joiners#equalInt(ToIntFunction)} and {@link Joiners#equalLong(ToLongFunction)}
+ * and their overloads for the other joiner arities.
+ * {@link IndexerFactory} uses this to pick an indexer which stores the keys unboxed,
+ * and to extract the keys of updated tuples without boxing them if they did not change.
+ * <p>
+ * Keys of {@code int} mappings are widened to {@code long}.
+ * As a {@link Function} (or {@link BiFunction}, ...), the mapping still boxes them as a {@link Long},
+ * so that all code unaware of primitive mappings keeps working unchanged.
+ */
+public sealed interface PrimitiveKeyMapping {
+
+    static <A> UniMapping<A> ofInt(ToIntFunction<A> mapping) {
+        return new IntUniMapping<>(Objects.requireNonNull(mapping));
+    }
+
+    static <A> UniMapping<A> ofLong(ToLongFunction<A> mapping) {
+        return new LongUniMapping<>(Objects.requireNonNull(mapping));
+    }
+
+    static <A, B> BiMapping<A, B> ofInt(ToIntBiFunction<A, B> mapping) {
+        return new IntBiMapping<>(Objects.requireNonNull(mapping));
+    }
+
+    static <A, B> BiMapping<A, B> ofLong(ToLongBiFunction<A, B> mapping) {
+        return new LongBiMapping<>(Objects.requireNonNull(mapping));
+    }
+
+    static <A, B, C> TriMapping<A, B, C> ofInt(ToIntTriFunction<A, B, C> mapping) {
+        return new IntTriMapping<>(Objects.requireNonNull(mapping));
+    }
+
+    static <A, B, C> TriMapping<A, B, C> ofLong(ToLongTriFunction<A, B, C> mapping) {
+        return new LongTriMapping<>(Objects.requireNonNull(mapping));
+    }
+
+    static <A, B, C, D> QuadMapping<A, B, C, D> ofInt(ToIntQuadFunction<A, B, C, D> mapping) {
+        return new IntQuadMapping<>(Objects.requireNonNull(mapping));
+    }
+
+    static <A, B, C, D> QuadMapping<A, B, C, D> ofLong(ToLongQuadFunction<A, B, C, D> mapping) {
+        return new LongQuadMapping<>(Objects.requireNonNull(mapping));
+    }
+
+    /**
+     * @param key the boxed result of a primitive mapping
+     * @return the unboxed key, widened to {@code long} if necessary
+     */
+    static long unbox(Object key) {
+        return ((Number) key).longValue();
+    }
+
+    /**
+     * @param key the unboxed result of a primitive mapping
+     * @param oldKey never null, the boxed key which the tuple was indexed with before
+     * @return {@code oldKey} if it is equal to {@code key}, otherwise {@code key} boxed
+     */
+    static Object reuseOrBox(long key, Object oldKey) {
+        return unbox(oldKey) == key ? oldKey : Long.valueOf(key);
+    }
+
+    sealed interface UniMapping<A> extends PrimitiveKeyMapping, Function<A, Object>
+            permits IntUniMapping, LongUniMapping {
+
+        long applyAsLong(A a);
+
+        @Override
+        default Object apply(A a) {
+            return applyAsLong(a);
+        }
+
+    }
+
+    record IntUniMapping<A>(ToIntFunction<A> mapping) implements UniMapping<A> {
+
+        @Override
+        public long applyAsLong(A a) {
+            return mapping.applyAsInt(a);
+        }
+
+    }
+
+    record LongUniMapping<A>(ToLongFunction<A> mapping) implements UniMapping<A> {
+
+        @Override
+        public long applyAsLong(A a) {
+            return mapping.applyAsLong(a);
+        }
+
+    }
+
+    sealed interface BiMapping<A, B> extends PrimitiveKeyMapping, BiFunction<A, B, Object>
+            permits IntBiMapping, LongBiMapping {
+
+        long applyAsLong(A a, B b);
+
+        @Override
+        default Object apply(A a, B b) {
+            return applyAsLong(a, b);
+        }
+
+    }
+
+    record IntBiMapping<A, B>(ToIntBiFunction<A, B> mapping) implements BiMapping<A, B> {
+
+        @Override
+        public long applyAsLong(A a, B b) {
+            return mapping.applyAsInt(a, b);
+        }
+
+    }
+
+    record LongBiMapping<A, B>(ToLongBiFunction<A, B> mapping) implements BiMapping<A, B> {
+
+        @Override
+        public long applyAsLong(A a, B b) {
+            return mapping.applyAsLong(a, b);
+        }
+
+    }
+
+    sealed interface TriMapping<A, B, C> extends PrimitiveKeyMapping, TriFunction<A, B, C, Object>
+            permits IntTriMapping, LongTriMapping {
+
+        long applyAsLong(A a, B b, C c);
+
+        @Override
+        default Object apply(A a, B b, C c) {
+            return applyAsLong(a, b, c);
+        }
+
+    }
+
+    record IntTriMapping<A, B, C>(ToIntTriFunction<A, B, C> mapping) implements TriMapping<A, B, C> {
+
+        @Override
+        public long applyAsLong(A a, B b, C c) {
+            return mapping.applyAsInt(a, b, c);
+        }
+
+    }
+
+    record LongTriMapping<A, B, C>(ToLongTriFunction<A, B, C> mapping) implements TriMapping<A, B, C> {
+
+        @Override
+        public long applyAsLong(A a, B b, C c) {
+            return mapping.applyAsLong(a, b, c);
+        }
+
+    }
+
+    sealed interface QuadMapping<A, B, C, D> extends PrimitiveKeyMapping, QuadFunction<A, B, C, D, Object>
+            permits IntQuadMapping, LongQuadMapping {
+
+        long applyAsLong(A a, B b, C c, D d);
+
+        @Override
+        default Object apply(A a, B b, C c, D d) {
+            return applyAsLong(a, b, c, d);
+        }
+
+    }
+
+    record IntQuadMapping<A, B, C, D>(ToIntQuadFunction<A, B, C, D> mapping) implements QuadMapping<A, B, C, D> {
+
+        @Override
+        public long applyAsLong(A a, B b, C c, D d) {
+            return mapping.applyAsInt(a, b, c, d);
+        }
+
+    }
+
+    record LongQuadMapping<A, B, C, D>(ToLongQuadFunction<A, B, C, D> mapping) implements QuadMapping<A, B, C, D> {
+
+        @Override
+        public long applyAsLong(A a, B b, C c, D d) {
+            return mapping.applyAsLong(a, b, c, d);
+        }
+
+    }
+
+}
@@ -1,5 +1,7 @@
 package ai.timefold.solver.core.impl.bavet.common.tuple;
 
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintStream;
@@ -19,21 +21,49 @@ import ai.timefold.solver.core.api.score.stream.uni.UniConstraintStream;
  */
 public abstract sealed class AbstractTuple permits UniTuple, BiTuple, TriTuple, QuadTuple {
 
+    /*
+     * The first few store slots are plain fields, so that the typical tuple is a single object
+     * and a store access does not need to dereference a separate array first.
+     * Only tuples which are consumed by many nodes need the overflow array.
+     * The store size is still checked on every access,
+     * so that a node which uses a slot it did not reserve fails fast instead of sharing an unused inline slot.
+     */
+    static final int INLINE_STORE_SIZE = 4;
     private static final Object[] EMPTY_STORE = new Object[0];
 
-    private final Object[] store;
+    private Object store0;
+    private Object store1;
+    private Object store2;
+    private Object store3;
+    private final Object[] overflowStore;
+    private final int storeSize;
     public TupleState state = TupleState.DEAD; // It's the node's job to mark a new tuple as CREATING.
 
     protected AbstractTuple(int storeSize) {
-        this.store = storeSize == 0 ? EMPTY_STORE : new Object[storeSize];
+        this.overflowStore = storeSize <= INLINE_STORE_SIZE ? EMPTY_STORE : new Object[storeSize - INLINE_STORE_SIZE];
+        this.storeSize = storeSize;
     }
 
     public final <Value_> Value_ getStore(int index) {
-        return (Value_) store[index];
+        Objects.checkIndex(index, storeSize);
+        return (Value_) switch (index) {
+            case 0 -> store0;
+            case 1 -> store1;
+            case 2 -> store2;
+            case 3 -> store3;
+            default -> overflowStore[index - INLINE_STORE_SIZE];
+        };
     }
 
     public final void setStore(int index, Object value) {
-        store[index] = value;
+        Objects.checkIndex(index, storeSize);
+        switch (index) {
+            case 0 -> store0 = value;
+            case 1 -> store1 = value;
+            case 2 -> store2 = value;
+            case 3 -> store3 = value;
+            default -> overflowStore[index - INLINE_STORE_SIZE] = value;
+        }
     }
 
     public final <Value_> Value_ removeStore(int index) {
@@ -42,4 +72,15 @@ public abstract sealed class AbstractTuple permits UniTuple, BiTuple, TriTuple,
         return value;
     }
 
+    /**
+     * Only used by {@link TuplePool} when recycling a dead tuple.
+     */
+    final void clearStore() {
+        store0 = null;
+        store1 = null;
+        store2 = null;
+        store3 = null;
+        Arrays.fill(overflowStore, null);
+    }
+
 }
@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.bavet.common.tuple;
 
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 record AggregatedTupleLifecycle<Tuple_ extends AbstractTuple>(TupleLifecycle<Tuple_>... lifecycles)
         implements
@@ -33,6 +34,27 @@ record AggregatedTupleLifecycle<Tuple_ extends AbstractTuple>(TupleLifecycle<Tup
         }
     }
 
+    @Override
+    public void ensureInsertCapacity(int insertCount) {
+        for (var lifecycle : lifecycles) {
+            lifecycle.ensureInsertCapacity(insertCount);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public TupleLifecycle<Tuple_> restrict(Predicate<Object> targetPredicate) {
+        var restrictedLifecycles = Arrays.stream(lifecycles)
+                .map(lifecycle -> lifecycle.restrict(targetPredicate))
+                .filter(Objects::nonNull)
+                .toArray(TupleLifecycle[]::new);
+        return switch (restrictedLifecycles.length) {
+            case 0 -> null;
+            case 1 -> restrictedLifecycles[0];
+            default -> new AggregatedTupleLifecycle<>(restrictedLifecycles);
+        };
+    }
+
     @Override
     public boolean equals(Object o) {
         return o instanceof AggregatedTupleLifecycle<?> that &&
@@ -34,6 +34,21 @@ public record ConditionalTupleLifecycle<Tuple_ extends AbstractTuple>(TupleLifec
         downstreamLifecycle.retract(tuple);
     }
 
+    @Override
+    public void ensureInsertCapacity(int insertCount) {
+        downstreamLifecycle.ensureInsertCapacity(insertCount);
+    }
+
+    @Override
+    public TupleLifecycle<Tuple_> restrict(Predicate<Object> targetPredicate) {
+        var restrictedLifecycle = downstreamLifecycle.restrict(targetPredicate);
+        if (restrictedLifecycle == null) {
+            return null;
+        }
+        return restrictedLifecycle == downstreamLifecycle ? this
+                : new ConditionalTupleLifecycle<>(restrictedLifecycle, predicate);
+    }
+
     @Override
     public String toString() {
         return "Conditional %s".formatted(downstreamLifecycle);
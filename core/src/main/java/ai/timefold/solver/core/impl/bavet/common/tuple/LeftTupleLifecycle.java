@@ -8,4 +8,12 @@ public interface LeftTupleLifecycle<Tuple_ extends AbstractTuple> {
 
     void retractLeft(Tuple_ tuple);
 
+    /**
+     * @param insertCount at least zero
+     * @see TupleLifecycle#ensureInsertCapacity(int)
+     */
+    default void ensureLeftInsertCapacity(int insertCount) {
+        // Most nodes do not benefit from knowing it.
+    }
+
 }
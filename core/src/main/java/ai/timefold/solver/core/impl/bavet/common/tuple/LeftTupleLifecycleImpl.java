@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.bavet.common.tuple;
 
 import java.util.Objects;
+import java.util.function.Predicate;
 
 record LeftTupleLifecycleImpl<Tuple_ extends AbstractTuple>(LeftTupleLifecycle<Tuple_> leftTupleLifecycle)
         implements
@@ -25,6 +26,16 @@ record LeftTupleLifecycleImpl<Tuple_ extends AbstractTuple>(LeftTupleLifecycle<T
         leftTupleLifecycle.retractLeft(tuple);
     }
 
+    @Override
+    public void ensureInsertCapacity(int insertCount) {
+        leftTupleLifecycle.ensureLeftInsertCapacity(insertCount);
+    }
+
+    @Override
+    public TupleLifecycle<Tuple_> restrict(Predicate<Object> targetPredicate) {
+        return targetPredicate.test(leftTupleLifecycle) ? this : null;
+    }
+
     @Override
     public String toString() {
         return "left " + leftTupleLifecycle;
@@ -8,4 +8,12 @@ public interface RightTupleLifecycle<Tuple_ extends AbstractTuple> {
 
     void retractRight(Tuple_ tuple);
 
+    /**
+     * @param insertCount at least zero
+     * @see TupleLifecycle#ensureInsertCapacity(int)
+     */
+    default void ensureRightInsertCapacity(int insertCount) {
+        // Most nodes do not benefit from knowing it.
+    }
+
 }
@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.bavet.common.tuple;
 
 import java.util.Objects;
+import java.util.function.Predicate;
 
 record RightTupleLifecycleImpl<Tuple_ extends AbstractTuple>(RightTupleLifecycle<Tuple_> rightTupleLifecycle)
         implements
@@ -25,6 +26,16 @@ record RightTupleLifecycleImpl<Tuple_ extends AbstractTuple>(RightTupleLifecycle
         rightTupleLifecycle.retractRight(tuple);
     }
 
+    @Override
+    public void ensureInsertCapacity(int insertCount) {
+        rightTupleLifecycle.ensureRightInsertCapacity(insertCount);
+    }
+
+    @Override
+    public TupleLifecycle<Tuple_> restrict(Predicate<Object> targetPredicate) {
+        return targetPredicate.test(rightTupleLifecycle) ? this : null;
+    }
+
     @Override
     public String toString() {
         return "right " + rightTupleLifecycle;
@@ -57,4 +57,31 @@ public interface TupleLifecycle<Tuple_ extends AbstractTuple> {
 
     void retract(Tuple_ tuple);
 
+    /**
+     * Announces that about the given number of tuples will be inserted in one batch,
+     * such as when a session is loaded with an entire working solution.
+     * The targets may size their data structures for it up front, instead of growing them repeatedly.
+     * Structures which already hold tuples are left alone.
+     * The number is an upper bound for targets which only see some of the tuples, such as those behind a filter.
+     *
+     * @param insertCount at least zero
+     */
+    default void ensureInsertCapacity(int insertCount) {
+        // Most targets do not benefit from knowing it.
+    }
+
+    /**
+     * Every chain of lifecycles ends in a target, which is a node or a scorer.
+     * A lifecycle which is not only a wrapper around other lifecycles is its own target.
+     * Used to split the propagation of the same tuples into parts that can run independently.
+     *
+     * @param targetPredicate never null, tests the targets
+     * @return null if none of the targets pass the predicate,
+     *         otherwise a lifecycle which only passes tuples to the targets that do,
+     *         applying the same conditions on the way
+     */
+    default TupleLifecycle<Tuple_> restrict(Predicate<Object> targetPredicate) {
+        return targetPredicate.test(this) ? this : null;
+    }
+
 }
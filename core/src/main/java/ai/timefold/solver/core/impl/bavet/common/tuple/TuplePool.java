@@ -0,0 +1,51 @@
+package ai.timefold.solver.core.impl.bavet.common.tuple;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import ai.timefold.solver.core.impl.bavet.common.StaticPropagationQueue;
+
+/**
+ * Free list of {@link TupleState#DEAD} tuples of a single node, to be reused by that node instead of allocating new ones.
+ * Only used when tuple recycling is enabled.
+ * <p>
+ * A tuple is only returned to the pool by {@link StaticPropagationQueue#propagateRetracts()}.
+ * By then, the node has received all of its input for the current settle,
+ * so a pooled tuple is never handed out before the next settle.
+ * At that point, all downstream nodes have processed its retract and no longer hold a reference to it.
+ * The store is only cleared when the tuple is handed out again,
+ * because nodes which pass a tuple through (such as filters and if-exists nodes)
+ * still read their own store entries during the retract in the current settle.
+ * <p>
+ * The pool is bounded, so that a single large retract does not pin its tuples in memory for the rest of solving.
+ *
+ * @param <Tuple_>
+ */
+public final class TuplePool<Tuple_ extends AbstractTuple> {
+
+    private static final int MAX_SIZE = 1024;
+
+    private final Deque<Tuple_> freeTupleDeque = new ArrayDeque<>();
+
+    /**
+     * @return null if the pool is empty
+     */
+    public Tuple_ poll() {
+        // LIFO, as the most recently retracted tuple is the most likely to still be in the CPU cache.
+        var tuple = freeTupleDeque.pollLast();
+        if (tuple != null) {
+            tuple.clearStore();
+        }
+        return tuple;
+    }
+
+    /**
+     * @param tuple must be {@link TupleState#DEAD}
+     */
+    public void offer(Tuple_ tuple) {
+        if (freeTupleDeque.size() < MAX_SIZE) {
+            freeTupleDeque.addLast(tuple);
+        }
+    }
+
+}
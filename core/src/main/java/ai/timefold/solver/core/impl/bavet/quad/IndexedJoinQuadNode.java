@@ -18,12 +18,13 @@ public final class IndexedJoinQuadNode<A, B, C, D>
             int inputStoreIndexABC, int inputStoreIndexEntryABC, int inputStoreIndexOutTupleListABC,
             int inputStoreIndexD, int inputStoreIndexEntryD, int inputStoreIndexOutTupleListD,
             TupleLifecycle<QuadTuple<A, B, C, D>> nextNodesTupleLifecycle, QuadPredicate<A, B, C, D> filtering,
-            int outputStoreSize, int outputStoreIndexOutEntryABC, int outputStoreIndexOutEntryD) {
+            int outputStoreSize, int outputStoreIndexOutEntryABC, int outputStoreIndexOutEntryD,
+            boolean recycleTuples) {
         super(indexerFactory.buildTriLeftKeysExtractor(), indexerFactory,
                 inputStoreIndexABC, inputStoreIndexEntryABC, inputStoreIndexOutTupleListABC,
                 inputStoreIndexD, inputStoreIndexEntryD, inputStoreIndexOutTupleListD,
                 nextNodesTupleLifecycle, filtering != null,
-                outputStoreIndexOutEntryABC, outputStoreIndexOutEntryD);
+                outputStoreIndexOutEntryABC, outputStoreIndexOutEntryD, recycleTuples);
         this.filtering = filtering;
         this.outputStoreSize = outputStoreSize;
     }
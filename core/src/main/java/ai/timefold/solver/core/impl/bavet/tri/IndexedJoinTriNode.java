@@ -18,12 +18,13 @@ public final class IndexedJoinTriNode<A, B, C>
             int inputStoreIndexAB, int inputStoreIndexEntryAB, int inputStoreIndexOutTupleListAB,
             int inputStoreIndexC, int inputStoreIndexEntryC, int inputStoreIndexOutTupleListC,
             TupleLifecycle<TriTuple<A, B, C>> nextNodesTupleLifecycle, TriPredicate<A, B, C> filtering,
-            int outputStoreSize, int outputStoreIndexOutEntryAB, int outputStoreIndexOutEntryC) {
+            int outputStoreSize, int outputStoreIndexOutEntryAB, int outputStoreIndexOutEntryC,
+            boolean recycleTuples) {
         super(indexerFactory.buildBiLeftKeysExtractor(), indexerFactory,
                 inputStoreIndexAB, inputStoreIndexEntryAB, inputStoreIndexOutTupleListAB,
                 inputStoreIndexC, inputStoreIndexEntryC, inputStoreIndexOutTupleListC,
                 nextNodesTupleLifecycle, filtering != null,
-                outputStoreIndexOutEntryAB, outputStoreIndexOutEntryC);
+                outputStoreIndexOutEntryAB, outputStoreIndexOutEntryC, recycleTuples);
         this.filtering = filtering;
         this.outputStoreSize = outputStoreSize;
     }
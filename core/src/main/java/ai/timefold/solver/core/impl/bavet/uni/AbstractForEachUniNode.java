@@ -10,6 +10,7 @@ import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
 import ai.timefold.solver.core.impl.bavet.common.tuple.TupleState;
 import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
 import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
+import ai.timefold.solver.core.impl.util.CollectionUtils;
 
 import org.jspecify.annotations.NullMarked;
 
@@ -29,7 +30,7 @@ public abstract sealed class AbstractForEachUniNode<A>
     private final Class<A> forEachClass;
     private final int outputStoreSize;
     private final StaticPropagationQueue<UniTuple<A>> propagationQueue;
-    protected final Map<A, UniTuple<A>> tupleMap = new IdentityHashMap<>(1000);
+    protected Map<A, UniTuple<A>> tupleMap = new IdentityHashMap<>(1000);
 
     protected AbstractForEachUniNode(Class<A> forEachClass, TupleLifecycle<UniTuple<A>> nextNodesTupleLifecycle,
             int outputStoreSize) {
@@ -48,6 +49,22 @@ public abstract sealed class AbstractForEachUniNode<A>
         propagationQueue.insert(tuple);
     }
 
+    /**
+     * Sizes this node and the nodes after it for a bulk insert of the given number of facts,
+     * instead of growing their data structures repeatedly while the facts are inserted one by one.
+     * Does nothing if this node already has facts.
+     *
+     * @param factCount the number of facts about to be inserted
+     * @see TupleLifecycle#ensureInsertCapacity(int)
+     */
+    public final void ensureCapacity(int factCount) {
+        if (!tupleMap.isEmpty()) {
+            return;
+        }
+        tupleMap = CollectionUtils.newIdentityHashMap(factCount);
+        propagationQueue.ensureInsertCapacity(factCount);
+    }
+
     public abstract void update(A a);
 
     protected final void updateExisting(A a, UniTuple<A> tuple) {
@@ -2,6 +2,8 @@ package ai.timefold.solver.core.impl.bavet.uni;
 
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
 
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
@@ -35,6 +37,26 @@ abstract class AbstractGroupUniNode<OldA, OutTuple_ extends AbstractTuple, Group
         accumulator = null;
     }
 
+    protected AbstractGroupUniNode(int groupStoreIndex, int undoStoreIndex,
+            ToLongFunction<UniTuple<OldA>> primitiveGroupKeyFunction, LongFunction<GroupKey_> primitiveGroupKeyBoxer,
+            UniConstraintCollector<OldA, ResultContainer_, Result_> collector,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        super(groupStoreIndex, undoStoreIndex,
+                primitiveGroupKeyFunction, primitiveGroupKeyBoxer,
+                collector == null ? null : collector.supplier(),
+                collector == null ? null : collector.finisher(),
+                nextNodesTupleLifecycle, environmentMode);
+        accumulator = collector == null ? null : collector.accumulator();
+    }
+
+    protected AbstractGroupUniNode(int groupStoreIndex,
+            ToLongFunction<UniTuple<OldA>> primitiveGroupKeyFunction, LongFunction<GroupKey_> primitiveGroupKeyBoxer,
+            TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, EnvironmentMode environmentMode) {
+        super(groupStoreIndex,
+                primitiveGroupKeyFunction, primitiveGroupKeyBoxer, nextNodesTupleLifecycle, environmentMode);
+        accumulator = null;
+    }
+
     @Override
     protected final Runnable accumulate(ResultContainer_ resultContainer, UniTuple<OldA> tuple) {
         return accumulator.apply(resultContainer, tuple.factA);
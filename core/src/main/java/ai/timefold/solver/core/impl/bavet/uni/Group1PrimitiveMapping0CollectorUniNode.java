@@ -0,0 +1,51 @@
+package ai.timefold.solver.core.impl.bavet.uni;
+
+import java.util.function.LongFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+
+/**
+ * As {@link Group1Mapping0CollectorUniNode}, but for an int or long group key,
+ * which is only boxed once per group.
+ */
+public final class Group1PrimitiveMapping0CollectorUniNode<OldA, A>
+        extends AbstractGroupUniNode<OldA, UniTuple<A>, A, Void, Void> {
+
+    private final int outputStoreSize;
+
+    private Group1PrimitiveMapping0CollectorUniNode(ToLongFunction<UniTuple<OldA>> groupKeyFunction,
+            LongFunction<A> groupKeyBoxer, int groupStoreIndex,
+            TupleLifecycle<UniTuple<A>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
+        super(groupStoreIndex, groupKeyFunction, groupKeyBoxer, nextNodesTupleLifecycle, environmentMode);
+        this.outputStoreSize = outputStoreSize;
+    }
+
+    public static <OldA> Group1PrimitiveMapping0CollectorUniNode<OldA, Integer> ofInt(ToIntFunction<OldA> groupKeyMapping,
+            int groupStoreIndex,
+            TupleLifecycle<UniTuple<Integer>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
+        return new Group1PrimitiveMapping0CollectorUniNode<>(tuple -> groupKeyMapping.applyAsInt(tuple.factA),
+                groupKey -> (int) groupKey, groupStoreIndex, nextNodesTupleLifecycle, outputStoreSize, environmentMode);
+    }
+
+    public static <OldA> Group1PrimitiveMapping0CollectorUniNode<OldA, Long> ofLong(ToLongFunction<OldA> groupKeyMapping,
+            int groupStoreIndex,
+            TupleLifecycle<UniTuple<Long>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
+        return new Group1PrimitiveMapping0CollectorUniNode<>(tuple -> groupKeyMapping.applyAsLong(tuple.factA),
+                groupKey -> groupKey, groupStoreIndex, nextNodesTupleLifecycle, outputStoreSize, environmentMode);
+    }
+
+    @Override
+    protected UniTuple<A> createOutTuple(A a) {
+        return new UniTuple<>(a, outputStoreSize);
+    }
+
+    @Override
+    protected void updateOutTupleToResult(UniTuple<A> aUniTuple, Void unused) {
+        throw new IllegalStateException("Impossible state: collector is null.");
+    }
+
+}
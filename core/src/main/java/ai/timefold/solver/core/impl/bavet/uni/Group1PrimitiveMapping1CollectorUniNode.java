@@ -0,0 +1,61 @@
+package ai.timefold.solver.core.impl.bavet.uni;
+
+import java.util.function.LongFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import ai.timefold.solver.core.api.score.stream.uni.UniConstraintCollector;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.tuple.BiTuple;
+import ai.timefold.solver.core.impl.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+
+/**
+ * As {@link Group1Mapping1CollectorUniNode}, but for an int or long group key,
+ * which is only boxed once per group.
+ */
+public final class Group1PrimitiveMapping1CollectorUniNode<OldA, A, B, ResultContainer_>
+        extends AbstractGroupUniNode<OldA, BiTuple<A, B>, A, ResultContainer_, B> {
+
+    private final int outputStoreSize;
+
+    private Group1PrimitiveMapping1CollectorUniNode(ToLongFunction<UniTuple<OldA>> groupKeyFunction,
+            LongFunction<A> groupKeyBoxer, int groupStoreIndex, int undoStoreIndex,
+            UniConstraintCollector<OldA, ResultContainer_, B> collector,
+            TupleLifecycle<BiTuple<A, B>> nextNodesTupleLifecycle, int outputStoreSize, EnvironmentMode environmentMode) {
+        super(groupStoreIndex, undoStoreIndex, groupKeyFunction, groupKeyBoxer, collector,
+                nextNodesTupleLifecycle, environmentMode);
+        this.outputStoreSize = outputStoreSize;
+    }
+
+    public static <OldA, B, ResultContainer_> Group1PrimitiveMapping1CollectorUniNode<OldA, Integer, B, ResultContainer_>
+            ofInt(ToIntFunction<OldA> groupKeyMapping, int groupStoreIndex, int undoStoreIndex,
+                    UniConstraintCollector<OldA, ResultContainer_, B> collector,
+                    TupleLifecycle<BiTuple<Integer, B>> nextNodesTupleLifecycle, int outputStoreSize,
+                    EnvironmentMode environmentMode) {
+        return new Group1PrimitiveMapping1CollectorUniNode<>(tuple -> groupKeyMapping.applyAsInt(tuple.factA),
+                groupKey -> (int) groupKey, groupStoreIndex, undoStoreIndex, collector, nextNodesTupleLifecycle,
+                outputStoreSize, environmentMode);
+    }
+
+    public static <OldA, B, ResultContainer_> Group1PrimitiveMapping1CollectorUniNode<OldA, Long, B, ResultContainer_>
+            ofLong(ToLongFunction<OldA> groupKeyMapping, int groupStoreIndex, int undoStoreIndex,
+                    UniConstraintCollector<OldA, ResultContainer_, B> collector,
+                    TupleLifecycle<BiTuple<Long, B>> nextNodesTupleLifecycle, int outputStoreSize,
+                    EnvironmentMode environmentMode) {
+        return new Group1PrimitiveMapping1CollectorUniNode<>(tuple -> groupKeyMapping.applyAsLong(tuple.factA),
+                groupKey -> groupKey, groupStoreIndex, undoStoreIndex, collector, nextNodesTupleLifecycle,
+                outputStoreSize, environmentMode);
+    }
+
+    @Override
+    protected BiTuple<A, B> createOutTuple(A a) {
+        return new BiTuple<>(a, null, outputStoreSize);
+    }
+
+    @Override
+    protected void updateOutTupleToResult(BiTuple<A, B> outTuple, B b) {
+        outTuple.factB = b;
+    }
+
+}
@@ -18,6 +18,8 @@ import ai.timefold.solver.core.impl.bavet.common.AbstractTwoInputNode;
 import ai.timefold.solver.core.impl.bavet.common.BavetAbstractConstraintStream;
 import ai.timefold.solver.core.impl.bavet.common.BavetStream;
 import ai.timefold.solver.core.impl.bavet.common.BavetStreamBinaryOperation;
+import ai.timefold.solver.core.impl.bavet.common.NodeNetworkProfiler;
+import ai.timefold.solver.core.impl.bavet.common.NodeProfile;
 import ai.timefold.solver.core.impl.bavet.uni.AbstractForEachUniNode;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraint;
 import ai.timefold.solver.core.impl.score.stream.bavet.uni.BavetForEachUniConstraintStream;
@@ -59,6 +61,14 @@ public record NodeGraph<Solution_>(Solution_ solution, List<AbstractNode> source
     }
 
     public String buildGraphvizDOT() {
+        return buildGraphvizDOT(null);
+    }
+
+    /**
+     * @param profiler null if the nodes are not to be annotated with their {@link NodeProfile}
+     * @return never null, the node network in Graphviz DOT format
+     */
+    public String buildGraphvizDOT(NodeNetworkProfiler profiler) {
         var stringBuilder = new StringBuilder();
         var sourceStream = sources.stream();
         var edgeStream = edges.stream().flatMap(edge -> Stream.of(edge.from(), edge.to()));
@@ -86,7 +96,7 @@ public record NodeGraph<Solution_>(Solution_ solution, List<AbstractNode> source
         }
         // Specify visual attributes of the nodes.
         for (var node : allNodes) {
-            var line = "    %s %s;%n".formatted(nodeId(node), getMetadata(node));
+            var line = "    %s %s;%n".formatted(nodeId(node), getMetadata(node, profiler));
             stringBuilder.append(line);
         }
         for (var i = 0; i < sinks.size(); i++) {
@@ -113,7 +123,7 @@ public record NodeGraph<Solution_>(Solution_ solution, List<AbstractNode> source
                 .formatted(stringBuilder.toString());
     }
 
-    private static String getMetadata(AbstractNode node) {
+    private static String getMetadata(AbstractNode node, NodeNetworkProfiler profiler) {
         var metadata = getBaseDOTProperties("lightgrey", false);
         if (node instanceof AbstractForEachUniNode<?>) {
             metadata.put("style", "filled");
@@ -125,7 +135,14 @@ public record NodeGraph<Solution_>(Solution_ solution, List<AbstractNode> source
             metadata.put("fillcolor", "#ff7700");
             metadata.put("fontcolor", "white");
         }
-        metadata.put("label", nodeLabel(node));
+        if (profiler == null) {
+            metadata.put("label", nodeLabel(node));
+        } else {
+            var profile = profiler.getProfile(node);
+            metadata.put("label", "%s<BR/>%d ins, %d upd, %d ret<BR/>%d tuples, %d ms"
+                    .formatted(nodeLabel(node), profile.getInsertCount(), profile.getUpdateCount(),
+                            profile.getRetractCount(), profile.getTupleCount(), profile.getTimeNanos() / 1_000_000L));
+        }
         return mergeMetadata(metadata);
     }
 
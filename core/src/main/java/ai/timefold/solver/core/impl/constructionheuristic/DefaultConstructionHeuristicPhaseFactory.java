@@ -161,10 +161,12 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
             PhaseTermination<Solution_> termination) {
         var forager = buildForager(configPolicy);
         var moveThreadCount = configPolicy.getMoveThreadCount();
+        // Without the enterprise edition, only local search evaluates moves on multiple threads.
         var decider = (moveThreadCount == null)
                 ? new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager)
-                : TimefoldSolverEnterpriseService.loadOrFail(TimefoldSolverEnterpriseService.Feature.MULTITHREADED_SOLVING)
-                        .buildConstructionHeuristic(termination, forager, configPolicy);
+                : TimefoldSolverEnterpriseService.buildOrDefault(
+                        service -> service.buildConstructionHeuristic(termination, forager, configPolicy),
+                        () -> new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager));
         decider.enableAssertions(configPolicy.getEnvironmentMode());
         return decider;
     }
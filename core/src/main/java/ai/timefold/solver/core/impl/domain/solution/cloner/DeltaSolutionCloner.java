@@ -0,0 +1,94 @@
+package ai.timefold.solver.core.impl.domain.solution.cloner;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+/**
+ * Planning clones the same working solution over and over again,
+ * such as every time a new best solution is found,
+ * reusing the entity clones of the previous clone for every entity which has not changed since.
+ * Only entities which do not reference any other clone can be reused,
+ * see {@link FieldAccessingSolutionCloner#isCloneReusable(Class)},
+ * so this pays off for models where entities only reference problem facts,
+ * but not for models with chained or list variables.
+ * <p>
+ * The owner must report every change to an entity through {@link #entityChanged(Object)},
+ * including changes to its shadow variables.
+ * Changes to problem facts need not be reported, as those are shared by every clone anyway.
+ * <p>
+ * As a consequence, consecutive clones share the entity instances that did not change in between,
+ * so none of the clones may ever be modified.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <Solution_> the solution type
+ */
+public final class DeltaSolutionCloner<Solution_> {
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final FieldAccessingSolutionCloner<Solution_> solutionCloner;
+    private final Map<Class<?>, Boolean> reusableClassMap = new HashMap<>();
+    /**
+     * Maps every unchanged entity of the original solution to its clone in the previous clone.
+     */
+    private final Map<Object, Object> entityToCloneMap = new IdentityHashMap<>();
+    private Solution_ previousOriginalSolution = null;
+
+    public DeltaSolutionCloner(SolutionDescriptor<Solution_> solutionDescriptor,
+            FieldAccessingSolutionCloner<Solution_> solutionCloner) {
+        this.solutionDescriptor = Objects.requireNonNull(solutionDescriptor);
+        this.solutionCloner = Objects.requireNonNull(solutionCloner);
+    }
+
+    /**
+     * @param entity never null, its clone in the previous clone is outdated
+     */
+    public void entityChanged(Object entity) {
+        entityToCloneMap.remove(entity);
+    }
+
+    /**
+     * Forgets the previous clone, so that the next clone clones every entity again.
+     */
+    public void reset() {
+        entityToCloneMap.clear();
+        previousOriginalSolution = null;
+    }
+
+    /**
+     * @param originalSolution never null
+     * @return never null, a planning clone of the originalSolution
+     */
+    public Solution_ cloneSolution(Solution_ originalSolution) {
+        if (originalSolution != previousOriginalSolution) {
+            reset();
+            previousOriginalSolution = originalSolution;
+        }
+        var cloneSolution = solutionCloner.cloneSolution(originalSolution, entityToCloneMap);
+        // Only keep the clones which can be reused next time; the solution clone itself never can.
+        entityToCloneMap.keySet().removeIf(original -> !isReusable(original.getClass()));
+        return cloneSolution;
+    }
+
+    private boolean isReusable(Class<?> clazz) {
+        return reusableClassMap.computeIfAbsent(clazz,
+                c -> solutionDescriptor.hasEntityDescriptor(c) && solutionCloner.isCloneReusable(c));
+    }
+
+    /**
+     * @return the number of entity clones the next clone can reuse, unless their entities change first
+     */
+    public int getReusableCloneCount() {
+        return entityToCloneMap.size();
+    }
+
+    @Override
+    public String toString() {
+        return "%s(%d reusable clones)".formatted(getClass().getSimpleName(), entityToCloneMap.size());
+    }
+
+}
@@ -51,7 +51,20 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
 
     @Override
     public @NonNull Solution_ cloneSolution(@NonNull Solution_ originalSolution) {
-        Map<Object, Object> originalToCloneMap = new IdentityHashMap<>();
+        return cloneSolution(originalSolution, new IdentityHashMap<>());
+    }
+
+    /**
+     * As {@link #cloneSolution(Object)}, but every original already in the originalToCloneMap is not cloned again;
+     * its clone from the map is used as is instead.
+     *
+     * @param originalSolution never null
+     * @param originalToCloneMap never null, an {@link IdentityHashMap} which must not contain the originalSolution;
+     *        afterwards, it also holds every original that was cloned by this call
+     * @return never null
+     * @see DeltaSolutionCloner
+     */
+    public Solution_ cloneSolution(Solution_ originalSolution, Map<Object, Object> originalToCloneMap) {
         Queue<Unprocessed> unprocessedQueue = new ArrayDeque<>();
         Solution_ cloneSolution = clone(originalSolution, originalToCloneMap, unprocessedQueue,
                 retrieveClassMetadata(originalSolution.getClass()));
@@ -260,6 +273,18 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
         }
     }
 
+    /**
+     * The clone of an instance of the class can be reused by {@link #cloneSolution(Object, Map)}
+     * as long as the original does not change,
+     * because it does not reference any other clone.
+     *
+     * @param clazz never null
+     * @return true if no field of the class, or any of its superclasses, is ever deep-cloned
+     */
+    public boolean isCloneReusable(Class<?> clazz) {
+        return retrieveClassMetadata(clazz).isCloneReusable();
+    }
+
     private ClassMetadata retrieveClassMetadata(Class<?> declaringClass) {
         return classMetadataMemoization.computeIfAbsent(declaringClass, ClassMetadata::new);
     }
@@ -332,6 +357,7 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
          * Contains one cloner for every field that needs to be deep-cloned.
          */
         private DeepCloningFieldCloner[] clonedFieldArray;
+        private Boolean cloneReusable;
 
         public ClassMetadata(Class<?> declaringClass) {
             this.declaringClass = declaringClass;
@@ -376,6 +402,33 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
             return clonedFieldArray;
         }
 
+        public boolean isCloneReusable() {
+            if (cloneReusable == null) { // Lazy-loaded; only used by delta cloning.
+                var superclass = declaringClass.getSuperclass();
+                cloneReusable = Arrays.stream(getClonedFieldArray())
+                        .map(DeepCloningFieldCloner::getField)
+                        .noneMatch(this::isFieldPossiblyDeepCloned)
+                        && (superclass == null || superclass == Object.class
+                                || retrieveClassMetadata(superclass).isCloneReusable());
+            }
+            return cloneReusable;
+        }
+
+        private boolean isFieldPossiblyDeepCloned(Field field) {
+            if (DeepCloningUtils.isFieldDeepCloned(solutionDescriptor, field, declaringClass)) {
+                return true;
+            }
+            // Whether a value is deep-cloned also depends on its own class, such as an entity in a field of type Object.
+            // Collections, maps and arrays are only deep-cloned if the field is.
+            var fieldType = field.getType();
+            if (Collection.class.isAssignableFrom(fieldType) || Map.class.isAssignableFrom(fieldType)
+                    || fieldType.isArray()) {
+                return false;
+            }
+            return fieldType.isAssignableFrom(solutionDescriptor.getSolutionClass())
+                    || solutionDescriptor.getEntityClassSet().stream().anyMatch(fieldType::isAssignableFrom);
+        }
+
     }
 
     private record Unprocessed(Object bean, Field field, Object originalValue) {
@@ -0,0 +1,201 @@
+package ai.timefold.solver.core.impl.domain.solution.cloner;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
+import ai.timefold.solver.core.impl.util.ConcurrentMemoization;
+
+/**
+ * Takes snapshots of a working solution which only planning clone it once they are {@link Supplier#get() needed},
+ * for example when a best solution consumer actually takes the best solution.
+ * A snapshot only records the values of the genuine and shadow variables of every entity,
+ * which is far cheaper than planning cloning every entity.
+ * <p>
+ * To materialize a snapshot, its base is planning cloned and the recorded variable values are applied to that clone.
+ * The base is a planning clone of the working solution which is never modified nor handed out,
+ * so snapshots can be materialized on any thread, while the solver thread keeps changing the working solution.
+ * Therefore everything in an entity that a move can change must be a genuine or shadow variable.
+ * <p>
+ * The owner must {@link #reset()} whenever the working solution changes in any other way than through its variables,
+ * such as when a problem change adds an entity or changes a problem property.
+ * <p>
+ * This class is not thread-safe, but the snapshots it takes are.
+ *
+ * @param <Solution_> the solution type
+ */
+public final class LazySolutionCloner<Solution_> {
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final FieldAccessingSolutionCloner<Solution_> solutionCloner;
+    // Also read by the threads which materialize the snapshots.
+    private final ConcurrentMap<Class<?>, VariableDescriptor<Solution_>[]> entityClassToVariableDescriptorsMap =
+            new ConcurrentMemoization<>();
+    private Base<Solution_> base = null;
+    private int lastValueCount = 16;
+
+    public LazySolutionCloner(SolutionDescriptor<Solution_> solutionDescriptor,
+            FieldAccessingSolutionCloner<Solution_> solutionCloner) {
+        this.solutionDescriptor = Objects.requireNonNull(solutionDescriptor);
+        this.solutionCloner = Objects.requireNonNull(solutionCloner);
+    }
+
+    /**
+     * Forgets the base, so that the next snapshot planning clones the working solution again.
+     * Snapshots taken before remain valid.
+     */
+    public void reset() {
+        base = null;
+    }
+
+    /**
+     * @param workingSolution never null
+     * @return never null, every call of {@link Supplier#get()} returns the same planning clone of the workingSolution,
+     *         as it was when the snapshot was taken
+     */
+    public Supplier<Solution_> snapshot(Solution_ workingSolution) {
+        if (base == null || base.originalSolution != workingSolution) {
+            base = createBase(workingSolution);
+        }
+        var values = recordValues(workingSolution);
+        if (values == null) { // The base is outdated, such as because an entity was added.
+            base = createBase(workingSolution);
+            values = recordValues(workingSolution);
+        }
+        return new SolutionSnapshot<>(this, base, values, solutionDescriptor.getScore(workingSolution));
+    }
+
+    private Base<Solution_> createBase(Solution_ workingSolution) {
+        var originalToBaseMap = new IdentityHashMap<>();
+        var baseSolution = solutionCloner.cloneSolution(workingSolution, originalToBaseMap);
+        var entityCount = new int[1];
+        solutionDescriptor.visitAllEntities(workingSolution, entity -> entityCount[0]++);
+        return new Base<>(workingSolution, baseSolution, originalToBaseMap, entityCount[0]);
+    }
+
+    /**
+     * @return null if the base no longer has the same entities as the workingSolution
+     */
+    private Object[] recordValues(Solution_ workingSolution) {
+        var originalToBaseMap = base.originalToBaseMap;
+        var valueList = new ArrayList<>(lastValueCount);
+        var entityCount = new int[1];
+        var outdated = new boolean[1];
+        solutionDescriptor.visitAllEntities(workingSolution, entity -> {
+            entityCount[0]++;
+            var baseEntity = originalToBaseMap.get(entity);
+            if (outdated[0] || baseEntity == null) {
+                outdated[0] = true;
+                return;
+            }
+            // The entity collections need not be ordered, such as a HashSet, so every entity leads its values.
+            valueList.add(baseEntity);
+            for (var variableDescriptor : getVariableDescriptors(entity.getClass())) {
+                Object value = variableDescriptor.getValue(entity);
+                if (value instanceof Collection<?> collection) {
+                    // The collection itself is cloned, so only its elements are recorded.
+                    var elements = new Object[collection.size()];
+                    var i = 0;
+                    for (var element : collection) {
+                        elements[i++] = originalToBaseMap.getOrDefault(element, element);
+                    }
+                    valueList.add(new CollectionValue(elements));
+                } else {
+                    valueList.add(value == null ? null : originalToBaseMap.getOrDefault(value, value));
+                }
+            }
+        });
+        if (outdated[0] || entityCount[0] != base.entityCount) {
+            return null;
+        }
+        lastValueCount = valueList.size();
+        return valueList.toArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private VariableDescriptor<Solution_>[] getVariableDescriptors(Class<?> entityClass) {
+        return entityClassToVariableDescriptorsMap.computeIfAbsent(entityClass,
+                c -> solutionDescriptor.findEntityDescriptorOrFail(c).getVariableDescriptorMap().values()
+                        .toArray(VariableDescriptor[]::new));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Solution_ materialize(Base<Solution_> base, Object[] values, Score<?> score) {
+        var baseToCloneMap = new IdentityHashMap<>();
+        var cloneSolution = solutionCloner.cloneSolution(base.baseSolution, baseToCloneMap);
+        var index = 0;
+        while (index < values.length) {
+            var entity = baseToCloneMap.get(values[index++]);
+            for (var variableDescriptor : getVariableDescriptors(entity.getClass())) {
+                var value = values[index++];
+                if (value instanceof CollectionValue collectionValue) {
+                    var elements = collectionValue.elements();
+                    var cloneElementList = new ArrayList<>(elements.length);
+                    for (var element : elements) {
+                        cloneElementList.add(baseToCloneMap.getOrDefault(element, element));
+                    }
+                    if (variableDescriptor.getValue(entity) instanceof Collection<?> cloneCollection) {
+                        var castCloneCollection = (Collection<Object>) cloneCollection;
+                        castCloneCollection.clear();
+                        castCloneCollection.addAll(cloneElementList);
+                    } else {
+                        variableDescriptor.setValue(entity, cloneElementList);
+                    }
+                } else {
+                    variableDescriptor.setValue(entity, value == null ? null : baseToCloneMap.getOrDefault(value, value));
+                }
+            }
+        }
+        solutionDescriptor.setScore(cloneSolution, (Score) score);
+        return cloneSolution;
+    }
+
+    private record Base<Solution_>(Solution_ originalSolution, Solution_ baseSolution,
+            Map<Object, Object> originalToBaseMap, int entityCount) {
+    }
+
+    private record CollectionValue(Object[] elements) {
+    }
+
+    private static final class SolutionSnapshot<Solution_> implements Supplier<Solution_> {
+
+        private final LazySolutionCloner<Solution_> lazySolutionCloner;
+        private Base<Solution_> base;
+        private Object[] values;
+        private final Score<?> score;
+        private Solution_ solution = null;
+
+        SolutionSnapshot(LazySolutionCloner<Solution_> lazySolutionCloner, Base<Solution_> base, Object[] values,
+                Score<?> score) {
+            this.lazySolutionCloner = lazySolutionCloner;
+            this.base = base;
+            this.values = values;
+            this.score = score;
+        }
+
+        @Override
+        public synchronized Solution_ get() {
+            if (solution == null) {
+                solution = lazySolutionCloner.materialize(base, values, score);
+                // Allow the base to be garbage collected once no more snapshots need it.
+                base = null;
+                values = null;
+            }
+            return solution;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "%s(%s)".formatted(getClass().getSimpleName(), solution == null ? "lazy" : solution);
+        }
+
+    }
+
+}
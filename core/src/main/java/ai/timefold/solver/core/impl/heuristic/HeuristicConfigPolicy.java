@@ -223,6 +223,7 @@ public class HeuristicConfigPolicy<Solution_> {
             var threadPrefix = switch (childThreadType) {
                 case MOVE_THREAD -> "MoveThread";
                 case PART_THREAD -> "PartThread";
+                case BULK_LOAD_THREAD -> "BulkLoadThread";
             };
             return new DefaultSolverThreadFactory(threadPrefix);
         }
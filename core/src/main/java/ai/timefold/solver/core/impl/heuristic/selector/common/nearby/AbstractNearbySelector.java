@@ -0,0 +1,225 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common.nearby;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.impl.heuristic.selector.AbstractDemandEnabledSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.Selector;
+import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.SelectionIterator;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+
+/**
+ * Selects the destinations of the child selector which are nearby the origin of the replaying selector,
+ * as measured by a {@link NearbyDistanceMeter}.
+ * The nearby destinations of every origin are kept in a {@link NearbyDistanceMatrix},
+ * which is shared by equal nearby selectors during a phase.
+ * <p>
+ * If the precomputation is enabled, the matrix is filled in parallel when a local search phase starts.
+ * A construction heuristic phase always fills it lazily,
+ * because its destinations change as values are assigned.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <ChildSelector_> the type of the selector of the destinations
+ * @param <ReplayingSelector_> the type of the selector of the origins
+ */
+public abstract class AbstractNearbySelector<Solution_, ChildSelector_ extends Selector<Solution_>, ReplayingSelector_ extends Selector<Solution_>>
+        extends AbstractDemandEnabledSelector<Solution_> {
+
+    protected final ChildSelector_ childSelector;
+    protected final ReplayingSelector_ replayingSelector;
+    protected final NearbyDistanceMeter<Object, Object> nearbyDistanceMeter;
+    protected final NearbyRandom nearbyRandom;
+    protected final boolean randomSelection;
+    protected final boolean parallelPrecomputation;
+
+    private NearbyDistanceMatrixDemand<Object, Object> nearbyDistanceMatrixDemand;
+    protected NearbyDistanceMatrix<Object, Object> nearbyDistanceMatrix;
+
+    @SuppressWarnings("unchecked")
+    protected AbstractNearbySelector(ChildSelector_ childSelector, ReplayingSelector_ replayingSelector,
+            NearbyDistanceMeter<?, ?> nearbyDistanceMeter, NearbyRandom nearbyRandom, boolean randomSelection,
+            boolean parallelPrecomputation) {
+        this.childSelector = childSelector;
+        this.replayingSelector = replayingSelector;
+        this.nearbyDistanceMeter = (NearbyDistanceMeter<Object, Object>) nearbyDistanceMeter;
+        this.nearbyRandom = nearbyRandom;
+        this.randomSelection = randomSelection;
+        this.parallelPrecomputation = parallelPrecomputation;
+        if (randomSelection && nearbyRandom == null) {
+            throw new IllegalArgumentException("The nearbySelector (%s) with randomSelection (%s) has no nearbyRandom (%s)."
+                    .formatted(this, randomSelection, nearbyRandom));
+        }
+        phaseLifecycleSupport.addEventListener(childSelector);
+        phaseLifecycleSupport.addEventListener(replayingSelector);
+    }
+
+    /**
+     * @return never null, every origin that the replaying selector can replay
+     */
+    protected abstract Iterator<Object> originEndingIterator();
+
+    /**
+     * @return the number of origins that the replaying selector can replay
+     */
+    protected abstract long getOriginSize();
+
+    /**
+     * @param origin never null
+     * @return never null, every destination of the origin
+     */
+    protected abstract Iterator<Object> destinationEndingIterator(Object origin);
+
+    /**
+     * @return true if every origin has the same destinations
+     */
+    protected abstract boolean isDestinationsOriginIndependent();
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        var nearbySizeMaximum = nearbyRandom == null ? Integer.MAX_VALUE : nearbyRandom.getOverallSizeMaximum();
+        nearbyDistanceMatrixDemand = new NearbyDistanceMatrixDemand<>(nearbyDistanceMeter, nearbySizeMaximum,
+                childSelector, replayingSelector, () -> (int) Math.min(getOriginSize(), Integer.MAX_VALUE),
+                this::destinationEndingIterator, isDestinationsOriginIndependent());
+        // Equal nearby selectors share the matrix, so the distances are only measured once per phase.
+        nearbyDistanceMatrix = phaseScope.getScoreDirector().getSupplyManager().demand(nearbyDistanceMatrixDemand);
+        if (parallelPrecomputation && phaseScope instanceof LocalSearchPhaseScope<Solution_>) {
+            nearbyDistanceMatrix.precompute(originEndingIterator(), true);
+        }
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        // The last nearby selector to cancel its demand causes the matrix to be discarded.
+        phaseScope.getScoreDirector().getSupplyManager().cancel(nearbyDistanceMatrixDemand);
+        nearbyDistanceMatrixDemand = null;
+        nearbyDistanceMatrix = null;
+    }
+
+    @Override
+    public boolean isCountable() {
+        return childSelector.isCountable();
+    }
+
+    @Override
+    public boolean isNeverEnding() {
+        return randomSelection || childSelector.isNeverEnding();
+    }
+
+    /**
+     * @param replayingOriginIterator never null
+     * @param destinationMapper never null, maps a destination of the matrix to the selection
+     * @return never null, a random iterator if randomSelection is true, an original iterator otherwise
+     * @param <T> the type of the selection
+     */
+    protected <T> Iterator<T> nearbyIterator(Iterator<Object> replayingOriginIterator, Function<Object, T> destinationMapper) {
+        if (randomSelection) {
+            return new RandomNearbyIterator<>(replayingOriginIterator, destinationMapper);
+        } else {
+            return new OriginalNearbyIterator<>(replayingOriginIterator, destinationMapper);
+        }
+    }
+
+    /**
+     * Follows the replaying selector, so every time it replays a new origin,
+     * the next selection is nearby that new origin.
+     */
+    private final class RandomNearbyIterator<T> extends SelectionIterator<T> {
+
+        private final Iterator<Object> replayingOriginIterator;
+        private final Function<Object, T> destinationMapper;
+        private Object origin = null;
+
+        private RandomNearbyIterator(Iterator<Object> replayingOriginIterator, Function<Object, T> destinationMapper) {
+            this.replayingOriginIterator = replayingOriginIterator;
+            this.destinationMapper = destinationMapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            // Do not replay the origin here, because the recording selector might not have selected it yet.
+            return origin != null || replayingOriginIterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            // Ignore origins that have been replayed while this iterator was not used.
+            while (replayingOriginIterator.hasNext()) {
+                origin = replayingOriginIterator.next();
+            }
+            if (origin == null) {
+                throw new NoSuchElementException();
+            }
+            var nearbySize = nearbyDistanceMatrix.getNearbySize(origin);
+            if (nearbySize == 0) {
+                throw new NoSuchElementException("The origin (%s) has no nearby destinations.".formatted(origin));
+            }
+            var nearbyIndex = nearbyRandom.nextInt(workingRandom, nearbySize);
+            return destinationMapper.apply(nearbyDistanceMatrix.getDestination(origin, nearbyIndex));
+        }
+
+    }
+
+    /**
+     * Selects every destination of the origin once, from nearest to farthest.
+     */
+    private final class OriginalNearbyIterator<T> extends SelectionIterator<T> {
+
+        private final Iterator<Object> replayingOriginIterator;
+        private final Function<Object, T> destinationMapper;
+        private Iterator<Object> destinationIterator = null;
+
+        private OriginalNearbyIterator(Iterator<Object> replayingOriginIterator, Function<Object, T> destinationMapper) {
+            this.replayingOriginIterator = replayingOriginIterator;
+            this.destinationMapper = destinationMapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (destinationIterator == null) {
+                if (!replayingOriginIterator.hasNext()) {
+                    return false;
+                }
+                destinationIterator = nearbyDistanceMatrix.getDestinationList(replayingOriginIterator.next()).iterator();
+            }
+            return destinationIterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return destinationMapper.apply(destinationIterator.next());
+        }
+
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof AbstractNearbySelector<?, ?, ?> that
+                && getClass() == that.getClass()
+                && randomSelection == that.randomSelection
+                && Objects.equals(childSelector, that.childSelector)
+                && Objects.equals(replayingSelector, that.replayingSelector)
+                && Objects.equals(nearbyDistanceMeter, that.nearbyDistanceMeter)
+                && Objects.equals(nearbyRandom, that.nearbyRandom);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), childSelector, replayingSelector, nearbyDistanceMeter, nearbyRandom,
+                randomSelection);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + replayingSelector + ", " + childSelector + ")";
+    }
+
+}
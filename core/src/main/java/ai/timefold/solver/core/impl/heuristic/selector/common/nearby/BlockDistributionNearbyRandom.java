@@ -0,0 +1,85 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common.nearby;
+
+import java.util.Objects;
+import java.util.Random;
+
+import ai.timefold.solver.core.config.heuristic.selector.common.nearby.NearbySelectionDistributionType;
+
+/**
+ * Implements {@link NearbySelectionDistributionType#BLOCK_DISTRIBUTION}:
+ * only the n nearest destinations are selected, with an equal probability.
+ */
+public final class BlockDistributionNearbyRandom implements NearbyRandom {
+
+    private final int sizeMinimum;
+    private final int sizeMaximum;
+    private final double sizeRatio;
+    private final double uniformDistributionProbability;
+
+    public BlockDistributionNearbyRandom(int sizeMinimum, int sizeMaximum, double sizeRatio,
+            double uniformDistributionProbability) {
+        this.sizeMinimum = sizeMinimum;
+        this.sizeMaximum = sizeMaximum;
+        this.sizeRatio = sizeRatio;
+        this.uniformDistributionProbability = uniformDistributionProbability;
+        if (sizeMinimum < 1) {
+            throw new IllegalArgumentException("The blockDistributionSizeMinimum (%d) must be at least 1."
+                    .formatted(sizeMinimum));
+        }
+        if (sizeMaximum < sizeMinimum) {
+            throw new IllegalArgumentException(
+                    "The blockDistributionSizeMaximum (%d) must be at least the blockDistributionSizeMinimum (%d)."
+                            .formatted(sizeMaximum, sizeMinimum));
+        }
+        if (sizeRatio <= 0.0 || sizeRatio > 1.0) {
+            throw new IllegalArgumentException(
+                    "The blockDistributionSizeRatio (%s) must be strictly positive and at most 1.0."
+                            .formatted(sizeRatio));
+        }
+        if (uniformDistributionProbability < 0.0 || uniformDistributionProbability > 1.0) {
+            throw new IllegalArgumentException(
+                    "The blockDistributionUniformDistributionProbability (%s) must be between 0.0 and 1.0."
+                            .formatted(uniformDistributionProbability));
+        }
+    }
+
+    @Override
+    public int nextInt(Random random, int nearbySize) {
+        if (uniformDistributionProbability > 0.0 && random.nextDouble() < uniformDistributionProbability) {
+            return random.nextInt(nearbySize);
+        }
+        int size;
+        if (sizeRatio < 1.0) {
+            size = (int) (nearbySize * sizeRatio);
+            if (size < sizeMinimum) {
+                size = Math.min(sizeMinimum, nearbySize);
+            }
+        } else {
+            size = nearbySize;
+        }
+        return random.nextInt(Math.min(size, sizeMaximum));
+    }
+
+    @Override
+    public int getOverallSizeMaximum() {
+        if (uniformDistributionProbability > 0.0) {
+            return Integer.MAX_VALUE;
+        }
+        return sizeMaximum;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof BlockDistributionNearbyRandom that
+                && sizeMinimum == that.sizeMinimum
+                && sizeMaximum == that.sizeMaximum
+                && Double.compare(sizeRatio, that.sizeRatio) == 0
+                && Double.compare(uniformDistributionProbability, that.uniformDistributionProbability) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sizeMinimum, sizeMaximum, sizeRatio, uniformDistributionProbability);
+    }
+
+}
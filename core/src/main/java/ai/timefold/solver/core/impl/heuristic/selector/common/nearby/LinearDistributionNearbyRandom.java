@@ -0,0 +1,50 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common.nearby;
+
+import java.util.Random;
+
+import ai.timefold.solver.core.config.heuristic.selector.common.nearby.NearbySelectionDistributionType;
+
+/**
+ * Implements {@link NearbySelectionDistributionType#LINEAR_DISTRIBUTION}:
+ * the nearest destinations are selected with a higher probability, which decreases linearly.
+ * <p>
+ * The probability density function is {@code P(x) = 2/m - 2x/(m^2)}, where {@code m} is the size maximum.
+ * So its cumulative distribution function is {@code F(x) = 2x/m - x^2/(m^2)},
+ * which inverts to {@code x = m(1 - sqrt(1 - p))}.
+ */
+public final class LinearDistributionNearbyRandom implements NearbyRandom {
+
+    private final int sizeMaximum;
+
+    public LinearDistributionNearbyRandom(int sizeMaximum) {
+        this.sizeMaximum = sizeMaximum;
+        if (sizeMaximum < 1) {
+            throw new IllegalArgumentException("The linearDistributionSizeMaximum (%d) must be at least 1."
+                    .formatted(sizeMaximum));
+        }
+    }
+
+    @Override
+    public int nextInt(Random random, int nearbySize) {
+        var m = Math.min(sizeMaximum, nearbySize);
+        var next = (int) (m * (1.0 - Math.sqrt(1.0 - random.nextDouble())));
+        // Rounding errors could cause next to be equal to m.
+        return Math.min(next, m - 1);
+    }
+
+    @Override
+    public int getOverallSizeMaximum() {
+        return sizeMaximum;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof LinearDistributionNearbyRandom that && sizeMaximum == that.sizeMaximum;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(sizeMaximum);
+    }
+
+}
@@ -0,0 +1,192 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common.nearby;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+/**
+ * A precomputed matrix of distances, stored as {@code float}s in a file and memory-mapped when read.
+ * Write it once per dataset with {@link #write(Path, int, int, DistanceFunction)},
+ * then {@link #open(Path) open} it in every solver run, even in another JVM.
+ * The distances are paged in by the operating system when they are read, so they are not kept on the heap,
+ * and solver runs on the same machine share the same pages of the file.
+ * <p>
+ * Origins and destinations are identified by their index,
+ * so use a {@link MemoryMappedNearbyDistanceMeter} to use the matrix in nearby selection.
+ * Reading a matrix is thread-safe.
+ */
+public final class MemoryMappedDistanceMatrix {
+
+    private static final int MAGIC_NUMBER = 0x54464E44; // "TFND"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+    // A mapped buffer is indexed by an int, so a large matrix is mapped in segments of complete rows.
+    private static final long SEGMENT_SIZE_MAXIMUM = Integer.MAX_VALUE;
+
+    /**
+     * Measures the distance from an origin to a destination, identified by their index.
+     */
+    @FunctionalInterface
+    public interface DistanceFunction {
+
+        /**
+         * @param originIndex {@code 0 <= originIndex < originCount}
+         * @param destinationIndex {@code 0 <= destinationIndex < destinationCount}
+         * @return the distance, which is stored as a float
+         */
+        double getDistance(int originIndex, int destinationIndex);
+
+    }
+
+    /**
+     * Measures every distance and writes it to the file, replacing it if it exists.
+     * The rows of different origins are measured in parallel,
+     * so the distance function must be thread-safe.
+     *
+     * @param path never null
+     * @param originCount at least 0
+     * @param destinationCount at least 0
+     * @param distanceFunction never null
+     */
+    public static void write(Path path, int originCount, int destinationCount, DistanceFunction distanceFunction) {
+        if (originCount < 0 || destinationCount < 0) {
+            throw new IllegalArgumentException("The originCount (%d) and destinationCount (%d) cannot be negative."
+                    .formatted(originCount, destinationCount));
+        }
+        try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                    .putInt(MAGIC_NUMBER)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(originCount)
+                    .putInt(destinationCount)
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            var segments = mapSegments(channel, FileChannel.MapMode.READ_WRITE, originCount, destinationCount);
+            var rowsPerSegment = rowsPerSegment(destinationCount);
+            IntStream.range(0, originCount)
+                    .parallel()
+                    .forEach(originIndex -> {
+                        var segment = segments[originIndex / rowsPerSegment];
+                        var offset = (originIndex % rowsPerSegment) * destinationCount;
+                        for (var destinationIndex = 0; destinationIndex < destinationCount; destinationIndex++) {
+                            segment.put(offset + destinationIndex,
+                                    (float) distanceFunction.getDistance(originIndex, destinationIndex));
+                        }
+                    });
+            // Writes the mapped pages to the storage device, so the file survives a crash of the machine too.
+            channel.force(true);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Writing the distance matrix file (" + path + ") fails.", e);
+        }
+    }
+
+    /**
+     * @param path never null, a file written by {@link #write(Path, int, int, DistanceFunction)}
+     * @return never null
+     */
+    public static MemoryMappedDistanceMatrix open(Path path) {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IllegalArgumentException("The distance matrix file (%s) is too short for its header."
+                            .formatted(path));
+                }
+            }
+            header.flip();
+            var magicNumber = header.getInt();
+            var formatVersion = header.getInt();
+            if (magicNumber != MAGIC_NUMBER || formatVersion != FORMAT_VERSION) {
+                throw new IllegalArgumentException("""
+                        The file (%s) is not a distance matrix file of format version (%d).
+                        Maybe write it again with %s.write(...)."""
+                        .formatted(path, FORMAT_VERSION, MemoryMappedDistanceMatrix.class.getSimpleName()));
+            }
+            var originCount = header.getInt();
+            var destinationCount = header.getInt();
+            var expectedFileSize = HEADER_SIZE + (long) originCount * destinationCount * Float.BYTES;
+            if (channel.size() != expectedFileSize) {
+                throw new IllegalArgumentException(
+                        "The distance matrix file (%s) has a size (%d) which differs from its expected size (%d)."
+                                .formatted(path, channel.size(), expectedFileSize));
+            }
+            // A mapping stays valid after its channel is closed.
+            var segments = mapSegments(channel, FileChannel.MapMode.READ_ONLY, originCount, destinationCount);
+            return new MemoryMappedDistanceMatrix(originCount, destinationCount, segments);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Reading the distance matrix file (" + path + ") fails.", e);
+        }
+    }
+
+    private static int rowsPerSegment(int destinationCount) {
+        var rowSize = Math.max(1L, (long) destinationCount * Float.BYTES);
+        return (int) Math.min(Integer.MAX_VALUE, SEGMENT_SIZE_MAXIMUM / rowSize);
+    }
+
+    private static FloatBuffer[] mapSegments(FileChannel channel, FileChannel.MapMode mapMode, int originCount,
+            int destinationCount) throws IOException {
+        var rowsPerSegment = rowsPerSegment(destinationCount);
+        var segmentCount = (int) ((originCount + rowsPerSegment - 1L) / rowsPerSegment);
+        var segments = new FloatBuffer[segmentCount];
+        var rowSize = (long) destinationCount * Float.BYTES;
+        for (var i = 0; i < segmentCount; i++) {
+            var firstRow = (long) i * rowsPerSegment;
+            var rowCount = Math.min(rowsPerSegment, originCount - firstRow);
+            // The float view references the mapped buffer, so the file stays mapped as long as the view is reachable.
+            segments[i] = channel.map(mapMode, HEADER_SIZE + firstRow * rowSize, rowCount * rowSize)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asFloatBuffer();
+        }
+        return segments;
+    }
+
+    private final int originCount;
+    private final int destinationCount;
+    private final int rowsPerSegment;
+    private final FloatBuffer[] segments;
+
+    private MemoryMappedDistanceMatrix(int originCount, int destinationCount, FloatBuffer[] segments) {
+        this.originCount = originCount;
+        this.destinationCount = destinationCount;
+        this.rowsPerSegment = rowsPerSegment(destinationCount);
+        this.segments = segments;
+    }
+
+    public int getOriginCount() {
+        return originCount;
+    }
+
+    public int getDestinationCount() {
+        return destinationCount;
+    }
+
+    /**
+     * @param originIndex {@code 0 <= originIndex < originCount}
+     * @param destinationIndex {@code 0 <= destinationIndex < destinationCount}
+     * @return the distance from the origin to the destination
+     */
+    public float getDistance(int originIndex, int destinationIndex) {
+        if (originIndex < 0 || originIndex >= originCount || destinationIndex < 0 || destinationIndex >= destinationCount) {
+            throw new IndexOutOfBoundsException(
+                    "The originIndex (%d) or destinationIndex (%d) is outside of the matrix (%d x %d)."
+                            .formatted(originIndex, destinationIndex, originCount, destinationCount));
+        }
+        var segment = segments[originIndex / rowsPerSegment];
+        // An absolute get does not change the buffer, so it is safe to call from multiple threads.
+        return segment.get((originIndex % rowsPerSegment) * destinationCount + destinationIndex);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + originCount + " x " + destinationCount + ")";
+    }
+
+}
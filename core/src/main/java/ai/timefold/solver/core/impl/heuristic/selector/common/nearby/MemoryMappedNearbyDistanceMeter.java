@@ -0,0 +1,57 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common.nearby;
+
+import java.util.Objects;
+
+/**
+ * A {@link NearbyDistanceMeter} which reads the distances from a precomputed {@link MemoryMappedDistanceMatrix},
+ * instead of measuring them on every solver run.
+ * The solver creates the distance meter with its no-arg constructor,
+ * so a subclass typically opens the matrix file there:
+ *
+ * <pre>{@code
+ * public class LocationDistanceMeter extends MemoryMappedNearbyDistanceMeter<Visit, LocationAware> {
+ *
+ *     public LocationDistanceMeter() {
+ *         super(MemoryMappedDistanceMatrix.open(Path.of("distances.bin")));
+ *     }
+ *
+ *     protected int getOriginIndex(Visit origin) {
+ *         return origin.getLocation().getIndex();
+ *     }
+ *
+ *     protected int getDestinationIndex(LocationAware destination) {
+ *         return destination.getLocation().getIndex();
+ *     }
+ *
+ * }
+ * }</pre>
+ *
+ * @param <O> the origin type
+ * @param <D> the destination type
+ */
+public abstract class MemoryMappedNearbyDistanceMeter<O, D> implements NearbyDistanceMeter<O, D> {
+
+    private final MemoryMappedDistanceMatrix distanceMatrix;
+
+    protected MemoryMappedNearbyDistanceMeter(MemoryMappedDistanceMatrix distanceMatrix) {
+        this.distanceMatrix = Objects.requireNonNull(distanceMatrix);
+    }
+
+    /**
+     * @param origin never null
+     * @return {@code 0 <= originIndex < originCount} of the matrix
+     */
+    protected abstract int getOriginIndex(O origin);
+
+    /**
+     * @param destination never null
+     * @return {@code 0 <= destinationIndex < destinationCount} of the matrix
+     */
+    protected abstract int getDestinationIndex(D destination);
+
+    @Override
+    public final double getNearbyDistance(O origin, D destination) {
+        return distanceMatrix.getDistance(getOriginIndex(origin), getDestinationIndex(destination));
+    }
+
+}
@@ -0,0 +1,219 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common.nearby;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import ai.timefold.solver.core.impl.domain.variable.supply.Supply;
+
+/**
+ * Holds, for every origin, the destinations sorted from nearest to farthest,
+ * as measured by a {@link NearbyDistanceMeter}.
+ * An origin is never a destination of itself.
+ * Only the nearest {@code nearbySizeMaximum} destinations of every origin are kept,
+ * because a {@link NearbyRandom} never selects the others,
+ * which bounds the memory to {@code originCount * nearbySizeMaximum} references.
+ * <p>
+ * The nearby list of an origin is computed when it is first needed,
+ * unless it was {@link #precompute(Iterator, boolean) precomputed}.
+ * This class is not thread-safe.
+ *
+ * @param <Origin_> the type of the origin, an entity or a value
+ * @param <Destination_> the type of the destination, an entity or a value
+ */
+public final class NearbyDistanceMatrix<Origin_, Destination_> implements Supply {
+
+    private final NearbyDistanceMeter<Origin_, Destination_> nearbyDistanceMeter;
+    private final Function<Origin_, Iterator<? extends Destination_>> destinationIteratorFunction;
+    private final boolean destinationsOriginIndependent;
+    private final int nearbySizeMaximum;
+    private final Map<Origin_, NearbyList> originToNearbyListMap;
+
+    /**
+     * @param nearbyDistanceMeter never null
+     * @param originSize the expected number of origins
+     * @param destinationIteratorFunction never null, returns all the destinations of an origin
+     * @param destinationsOriginIndependent true if every origin has the same destinations
+     * @param nearbySizeMaximum at least 1, the maximum number of destinations to keep per origin
+     */
+    public NearbyDistanceMatrix(NearbyDistanceMeter<Origin_, Destination_> nearbyDistanceMeter, int originSize,
+            Function<Origin_, Iterator<? extends Destination_>> destinationIteratorFunction,
+            boolean destinationsOriginIndependent, int nearbySizeMaximum) {
+        this.nearbyDistanceMeter = nearbyDistanceMeter;
+        this.destinationIteratorFunction = destinationIteratorFunction;
+        this.destinationsOriginIndependent = destinationsOriginIndependent;
+        this.nearbySizeMaximum = nearbySizeMaximum;
+        this.originToNearbyListMap = new HashMap<>(Math.max(16, originSize * 4 / 3 + 1));
+    }
+
+    /**
+     * Computes the nearby lists of the given origins, unless they are already known.
+     * If parallel is true and every origin has the same destinations,
+     * the distances are measured on the common fork-join pool,
+     * which requires the {@link NearbyDistanceMeter} to be thread-safe, as it is expected to be stateless.
+     *
+     * @param originIterator never null
+     * @param parallel true to measure the distances of different origins in parallel
+     */
+    public void precompute(Iterator<? extends Origin_> originIterator, boolean parallel) {
+        var originList = new ArrayList<Origin_>();
+        while (originIterator.hasNext()) {
+            var origin = originIterator.next();
+            if (!originToNearbyListMap.containsKey(origin)) {
+                originList.add(origin);
+            }
+        }
+        if (originList.isEmpty()) {
+            return;
+        }
+        if (!parallel || !destinationsOriginIndependent || originList.size() == 1) {
+            for (var origin : originList) {
+                originToNearbyListMap.put(origin, computeNearbyList(origin));
+            }
+            return;
+        }
+        // The destination selectors are not thread-safe, so only the distance measurement is parallel.
+        var destinations = toArray(destinationIteratorFunction.apply(originList.get(0)));
+        var nearbyLists = new NearbyList[originList.size()];
+        IntStream.range(0, originList.size())
+                .parallel()
+                .forEach(i -> nearbyLists[i] = computeNearbyList(originList.get(i), destinations));
+        for (var i = 0; i < nearbyLists.length; i++) {
+            originToNearbyListMap.put(originList.get(i), nearbyLists[i]);
+        }
+    }
+
+    /**
+     * @param origin never null
+     * @return the number of destinations of the origin, including those that are not kept,
+     *         so it can be larger than the number of destinations that {@link #getDestination(Object, int)} accepts
+     */
+    public int getNearbySize(Origin_ origin) {
+        return getNearbyList(origin).nearbySize;
+    }
+
+    /**
+     * @param origin never null
+     * @param nearbyIndex {@code 0 <= nearbyIndex < min(getNearbySize(origin), nearbySizeMaximum)}
+     * @return never null, the destination with the given index when sorted from nearest to farthest
+     */
+    public Object getDestination(Origin_ origin, int nearbyIndex) {
+        return getNearbyList(origin).destinations[nearbyIndex];
+    }
+
+    /**
+     * @param origin never null
+     * @return never null, the kept destinations of the origin, sorted from nearest to farthest
+     */
+    public List<Object> getDestinationList(Origin_ origin) {
+        return Arrays.asList(getNearbyList(origin).destinations);
+    }
+
+    private NearbyList getNearbyList(Origin_ origin) {
+        var nearbyList = originToNearbyListMap.get(origin);
+        if (nearbyList == null) {
+            nearbyList = computeNearbyList(origin);
+            originToNearbyListMap.put(origin, nearbyList);
+        }
+        return nearbyList;
+    }
+
+    private NearbyList computeNearbyList(Origin_ origin) {
+        return computeNearbyList(origin, toArray(destinationIteratorFunction.apply(origin)));
+    }
+
+    private static Object[] toArray(Iterator<?> destinationIterator) {
+        var destinationList = new ArrayList<>();
+        destinationIterator.forEachRemaining(destinationList::add);
+        return destinationList.toArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private NearbyList computeNearbyList(Origin_ origin, Object[] destinations) {
+        var distances = new double[destinations.length];
+        var destinationIndexes = new int[destinations.length];
+        var nearbySize = 0;
+        for (var i = 0; i < destinations.length; i++) {
+            var destination = destinations[i];
+            if (destination == origin) { // An origin is never nearby to itself.
+                continue;
+            }
+            distances[i] = nearbyDistanceMeter.getNearbyDistance(origin, (Destination_) destination);
+            destinationIndexes[nearbySize++] = i;
+        }
+        // Select the nearest with a bounded max-heap, so a small nearbySizeMaximum does not sort every destination.
+        var heapSize = Math.min(nearbySize, nearbySizeMaximum);
+        var heap = new int[heapSize];
+        for (var i = 0; i < nearbySize; i++) {
+            var destinationIndex = destinationIndexes[i];
+            if (i < heapSize) {
+                heap[i] = destinationIndex;
+                siftUp(heap, i, distances);
+            } else if (isNearer(destinationIndex, heap[0], distances)) {
+                heap[0] = destinationIndex;
+                siftDown(heap, heapSize, distances);
+            }
+        }
+        // Pop the farthest first, to sort the nearest from nearest to farthest.
+        var nearestDestinations = new Object[heapSize];
+        for (var size = heapSize; size > 0; size--) {
+            nearestDestinations[size - 1] = destinations[heap[0]];
+            heap[0] = heap[size - 1];
+            siftDown(heap, size - 1, distances);
+        }
+        return new NearbyList(nearestDestinations, nearbySize);
+    }
+
+    /**
+     * Ties are broken by the order of the destinations, so that the nearby lists are reproducible.
+     */
+    private static boolean isNearer(int destinationIndex, int otherDestinationIndex, double[] distances) {
+        var comparison = Double.compare(distances[destinationIndex], distances[otherDestinationIndex]);
+        return comparison < 0 || (comparison == 0 && destinationIndex < otherDestinationIndex);
+    }
+
+    private static void siftUp(int[] heap, int index, double[] distances) {
+        var destinationIndex = heap[index];
+        while (index > 0) {
+            var parentIndex = (index - 1) >>> 1;
+            if (!isNearer(heap[parentIndex], destinationIndex, distances)) {
+                break;
+            }
+            heap[index] = heap[parentIndex];
+            index = parentIndex;
+        }
+        heap[index] = destinationIndex;
+    }
+
+    private static void siftDown(int[] heap, int size, double[] distances) {
+        if (size == 0) {
+            return;
+        }
+        var index = 0;
+        var destinationIndex = heap[0];
+        while (true) {
+            var childIndex = 2 * index + 1;
+            if (childIndex >= size) {
+                break;
+            }
+            if (childIndex + 1 < size && isNearer(heap[childIndex], heap[childIndex + 1], distances)) {
+                childIndex++;
+            }
+            if (!isNearer(destinationIndex, heap[childIndex], distances)) {
+                break;
+            }
+            heap[index] = heap[childIndex];
+            index = childIndex;
+        }
+        heap[index] = destinationIndex;
+    }
+
+    private record NearbyList(Object[] destinations, int nearbySize) {
+    }
+
+}
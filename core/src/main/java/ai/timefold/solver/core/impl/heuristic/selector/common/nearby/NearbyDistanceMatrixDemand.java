@@ -0,0 +1,77 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common.nearby;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+import ai.timefold.solver.core.impl.domain.variable.supply.Demand;
+import ai.timefold.solver.core.impl.domain.variable.supply.SupplyManager;
+
+/**
+ * Nearby selectors with the same {@link NearbyDistanceMeter}, the same child selector
+ * and the same replaying origin selector share a {@link NearbyDistanceMatrix}.
+ * The {@link NearbyDistanceMeter} instance is shared across the solver by the class instance cache,
+ * so that this demand can be equal across move selectors.
+ *
+ * @param <Origin_> the type of the origin, an entity or a value
+ * @param <Destination_> the type of the destination, an entity or a value
+ */
+public final class NearbyDistanceMatrixDemand<Origin_, Destination_>
+        implements Demand<NearbyDistanceMatrix<Origin_, Destination_>> {
+
+    private final NearbyDistanceMeter<Origin_, Destination_> nearbyDistanceMeter;
+    private final int nearbySizeMaximum;
+    private final Object childSelector;
+    private final Object replayingOriginSelector;
+    private final IntSupplier originSizeSupplier;
+    private final Function<Origin_, Iterator<? extends Destination_>> destinationIteratorFunction;
+    private final boolean destinationsOriginIndependent;
+
+    /**
+     * @param nearbyDistanceMeter never null
+     * @param nearbySizeMaximum at least 1
+     * @param childSelector never null, the selector of the destinations
+     * @param replayingOriginSelector never null, the selector of the origins
+     * @param originSizeSupplier never null, estimates the number of origins
+     * @param destinationIteratorFunction never null, returns all the destinations of an origin
+     * @param destinationsOriginIndependent true if every origin has the same destinations
+     */
+    public NearbyDistanceMatrixDemand(NearbyDistanceMeter<Origin_, Destination_> nearbyDistanceMeter,
+            int nearbySizeMaximum, Object childSelector, Object replayingOriginSelector,
+            IntSupplier originSizeSupplier,
+            Function<Origin_, Iterator<? extends Destination_>> destinationIteratorFunction,
+            boolean destinationsOriginIndependent) {
+        this.nearbyDistanceMeter = nearbyDistanceMeter;
+        this.nearbySizeMaximum = nearbySizeMaximum;
+        this.childSelector = childSelector;
+        this.replayingOriginSelector = replayingOriginSelector;
+        this.originSizeSupplier = originSizeSupplier;
+        this.destinationIteratorFunction = destinationIteratorFunction;
+        this.destinationsOriginIndependent = destinationsOriginIndependent;
+    }
+
+    @Override
+    public NearbyDistanceMatrix<Origin_, Destination_> createExternalizedSupply(SupplyManager supplyManager) {
+        return new NearbyDistanceMatrix<>(nearbyDistanceMeter, originSizeSupplier.getAsInt(),
+                destinationIteratorFunction, destinationsOriginIndependent, nearbySizeMaximum);
+    }
+
+    /**
+     * The functions are derived from the selectors, so they are not part of the equality.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof NearbyDistanceMatrixDemand<?, ?> that
+                && nearbySizeMaximum == that.nearbySizeMaximum
+                && Objects.equals(nearbyDistanceMeter, that.nearbyDistanceMeter)
+                && Objects.equals(childSelector, that.childSelector)
+                && Objects.equals(replayingOriginSelector, that.replayingOriginSelector);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nearbyDistanceMeter, nearbySizeMaximum, childSelector, replayingOriginSelector);
+    }
+
+}
@@ -0,0 +1,31 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common.nearby;
+
+import java.util.Random;
+
+import ai.timefold.solver.core.config.heuristic.selector.common.nearby.NearbySelectionDistributionType;
+
+/**
+ * Picks the index of a destination in the nearby list of an origin,
+ * favoring the nearest destinations according to a {@link NearbySelectionDistributionType}.
+ * <p>
+ * Implementations must be stateless, so that they can be shared.
+ */
+public interface NearbyRandom {
+
+    /**
+     * @param random never null
+     * @param nearbySize never negative, the number of destinations the origin can choose from.
+     *        The index of the destination that is nearest to the origin is 0.
+     * @return {@code 0 <= x < nearbySize}
+     */
+    int nextInt(Random random, int nearbySize);
+
+    /**
+     * Used to limit the RAM memory size of the nearby distance matrix.
+     *
+     * @return one more than the maximum number that {@link #nextInt(Random, int)} can return,
+     *         {@link Integer#MAX_VALUE} if there is none
+     */
+    int getOverallSizeMaximum();
+
+}
@@ -0,0 +1,79 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common.nearby;
+
+import static ai.timefold.solver.core.config.heuristic.selector.common.nearby.NearbySelectionDistributionType.BETA_DISTRIBUTION;
+import static ai.timefold.solver.core.config.heuristic.selector.common.nearby.NearbySelectionDistributionType.BLOCK_DISTRIBUTION;
+import static ai.timefold.solver.core.config.heuristic.selector.common.nearby.NearbySelectionDistributionType.LINEAR_DISTRIBUTION;
+import static ai.timefold.solver.core.config.heuristic.selector.common.nearby.NearbySelectionDistributionType.PARABOLIC_DISTRIBUTION;
+
+import java.util.Objects;
+
+import ai.timefold.solver.core.config.heuristic.selector.common.nearby.NearbySelectionConfig;
+import ai.timefold.solver.core.enterprise.TimefoldSolverEnterpriseService;
+
+public final class NearbyRandomFactory {
+
+    public static NearbyRandomFactory create(NearbySelectionConfig nearbySelectionConfig) {
+        return new NearbyRandomFactory(nearbySelectionConfig);
+    }
+
+    private final NearbySelectionConfig nearbySelectionConfig;
+
+    public NearbyRandomFactory(NearbySelectionConfig nearbySelectionConfig) {
+        this.nearbySelectionConfig = nearbySelectionConfig;
+    }
+
+    /**
+     * @param randomSelection true if the nearby selector selects randomly
+     * @return null if randomSelection is false
+     */
+    public NearbyRandom buildNearbyRandom(boolean randomSelection) {
+        var distributionType = nearbySelectionConfig.getNearbySelectionDistributionType();
+        var blockDistributionEnabled = distributionType == BLOCK_DISTRIBUTION
+                || nearbySelectionConfig.getBlockDistributionSizeMinimum() != null
+                || nearbySelectionConfig.getBlockDistributionSizeMaximum() != null
+                || nearbySelectionConfig.getBlockDistributionSizeRatio() != null
+                || nearbySelectionConfig.getBlockDistributionUniformDistributionProbability() != null;
+        var linearDistributionEnabled = distributionType == LINEAR_DISTRIBUTION
+                || nearbySelectionConfig.getLinearDistributionSizeMaximum() != null;
+        var parabolicDistributionEnabled = distributionType == PARABOLIC_DISTRIBUTION
+                || nearbySelectionConfig.getParabolicDistributionSizeMaximum() != null;
+        var betaDistributionEnabled = distributionType == BETA_DISTRIBUTION
+                || nearbySelectionConfig.getBetaDistributionAlpha() != null
+                || nearbySelectionConfig.getBetaDistributionBeta() != null;
+        if (!randomSelection) {
+            if (blockDistributionEnabled || linearDistributionEnabled || parabolicDistributionEnabled
+                    || betaDistributionEnabled) {
+                throw new IllegalArgumentException(
+                        "The nearbySelectorConfig (%s) with randomSelection (%s) has distribution parameters."
+                                .formatted(nearbySelectionConfig, randomSelection));
+            }
+            return null;
+        }
+        if (blockDistributionEnabled && linearDistributionEnabled) {
+            throw new IllegalArgumentException(
+                    "The nearbySelectorConfig (%s) has both blockDistribution and linearDistribution parameters."
+                            .formatted(nearbySelectionConfig));
+        }
+        if (parabolicDistributionEnabled || betaDistributionEnabled) {
+            throw new IllegalArgumentException("""
+                    The nearbySelectorConfig (%s) has parabolicDistribution or betaDistribution parameters, \
+                    which require %s %s.
+                    Maybe use %s or %s instead."""
+                    .formatted(nearbySelectionConfig, TimefoldSolverEnterpriseService.SOLVER_NAME,
+                            TimefoldSolverEnterpriseService.ENTERPRISE_NAME, BLOCK_DISTRIBUTION, LINEAR_DISTRIBUTION));
+        }
+        if (blockDistributionEnabled) {
+            var sizeMinimum = Objects.requireNonNullElse(nearbySelectionConfig.getBlockDistributionSizeMinimum(), 1);
+            var sizeMaximum =
+                    Objects.requireNonNullElse(nearbySelectionConfig.getBlockDistributionSizeMaximum(), Integer.MAX_VALUE);
+            var sizeRatio = Objects.requireNonNullElse(nearbySelectionConfig.getBlockDistributionSizeRatio(), 1.0);
+            var uniformDistributionProbability =
+                    Objects.requireNonNullElse(nearbySelectionConfig.getBlockDistributionUniformDistributionProbability(), 0.0);
+            return new BlockDistributionNearbyRandom(sizeMinimum, sizeMaximum, sizeRatio, uniformDistributionProbability);
+        }
+        var sizeMaximum =
+                Objects.requireNonNullElse(nearbySelectionConfig.getLinearDistributionSizeMaximum(), Integer.MAX_VALUE);
+        return new LinearDistributionNearbyRandom(sizeMaximum);
+    }
+
+}
@@ -22,6 +22,8 @@ import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.Selectio
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionSorter;
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionSorterWeightFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.WeightFactorySelectionSorter;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyRandomFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.decorator.CachingEntitySelector;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.decorator.FilteringEntitySelector;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.decorator.ProbabilityEntitySelector;
@@ -30,6 +32,7 @@ import ai.timefold.solver.core.impl.heuristic.selector.entity.decorator.Shufflin
 import ai.timefold.solver.core.impl.heuristic.selector.entity.decorator.SortingEntitySelector;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.mimic.MimicRecordingEntitySelector;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.mimic.MimicReplayingEntitySelector;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.nearby.NearEntityNearbyEntitySelector;
 import ai.timefold.solver.core.impl.solver.ClassInstanceCache;
 
 public class EntitySelectorFactory<Solution_> extends AbstractSelectorFactory<Solution_, EntitySelectorConfig> {
@@ -170,9 +173,32 @@ public class EntitySelectorFactory<Solution_> extends AbstractSelectorFactory<So
     private EntitySelector<Solution_> applyNearbySelection(HeuristicConfigPolicy<Solution_> configPolicy,
             NearbySelectionConfig nearbySelectionConfig, SelectionCacheType minimumCacheType,
             SelectionOrder resolvedSelectionOrder, EntitySelector<Solution_> entitySelector) {
-        return TimefoldSolverEnterpriseService.loadOrFail(TimefoldSolverEnterpriseService.Feature.NEARBY_SELECTION)
-                .applyNearbySelection(config, configPolicy, nearbySelectionConfig, minimumCacheType,
-                        resolvedSelectionOrder, entitySelector);
+        return TimefoldSolverEnterpriseService.buildOrDefault(
+                service -> service.applyNearbySelection(config, configPolicy, nearbySelectionConfig, minimumCacheType,
+                        resolvedSelectionOrder, entitySelector),
+                () -> buildNearEntityNearbyEntitySelector(configPolicy, nearbySelectionConfig, minimumCacheType,
+                        resolvedSelectionOrder, entitySelector));
+    }
+
+    private EntitySelector<Solution_> buildNearEntityNearbyEntitySelector(HeuristicConfigPolicy<Solution_> configPolicy,
+            NearbySelectionConfig nearbySelectionConfig, SelectionCacheType minimumCacheType,
+            SelectionOrder resolvedSelectionOrder, EntitySelector<Solution_> entitySelector) {
+        var originEntitySelectorConfig = nearbySelectionConfig.getOriginEntitySelectorConfig();
+        if (originEntitySelectorConfig == null) {
+            // Only an origin entity is supported without the enterprise edition.
+            return TimefoldSolverEnterpriseService.loadOrFail(TimefoldSolverEnterpriseService.Feature.NEARBY_SELECTION)
+                    .applyNearbySelection(config, configPolicy, nearbySelectionConfig, minimumCacheType,
+                            resolvedSelectionOrder, entitySelector);
+        }
+        var randomSelection = resolvedSelectionOrder.toRandomSelectionBoolean();
+        var originEntitySelector = EntitySelectorFactory.<Solution_> create(originEntitySelectorConfig)
+                .buildEntitySelector(configPolicy, minimumCacheType, resolvedSelectionOrder);
+        NearbyDistanceMeter<?, ?> nearbyDistanceMeter = configPolicy.getClassInstanceCache()
+                .newInstance(nearbySelectionConfig, "nearbyDistanceMeterClass",
+                        nearbySelectionConfig.getNearbyDistanceMeterClass());
+        var nearbyRandom = NearbyRandomFactory.create(nearbySelectionConfig).buildNearbyRandom(randomSelection);
+        return new NearEntityNearbyEntitySelector<>(entitySelector, originEntitySelector, nearbyDistanceMeter, nearbyRandom,
+                randomSelection, Boolean.TRUE.equals(nearbySelectionConfig.getParallelDistanceMatrixPrecomputation()));
     }
 
     private EntitySelector<Solution_> applyFiltering(EntitySelector<Solution_> entitySelector,
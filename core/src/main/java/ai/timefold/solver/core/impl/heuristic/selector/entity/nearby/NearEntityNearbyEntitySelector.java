@@ -0,0 +1,91 @@
+package ai.timefold.solver.core.impl.heuristic.selector.entity.nearby;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.AbstractNearbySelector;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyRandom;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
+
+/**
+ * Selects the entities which are nearby the entity that was selected earlier in the move,
+ * for example the second entity of a swap move.
+ */
+public final class NearEntityNearbyEntitySelector<Solution_>
+        extends AbstractNearbySelector<Solution_, EntitySelector<Solution_>, EntitySelector<Solution_>>
+        implements EntitySelector<Solution_> {
+
+    public NearEntityNearbyEntitySelector(EntitySelector<Solution_> childEntitySelector,
+            EntitySelector<Solution_> originEntitySelector, NearbyDistanceMeter<?, ?> nearbyDistanceMeter,
+            NearbyRandom nearbyRandom, boolean randomSelection, boolean parallelPrecomputation) {
+        super(childEntitySelector, originEntitySelector, nearbyDistanceMeter, nearbyRandom, randomSelection,
+                parallelPrecomputation);
+    }
+
+    @Override
+    protected Iterator<Object> originEndingIterator() {
+        return replayingSelector.endingIterator();
+    }
+
+    @Override
+    protected long getOriginSize() {
+        return replayingSelector.getSize();
+    }
+
+    @Override
+    protected Iterator<Object> destinationEndingIterator(Object origin) {
+        return childSelector.endingIterator();
+    }
+
+    @Override
+    protected boolean isDestinationsOriginIndependent() {
+        return true;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public EntityDescriptor<Solution_> getEntityDescriptor() {
+        return childSelector.getEntityDescriptor();
+    }
+
+    @Override
+    public long getSize() {
+        return childSelector.getSize();
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return nearbyIterator(replayingSelector.iterator(), Function.identity());
+    }
+
+    @Override
+    public ListIterator<Object> listIterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<Object> listIterator(int index) {
+        if (randomSelection) {
+            throw new IllegalStateException("The selector (%s) does not support a ListIterator with randomSelection (%s)."
+                    .formatted(this, randomSelection));
+        }
+        var replayingOriginIterator = replayingSelector.iterator();
+        if (!replayingOriginIterator.hasNext()) {
+            return Collections.emptyListIterator();
+        }
+        return nearbyDistanceMatrix.getDestinationList(replayingOriginIterator.next()).listIterator(index);
+    }
+
+    @Override
+    public Iterator<Object> endingIterator() {
+        return childSelector.endingIterator();
+    }
+
+}
@@ -11,7 +11,10 @@ import ai.timefold.solver.core.enterprise.TimefoldSolverEnterpriseService;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
 import ai.timefold.solver.core.impl.heuristic.selector.AbstractSelectorFactory;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyRandomFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelectorFactory;
+import ai.timefold.solver.core.impl.heuristic.selector.list.nearby.NearValueNearbyDestinationSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.value.ValueSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.value.ValueSelectorFactory;
@@ -78,7 +81,42 @@ public final class DestinationSelectorFactory<Solution_> extends AbstractSelecto
         if (nearbySelectionConfig == null) {
             return destinationSelector;
         }
-        return TimefoldSolverEnterpriseService.loadOrFail(TimefoldSolverEnterpriseService.Feature.NEARBY_SELECTION)
-                .applyNearbySelection(config, configPolicy, minimumCacheType, resolvedSelectionOrder, destinationSelector);
+        return TimefoldSolverEnterpriseService.buildOrDefault(
+                service -> service.applyNearbySelection(config, configPolicy, minimumCacheType, resolvedSelectionOrder,
+                        destinationSelector),
+                () -> buildNearValueNearbyDestinationSelector(configPolicy, nearbySelectionConfig, minimumCacheType,
+                        resolvedSelectionOrder, destinationSelector));
+    }
+
+    private DestinationSelector<Solution_> buildNearValueNearbyDestinationSelector(
+            HeuristicConfigPolicy<Solution_> configPolicy, NearbySelectionConfig nearbySelectionConfig,
+            SelectionCacheType minimumCacheType, SelectionOrder resolvedSelectionOrder,
+            ElementDestinationSelector<Solution_> destinationSelector) {
+        var originValueSelectorConfig = nearbySelectionConfig.getOriginValueSelectorConfig();
+        if (originValueSelectorConfig == null) {
+            // Only an origin value is supported without the enterprise edition.
+            return TimefoldSolverEnterpriseService.loadOrFail(TimefoldSolverEnterpriseService.Feature.NEARBY_SELECTION)
+                    .applyNearbySelection(config, configPolicy, minimumCacheType, resolvedSelectionOrder,
+                            destinationSelector);
+        }
+        nearbySelectionConfig.validateNearby(minimumCacheType, resolvedSelectionOrder);
+        var randomSelection = resolvedSelectionOrder.toRandomSelectionBoolean();
+        var originValueSelector = ValueSelectorFactory.<Solution_> create(originValueSelectorConfig)
+                .buildValueSelector(configPolicy, destinationSelector.getEntityDescriptor(), minimumCacheType,
+                        resolvedSelectionOrder);
+        if (!(originValueSelector instanceof EntityIndependentValueSelector<Solution_> entityIndependentOriginSelector)) {
+            throw new IllegalArgumentException("""
+                    The destinationSelectorConfig (%s) with an originValueSelectorConfig (%s) needs to be based on an %s (%s).
+                    Check your @%s annotations."""
+                    .formatted(config, originValueSelectorConfig, EntityIndependentValueSelector.class.getSimpleName(),
+                            originValueSelector, ValueRangeProvider.class.getSimpleName()));
+        }
+        NearbyDistanceMeter<?, ?> nearbyDistanceMeter = configPolicy.getClassInstanceCache()
+                .newInstance(nearbySelectionConfig, "nearbyDistanceMeterClass",
+                        nearbySelectionConfig.getNearbyDistanceMeterClass());
+        var nearbyRandom = NearbyRandomFactory.create(nearbySelectionConfig).buildNearbyRandom(randomSelection);
+        return new NearValueNearbyDestinationSelector<>(destinationSelector, entityIndependentOriginSelector,
+                nearbyDistanceMeter, nearbyRandom, randomSelection,
+                Boolean.TRUE.equals(nearbySelectionConfig.getParallelDistanceMatrixPrecomputation()));
     }
 }
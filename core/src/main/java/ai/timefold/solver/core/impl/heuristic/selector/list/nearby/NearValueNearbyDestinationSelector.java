@@ -0,0 +1,101 @@
+package ai.timefold.solver.core.impl.heuristic.selector.list.nearby;
+
+import java.util.Iterator;
+
+import ai.timefold.solver.core.impl.domain.variable.ListVariableStateSupply;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.AbstractNearbySelector;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyRandom;
+import ai.timefold.solver.core.impl.heuristic.selector.list.DestinationSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.list.ElementDestinationSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.preview.api.domain.metamodel.ElementPosition;
+import ai.timefold.solver.core.preview.api.domain.metamodel.PositionInList;
+
+/**
+ * Selects the destinations which are nearby the value that was selected earlier in the move,
+ * for example the destination of a list change move.
+ * A nearby entity is the destination at the start of its list,
+ * a nearby value is the destination right after that value.
+ * Therefore, the {@link NearbyDistanceMeter} measures the distance from a value to both entities and values.
+ */
+public final class NearValueNearbyDestinationSelector<Solution_>
+        extends AbstractNearbySelector<Solution_, ElementDestinationSelector<Solution_>, EntityIndependentValueSelector<Solution_>>
+        implements DestinationSelector<Solution_> {
+
+    private final ListVariableDescriptor<Solution_> listVariableDescriptor;
+
+    private ListVariableStateSupply<Solution_> listVariableStateSupply;
+
+    public NearValueNearbyDestinationSelector(ElementDestinationSelector<Solution_> childDestinationSelector,
+            EntityIndependentValueSelector<Solution_> originValueSelector, NearbyDistanceMeter<?, ?> nearbyDistanceMeter,
+            NearbyRandom nearbyRandom, boolean randomSelection, boolean parallelPrecomputation) {
+        super(childDestinationSelector, originValueSelector, nearbyDistanceMeter, nearbyRandom, randomSelection,
+                parallelPrecomputation);
+        this.listVariableDescriptor = childDestinationSelector.getVariableDescriptor();
+    }
+
+    @Override
+    protected Iterator<Object> originEndingIterator() {
+        return replayingSelector.endingIterator(null);
+    }
+
+    @Override
+    protected long getOriginSize() {
+        return replayingSelector.getSize();
+    }
+
+    @Override
+    protected Iterator<Object> destinationEndingIterator(Object origin) {
+        return childSelector.endingIterator();
+    }
+
+    @Override
+    protected boolean isDestinationsOriginIndependent() {
+        return true;
+    }
+
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        super.solvingStarted(solverScope);
+        listVariableStateSupply = solverScope.getScoreDirector().getSupplyManager()
+                .demand(listVariableDescriptor.getStateDemand());
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        super.solvingEnded(solverScope);
+        listVariableStateSupply = null;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public long getSize() {
+        return childSelector.getSize();
+    }
+
+    @Override
+    public Iterator<ElementPosition> iterator() {
+        return nearbyIterator(replayingSelector.iterator(), this::toElementPosition);
+    }
+
+    private ElementPosition toElementPosition(Object destination) {
+        if (listVariableDescriptor.getEntityDescriptor().matchesEntity(destination)) {
+            // Start with the first unpinned value of the entity, or zero if no pinning.
+            return ElementPosition.of(destination, listVariableDescriptor.getFirstUnpinnedIndex(destination));
+        }
+        // The destinations only include the values that were assigned when the nearby list was computed,
+        // so a value can only be unassigned now if the list variable allows unassigned values.
+        if (listVariableStateSupply.getElementPosition(destination) instanceof PositionInList positionInList) {
+            // +1 to insert right after the nearby value.
+            return ElementPosition.of(positionInList.entity(), positionInList.index() + 1);
+        }
+        return ElementPosition.unassigned();
+    }
+
+}
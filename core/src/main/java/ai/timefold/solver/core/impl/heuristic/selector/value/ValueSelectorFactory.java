@@ -24,7 +24,10 @@ import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.Selectio
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionSorter;
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionSorterWeightFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.WeightFactorySelectionSorter;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyRandomFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelectorFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.value.decorator.AssignedListValueSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.value.decorator.CachingValueSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.value.decorator.DowncastingValueSelector;
@@ -39,6 +42,8 @@ import ai.timefold.solver.core.impl.heuristic.selector.value.decorator.SortingVa
 import ai.timefold.solver.core.impl.heuristic.selector.value.decorator.UnassignedListValueSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.value.mimic.MimicRecordingValueSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.value.mimic.MimicReplayingValueSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.value.nearby.NearEntityNearbyValueSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.value.nearby.NearValueNearbyValueSelector;
 import ai.timefold.solver.core.impl.solver.ClassInstanceCache;
 
 public class ValueSelectorFactory<Solution_>
@@ -444,6 +449,46 @@ public class ValueSelectorFactory<Solution_>
     private ValueSelector<Solution_> applyNearbySelection(HeuristicConfigPolicy<Solution_> configPolicy,
             EntityDescriptor<Solution_> entityDescriptor, SelectionCacheType minimumCacheType,
             SelectionOrder resolvedSelectionOrder, ValueSelector<Solution_> valueSelector) {
+        return TimefoldSolverEnterpriseService.buildOrDefault(
+                service -> service.applyNearbySelection(config, configPolicy, entityDescriptor, minimumCacheType,
+                        resolvedSelectionOrder, valueSelector),
+                () -> buildNearbyValueSelector(configPolicy, entityDescriptor, minimumCacheType, resolvedSelectionOrder,
+                        valueSelector));
+    }
+
+    private ValueSelector<Solution_> buildNearbyValueSelector(HeuristicConfigPolicy<Solution_> configPolicy,
+            EntityDescriptor<Solution_> entityDescriptor, SelectionCacheType minimumCacheType,
+            SelectionOrder resolvedSelectionOrder, ValueSelector<Solution_> valueSelector) {
+        var nearbySelectionConfig = config.getNearbySelectionConfig();
+        var originEntitySelectorConfig = nearbySelectionConfig.getOriginEntitySelectorConfig();
+        var originValueSelectorConfig = nearbySelectionConfig.getOriginValueSelectorConfig();
+        var randomSelection = resolvedSelectionOrder.toRandomSelectionBoolean();
+        NearbyDistanceMeter<?, ?> nearbyDistanceMeter = configPolicy.getClassInstanceCache()
+                .newInstance(nearbySelectionConfig, "nearbyDistanceMeterClass",
+                        nearbySelectionConfig.getNearbyDistanceMeterClass());
+        var parallelPrecomputation = Boolean.TRUE.equals(nearbySelectionConfig.getParallelDistanceMatrixPrecomputation());
+        if (originEntitySelectorConfig != null) {
+            var originEntitySelector = EntitySelectorFactory.<Solution_> create(originEntitySelectorConfig)
+                    .buildEntitySelector(configPolicy, minimumCacheType, resolvedSelectionOrder);
+            var nearbyRandom = NearbyRandomFactory.create(nearbySelectionConfig).buildNearbyRandom(randomSelection);
+            return new NearEntityNearbyValueSelector<>(valueSelector, originEntitySelector, nearbyDistanceMeter,
+                    nearbyRandom, randomSelection, parallelPrecomputation);
+        } else if (originValueSelectorConfig != null
+                && valueSelector instanceof EntityIndependentValueSelector<Solution_> entityIndependentValueSelector) {
+            var originValueSelector = ValueSelectorFactory.<Solution_> create(originValueSelectorConfig)
+                    .buildValueSelector(configPolicy, entityDescriptor, minimumCacheType, resolvedSelectionOrder);
+            if (!(originValueSelector instanceof EntityIndependentValueSelector<Solution_> entityIndependentOriginSelector)) {
+                throw new IllegalArgumentException("""
+                        The valueSelectorConfig (%s) with an originValueSelectorConfig (%s) needs to be based on an %s (%s).
+                        Check your @%s annotations."""
+                        .formatted(config, originValueSelectorConfig, EntityIndependentValueSelector.class.getSimpleName(),
+                                originValueSelector, ValueRangeProvider.class.getSimpleName()));
+            }
+            var nearbyRandom = NearbyRandomFactory.create(nearbySelectionConfig).buildNearbyRandom(randomSelection);
+            return new NearValueNearbyValueSelector<>(entityIndependentValueSelector, entityIndependentOriginSelector,
+                    nearbyDistanceMeter, nearbyRandom, randomSelection, parallelPrecomputation);
+        }
+        // Only an origin entity or an origin value is supported without the enterprise edition.
         return TimefoldSolverEnterpriseService.loadOrFail(TimefoldSolverEnterpriseService.Feature.NEARBY_SELECTION)
                 .applyNearbySelection(config, configPolicy, entityDescriptor, minimumCacheType, resolvedSelectionOrder,
                         valueSelector);
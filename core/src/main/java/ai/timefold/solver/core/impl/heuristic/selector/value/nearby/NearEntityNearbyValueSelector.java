@@ -0,0 +1,73 @@
+package ai.timefold.solver.core.impl.heuristic.selector.value.nearby;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.AbstractNearbySelector;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyRandom;
+import ai.timefold.solver.core.impl.heuristic.selector.entity.EntitySelector;
+import ai.timefold.solver.core.impl.heuristic.selector.value.ValueSelector;
+
+/**
+ * Selects the values which are nearby the entity that was selected earlier in the move,
+ * for example the value of a change move.
+ */
+public final class NearEntityNearbyValueSelector<Solution_>
+        extends AbstractNearbySelector<Solution_, ValueSelector<Solution_>, EntitySelector<Solution_>>
+        implements ValueSelector<Solution_> {
+
+    public NearEntityNearbyValueSelector(ValueSelector<Solution_> childValueSelector,
+            EntitySelector<Solution_> originEntitySelector, NearbyDistanceMeter<?, ?> nearbyDistanceMeter,
+            NearbyRandom nearbyRandom, boolean randomSelection, boolean parallelPrecomputation) {
+        super(childValueSelector, originEntitySelector, nearbyDistanceMeter, nearbyRandom, randomSelection,
+                parallelPrecomputation);
+    }
+
+    @Override
+    protected Iterator<Object> originEndingIterator() {
+        return replayingSelector.endingIterator();
+    }
+
+    @Override
+    protected long getOriginSize() {
+        return replayingSelector.getSize();
+    }
+
+    @Override
+    protected Iterator<Object> destinationEndingIterator(Object origin) {
+        return childSelector.endingIterator(origin);
+    }
+
+    @Override
+    protected boolean isDestinationsOriginIndependent() {
+        return childSelector.getVariableDescriptor().isValueRangeEntityIndependent();
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public GenuineVariableDescriptor<Solution_> getVariableDescriptor() {
+        return childSelector.getVariableDescriptor();
+    }
+
+    @Override
+    public long getSize(Object entity) {
+        return childSelector.getSize(entity);
+    }
+
+    @Override
+    public Iterator<Object> iterator(Object entity) {
+        // The origin is the replayed entity, which is the same entity as the one being changed.
+        return nearbyIterator(replayingSelector.iterator(), Function.identity());
+    }
+
+    @Override
+    public Iterator<Object> endingIterator(Object entity) {
+        return childSelector.endingIterator(entity);
+    }
+
+}
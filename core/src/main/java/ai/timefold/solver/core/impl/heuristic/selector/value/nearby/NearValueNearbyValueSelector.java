@@ -0,0 +1,82 @@
+package ai.timefold.solver.core.impl.heuristic.selector.value.nearby;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.AbstractNearbySelector;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyRandom;
+import ai.timefold.solver.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
+
+/**
+ * Selects the values which are nearby the value that was selected earlier in the move,
+ * for example the second value of a list swap move.
+ */
+public final class NearValueNearbyValueSelector<Solution_>
+        extends
+        AbstractNearbySelector<Solution_, EntityIndependentValueSelector<Solution_>, EntityIndependentValueSelector<Solution_>>
+        implements EntityIndependentValueSelector<Solution_> {
+
+    public NearValueNearbyValueSelector(EntityIndependentValueSelector<Solution_> childValueSelector,
+            EntityIndependentValueSelector<Solution_> originValueSelector, NearbyDistanceMeter<?, ?> nearbyDistanceMeter,
+            NearbyRandom nearbyRandom, boolean randomSelection, boolean parallelPrecomputation) {
+        super(childValueSelector, originValueSelector, nearbyDistanceMeter, nearbyRandom, randomSelection,
+                parallelPrecomputation);
+    }
+
+    @Override
+    protected Iterator<Object> originEndingIterator() {
+        return replayingSelector.endingIterator(null);
+    }
+
+    @Override
+    protected long getOriginSize() {
+        return replayingSelector.getSize();
+    }
+
+    @Override
+    protected Iterator<Object> destinationEndingIterator(Object origin) {
+        return childSelector.endingIterator(null);
+    }
+
+    @Override
+    protected boolean isDestinationsOriginIndependent() {
+        return true;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public GenuineVariableDescriptor<Solution_> getVariableDescriptor() {
+        return childSelector.getVariableDescriptor();
+    }
+
+    @Override
+    public long getSize(Object entity) {
+        return childSelector.getSize(entity);
+    }
+
+    @Override
+    public long getSize() {
+        return childSelector.getSize();
+    }
+
+    @Override
+    public Iterator<Object> iterator(Object entity) {
+        return iterator();
+    }
+
+    @Override
+    public Iterator<Object> iterator() {
+        return nearbyIterator(replayingSelector.iterator(), Function.identity());
+    }
+
+    @Override
+    public Iterator<Object> endingIterator(Object entity) {
+        return childSelector.endingIterator(entity);
+    }
+
+}
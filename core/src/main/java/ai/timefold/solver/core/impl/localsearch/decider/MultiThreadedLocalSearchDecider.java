@@ -0,0 +1,236 @@
+package ai.timefold.solver.core.impl.localsearch.decider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.heuristic.move.LegacyMoveAdapter;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
+import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.move.MoveRepository;
+import ai.timefold.solver.core.impl.phase.scope.SolverLifecyclePoint;
+import ai.timefold.solver.core.impl.score.director.InnerScore;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.termination.PhaseTermination;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * Evaluates the moves of a step on multiple move threads.
+ * Every move thread owns a {@link ChildThreadType#MOVE_THREAD child score director}
+ * with its own planning clone of the working solution,
+ * to which it {@link ai.timefold.solver.core.preview.api.move.Move#rebase rebases} the moves it evaluates.
+ * <p>
+ * The solver thread selects the moves in batches and hands them to the acceptor and the forager in their selection order,
+ * so the result does not depend on how the move threads are scheduled.
+ * Once a step is picked, every move thread does that step on its own working solution too.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecider<Solution_> {
+
+    public static final int DEFAULT_MOVE_THREAD_BUFFER_SIZE = 10;
+
+    protected final ThreadFactory threadFactory;
+    protected final int moveThreadCount;
+    protected final int selectedMoveBufferSize;
+
+    private ExecutorService executor;
+    private List<MoveThread<Solution_>> moveThreadList;
+
+    public MultiThreadedLocalSearchDecider(String logIndentation, PhaseTermination<Solution_> termination,
+            MoveRepository<Solution_> moveRepository, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager,
+            ThreadFactory threadFactory, int moveThreadCount, int moveThreadBufferSize) {
+        super(logIndentation, termination, moveRepository, acceptor, forager);
+        this.threadFactory = threadFactory;
+        this.moveThreadCount = moveThreadCount;
+        this.selectedMoveBufferSize = moveThreadCount * moveThreadBufferSize;
+    }
+
+    @Override
+    public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        // The working solution may have changed since the previous phase, so every phase starts with fresh clones.
+        executor = Executors.newFixedThreadPool(moveThreadCount, threadFactory);
+        moveThreadList = new ArrayList<>(moveThreadCount);
+        var scoreDirector = phaseScope.getScoreDirector();
+        for (var moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
+            moveThreadList.add(new MoveThread<>(moveThreadIndex,
+                    scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD)));
+        }
+        invokeAll(moveThreadList.stream()
+                .<Callable<Void>> map(moveThread -> () -> {
+                    moveThread.scoreDirector.calculateScore();
+                    return null;
+                })
+                .toList());
+        addChildThreadsScoreCalculationCount(phaseScope.getSolverScope());
+    }
+
+    @Override
+    public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
+        var scoreDirector = stepScope.getScoreDirector();
+        var moveDirector = stepScope.getMoveDirector();
+        var phaseScope = stepScope.getPhaseScope();
+        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
+        var moveIterator = moveRepository.iterator();
+        var moveScopeList = new ArrayList<LocalSearchMoveScope<Solution_>>(selectedMoveBufferSize);
+        var moveIndex = 0;
+        var stepDecided = false;
+        while (!stepDecided && moveIterator.hasNext()) {
+            // Moves are selected on the solver thread, as the selectors are not thread-safe.
+            moveScopeList.clear();
+            while (moveScopeList.size() < selectedMoveBufferSize && moveIterator.hasNext()) {
+                var move = moveIterator.next();
+                if (!LegacyMoveAdapter.isDoable(moveDirector, move)) {
+                    throw new IllegalStateException("Impossible state: Local search move selector (" + moveRepository
+                            + ") provided a non-doable move (" + move + ").");
+                }
+                moveScopeList.add(new LocalSearchMoveScope<>(stepScope, moveIndex, move));
+                moveIndex++;
+            }
+            evaluateMoves(moveScopeList);
+            for (var moveScope : moveScopeList) {
+                moveScope.setAccepted(acceptor.isAccepted(moveScope));
+                forager.addMove(moveScope);
+                logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
+                        logIndentation, moveScope.getMoveIndex(), moveScope.getScore().raw(), moveScope.getAccepted(),
+                        moveScope.getMove());
+                if (forager.isQuitEarly()) {
+                    stepDecided = true;
+                    break;
+                }
+                phaseScope.getSolverScope().checkYielding();
+                if (termination.isPhaseTerminated(phaseScope)) {
+                    stepDecided = true;
+                    break;
+                }
+            }
+        }
+        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+        addChildThreadsScoreCalculationCount(phaseScope.getSolverScope());
+        pickMove(stepScope);
+    }
+
+    private void evaluateMoves(List<LocalSearchMoveScope<Solution_>> moveScopeList) {
+        // Every move thread takes the next unevaluated move, so a few slow moves do not hold up the others.
+        var nextIndex = new AtomicInteger(0);
+        invokeAll(moveThreadList.stream()
+                .<Callable<Void>> map(moveThread -> () -> {
+                    int index;
+                    while ((index = nextIndex.getAndIncrement()) < moveScopeList.size()) {
+                        evaluateMove(moveThread, moveScopeList.get(index));
+                    }
+                    return null;
+                })
+                .toList());
+    }
+
+    private <Score_ extends Score<Score_>> void evaluateMove(MoveThread<Solution_> moveThread,
+            LocalSearchMoveScope<Solution_> moveScope) {
+        var moveThreadScoreDirector = moveThread.<Score_> getScoreDirector();
+        var rebasedMove = moveScope.getMove().rebase(moveThreadScoreDirector.getMoveDirector());
+        var score = moveThreadScoreDirector.executeTemporaryMove(rebasedMove, assertMoveScoreFromScratch);
+        if (assertExpectedUndoMoveScore) {
+            var stepScope = moveScope.getStepScope();
+            moveThreadScoreDirector.assertExpectedUndoMoveScore(rebasedMove,
+                    stepScope.getPhaseScope().getLastCompletedStepScope().<Score_> getScore(),
+                    SolverLifecyclePoint.of(moveThread.moveThreadIndex, stepScope.getPhaseScope().getPhaseIndex(),
+                            stepScope.getStepIndex(), moveScope.getMoveIndex()));
+        }
+        moveScope.setScore(score);
+    }
+
+    @Override
+    public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        var step = stepScope.getStep();
+        invokeAll(moveThreadList.stream()
+                .<Callable<Void>> map(moveThread -> () -> {
+                    var moveThreadScoreDirector = moveThread.scoreDirector;
+                    moveThreadScoreDirector.executeMove(step.rebase(moveThreadScoreDirector.getMoveDirector()));
+                    moveThreadScoreDirector.calculateScore();
+                    return null;
+                })
+                .toList());
+    }
+
+    @Override
+    public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        addChildThreadsScoreCalculationCount(phaseScope.getSolverScope());
+        shutdownMoveThreads();
+    }
+
+    @Override
+    public void solvingError(SolverScope<Solution_> solverScope, Exception exception) {
+        super.solvingError(solverScope, exception);
+        shutdownMoveThreads();
+    }
+
+    private void shutdownMoveThreads() {
+        if (executor != null) {
+            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Multi-threaded Local Search");
+            executor = null;
+        }
+        if (moveThreadList != null) {
+            moveThreadList.forEach(moveThread -> moveThread.scoreDirector.close());
+            moveThreadList = null;
+        }
+    }
+
+    private void addChildThreadsScoreCalculationCount(SolverScope<Solution_> solverScope) {
+        var addition = 0L;
+        for (var moveThread : moveThreadList) {
+            var calculationCount = moveThread.scoreDirector.getCalculationCount();
+            addition += calculationCount - moveThread.lastCalculationCount;
+            moveThread.lastCalculationCount = calculationCount;
+        }
+        solverScope.addChildThreadsScoreCalculationCount(addition);
+    }
+
+    private void invokeAll(List<Callable<Void>> taskList) {
+        try {
+            for (var future : executor.invokeAll(taskList)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            // The BasicPlumbingTermination will terminate the solver.
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The solver thread was interrupted while waiting for the move threads.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A move thread failed.", e.getCause());
+        }
+    }
+
+    private static final class MoveThread<Solution_> {
+
+        private final int moveThreadIndex;
+        private final InnerScoreDirector<Solution_, ?> scoreDirector;
+        // Only accessed by the solver thread.
+        private long lastCalculationCount = 0L;
+
+        private MoveThread(int moveThreadIndex, InnerScoreDirector<Solution_, ?> scoreDirector) {
+            this.moveThreadIndex = moveThreadIndex;
+            this.scoreDirector = scoreDirector;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <Score_ extends Score<Score_>> InnerScoreDirector<Solution_, Score_> getScoreDirector() {
+            return (InnerScoreDirector<Solution_, Score_>) scoreDirector;
+        }
+
+    }
+
+}
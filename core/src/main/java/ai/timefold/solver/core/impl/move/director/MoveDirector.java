@@ -146,11 +146,13 @@ public sealed class MoveDirector<Solution_, Score_ extends Score<Score_>>
     public <Result_> Result_ executeTemporary(Move<Solution_> move,
             TemporaryMovePostprocessor<Solution_, Score_, Result_> postprocessor) {
         var ephemeralMoveDirector = ephemeral();
-        ephemeralMoveDirector.execute(move);
-        var score = backingScoreDirector.calculateScore();
-        var result = postprocessor.apply(score, ephemeralMoveDirector.createUndoMove());
-        ephemeralMoveDirector.close(); // This undoes the move.
-        return result;
+        try {
+            ephemeralMoveDirector.execute(move);
+            var score = backingScoreDirector.calculateScore();
+            return postprocessor.apply(score, ephemeralMoveDirector.createUndoMove());
+        } finally { // The postprocessor may run user code, which may fail.
+            ephemeralMoveDirector.close(); // This undoes the move.
+        }
     }
 
     // Only used in tests of legacy moves.
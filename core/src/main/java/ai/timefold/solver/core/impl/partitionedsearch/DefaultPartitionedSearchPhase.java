@@ -0,0 +1,233 @@
+package ai.timefold.solver.core.impl.partitionedsearch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.config.phase.PhaseConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
+import ai.timefold.solver.core.impl.partitionedsearch.scope.PartitionedSearchPhaseScope;
+import ai.timefold.solver.core.impl.partitionedsearch.scope.PartitionedSearchStepScope;
+import ai.timefold.solver.core.impl.phase.AbstractPhase;
+import ai.timefold.solver.core.impl.phase.PhaseFactory;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+import ai.timefold.solver.core.impl.solver.recaller.BestSolutionRecallerFactory;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.termination.ChildThreadPlumbingTermination;
+import ai.timefold.solver.core.impl.solver.termination.ChildThreadSupportingTermination;
+import ai.timefold.solver.core.impl.solver.termination.PhaseTermination;
+import ai.timefold.solver.core.impl.solver.termination.UniversalTermination;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * Default implementation of {@link PartitionedSearchPhase}.
+ * <p>
+ * Every partition is solved by its own {@link PartitionSolver} on its own part thread,
+ * so no partition waits for another one to finish,
+ * and a semaphore caps how many of them are runnable at the same time.
+ * A part thread that finishes early releases its permit to the partitions which are still solving.
+ * The solver thread merges every new best solution of a partition into its working solution
+ * as a {@link PartitionChange}, which is a step of this phase.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class DefaultPartitionedSearchPhase<Solution_>
+        extends AbstractPhase<Solution_>
+        implements PartitionedSearchPhase<Solution_> {
+
+    private final SolutionPartitioner<Solution_> solutionPartitioner;
+    private final ThreadFactory threadFactory;
+    private final Integer runnablePartThreadLimit;
+    private final List<PhaseConfig> phaseConfigList;
+    private final HeuristicConfigPolicy<Solution_> configPolicy;
+
+    private DefaultPartitionedSearchPhase(DefaultPartitionedSearchPhaseBuilder<Solution_> builder) {
+        super(builder);
+        this.solutionPartitioner = builder.solutionPartitioner;
+        this.threadFactory = builder.threadFactory;
+        this.runnablePartThreadLimit = builder.runnablePartThreadLimit;
+        this.phaseConfigList = builder.phaseConfigList;
+        this.configPolicy = builder.configPolicy;
+    }
+
+    @Override
+    public String getPhaseTypeString() {
+        return "Partitioned Search";
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void solve(SolverScope<Solution_> solverScope) {
+        var phaseScope = new PartitionedSearchPhaseScope<>(solverScope, phaseIndex);
+        var partList = solutionPartitioner.splitWorkingSolution(solverScope.getScoreDirector(), runnablePartThreadLimit);
+        var partCount = partList.size();
+        phaseScope.setPartCount(partCount);
+        phaseStarted(phaseScope);
+        var executor = Executors.newFixedThreadPool(partCount, threadFactory);
+        var partitionQueue = new PartitionQueue<Solution_>(partCount);
+        var runnablePartThreadSemaphore =
+                runnablePartThreadLimit == null ? null : new Semaphore(runnablePartThreadLimit, true);
+        var partitionSolverList = new ArrayList<PartitionSolver<Solution_>>(partCount);
+        try {
+            for (var partIndex = 0; partIndex < partCount; partIndex++) {
+                var partitionSolver = buildPartitionSolver(runnablePartThreadSemaphore, solverScope);
+                partitionSolverList.add(partitionSolver);
+                submitPartition(executor, partitionQueue, partitionSolver, partIndex, partList.get(partIndex),
+                        solverScope);
+            }
+            PartitionChange<Solution_> step;
+            while ((step = partitionQueue.take()) != null) {
+                var stepScope = new PartitionedSearchStepScope<>(phaseScope);
+                stepStarted(stepScope);
+                stepScope.setStep(step);
+                if (logger.isDebugEnabled()) {
+                    stepScope.setStepString(step.toString());
+                }
+                doStep(stepScope);
+                stepEnded(stepScope);
+                phaseScope.setLastCompletedStepScope(stepScope);
+            }
+        } catch (InterruptedException e) {
+            // The BasicPlumbingTermination will terminate the solver.
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The solver thread was interrupted while waiting for the part threads.", e);
+        } finally {
+            // If a partition failed or the solver thread was interrupted, the other partitions are not needed anymore.
+            for (var partitionSolver : partitionSolverList) {
+                partitionSolver.terminateEarly();
+            }
+            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Partitioned Search");
+            for (var partitionSolver : partitionSolverList) {
+                solverScope.addChildThreadsScoreCalculationCount(partitionSolver.getScoreCalculationCount());
+                solverScope.addMoveEvaluationCount(partitionSolver.getMoveEvaluationCount());
+            }
+        }
+        phaseEnded(phaseScope);
+    }
+
+    private PartitionSolver<Solution_> buildPartitionSolver(Semaphore runnablePartThreadSemaphore,
+            SolverScope<Solution_> solverScope) {
+        var partConfigPolicy = configPolicy.createChildThreadConfigPolicy(ChildThreadType.PART_THREAD);
+        var bestSolutionRecaller = BestSolutionRecallerFactory.create()
+                .<Solution_> buildBestSolutionRecaller(partConfigPolicy.getEnvironmentMode());
+        var partitionTermination = new ChildThreadPlumbingTermination<Solution_>();
+        var partTermination = UniversalTermination.or(partitionTermination,
+                ChildThreadSupportingTermination.<Solution_, SolverScope<Solution_>> assertChildThreadSupport(phaseTermination)
+                        .createChildThreadTermination(solverScope, ChildThreadType.PART_THREAD));
+        var phaseList = PhaseFactory.buildPhases(phaseConfigList, partConfigPolicy, bestSolutionRecaller, partTermination);
+        var partSolverScope = solverScope.createChildThreadSolverScope(ChildThreadType.PART_THREAD);
+        partSolverScope.setRunnableThreadSemaphore(runnablePartThreadSemaphore);
+        return new PartitionSolver<>(bestSolutionRecaller, partitionTermination, partTermination, phaseList,
+                partSolverScope);
+    }
+
+    private void submitPartition(ExecutorService executor, PartitionQueue<Solution_> partitionQueue,
+            PartitionSolver<Solution_> partitionSolver, int partIndex, Solution_ part, SolverScope<Solution_> solverScope) {
+        var solutionDescriptor = solverScope.getSolutionDescriptor();
+        partitionSolver.addEventListener(event -> partitionQueue
+                .addChange(PartitionChange.of(partIndex, solutionDescriptor, event.getNewBestSolution())));
+        executor.submit(() -> {
+            try {
+                partitionSolver.solve(part);
+                partitionQueue.addFinish(partIndex);
+            } catch (Throwable throwable) {
+                // Any Exception or even Error that happens here (on a part thread)
+                // must be stored in the partitionQueue in order to be propagated to the solver thread.
+                logger.trace("{}            Part thread ({}) exception that will be propagated to the solver thread.",
+                        logIndentation, partIndex, throwable);
+                partitionQueue.addExceptionThrown(partIndex, throwable);
+            }
+        });
+    }
+
+    private void doStep(PartitionedSearchStepScope<Solution_> stepScope) {
+        var solverScope = stepScope.getPhaseScope().getSolverScope();
+        var step = stepScope.getStep();
+        step.doChange(solverScope.getWorkingSolution(), solverScope.getProblemChangeDirector());
+        solverScope.getScoreDirector().triggerVariableListeners();
+        calculateWorkingStepScore(stepScope, step);
+        solverScope.getSolver().getBestSolutionRecaller().processWorkingSolutionDuringStep(stepScope);
+    }
+
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        logger.info("{}Partitioned Search phase ({}) started with {} partitions, runnable part thread limit ({}).",
+                logIndentation, phaseIndex, ((PartitionedSearchPhaseScope<Solution_>) phaseScope).getPartCount(),
+                runnablePartThreadLimit == null ? "unlimited" : runnablePartThreadLimit);
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        var partitionedSearchStepScope = (PartitionedSearchStepScope<Solution_>) stepScope;
+        var phaseScope = partitionedSearchStepScope.getPhaseScope();
+        if (logger.isDebugEnabled()) {
+            logger.debug("{}    PS step ({}), time spent ({}), score ({}), {} best score ({}), merged ({}).",
+                    logIndentation,
+                    stepScope.getStepIndex(),
+                    phaseScope.calculateSolverTimeMillisSpentUpToNow(),
+                    stepScope.getScore().raw(),
+                    stepScope.getBestScoreImproved() ? "new" : "   ",
+                    phaseScope.getBestScore().raw(),
+                    partitionedSearchStepScope.getStepString());
+        }
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        phaseScope.endingNow();
+        logger.info("{}Partitioned Search phase ({}) ended: time spent ({}), best score ({}),"
+                + " move evaluation speed ({}/sec), step total ({}).",
+                logIndentation,
+                phaseIndex,
+                phaseScope.calculateSolverTimeMillisSpentUpToNow(),
+                phaseScope.getBestScore().raw(),
+                phaseScope.getPhaseMoveEvaluationSpeed(),
+                phaseScope.getNextStepIndex());
+    }
+
+    public static final class DefaultPartitionedSearchPhaseBuilder<Solution_> extends AbstractPhaseBuilder<Solution_> {
+
+        private final SolutionPartitioner<Solution_> solutionPartitioner;
+        private final ThreadFactory threadFactory;
+        private final Integer runnablePartThreadLimit;
+        private final List<PhaseConfig> phaseConfigList;
+        private final HeuristicConfigPolicy<Solution_> configPolicy;
+
+        public DefaultPartitionedSearchPhaseBuilder(int phaseIndex, String logIndentation,
+                PhaseTermination<Solution_> phaseTermination, SolutionPartitioner<Solution_> solutionPartitioner,
+                ThreadFactory threadFactory, Integer runnablePartThreadLimit, List<PhaseConfig> phaseConfigList,
+                HeuristicConfigPolicy<Solution_> configPolicy) {
+            super(phaseIndex, logIndentation, phaseTermination);
+            this.solutionPartitioner = solutionPartitioner;
+            this.threadFactory = threadFactory;
+            this.runnablePartThreadLimit = runnablePartThreadLimit;
+            this.phaseConfigList = List.copyOf(phaseConfigList);
+            this.configPolicy = configPolicy;
+        }
+
+        @Override
+        public DefaultPartitionedSearchPhaseBuilder<Solution_> enableAssertions(EnvironmentMode environmentMode) {
+            super.enableAssertions(environmentMode);
+            return this;
+        }
+
+        @Override
+        public DefaultPartitionedSearchPhase<Solution_> build() {
+            return new DefaultPartitionedSearchPhase<>(this);
+        }
+    }
+}
@@ -1,11 +1,23 @@
 package ai.timefold.solver.core.impl.partitionedsearch;
 
+import static ai.timefold.solver.core.config.partitionedsearch.PartitionedSearchPhaseConfig.ACTIVE_THREAD_COUNT_AUTO;
+import static ai.timefold.solver.core.config.partitionedsearch.PartitionedSearchPhaseConfig.ACTIVE_THREAD_COUNT_UNLIMITED;
+
+import java.util.List;
+import java.util.Objects;
+
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
+import ai.timefold.solver.core.config.phase.PhaseConfig;
+import ai.timefold.solver.core.config.util.ConfigUtils;
 import ai.timefold.solver.core.enterprise.TimefoldSolverEnterpriseService;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
 import ai.timefold.solver.core.impl.phase.AbstractPhaseFactory;
 import ai.timefold.solver.core.impl.solver.recaller.BestSolutionRecaller;
 import ai.timefold.solver.core.impl.solver.termination.SolverTermination;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
 public class DefaultPartitionedSearchPhaseFactory<Solution_>
         extends AbstractPhaseFactory<Solution_, PartitionedSearchPhaseConfig> {
@@ -18,9 +30,63 @@ public class DefaultPartitionedSearchPhaseFactory<Solution_>
     public PartitionedSearchPhase<Solution_> buildPhase(int phaseIndex, boolean lastInitializingPhase,
             HeuristicConfigPolicy<Solution_> solverConfigPolicy, BestSolutionRecaller<Solution_> bestSolutionRecaller,
             SolverTermination<Solution_> solverTermination) {
-        return TimefoldSolverEnterpriseService.loadOrFail(TimefoldSolverEnterpriseService.Feature.PARTITIONED_SEARCH)
-                .buildPartitionedSearch(phaseIndex, phaseConfig, solverConfigPolicy, solverTermination,
-                        this::buildPhaseTermination);
+        return TimefoldSolverEnterpriseService.buildOrDefault(
+                service -> service.buildPartitionedSearch(phaseIndex, phaseConfig, solverConfigPolicy, solverTermination,
+                        this::buildPhaseTermination),
+                () -> buildCommunityPhase(phaseIndex, solverConfigPolicy, solverTermination));
+    }
+
+    private PartitionedSearchPhase<Solution_> buildCommunityPhase(int phaseIndex,
+            HeuristicConfigPolicy<Solution_> solverConfigPolicy, SolverTermination<Solution_> solverTermination) {
+        var phaseConfigPolicy = solverConfigPolicy.createPhaseConfigPolicy();
+        var phaseTermination = buildPhaseTermination(phaseConfigPolicy, solverTermination);
+        var phaseConfigList = Objects.requireNonNullElseGet(phaseConfig.getPhaseConfigList(),
+                () -> List.<PhaseConfig> of(new ConstructionHeuristicPhaseConfig(), new LocalSearchPhaseConfig()));
+        return new DefaultPartitionedSearchPhase.DefaultPartitionedSearchPhaseBuilder<>(phaseIndex,
+                solverConfigPolicy.getLogIndentation(), phaseTermination, buildSolutionPartitioner(),
+                phaseConfigPolicy.buildThreadFactory(ChildThreadType.PART_THREAD),
+                resolveRunnablePartThreadLimit(), phaseConfigList, phaseConfigPolicy)
+                .enableAssertions(phaseConfigPolicy.getEnvironmentMode())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private SolutionPartitioner<Solution_> buildSolutionPartitioner() {
+        var solutionPartitionerClass = phaseConfig.getSolutionPartitionerClass();
+        if (solutionPartitionerClass == null) {
+            throw new IllegalArgumentException(
+                    "The partitionedSearch (%s) lacks configuration for a solutionPartitionerClass."
+                            .formatted(phaseConfig));
+        }
+        var solutionPartitioner = ConfigUtils.newInstance(phaseConfig, "solutionPartitionerClass", solutionPartitionerClass);
+        ConfigUtils.applyCustomProperties(solutionPartitioner, "solutionPartitionerClass",
+                phaseConfig.getSolutionPartitionerCustomProperties(), "solutionPartitionerCustomProperties");
+        return (SolutionPartitioner<Solution_>) solutionPartitioner;
+    }
+
+    /**
+     * @return null if unlimited, otherwise at least 1
+     */
+    private Integer resolveRunnablePartThreadLimit() {
+        var runnablePartThreadLimit =
+                Objects.requireNonNullElse(phaseConfig.getRunnablePartThreadLimit(), ACTIVE_THREAD_COUNT_AUTO);
+        var availableProcessorCount = Runtime.getRuntime().availableProcessors();
+        if (runnablePartThreadLimit.equals(ACTIVE_THREAD_COUNT_AUTO)) {
+            // Leave one for the operating system and one for the solver thread, take the rest.
+            return Math.max(1, availableProcessorCount - 2);
+        } else if (runnablePartThreadLimit.equals(ACTIVE_THREAD_COUNT_UNLIMITED)) {
+            return null;
+        }
+        var resolvedLimit = ConfigUtils.resolvePoolSize("runnablePartThreadLimit", runnablePartThreadLimit,
+                ACTIVE_THREAD_COUNT_AUTO, ACTIVE_THREAD_COUNT_UNLIMITED);
+        if (resolvedLimit < 1) {
+            throw new IllegalArgumentException("The runnablePartThreadLimit (%s) resolved to (%d), which is less than 1."
+                    .formatted(runnablePartThreadLimit, resolvedLimit));
+        } else if (resolvedLimit > availableProcessorCount) {
+            logger.debug("The resolved runnablePartThreadLimit ({}) is higher than the availableProcessorCount ({}),"
+                    + " which is counter-efficient.", resolvedLimit, availableProcessorCount);
+        }
+        return resolvedLimit;
     }
 
 }
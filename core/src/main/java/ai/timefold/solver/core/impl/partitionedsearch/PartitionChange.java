@@ -0,0 +1,170 @@
+package ai.timefold.solver.core.impl.partitionedsearch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.api.solver.change.ProblemChangeDirector;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.change.DefaultProblemChangeDirector;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Merges the best solution of a partition into the working solution of the solver thread.
+ * It holds the genuine variable values of every planning entity of that partition,
+ * which are {@link ProblemChangeDirector#lookUpWorkingObjectOrFail(Object) looked up} in the working solution,
+ * typically by their {@link PlanningId}.
+ * <p>
+ * It is created on the part thread, but only applied on the solver thread.
+ * As the best solution of a partition is never modified, it does not need to be copied.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class PartitionChange<Solution_> implements ProblemChange<Solution_> {
+
+    public static <Solution_> PartitionChange<Solution_> of(int partIndex, SolutionDescriptor<Solution_> solutionDescriptor,
+            Solution_ partBestSolution) {
+        var basicVariableChangeList = new ArrayList<BasicVariableChange<Solution_>>();
+        var listVariableDescriptor = solutionDescriptor.getListVariableDescriptor();
+        var listVariableChangeMap = new LinkedHashMap<Object, List<Object>>();
+        solutionDescriptor.visitAllEntities(partBestSolution, entity -> {
+            var entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(entity.getClass());
+            for (var variableDescriptor : entityDescriptor.getGenuineVariableDescriptorList()) {
+                if (variableDescriptor == listVariableDescriptor) {
+                    listVariableChangeMap.put(entity, listVariableDescriptor.getValue(entity));
+                } else {
+                    basicVariableChangeList.add(new BasicVariableChange<>(entity, variableDescriptor,
+                            variableDescriptor.getValue(entity)));
+                }
+            }
+        });
+        return new PartitionChange<>(partIndex, basicVariableChangeList, listVariableDescriptor, listVariableChangeMap);
+    }
+
+    private final int partIndex;
+    private final List<BasicVariableChange<Solution_>> basicVariableChangeList;
+    private final ListVariableDescriptor<Solution_> listVariableDescriptor;
+    private final Map<Object, List<Object>> listVariableChangeMap;
+
+    private PartitionChange(int partIndex, List<BasicVariableChange<Solution_>> basicVariableChangeList,
+            ListVariableDescriptor<Solution_> listVariableDescriptor, Map<Object, List<Object>> listVariableChangeMap) {
+        this.partIndex = partIndex;
+        this.basicVariableChangeList = basicVariableChangeList;
+        this.listVariableDescriptor = listVariableDescriptor;
+        this.listVariableChangeMap = listVariableChangeMap;
+    }
+
+    public int getPartIndex() {
+        return partIndex;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void doChange(@NonNull Solution_ workingSolution, @NonNull ProblemChangeDirector problemChangeDirector) {
+        for (var change : basicVariableChangeList) {
+            var variableDescriptor = change.variableDescriptor();
+            var workingEntity = problemChangeDirector.lookUpWorkingObjectOrFail(change.entity());
+            var workingValue = problemChangeDirector.lookUpWorkingObjectOrFail(change.value());
+            if (variableDescriptor.getValue(workingEntity) != workingValue) {
+                problemChangeDirector.changeVariable(workingEntity, variableDescriptor.getVariableName(),
+                        entity -> variableDescriptor.setValue(entity, workingValue));
+            }
+        }
+        if (!listVariableChangeMap.isEmpty()) {
+            if (!(problemChangeDirector instanceof DefaultProblemChangeDirector<?> defaultProblemChangeDirector)) {
+                throw new IllegalStateException(
+                        "Impossible state: the problemChangeDirector (%s) does not support list variables."
+                                .formatted(problemChangeDirector));
+            }
+            doListVariableChange(problemChangeDirector, (InnerScoreDirector<Solution_, ?>) defaultProblemChangeDirector
+                    .getScoreDirector());
+        }
+    }
+
+    /**
+     * The {@link ProblemChangeDirector} has no list variable support,
+     * so the score director is notified directly, the same way a list move does.
+     * All lists change at once, because an element which leaves one list usually enters another list of the partition.
+     */
+    private void doListVariableChange(ProblemChangeDirector problemChangeDirector,
+            InnerScoreDirector<Solution_, ?> scoreDirector) {
+        var listChangeList = new ArrayList<ListChange>(listVariableChangeMap.size());
+        Set<Object> removedElementSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Object> addedElementSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (var entry : listVariableChangeMap.entrySet()) {
+            var workingEntity = problemChangeDirector.lookUpWorkingObjectOrFail(entry.getKey());
+            var newValueList = entry.getValue();
+            var workingValueList = new ArrayList<>(newValueList.size());
+            for (var value : newValueList) {
+                workingValueList.add(problemChangeDirector.lookUpWorkingObjectOrFail(value));
+            }
+            var oldValueList = listVariableDescriptor.getValue(workingEntity);
+            var fromIndex = 0;
+            var commonSize = Math.min(oldValueList.size(), workingValueList.size());
+            while (fromIndex < commonSize && oldValueList.get(fromIndex) == workingValueList.get(fromIndex)) {
+                fromIndex++;
+            }
+            if (fromIndex == oldValueList.size() && fromIndex == workingValueList.size()) {
+                continue; // Unchanged.
+            }
+            removedElementSet.addAll(oldValueList.subList(fromIndex, oldValueList.size()));
+            addedElementSet.addAll(workingValueList.subList(fromIndex, workingValueList.size()));
+            listChangeList.add(new ListChange(workingEntity, fromIndex, oldValueList.size(), workingValueList));
+        }
+        if (listChangeList.isEmpty()) {
+            return;
+        }
+        // Elements moving to another position of the partition are neither unassigned nor assigned.
+        Set<Object> unassignedElementSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        unassignedElementSet.addAll(removedElementSet);
+        unassignedElementSet.removeAll(addedElementSet);
+        addedElementSet.removeAll(removedElementSet);
+        var assignedElementSet = addedElementSet;
+
+        for (var listChange : listChangeList) {
+            scoreDirector.beforeListVariableChanged(listVariableDescriptor, listChange.entity(), listChange.fromIndex(),
+                    listChange.oldToIndex());
+        }
+        unassignedElementSet.forEach(element -> scoreDirector.beforeListVariableElementUnassigned(listVariableDescriptor,
+                element));
+        assignedElementSet.forEach(element -> scoreDirector.beforeListVariableElementAssigned(listVariableDescriptor,
+                element));
+        for (var listChange : listChangeList) {
+            var valueList = listVariableDescriptor.getValue(listChange.entity());
+            valueList.subList(listChange.fromIndex(), listChange.oldToIndex()).clear();
+            valueList.addAll(listChange.newValueList().subList(listChange.fromIndex(), listChange.newValueList().size()));
+        }
+        unassignedElementSet.forEach(element -> scoreDirector.afterListVariableElementUnassigned(listVariableDescriptor,
+                element));
+        assignedElementSet.forEach(element -> scoreDirector.afterListVariableElementAssigned(listVariableDescriptor,
+                element));
+        for (var listChange : listChangeList) {
+            scoreDirector.afterListVariableChanged(listVariableDescriptor, listChange.entity(), listChange.fromIndex(),
+                    listChange.newValueList().size());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionChange(" + partIndex + ")";
+    }
+
+    private record BasicVariableChange<Solution_>(Object entity, GenuineVariableDescriptor<Solution_> variableDescriptor,
+            Object value) {
+    }
+
+    private record ListChange(Object entity, int fromIndex, int oldToIndex, List<Object> newValueList) {
+    }
+
+}
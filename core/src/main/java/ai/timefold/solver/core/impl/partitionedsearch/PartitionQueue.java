@@ -0,0 +1,81 @@
+package ai.timefold.solver.core.impl.partitionedsearch;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+
+/**
+ * Hands the {@link PartitionChange}s from the part threads over to the solver thread.
+ * If a partition improves faster than the solver thread merges its changes,
+ * only its latest change is merged, as it supersedes the earlier ones.
+ * <p>
+ * This class is thread-safe, but only the solver thread may call {@link #take()}.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+final class PartitionQueue<Solution_> {
+
+    private final BlockingQueue<PartitionEvent> eventQueue;
+    // A partition only signals its change if it did not have one pending already.
+    private final AtomicReferenceArray<PartitionChange<Solution_>> pendingChangeArray;
+    // Only accessed by the solver thread.
+    private int openPartCount;
+
+    PartitionQueue(int partCount) {
+        eventQueue = new LinkedBlockingQueue<>();
+        pendingChangeArray = new AtomicReferenceArray<>(partCount);
+        openPartCount = partCount;
+    }
+
+    /**
+     * Called by a part thread whenever its partition has a new best solution.
+     */
+    void addChange(PartitionChange<Solution_> change) {
+        var partIndex = change.getPartIndex();
+        if (pendingChangeArray.getAndSet(partIndex, change) == null) {
+            eventQueue.add(new PartitionEvent(partIndex, null, false));
+        }
+    }
+
+    /**
+     * Called by a part thread once its partition is solved.
+     */
+    void addFinish(int partIndex) {
+        eventQueue.add(new PartitionEvent(partIndex, null, true));
+    }
+
+    /**
+     * Called by a part thread if its partition failed.
+     */
+    void addExceptionThrown(int partIndex, Throwable throwable) {
+        eventQueue.add(new PartitionEvent(partIndex, throwable, true));
+    }
+
+    /**
+     * Blocks until a partition has a new best solution, or until every partition is solved.
+     *
+     * @return null if every partition is solved
+     * @throws IllegalStateException if a partition failed
+     * @throws InterruptedException if the solver thread was interrupted while waiting
+     */
+    PartitionChange<Solution_> take() throws InterruptedException {
+        while (openPartCount > 0) {
+            var event = eventQueue.take();
+            if (event.throwable != null) {
+                throw new IllegalStateException("The partition (" + event.partIndex + ") has thrown an exception.",
+                        event.throwable);
+            } else if (event.finished) {
+                openPartCount--;
+            } else {
+                return pendingChangeArray.getAndSet(event.partIndex, null);
+            }
+        }
+        return null;
+    }
+
+    private record PartitionEvent(int partIndex, Throwable throwable, boolean finished) {
+    }
+
+}
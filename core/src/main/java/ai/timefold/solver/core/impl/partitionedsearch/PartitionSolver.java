@@ -0,0 +1,141 @@
+package ai.timefold.solver.core.impl.partitionedsearch;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.solver.ProblemFactChange;
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.impl.phase.Phase;
+import ai.timefold.solver.core.impl.solver.AbstractSolver;
+import ai.timefold.solver.core.impl.solver.recaller.BestSolutionRecaller;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.termination.ChildThreadPlumbingTermination;
+import ai.timefold.solver.core.impl.solver.termination.UniversalTermination;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Solves a single partition of a {@link PartitionedSearchPhase} on a part thread.
+ * Its {@link SolverScope} is a child of the solver thread's scope,
+ * so it shares the solver's starting time, but has its own score director and best solution.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class PartitionSolver<Solution_> extends AbstractSolver<Solution_> {
+
+    private final ChildThreadPlumbingTermination<Solution_> partitionTermination;
+    private final SolverScope<Solution_> solverScope;
+    // The child score director starts from the calculation count of the solver thread.
+    private final long startingScoreCalculationCount;
+
+    /**
+     * @param partitionTermination never null, terminates only this partition, must be part of {@code termination}
+     */
+    public PartitionSolver(BestSolutionRecaller<Solution_> bestSolutionRecaller,
+            ChildThreadPlumbingTermination<Solution_> partitionTermination, UniversalTermination<Solution_> termination,
+            List<Phase<Solution_>> phaseList, SolverScope<Solution_> solverScope) {
+        super(bestSolutionRecaller, termination, phaseList);
+        this.partitionTermination = partitionTermination;
+        this.solverScope = solverScope;
+        this.startingScoreCalculationCount = solverScope.getScoreCalculationCount();
+    }
+
+    // ************************************************************************
+    // Complex getters
+    // ************************************************************************
+
+    @Override
+    public boolean terminateEarly() {
+        return partitionTermination.terminateChildren();
+    }
+
+    @Override
+    public boolean isTerminateEarly() {
+        return partitionTermination.isTerminateChildren();
+    }
+
+    @Override
+    public boolean addProblemFactChange(@NonNull ProblemFactChange<Solution_> problemFactChange) {
+        throw unsupportedProblemChanges();
+    }
+
+    @Override
+    public boolean addProblemFactChanges(@NonNull List<ProblemFactChange<Solution_>> problemFactChangeList) {
+        throw unsupportedProblemChanges();
+    }
+
+    @Override
+    public void addProblemChange(@NonNull ProblemChange<Solution_> problemChange) {
+        throw unsupportedProblemChanges();
+    }
+
+    @Override
+    public void addProblemChanges(@NonNull List<ProblemChange<Solution_>> problemChangeList) {
+        throw unsupportedProblemChanges();
+    }
+
+    @Override
+    public boolean isEveryProblemChangeProcessed() {
+        throw unsupportedProblemChanges();
+    }
+
+    @Override
+    public boolean isEveryProblemFactChangeProcessed() {
+        throw unsupportedProblemChanges();
+    }
+
+    private static UnsupportedOperationException unsupportedProblemChanges() {
+        return new UnsupportedOperationException("""
+                A partition solver does not support problem changes.
+                Add them to the solver which runs the partitioned search phase instead.""");
+    }
+
+    @Override
+    public boolean isSolving() {
+        throw new UnsupportedOperationException("""
+                A partition solver does not track whether it is solving.
+                Its partitioned search phase solves it on a part thread and waits until it is done.""");
+    }
+
+    /**
+     * @return the number of score calculations of this partition,
+     *         not including those of the solver thread before the partition started
+     */
+    public long getScoreCalculationCount() {
+        return solverScope.getScoreCalculationCount() - startingScoreCalculationCount;
+    }
+
+    public long getMoveEvaluationCount() {
+        return solverScope.getMoveEvaluationCount();
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public @NonNull Solution_ solve(@NonNull Solution_ problem) {
+        solverScope.initializeYielding();
+        try {
+            solverScope.setBestSolution(problem);
+            solverScope.setSolver(this);
+            solvingStarted(solverScope);
+            runPhases(solverScope);
+            solvingEnded(solverScope);
+            return solverScope.getBestSolution();
+        } catch (Exception e) {
+            solvingError(solverScope, e);
+            throw e;
+        } finally {
+            solverScope.destroyYielding();
+        }
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        super.solvingEnded(solverScope);
+        solverScope.endingNow();
+        solverScope.getScoreDirector().close();
+    }
+
+}
@@ -0,0 +1,54 @@
+package ai.timefold.solver.core.impl.partitionedsearch.scope;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.impl.partitionedsearch.PartitionChange;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+
+/**
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class PartitionedSearchStepScope<Solution_> extends AbstractStepScope<Solution_> {
+
+    private final PartitionedSearchPhaseScope<Solution_> phaseScope;
+
+    private PartitionChange<Solution_> step = null;
+    private String stepString = null;
+
+    public PartitionedSearchStepScope(PartitionedSearchPhaseScope<Solution_> phaseScope) {
+        this(phaseScope, phaseScope.getNextStepIndex());
+    }
+
+    public PartitionedSearchStepScope(PartitionedSearchPhaseScope<Solution_> phaseScope, int stepIndex) {
+        super(stepIndex);
+        this.phaseScope = phaseScope;
+    }
+
+    @Override
+    public PartitionedSearchPhaseScope<Solution_> getPhaseScope() {
+        return phaseScope;
+    }
+
+    public PartitionChange<Solution_> getStep() {
+        return step;
+    }
+
+    public void setStep(PartitionChange<Solution_> step) {
+        this.step = step;
+    }
+
+    /**
+     * @return null if logging level is too high
+     */
+    public String getStepString() {
+        return stepString;
+    }
+
+    public void setStepString(String stepString) {
+        this.stepString = stepString;
+    }
+
+    // ************************************************************************
+    // Calculated methods
+    // ************************************************************************
+
+}
@@ -14,6 +14,7 @@ import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeur
 import ai.timefold.solver.core.impl.exhaustivesearch.scope.ExhaustiveSearchPhaseScope;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.partitionedsearch.scope.PartitionedSearchPhaseScope;
 import ai.timefold.solver.core.impl.phase.custom.scope.CustomPhaseScope;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.solver.termination.PhaseTermination;
@@ -84,11 +85,8 @@ public abstract class AbstractPhaseFactory<Solution_, PhaseConfig_ extends Phase
                 return (Class<? extends AbstractPhaseScope>) Class
                         .forName("ai.timefold.solver.enterprise.core.partitioned.PartitionedSearchPhaseScope");
             } catch (ClassNotFoundException e) {
-                throw new IllegalStateException("""
-                        The class (%s) is not found.
-                        Make sure Timefold Solver Enterprise Edition is on the classpath, or disable partitioned search.
-                        """
-                        .formatted("ai.timefold.solver.enterprise.core.partitioned.PartitionedSearchPhaseScope"));
+                // Without Timefold Solver Enterprise Edition, the community implementation is used.
+                return PartitionedSearchPhaseScope.class;
             }
         } else {
             throw new IllegalStateException("Unsupported phaseConfig class: %s".formatted(phaseConfig.getClass()));
@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.phase.scope;
 
 import java.util.Random;
+import java.util.function.Supplier;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
@@ -18,7 +19,7 @@ public abstract class AbstractStepScope<Solution_> {
     protected InnerScore<?> score = null;
     protected boolean bestScoreImproved = false;
     // Stays null if there is no need to clone it
-    protected Solution_ clonedSolution = null;
+    protected Supplier<Solution_> solutionSnapshot = null;
 
     public AbstractStepScope(int stepIndex) {
         this.stepIndex = stepIndex;
@@ -72,11 +73,15 @@ public abstract class AbstractStepScope<Solution_> {
         return getPhaseScope().getWorkingRandom();
     }
 
-    public Solution_ createOrGetClonedSolution() {
-        if (clonedSolution == null) {
-            clonedSolution = getScoreDirector().cloneWorkingSolution();
+    /**
+     * @return never null, a snapshot of the working solution, which must not be modified, as it becomes the best solution
+     * @see InnerScoreDirector#snapshotWorkingSolution()
+     */
+    public Supplier<Solution_> createOrGetSolutionSnapshot() {
+        if (solutionSnapshot == null) {
+            solutionSnapshot = getScoreDirector().snapshotWorkingSolution();
         }
-        return clonedSolution;
+        return solutionSnapshot;
     }
 
     @Override
@@ -9,6 +9,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
@@ -23,6 +25,9 @@ import ai.timefold.solver.core.api.solver.change.ProblemChangeDirector;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.lookup.LookUpManager;
+import ai.timefold.solver.core.impl.domain.solution.cloner.DeltaSolutionCloner;
+import ai.timefold.solver.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
+import ai.timefold.solver.core.impl.domain.solution.cloner.LazySolutionCloner;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.ListVariableStateSupply;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
@@ -81,6 +86,8 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     private int workingInitScore = 0;
 
     private final @Nullable SolutionTracker<Solution_> solutionTracker; // Null when tracking disabled.
+    private @Nullable DeltaSolutionCloner<Solution_> deltaSolutionCloner; // Null when delta cloning disabled.
+    private @Nullable LazySolutionCloner<Solution_> lazySolutionCloner; // Null when lazy cloning disabled.
     private final MoveDirector<Solution_, Score_> moveDirector = new MoveDirector<>(this);
     private @Nullable MoveRepository<Solution_> moveRepository;
 
@@ -218,6 +225,10 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     protected void setWorkingSolution(Solution_ workingSolution, Consumer<Object> entityAndFactVisitor) {
         this.workingSolution = requireNonNull(workingSolution);
         var solutionDescriptor = getSolutionDescriptor();
+        if (deltaSolutionCloner != null) {
+            deltaSolutionCloner.reset();
+        }
+        problemChanged();
 
         /*
          * Both problem facts and entities need to be asserted,
@@ -315,9 +326,55 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public Solution_ cloneSolution(Solution_ originalSolution) {
+        return cloneSolution(originalSolution, getSolutionDescriptor().getSolutionCloner()::cloneSolution);
+    }
+
+    @Override
+    public void enableDeltaCloning() {
+        var solutionDescriptor = getSolutionDescriptor();
+        if (!(solutionDescriptor.getSolutionCloner() instanceof FieldAccessingSolutionCloner<Solution_> solutionCloner)) {
+            throw new IllegalStateException("Delta cloning requires the %s, not the solution cloner (%s)."
+                    .formatted(FieldAccessingSolutionCloner.class.getSimpleName(), solutionDescriptor.getSolutionCloner()));
+        }
+        deltaSolutionCloner = new DeltaSolutionCloner<>(solutionDescriptor, solutionCloner);
+    }
+
+    @Override
+    public Solution_ deltaCloneWorkingSolution() {
+        if (deltaSolutionCloner == null) {
+            return cloneWorkingSolution();
+        } else if (allChangesWillBeUndoneBeforeStepEnds) {
+            // The changes of a temporary move are not reported to the delta cloner,
+            // so neither a clone taken now nor the previous clone can be trusted afterwards.
+            deltaSolutionCloner.reset();
+            return cloneWorkingSolution();
+        }
+        return cloneSolution(workingSolution, deltaSolutionCloner::cloneSolution);
+    }
+
+    @Override
+    public void enableLazyCloning() {
+        var solutionDescriptor = getSolutionDescriptor();
+        if (!(solutionDescriptor.getSolutionCloner() instanceof FieldAccessingSolutionCloner<Solution_> solutionCloner)) {
+            throw new IllegalStateException("Lazy cloning requires the %s, not the solution cloner (%s)."
+                    .formatted(FieldAccessingSolutionCloner.class.getSimpleName(), solutionDescriptor.getSolutionCloner()));
+        }
+        lazySolutionCloner = new LazySolutionCloner<>(solutionDescriptor, solutionCloner);
+    }
+
+    @Override
+    public Supplier<Solution_> snapshotWorkingSolution() {
+        if (lazySolutionCloner == null) {
+            var clone = deltaCloneWorkingSolution();
+            return () -> clone;
+        }
+        return lazySolutionCloner.snapshot(workingSolution);
+    }
+
+    private Solution_ cloneSolution(Solution_ originalSolution, UnaryOperator<Solution_> solutionCloner) {
         SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
         var originalScore = solutionDescriptor.getScore(originalSolution);
-        var cloneSolution = solutionDescriptor.getSolutionCloner().cloneSolution(originalSolution);
+        var cloneSolution = solutionCloner.apply(originalSolution);
         var cloneScore = solutionDescriptor.getScore(cloneSolution);
         if (scoreDirectorFactory.isAssertClonedSolution()) {
             if (!Objects.equals(originalScore, cloneScore)) {
@@ -423,6 +480,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     public void afterEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         workingInitScore -= entityDescriptor.countUninitializedVariables(entity);
+        problemChanged();
         if (entityDescriptor.isGenuine()) {
             workingGenuineEntityCount++;
         }
@@ -444,6 +502,26 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         }
         assertInitScoreZeroOrLess();
         variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
+        entityChanged(entity);
+    }
+
+    /**
+     * Changes of temporary moves are not reported,
+     * as those moves are undone and leave the entity as it was before.
+     */
+    private void entityChanged(Object entity) {
+        if (deltaSolutionCloner != null && !allChangesWillBeUndoneBeforeStepEnds) {
+            deltaSolutionCloner.entityChanged(entity);
+        }
+    }
+
+    /**
+     * Problem changes can change more than the variables, which the lazy solution cloner does not record.
+     */
+    private void problemChanged() {
+        if (lazySolutionCloner != null) {
+            lazySolutionCloner.reset();
+        }
     }
 
     @Override
@@ -501,6 +579,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
                             .formatted(variableDescriptor, entity, fromIndex, toIndex));
         }
         variableListenerSupport.beforeListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
+        entityChanged(entity);
     }
 
     @Override
@@ -525,6 +604,8 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (lookUpEnabled) {
             lookUpManager.removeWorkingObject(entity);
         }
+        entityChanged(entity);
+        problemChanged();
         if (!allChangesWillBeUndoneBeforeStepEnds) {
             if (moveRepository instanceof MoveStreamsBasedMoveRepository<Solution_> moveStreamsBasedMoveRepository) {
                 moveStreamsBasedMoveRepository.retract(entity);
@@ -544,6 +625,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void afterProblemFactAdded(Object problemFact) {
+        problemChanged();
         if (lookUpEnabled) {
             lookUpManager.addWorkingObject(problemFact);
         }
@@ -555,7 +637,8 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void beforeProblemPropertyChanged(Object problemFactOrEntity) {
-        // Do nothing
+        entityChanged(problemFactOrEntity); // Problem facts are shared by every clone, so it does not matter for those.
+        problemChanged();
     }
 
     @Override
@@ -581,6 +664,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void afterProblemFactRemoved(Object problemFact) {
+        problemChanged();
         if (lookUpEnabled) {
             lookUpManager.removeWorkingObject(problemFact);
         }
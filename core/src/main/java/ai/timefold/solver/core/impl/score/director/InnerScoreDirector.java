@@ -6,6 +6,7 @@ import static java.util.stream.Collectors.toList;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.function.Supplier;
 
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
@@ -26,6 +27,9 @@ import ai.timefold.solver.core.api.score.stream.ConstraintJustification;
 import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
 import ai.timefold.solver.core.api.solver.SolutionManager;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
+import ai.timefold.solver.core.impl.domain.solution.cloner.DeltaSolutionCloner;
+import ai.timefold.solver.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
+import ai.timefold.solver.core.impl.domain.solution.cloner.LazySolutionCloner;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.ListVariableStateSupply;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
@@ -234,6 +238,43 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
         return cloneSolution(getWorkingSolution());
     }
 
+    /**
+     * From now on, {@link #deltaCloneWorkingSolution()} reuses the unchanged entity clones of its previous clone.
+     * Requires the solution cloner to be a {@link FieldAccessingSolutionCloner}.
+     *
+     * @see DeltaSolutionCloner
+     */
+    void enableDeltaCloning();
+
+    /**
+     * As {@link #cloneWorkingSolution()}, but if {@link #enableDeltaCloning() delta cloning is enabled},
+     * the clone shares the instance of every entity which has not changed since the previous delta clone
+     * with that previous delta clone.
+     * Therefore neither of those clones may ever be modified, which is the case for best solutions.
+     *
+     * @return never null, planning clone
+     */
+    Solution_ deltaCloneWorkingSolution();
+
+    /**
+     * From now on, {@link #snapshotWorkingSolution()} defers planning cloning until the snapshot is needed.
+     * Requires the solution cloner to be a {@link FieldAccessingSolutionCloner}.
+     *
+     * @see LazySolutionCloner
+     */
+    void enableLazyCloning();
+
+    /**
+     * Captures the working solution as it is now, to become the best solution.
+     * Unless {@link #enableLazyCloning() lazy cloning is enabled},
+     * this is simply a {@link #deltaCloneWorkingSolution() delta clone}.
+     * Otherwise the snapshot only records the variables of every entity,
+     * and only planning clones once its {@link Supplier#get()} is first called, possibly on another thread.
+     *
+     * @return never null, returns the same planning clone every time
+     */
+    Supplier<Solution_> snapshotWorkingSolution();
+
     /**
      * Returns a planning clone of the solution,
      * which is not a shallow clone nor a deep clone nor a partition clone.
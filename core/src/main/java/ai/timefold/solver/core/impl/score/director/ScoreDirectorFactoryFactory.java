@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.score.director;
 
 import java.util.ArrayList;
+import java.util.concurrent.ThreadFactory;
 
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
@@ -16,9 +17,19 @@ import ai.timefold.solver.core.impl.score.trend.InitializingScoreTrend;
 public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>> {
 
     private final ScoreDirectorFactoryConfig config;
+    private final ThreadFactory threadFactory;
 
     public ScoreDirectorFactoryFactory(ScoreDirectorFactoryConfig config) {
+        this(config, null);
+    }
+
+    /**
+     * @param threadFactory null to use the default one,
+     *        otherwise creates the threads of the score director factories that need threads of their own
+     */
+    public ScoreDirectorFactoryFactory(ScoreDirectorFactoryConfig config, ThreadFactory threadFactory) {
         this.config = config;
+        this.threadFactory = threadFactory;
     }
 
     public ScoreDirectorFactory<Solution_, Score_> buildScoreDirectorFactory(EnvironmentMode environmentMode,
@@ -38,7 +49,7 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
                                 .formatted(assertionScoreDirectorFactory, environmentMode, EnvironmentMode.STEP_ASSERT));
             }
             var assertionScoreDirectorFactoryFactory =
-                    new ScoreDirectorFactoryFactory<Solution_, Score_>(assertionScoreDirectorFactory);
+                    new ScoreDirectorFactoryFactory<Solution_, Score_>(assertionScoreDirectorFactory, threadFactory);
             scoreDirectorFactory.setAssertionScoreDirectorFactory(assertionScoreDirectorFactoryFactory
                     .buildScoreDirectorFactory(EnvironmentMode.NON_REPRODUCIBLE, solutionDescriptor));
         }
@@ -73,7 +84,7 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
             return IncrementalScoreDirectorFactory.buildScoreDirectorFactory(solutionDescriptor, config);
         } else if (config.getConstraintProviderClass() != null) {
             return BavetConstraintStreamScoreDirectorFactory.buildScoreDirectorFactory(solutionDescriptor, config,
-                    environmentMode);
+                    environmentMode, threadFactory);
         } else {
             throw new IllegalArgumentException(
                     "The scoreDirectorFactory lacks configuration for either constraintProviderClass, " +
@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.impl.score.director.stream;
 
+import java.util.ArrayList;
 import java.util.Map;
 
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
@@ -8,6 +9,7 @@ import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.bavet.common.NodeNetworkProfiler;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.VariableDescriptor;
@@ -30,14 +32,19 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         extends AbstractScoreDirector<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>> {
 
     private final boolean derived;
+    private final int nodeNetworkProfilingSampleInterval;
     private BavetConstraintSession<Score_> session;
+    // Added facts and entities are inserted in bulk, right before the session is used for anything else.
+    private final ArrayList<Object> pendingInsertList = new ArrayList<>();
 
     private BavetConstraintStreamScoreDirector(
             BavetConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory, boolean lookUpEnabled,
-            ConstraintMatchPolicy constraintMatchPolicy, boolean expectShadowVariablesInCorrectState, boolean derived) {
+            ConstraintMatchPolicy constraintMatchPolicy, boolean expectShadowVariablesInCorrectState, boolean derived,
+            int nodeNetworkProfilingSampleInterval) {
         super(scoreDirectorFactory, lookUpEnabled, constraintMatchPolicy,
                 expectShadowVariablesInCorrectState);
         this.derived = derived;
+        this.nodeNetworkProfilingSampleInterval = nodeNetworkProfilingSampleInterval;
     }
 
     // ************************************************************************
@@ -58,14 +65,35 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void setWorkingSolution(Solution_ workingSolution) {
-        session = scoreDirectorFactory.newSession(workingSolution, constraintMatchPolicy, derived);
+        session = scoreDirectorFactory.newSession(workingSolution, constraintMatchPolicy, derived,
+                nodeNetworkProfilingSampleInterval, null);
         session.initialize(workingSolution, this.getSupplyManager());
-        super.setWorkingSolution(workingSolution, session::insert);
+        pendingInsertList.clear();
+        // Collects the entire working solution, so that the session is sized for it up front.
+        super.setWorkingSolution(workingSolution, pendingInsertList::add);
+        insertPendingFacts();
+        pendingInsertList.trimToSize();
+    }
+
+    /**
+     * Problem changes and custom moves may add many facts and entities at once,
+     * which then also benefit from the bulk insert.
+     */
+    private void insertPendingFacts() {
+        if (pendingInsertList.isEmpty()) {
+            return;
+        }
+        try {
+            session.insertAll(pendingInsertList);
+        } finally {
+            pendingInsertList.clear();
+        }
     }
 
     @Override
     public InnerScore<Score_> calculateScore() {
         variableListenerSupport.assertNotificationQueuesAreEmpty();
+        insertPendingFacts();
         var score = session.calculateScore();
         setCalculatedScore(score);
         return new InnerScore<>(score, -getWorkingInitScore());
@@ -79,6 +107,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
             throw new IllegalStateException(
                     "The method setWorkingSolution() must be called before the method getConstraintMatchTotalMap().");
         }
+        insertPendingFacts();
         return session.getConstraintMatchTotalMap();
     }
 
@@ -91,9 +120,19 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
             throw new IllegalStateException(
                     "The method setWorkingSolution() must be called before the method getIndictmentMap().");
         }
+        insertPendingFacts();
         return session.getIndictmentMap();
     }
 
+    /**
+     * Every {@link #setWorkingSolution(Object)} starts a new session, and with it a new profile.
+     *
+     * @return null unless node network profiling is enabled and the working solution has been set
+     */
+    public NodeNetworkProfiler getNodeNetworkProfiler() {
+        return session == null ? null : session.getProfiler();
+    }
+
     @Override
     public boolean requiresFlushing() {
         return true; // Tuple refresh happens during score calculation.
@@ -102,6 +141,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     @Override
     public void close() {
         super.close();
+        pendingInsertList.clear();
         if (session != null) {
             session.close();
             session = null;
@@ -123,7 +163,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
             throw new IllegalArgumentException("The entity (%s) of class (%s) is not a configured @%s.".formatted(entity,
                     entity.getClass(), PlanningEntity.class.getSimpleName()));
         }
-        session.insert(entity);
+        pendingInsertList.add(entity);
         super.afterEntityAdded(entityDescriptor, entity);
     }
 
@@ -131,6 +171,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void afterVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        insertPendingFacts();
         session.update(entity);
         super.afterVariableChanged(variableDescriptor, entity);
     }
@@ -138,6 +179,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     @Override
     public void afterListVariableChanged(ListVariableDescriptor<Solution_> variableDescriptor, Object entity, int fromIndex,
             int toIndex) {
+        insertPendingFacts();
         session.update(entity);
         super.afterListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
     }
@@ -146,6 +188,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void afterEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        insertPendingFacts();
         session.retract(entity);
         super.afterEntityRemoved(entityDescriptor, entity);
     }
@@ -162,7 +205,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
             throw new IllegalArgumentException(
                     "The problemFact (%s) cannot be added to the ScoreDirector.".formatted(problemFact));
         }
-        session.insert(problemFact);
+        pendingInsertList.add(problemFact);
         super.afterProblemFactAdded(problemFact);
     }
 
@@ -170,6 +213,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void afterProblemPropertyChanged(Object problemFactOrEntity) {
+        insertPendingFacts();
         session.update(problemFactOrEntity);
         super.afterProblemPropertyChanged(problemFactOrEntity);
     }
@@ -178,6 +222,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
 
     @Override
     public void afterProblemFactRemoved(Object problemFact) {
+        insertPendingFacts();
         session.retract(problemFact);
         super.afterProblemFactRemoved(problemFact);
     }
@@ -189,6 +234,9 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
      */
     @SuppressWarnings("unused")
     public BavetConstraintSession<Score_> getSession() {
+        if (session != null) {
+            insertPendingFacts();
+        }
         return session;
     }
 
@@ -202,21 +250,35 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
             extends
             AbstractScoreDirectorBuilder<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>, Builder<Solution_, Score_>> {
 
+        private int nodeNetworkProfilingSampleInterval = 0;
+
         public Builder(BavetConstraintStreamScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory) {
             super(scoreDirectorFactory);
         }
 
+        /**
+         * Derived score directors are never profiled.
+         *
+         * @param nodeNetworkProfilingSampleInterval if positive, the score director will have a {@link NodeNetworkProfiler}
+         *        with this sample interval; 0 to disable profiling
+         * @return this
+         */
+        public Builder<Solution_, Score_> withNodeNetworkProfilingSampleInterval(int nodeNetworkProfilingSampleInterval) {
+            this.nodeNetworkProfilingSampleInterval = nodeNetworkProfilingSampleInterval;
+            return this;
+        }
+
         @Override
         public BavetConstraintStreamScoreDirector<Solution_, Score_> build() {
             return new BavetConstraintStreamScoreDirector<>(scoreDirectorFactory, lookUpEnabled, constraintMatchPolicy,
-                    expectShadowVariablesInCorrectState, false);
+                    expectShadowVariablesInCorrectState, false, nodeNetworkProfilingSampleInterval);
         }
 
         @Override
         public AbstractScoreDirector<Solution_, Score_, BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>>
                 buildDerived() {
             return new BavetConstraintStreamScoreDirector<>(scoreDirectorFactory, lookUpEnabled, constraintMatchPolicy,
-                    expectShadowVariablesInCorrectState, true);
+                    expectShadowVariablesInCorrectState, true, 0);
         }
     }
 
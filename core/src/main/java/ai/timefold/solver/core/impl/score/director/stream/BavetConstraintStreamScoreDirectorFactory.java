@@ -1,6 +1,8 @@
 package ai.timefold.solver.core.impl.score.director.stream;
 
 import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
 import ai.timefold.solver.core.api.score.Score;
@@ -11,6 +13,7 @@ import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.util.ConfigUtils;
 import ai.timefold.solver.core.enterprise.TimefoldSolverEnterpriseService;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
 import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
 import ai.timefold.solver.core.impl.score.director.AbstractScoreDirector;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintFactory;
@@ -18,6 +21,7 @@ import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSessionFactory;
 import ai.timefold.solver.core.impl.score.stream.common.AbstractConstraintStreamScoreDirectorFactory;
 import ai.timefold.solver.core.impl.score.stream.common.inliner.AbstractScoreInliner;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
 public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
         extends
@@ -26,6 +30,16 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
     public static <Solution_, Score_ extends Score<Score_>> BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>
             buildScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor, ScoreDirectorFactoryConfig config,
                     EnvironmentMode environmentMode) {
+        return buildScoreDirectorFactory(solutionDescriptor, config, environmentMode, null);
+    }
+
+    /**
+     * @param threadFactory if not null, creates the threads
+     *        for {@link ScoreDirectorFactoryConfig#getConstraintStreamParallelBulkLoad()}
+     */
+    public static <Solution_, Score_ extends Score<Score_>> BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>
+            buildScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor, ScoreDirectorFactoryConfig config,
+                    EnvironmentMode environmentMode, ThreadFactory threadFactory) {
         var providedConstraintProviderClass = config.getConstraintProviderClass();
         if (providedConstraintProviderClass == null
                 || !ConstraintProvider.class.isAssignableFrom(providedConstraintProviderClass)) {
@@ -37,7 +51,13 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
         var constraintProvider = ConfigUtils.newInstance(config, "constraintProviderClass", constraintProviderClass);
         ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
                 config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
-        return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider, environmentMode);
+        return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider, environmentMode,
+                Boolean.TRUE.equals(config.getConstraintStreamTupleRecycling()),
+                Boolean.TRUE.equals(config.getConstraintStreamParallelBulkLoad())
+                        ? Objects.requireNonNullElseGet(threadFactory, () -> new HeuristicConfigPolicy.Builder<Solution_>()
+                                .build()
+                                .buildThreadFactory(ChildThreadType.BULK_LOAD_THREAD))
+                        : null);
     }
 
     private static Class<? extends ConstraintProvider> getConstraintProviderClass(ScoreDirectorFactoryConfig config,
@@ -56,10 +76,22 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
 
     public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintProvider constraintProvider, EnvironmentMode environmentMode) {
+        this(solutionDescriptor, constraintProvider, environmentMode, false);
+    }
+
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, EnvironmentMode environmentMode, boolean tupleRecycling) {
+        this(solutionDescriptor, constraintProvider, environmentMode, tupleRecycling, null);
+    }
+
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, EnvironmentMode environmentMode, boolean tupleRecycling,
+            ThreadFactory bulkLoadThreadFactory) {
         super(solutionDescriptor);
-        var constraintFactory = new BavetConstraintFactory<>(solutionDescriptor, environmentMode);
+        var constraintFactory = new BavetConstraintFactory<>(solutionDescriptor, environmentMode, tupleRecycling);
         constraintMetaModel = DefaultConstraintMetaModel.of(constraintFactory.buildConstraints(constraintProvider));
-        constraintSessionFactory = new BavetConstraintSessionFactory<>(solutionDescriptor, constraintMetaModel);
+        constraintSessionFactory =
+                new BavetConstraintSessionFactory<>(solutionDescriptor, constraintMetaModel, bulkLoadThreadFactory);
     }
 
     public BavetConstraintSession<Score_> newSession(Solution_ workingSolution, ConstraintMatchPolicy constraintMatchPolicy,
@@ -69,10 +101,17 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
 
     public BavetConstraintSession<Score_> newSession(Solution_ workingSolution, ConstraintMatchPolicy constraintMatchPolicy,
             boolean scoreDirectorDerived, Consumer<String> nodeNetworkVisualizationConsumer) {
-        return constraintSessionFactory.buildSession(workingSolution, constraintMatchPolicy, scoreDirectorDerived,
+        return newSession(workingSolution, constraintMatchPolicy, scoreDirectorDerived, 0,
                 nodeNetworkVisualizationConsumer);
     }
 
+    public BavetConstraintSession<Score_> newSession(Solution_ workingSolution, ConstraintMatchPolicy constraintMatchPolicy,
+            boolean scoreDirectorDerived, int nodeNetworkProfilingSampleInterval,
+            Consumer<String> nodeNetworkVisualizationConsumer) {
+        return constraintSessionFactory.buildSession(workingSolution, constraintMatchPolicy, scoreDirectorDerived,
+                nodeNetworkProfilingSampleInterval, nodeNetworkVisualizationConsumer);
+    }
+
     @Override
     public AbstractScoreInliner<Score_> fireAndForget(Object... facts) {
         var session = newSession(null, ConstraintMatchPolicy.ENABLED, true);
@@ -35,14 +35,21 @@ public final class BavetConstraintFactory<Solution_>
 
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final EnvironmentMode environmentMode;
+    private final boolean tupleRecycling;
     private final String defaultConstraintPackage;
 
     private final Map<BavetAbstractConstraintStream<Solution_>, BavetAbstractConstraintStream<Solution_>> sharingStreamMap =
             new HashMap<>(256);
 
     public BavetConstraintFactory(SolutionDescriptor<Solution_> solutionDescriptor, EnvironmentMode environmentMode) {
+        this(solutionDescriptor, environmentMode, false);
+    }
+
+    public BavetConstraintFactory(SolutionDescriptor<Solution_> solutionDescriptor, EnvironmentMode environmentMode,
+            boolean tupleRecycling) {
         this.solutionDescriptor = solutionDescriptor;
         this.environmentMode = Objects.requireNonNull(environmentMode);
+        this.tupleRecycling = tupleRecycling;
         var weightSupplier = solutionDescriptor.getConstraintWeightSupplier();
         if (weightSupplier == null) {
             defaultConstraintPackage = determineDefaultConstraintPackage(solutionDescriptor.getSolutionClass().getPackage());
@@ -162,6 +169,14 @@ public final class BavetConstraintFactory<Solution_>
         return environmentMode;
     }
 
+    /**
+     * @return true if nodes should reuse their dead tuples instead of allocating new ones
+     * @see ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig#getConstraintStreamTupleRecycling()
+     */
+    public boolean isTupleRecycling() {
+        return tupleRecycling;
+    }
+
     @Override
     public @NonNull String getDefaultConstraintPackage() {
         return defaultConstraintPackage;
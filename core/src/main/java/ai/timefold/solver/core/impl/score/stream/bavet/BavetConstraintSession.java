@@ -7,6 +7,8 @@ import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
 import ai.timefold.solver.core.impl.bavet.AbstractSession;
 import ai.timefold.solver.core.impl.bavet.NodeNetwork;
+import ai.timefold.solver.core.impl.bavet.ParallelNodeNetworkSettler;
+import ai.timefold.solver.core.impl.bavet.common.NodeNetworkProfiler;
 import ai.timefold.solver.core.impl.bavet.common.PropagationQueue;
 import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
 import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
@@ -24,14 +26,42 @@ import ai.timefold.solver.core.impl.score.stream.common.inliner.AbstractScoreInl
 public final class BavetConstraintSession<Score_ extends Score<Score_>> extends AbstractSession {
 
     private final AbstractScoreInliner<Score_> scoreInliner;
+    /**
+     * Null unless the first settle is yet to happen and should happen in parallel.
+     */
+    private ParallelNodeNetworkSettler initialSettler;
 
     BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner) {
         this(scoreInliner, NodeNetwork.EMPTY);
     }
 
     BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner, NodeNetwork nodeNetwork) {
-        super(nodeNetwork);
+        this(scoreInliner, nodeNetwork, null, null);
+    }
+
+    BavetConstraintSession(AbstractScoreInliner<Score_> scoreInliner, NodeNetwork nodeNetwork,
+            ParallelNodeNetworkSettler initialSettler, NodeNetworkProfiler profiler) {
+        super(nodeNetwork, profiler);
         this.scoreInliner = scoreInliner;
+        this.initialSettler = initialSettler;
+    }
+
+    @Override
+    public void settle() {
+        if (initialSettler == null) {
+            super.settle();
+        } else {
+            var settler = initialSettler;
+            initialSettler = null; // Only the first settle is a bulk load; release the sub-networks.
+            settler.settle();
+        }
+    }
+
+    /**
+     * @return null unless the first settle is yet to happen and will happen in parallel
+     */
+    public ParallelNodeNetworkSettler getInitialSettler() {
+        return initialSettler;
     }
 
     public Score_ calculateScore() {
@@ -1,20 +1,26 @@
 package ai.timefold.solver.core.impl.score.stream.bavet;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.score.stream.ConstraintMetaModel;
-import ai.timefold.solver.core.impl.bavet.NodeNetwork;
+import ai.timefold.solver.core.impl.bavet.ParallelNodeNetworkSettler;
+import ai.timefold.solver.core.impl.bavet.common.AbstractNode;
 import ai.timefold.solver.core.impl.bavet.common.AbstractNodeBuildHelper;
 import ai.timefold.solver.core.impl.bavet.common.BavetAbstractConstraintStream;
+import ai.timefold.solver.core.impl.bavet.common.NodeNetworkProfiler;
 import ai.timefold.solver.core.impl.bavet.uni.AbstractForEachUniNode;
 import ai.timefold.solver.core.impl.bavet.visual.NodeGraph;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
@@ -34,20 +40,43 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final ConstraintMetaModel constraintMetaModel;
+    private final ThreadFactory bulkLoadThreadFactory;
 
     public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintMetaModel constraintMetaModel) {
+        this(solutionDescriptor, constraintMetaModel, null);
+    }
+
+    /**
+     * @param bulkLoadThreadFactory if not null, the first settle of a session that is not derived
+     *        propagates the independent sub-networks in parallel, on threads created by this factory
+     */
+    public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintMetaModel constraintMetaModel, ThreadFactory bulkLoadThreadFactory) {
         this.solutionDescriptor = Objects.requireNonNull(solutionDescriptor);
         this.constraintMetaModel = Objects.requireNonNull(constraintMetaModel);
+        this.bulkLoadThreadFactory = bulkLoadThreadFactory;
     }
 
     // ************************************************************************
     // Node creation
     // ************************************************************************
 
-    @SuppressWarnings("unchecked")
     public BavetConstraintSession<Score_> buildSession(Solution_ workingSolution, ConstraintMatchPolicy constraintMatchPolicy,
             boolean scoreDirectorDerived, Consumer<String> nodeNetworkVisualizationConsumer) {
+        return buildSession(workingSolution, constraintMatchPolicy, scoreDirectorDerived, 0,
+                nodeNetworkVisualizationConsumer);
+    }
+
+    /**
+     * @param nodeNetworkProfilingSampleInterval if positive and the score director is not derived,
+     *        the session will have a {@link NodeNetworkProfiler} with this sample interval;
+     *        0 to disable profiling
+     */
+    @SuppressWarnings("unchecked")
+    public BavetConstraintSession<Score_> buildSession(Solution_ workingSolution, ConstraintMatchPolicy constraintMatchPolicy,
+            boolean scoreDirectorDerived, int nodeNetworkProfilingSampleInterval,
+            Consumer<String> nodeNetworkVisualizationConsumer) {
         var constraintWeightSupplier = solutionDescriptor.getConstraintWeightSupplier();
         var constraints = constraintMetaModel.getConstraints();
         if (constraintWeightSupplier != null) { // Fail fast on unknown constraints.
@@ -111,14 +140,23 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
             LOGGER.atLevel(CONSTRAINT_WEIGHT_LOGGING_LEVEL)
                     .log(constraintWeightString.toString().trim());
         }
-        return new BavetConstraintSession<>(scoreInliner,
-                buildNodeNetwork(workingSolution, constraintStreamSet, scoreInliner, nodeNetworkVisualizationConsumer));
+        // Derived sessions are used for assertions and by move threads, where a parallel first settle does not pay off.
+        var profiler = nodeNetworkProfilingSampleInterval > 0 && !scoreDirectorDerived
+                ? new NodeNetworkProfiler(nodeNetworkProfilingSampleInterval)
+                : null;
+        return buildSession(workingSolution, constraintStreamSet, scoreInliner, scoreDirectorDerived ? null : bulkLoadThreadFactory,
+                profiler, nodeNetworkVisualizationConsumer);
     }
 
-    private static <Solution_, Score_ extends Score<Score_>> NodeNetwork buildNodeNetwork(Solution_ workingSolution,
-            Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet, AbstractScoreInliner<Score_> scoreInliner,
+    @SuppressWarnings("unchecked")
+    private static <Solution_, Score_ extends Score<Score_>> BavetConstraintSession<Score_> buildSession(
+            Solution_ workingSolution, Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet,
+            AbstractScoreInliner<Score_> scoreInliner, ThreadFactory bulkLoadThreadFactory, NodeNetworkProfiler profiler,
             Consumer<String> nodeNetworkVisualizationConsumer) {
         var buildHelper = new ConstraintNodeBuildHelper<>(constraintStreamSet, scoreInliner);
+        if (profiler != null) {
+            buildHelper.enableProfiling(profiler);
+        }
         var declaredClassToNodeMap = new LinkedHashMap<Class<?>, List<AbstractForEachUniNode<?>>>();
         var nodeList = buildHelper.buildNodeList(constraintStreamSet, buildHelper,
                 BavetAbstractConstraintStream::buildNode,
@@ -137,15 +175,51 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                     }
                     forEachUniNodeList.add(forEachUniNode);
                 });
-        if (nodeNetworkVisualizationConsumer != null) {
+        if (profiler != null) {
+            for (var constraint : scoreInliner.getConstraints()) {
+                var scoringStream = (BavetAbstractConstraintStream<Solution_>) ((BavetConstraint<Solution_>) constraint)
+                        .getScoringConstraintStream();
+                profiler.setConstraintNodes(constraint.getConstraintRef(),
+                        collectAncestorNodes(buildHelper.findParentNode(scoringStream), buildHelper));
+            }
+        }
+        if (nodeNetworkVisualizationConsumer != null || profiler != null) {
             var constraintSet = scoreInliner.getConstraints();
-            var visualisation = NodeGraph
-                    .of(workingSolution, nodeList, constraintSet, buildHelper::getNodeCreatingStream,
-                            buildHelper::findParentNode)
-                    .buildGraphvizDOT();
-            nodeNetworkVisualizationConsumer.accept(visualisation);
+            var nodeGraph = NodeGraph.of(workingSolution, nodeList, constraintSet, buildHelper::getNodeCreatingStream,
+                    buildHelper::findParentNode);
+            if (nodeNetworkVisualizationConsumer != null) {
+                nodeNetworkVisualizationConsumer.accept(nodeGraph.buildGraphvizDOT());
+            }
+            if (profiler != null) {
+                profiler.setNodeGraph(nodeGraph);
+            }
+        }
+        var nodeNetwork = AbstractNodeBuildHelper.buildNodeNetwork(nodeList, declaredClassToNodeMap);
+        if (bulkLoadThreadFactory == null) {
+            return new BavetConstraintSession<>(scoreInliner, nodeNetwork, null, profiler);
+        }
+        var initialSettler = new ParallelNodeNetworkSettler(nodeList, buildHelper::findParentNodes,
+                buildHelper.getScorerList(), bulkLoadThreadFactory);
+        if (initialSettler.getSubNetworkCount() < 2) {
+            return new BavetConstraintSession<>(scoreInliner, nodeNetwork, null, profiler);
+        }
+        return new BavetConstraintSession<>(scoreInliner, nodeNetwork, initialSettler, profiler);
+    }
+
+    /**
+     * @return the node and all the nodes it depends on, transitively
+     */
+    private static Set<AbstractNode> collectAncestorNodes(AbstractNode node, AbstractNodeBuildHelper<?> buildHelper) {
+        var ancestorNodeSet = Collections.<AbstractNode> newSetFromMap(new IdentityHashMap<>());
+        var nodeQueue = new ArrayDeque<AbstractNode>();
+        nodeQueue.add(node);
+        while (!nodeQueue.isEmpty()) {
+            var ancestorNode = nodeQueue.poll();
+            if (ancestorNodeSet.add(ancestorNode)) {
+                nodeQueue.addAll(buildHelper.findParentNodes(ancestorNode));
+            }
         }
-        return AbstractNodeBuildHelper.buildNodeNetwork(nodeList, declaredClassToNodeMap);
+        return ancestorNodeSet;
     }
 
 }
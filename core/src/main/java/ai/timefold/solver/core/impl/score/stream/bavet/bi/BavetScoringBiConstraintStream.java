@@ -76,7 +76,7 @@ final class BavetScoringBiConstraintStream<Solution_, A, B>
         var weightedScoreImpacter = buildHelper.getScoreInliner().buildWeightedScoreImpacter(constraint);
         var scorer = new BiScorer<>(weightedScoreImpacter, scoreImpacter,
                 buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
-        buildHelper.putInsertUpdateRetract(this, scorer);
+        buildHelper.addScorer(this, constraint.getConstraintRef(), scorer);
     }
 
     private TriFunction<WeightedScoreImpacter<?, ?>, A, B, UndoScoreImpacter>
@@ -1,16 +1,22 @@
 package ai.timefold.solver.core.impl.score.stream.bavet.common;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
 import ai.timefold.solver.core.impl.bavet.common.AbstractNodeBuildHelper;
+import ai.timefold.solver.core.impl.bavet.common.AbstractScorer;
 import ai.timefold.solver.core.impl.bavet.common.BavetAbstractConstraintStream;
+import ai.timefold.solver.core.impl.bavet.common.tuple.AbstractTuple;
 import ai.timefold.solver.core.impl.score.stream.common.inliner.AbstractScoreInliner;
 
 public final class ConstraintNodeBuildHelper<Solution_, Score_ extends Score<Score_>>
         extends AbstractNodeBuildHelper<BavetAbstractConstraintStream<Solution_>> {
 
     private final AbstractScoreInliner<Score_> scoreInliner;
+    private final List<AbstractScorer<?>> scorerList = new ArrayList<>();
 
     public ConstraintNodeBuildHelper(Set<BavetAbstractConstraintStream<Solution_>> activeStreamSet,
             AbstractScoreInliner<Score_> scoreInliner) {
@@ -22,4 +28,20 @@ public final class ConstraintNodeBuildHelper<Solution_, Score_ extends Score<Sco
         return scoreInliner;
     }
 
+    /**
+     * @param scoringStream never null, the stream that creates the scorer
+     * @param constraintRef never null, the constraint of the scorer
+     * @param scorer never null
+     */
+    public <Tuple_ extends AbstractTuple> void addScorer(BavetAbstractConstraintStream<Solution_> scoringStream,
+            ConstraintRef constraintRef, AbstractScorer<Tuple_> scorer) {
+        var profiler = getProfiler();
+        putInsertUpdateRetract(scoringStream, profiler == null ? scorer : profiler.profileScorer(constraintRef, scorer));
+        scorerList.add(scorer);
+    }
+
+    public List<AbstractScorer<?>> getScorerList() {
+        return scorerList;
+    }
+
 }
@@ -69,14 +69,14 @@ public final class BavetJoinQuadConstraintStream<Solution_, A, B, C, D>
                         buildHelper.reserveTupleStoreIndex(rightParent.getTupleSource()),
                         buildHelper.reserveTupleStoreIndex(rightParent.getTupleSource()),
                         downstream, filtering, outputStoreSize + 2,
-                        outputStoreSize, outputStoreSize + 1)
+                        outputStoreSize, outputStoreSize + 1, constraintFactory.isTupleRecycling())
                 : new UnindexedJoinQuadNode<>(
                         buildHelper.reserveTupleStoreIndex(leftParent.getTupleSource()),
                         buildHelper.reserveTupleStoreIndex(leftParent.getTupleSource()),
                         buildHelper.reserveTupleStoreIndex(rightParent.getTupleSource()),
                         buildHelper.reserveTupleStoreIndex(rightParent.getTupleSource()),
                         downstream, filtering, outputStoreSize + 2,
-                        outputStoreSize, outputStoreSize + 1);
+                        outputStoreSize, outputStoreSize + 1, constraintFactory.isTupleRecycling());
         buildHelper.addNode(node, this, leftParent, rightParent);
     }
 
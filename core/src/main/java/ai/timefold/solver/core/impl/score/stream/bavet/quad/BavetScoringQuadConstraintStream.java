@@ -77,7 +77,7 @@ final class BavetScoringQuadConstraintStream<Solution_, A, B, C, D>
         var weightedScoreImpacter = buildHelper.getScoreInliner().buildWeightedScoreImpacter(constraint);
         var scorer = new QuadScorer<>(weightedScoreImpacter, scoreImpacter,
                 buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
-        buildHelper.putInsertUpdateRetract(this, scorer);
+        buildHelper.addScorer(this, constraint.getConstraintRef(), scorer);
     }
 
     private PentaFunction<WeightedScoreImpacter<?, ?>, A, B, C, D, UndoScoreImpacter>
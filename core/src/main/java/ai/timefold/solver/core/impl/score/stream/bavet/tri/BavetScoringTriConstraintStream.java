@@ -77,7 +77,7 @@ final class BavetScoringTriConstraintStream<Solution_, A, B, C>
         var weightedScoreImpacter = buildHelper.getScoreInliner().buildWeightedScoreImpacter(constraint);
         var scorer = new TriScorer<>(weightedScoreImpacter, scoreImpacter,
                 buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
-        buildHelper.putInsertUpdateRetract(this, scorer);
+        buildHelper.addScorer(this, constraint.getConstraintRef(), scorer);
     }
 
     private QuadFunction<WeightedScoreImpacter<?, ?>, A, B, C, UndoScoreImpacter>
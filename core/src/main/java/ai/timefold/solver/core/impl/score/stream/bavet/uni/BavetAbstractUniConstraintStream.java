@@ -40,6 +40,8 @@ import ai.timefold.solver.core.impl.bavet.uni.Group1Mapping0CollectorUniNode;
 import ai.timefold.solver.core.impl.bavet.uni.Group1Mapping1CollectorUniNode;
 import ai.timefold.solver.core.impl.bavet.uni.Group1Mapping2CollectorUniNode;
 import ai.timefold.solver.core.impl.bavet.uni.Group1Mapping3CollectorUniNode;
+import ai.timefold.solver.core.impl.bavet.uni.Group1PrimitiveMapping0CollectorUniNode;
+import ai.timefold.solver.core.impl.bavet.uni.Group1PrimitiveMapping1CollectorUniNode;
 import ai.timefold.solver.core.impl.bavet.uni.Group2Mapping0CollectorUniNode;
 import ai.timefold.solver.core.impl.bavet.uni.Group2Mapping1CollectorUniNode;
 import ai.timefold.solver.core.impl.bavet.uni.Group2Mapping2CollectorUniNode;
@@ -256,6 +258,38 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
         return buildBiGroupBy(nodeConstructor);
     }
 
+    @Override
+    public @NonNull UniConstraintStream<Integer> groupByInt(@NonNull ToIntFunction<A> groupKeyMapping) {
+        GroupNodeConstructor<UniTuple<Integer>> nodeConstructor =
+                oneKeyGroupBy(groupKeyMapping, Group1PrimitiveMapping0CollectorUniNode::ofInt);
+        return buildUniGroupBy(nodeConstructor);
+    }
+
+    @Override
+    public <ResultContainer_, Result_> @NonNull BiConstraintStream<Integer, Result_> groupByInt(
+            @NonNull ToIntFunction<A> groupKeyMapping,
+            @NonNull UniConstraintCollector<A, ResultContainer_, Result_> collector) {
+        GroupNodeConstructor<BiTuple<Integer, Result_>> nodeConstructor =
+                oneKeyGroupBy(groupKeyMapping, collector, Group1PrimitiveMapping1CollectorUniNode::ofInt);
+        return buildBiGroupBy(nodeConstructor);
+    }
+
+    @Override
+    public @NonNull UniConstraintStream<Long> groupByLong(@NonNull ToLongFunction<A> groupKeyMapping) {
+        GroupNodeConstructor<UniTuple<Long>> nodeConstructor =
+                oneKeyGroupBy(groupKeyMapping, Group1PrimitiveMapping0CollectorUniNode::ofLong);
+        return buildUniGroupBy(nodeConstructor);
+    }
+
+    @Override
+    public <ResultContainer_, Result_> @NonNull BiConstraintStream<Long, Result_> groupByLong(
+            @NonNull ToLongFunction<A> groupKeyMapping,
+            @NonNull UniConstraintCollector<A, ResultContainer_, Result_> collector) {
+        GroupNodeConstructor<BiTuple<Long, Result_>> nodeConstructor =
+                oneKeyGroupBy(groupKeyMapping, collector, Group1PrimitiveMapping1CollectorUniNode::ofLong);
+        return buildBiGroupBy(nodeConstructor);
+    }
+
     @Override
     public @NonNull <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
             @NonNull Function<A, GroupKeyA_> groupKeyAMapping, @NonNull Function<A, GroupKeyB_> groupKeyBMapping) {
@@ -76,7 +76,7 @@ final class BavetScoringUniConstraintStream<Solution_, A>
         var weightedScoreImpacter = buildHelper.getScoreInliner().buildWeightedScoreImpacter(constraint);
         var scorer = new UniScorer<>(weightedScoreImpacter, scoreImpacter,
                 buildHelper.reserveTupleStoreIndex(parent.getTupleSource()));
-        buildHelper.putInsertUpdateRetract(this, scorer);
+        buildHelper.addScorer(this, constraint.getConstraintRef(), scorer);
     }
 
     private BiFunction<WeightedScoreImpacter<?, ?>, A, UndoScoreImpacter>
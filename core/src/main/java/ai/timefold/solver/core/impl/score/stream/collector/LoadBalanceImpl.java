@@ -3,62 +3,84 @@ package ai.timefold.solver.core.impl.score.stream.collector;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Objects;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
 
 import org.jspecify.annotations.NonNull;
 
+/**
+ * Keeps the item count and the load of every balanced item in one open-addressing hash table
+ * with primitive {@code int} and {@code long} columns,
+ * so that registering and unregistering neither boxes nor allocates an entry object.
+ * Collisions are resolved the same way as in {@link ai.timefold.solver.core.impl.util.LongObjectHashMap}.
+ * The squared deviation is tracked incrementally in {@code long} arithmetic
+ * and the {@link #unfairness()} is only recalculated once it has changed.
+ *
+ * @param <Balanced_>
+ */
 public final class LoadBalanceImpl<Balanced_> implements LoadBalance<Balanced_> {
 
     // If need be, precision can be made configurable on the constraint collector level.
     private static final MathContext RESULT_MATH_CONTEXT = new MathContext(6, RoundingMode.HALF_EVEN);
+    private static final int MINIMUM_CAPACITY = 8;
+    // Stands in for a null balanced item, as null marks an empty slot.
+    private static final Object NULL_KEY = new Object();
 
-    private final Map<Balanced_, Integer> balancedItemCountMap = new HashMap<>();
-    private final Map<Balanced_, Long> balancedItemToMetricValueMap = new LinkedHashMap<>();
+    private final Map<Balanced_, Long> loadMap = new LoadMap();
+    private Object[] keys = new Object[MINIMUM_CAPACITY];
+    private int[] itemCounts = new int[MINIMUM_CAPACITY];
+    private long[] loads = new long[MINIMUM_CAPACITY];
+    private int mask = MINIMUM_CAPACITY - 1;
+    private int size = 0;
 
     private long sum = 0;
     private long squaredDeviationIntegralPart = 0;
     private long squaredDeviationFractionNumerator = 0;
+    private BigDecimal unfairness = BigDecimal.ZERO; // Null when it needs to be recalculated.
 
     public Runnable registerBalanced(Balanced_ balanced, long metricValue, long initialMetricValue) {
-        var balancedItemCount = balancedItemCountMap.compute(balanced, (k, v) -> v == null ? 1 : v + 1);
-        if (balancedItemCount == 1) {
-            addToMetric(balanced, metricValue + initialMetricValue);
+        var index = findOrInsert(maskNull(balanced));
+        if (++itemCounts[index] == 1) {
+            unfairness = null; // The number of balanced items changed.
+            addToMetric(index, metricValue + initialMetricValue);
         } else {
-            addToMetric(balanced, metricValue);
+            addToMetric(index, metricValue);
         }
         return () -> unregisterBalanced(balanced, metricValue);
     }
 
     public void unregisterBalanced(Balanced_ balanced, long metricValue) {
-        var count = balancedItemCountMap.compute(balanced, (k, v) -> v == 1 ? null : v - 1);
-        if (count == null) {
-            resetMetric(balanced);
+        var index = find(maskNull(balanced));
+        if (index < 0) {
+            throw new IllegalStateException("Impossible state: the balanced item (" + balanced + ") is not registered.");
+        }
+        if (--itemCounts[index] == 0) {
+            var oldValue = loads[index];
+            removeAt(index);
+            unfairness = null;
+            if (oldValue != 0) {
+                updateSquaredDeviation(oldValue, 0);
+                sum -= oldValue;
+            }
         } else {
-            addToMetric(balanced, -metricValue);
+            addToMetric(index, -metricValue);
         }
     }
 
-    private void addToMetric(Balanced_ balanced, long diff) {
-        long oldValue = balancedItemToMetricValueMap.getOrDefault(balanced, 0L);
-        var newValue = oldValue + diff;
-        balancedItemToMetricValueMap.put(balanced, newValue);
-        if (oldValue != newValue) {
+    private void addToMetric(int index, long diff) {
+        if (diff != 0) {
+            var oldValue = loads[index];
+            var newValue = oldValue + diff;
+            loads[index] = newValue;
             updateSquaredDeviation(oldValue, newValue);
             sum += diff;
-        }
-    }
-
-    private void resetMetric(Balanced_ balanced) {
-        long oldValue = Objects.requireNonNullElse(balancedItemToMetricValueMap.remove(balanced), 0L);
-        if (oldValue != 0) {
-            updateSquaredDeviation(oldValue, 0);
-            sum -= oldValue;
+            unfairness = null;
         }
     }
 
@@ -87,27 +109,200 @@ public final class LoadBalanceImpl<Balanced_> implements LoadBalance<Balanced_>
         squaredDeviationFractionNumerator += squaredDeviationSecondTermNumerator;
     }
 
+    private static Object maskNull(Object balanced) {
+        return balanced == null ? NULL_KEY : balanced;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Balanced_> Balanced_ unmaskNull(Object key) {
+        return key == NULL_KEY ? null : (Balanced_) key;
+    }
+
+    private int slot(Object key) {
+        var hash = key.hashCode() * 0x9E3779B9; // Fibonacci hashing spreads poor hash codes.
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    /**
+     * @return the index of the key, or -1 if it is absent
+     */
+    private int find(Object key) {
+        var index = slot(key);
+        while (true) {
+            var existingKey = keys[index];
+            if (existingKey == null) {
+                return -1;
+            } else if (existingKey.equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private int findOrInsert(Object key) {
+        var index = slot(key);
+        while (true) {
+            var existingKey = keys[index];
+            if (existingKey == null) {
+                // Keep the load factor at or below 0.5; linear probing degrades quickly above that.
+                if (size + 1 > keys.length >>> 1) {
+                    rehash(keys.length << 1);
+                    return findOrInsert(key);
+                }
+                keys[index] = key;
+                size++;
+                return index;
+            } else if (existingKey.equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Backward shift deletion: move every following entry of the probe sequence
+     * that would otherwise become unreachable into the gap.
+     */
+    private void removeAt(int gap) {
+        size--;
+        var index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            var key = keys[index];
+            if (key == null) {
+                keys[gap] = null;
+                itemCounts[gap] = 0;
+                loads[gap] = 0;
+                return;
+            }
+            var ideal = slot(key);
+            // Only move the entry if its ideal slot is not in the cyclic range (gap, index].
+            var isReachable = gap <= index ? (gap < ideal && ideal <= index) : (gap < ideal || ideal <= index);
+            if (!isReachable) {
+                keys[gap] = key;
+                itemCounts[gap] = itemCounts[index];
+                loads[gap] = loads[index];
+                gap = index;
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        var oldKeys = keys;
+        var oldItemCounts = itemCounts;
+        var oldLoads = loads;
+        keys = new Object[newCapacity];
+        itemCounts = new int[newCapacity];
+        loads = new long[newCapacity];
+        mask = newCapacity - 1;
+        for (var i = 0; i < oldKeys.length; i++) {
+            var key = oldKeys[i];
+            if (key != null) {
+                var index = slot(key);
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                itemCounts[index] = oldItemCounts[i];
+                loads[index] = oldLoads[i];
+            }
+        }
+    }
+
     @Override
     public @NonNull Map<Balanced_, Long> loads() {
-        if (balancedItemCountMap.isEmpty()) {
-            return Collections.emptyMap();
-        }
-        return Collections.unmodifiableMap(balancedItemToMetricValueMap);
+        return loadMap;
     }
 
     @Override
     public @NonNull BigDecimal unfairness() {
-        var totalToBalanceCount = balancedItemCountMap.size();
-        return switch (totalToBalanceCount) {
+        if (unfairness == null) {
+            unfairness = calculateUnfairness();
+        }
+        return unfairness;
+    }
+
+    private BigDecimal calculateUnfairness() {
+        return switch (size) {
             case 0 -> BigDecimal.ZERO;
             case 1 -> BigDecimal.valueOf(squaredDeviationFractionNumerator + squaredDeviationIntegralPart)
                     .sqrt(RESULT_MATH_CONTEXT);
             default -> { // Only do the final sqrt as BigDecimal, fast floating point math is good enough for the rest.
-                var tmp = (squaredDeviationFractionNumerator / (double) totalToBalanceCount) + squaredDeviationIntegralPart;
+                var tmp = (squaredDeviationFractionNumerator / (double) size) + squaredDeviationIntegralPart;
                 yield BigDecimal.valueOf(tmp)
                         .sqrt(RESULT_MATH_CONTEXT);
             }
         };
     }
 
+    /**
+     * An unmodifiable view of the table, which changes along with it.
+     */
+    private final class LoadMap extends AbstractMap<Balanced_, Long> {
+
+        private final Set<Entry<Balanced_, Long>> entrySet = new AbstractSet<>() {
+
+            @Override
+            public Iterator<Entry<Balanced_, Long>> iterator() {
+                return new LoadIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+        };
+
+        @Override
+        public Set<Entry<Balanced_, Long>> entrySet() {
+            return entrySet;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return find(maskNull(key)) >= 0;
+        }
+
+        @Override
+        public Long get(Object key) {
+            var index = find(maskNull(key));
+            return index < 0 ? null : loads[index];
+        }
+
+    }
+
+    private final class LoadIterator implements Iterator<Map.Entry<Balanced_, Long>> {
+
+        private int nextIndex = advance(0);
+
+        private int advance(int index) {
+            while (index < keys.length && keys[index] == null) {
+                index++;
+            }
+            return index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < keys.length;
+        }
+
+        @Override
+        public Map.Entry<Balanced_, Long> next() {
+            if (nextIndex >= keys.length) {
+                throw new NoSuchElementException();
+            }
+            var entry = new AbstractMap.SimpleImmutableEntry<Balanced_, Long>(unmaskNull(keys[nextIndex]), loads[nextIndex]);
+            nextIndex = advance(nextIndex + 1);
+            return entry;
+        }
+
+    }
+
 }
@@ -5,15 +5,15 @@ import java.util.function.ToIntFunction;
 
 import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.impl.score.stream.collector.consecutive.ConsecutiveSetTree;
+import ai.timefold.solver.core.impl.score.stream.collector.consecutive.IntConsecutiveSetTree;
 
 public final class SequenceCalculator<Result_>
         implements ObjectCalculator<Result_, SequenceChain<Result_, Integer>, Result_> {
 
-    private final ConsecutiveSetTree<Result_, Integer, Integer> context = new ConsecutiveSetTree<>(
-            (Integer a, Integer b) -> b - a,
-            Integer::sum, 1, 0);
-
     private final ToIntFunction<Result_> indexMap;
+    private IntConsecutiveSetTree<Result_> intContext = new IntConsecutiveSetTree<>();
+    // Only used once the points are too far apart for the intContext.
+    private ConsecutiveSetTree<Result_, Integer, Integer> context = null;
 
     public SequenceCalculator(ToIntFunction<Result_> indexMap) {
         this.indexMap = Objects.requireNonNull(indexMap);
@@ -22,18 +22,28 @@ public final class SequenceCalculator<Result_>
     @Override
     public Result_ insert(Result_ result) {
         var value = indexMap.applyAsInt(result);
-        context.add(result, value);
+        if (context != null) {
+            context.add(result, value);
+        } else if (!intContext.add(result, value)) {
+            context = intContext.toConsecutiveSetTree();
+            intContext = null;
+            context.add(result, value);
+        }
         return result;
     }
 
     @Override
     public void retract(Result_ result) {
-        context.remove(result);
+        if (context != null) {
+            context.remove(result);
+        } else {
+            intContext.remove(result);
+        }
     }
 
     @Override
-    public ConsecutiveSetTree<Result_, Integer, Integer> result() {
-        return context;
+    public SequenceChain<Result_, Integer> result() {
+        return context != null ? context : intContext;
     }
 
 }
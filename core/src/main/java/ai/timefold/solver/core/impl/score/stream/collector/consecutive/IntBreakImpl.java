@@ -0,0 +1,59 @@
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
+
+import ai.timefold.solver.core.api.score.stream.common.Break;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * The break before a {@link IntSequenceImpl sequence} which is not the first.
+ * The previous sequence is looked up on demand, as it changes whenever sequences are added, removed or merged.
+ * When adding fields, remember to add them to the JSON serialization code as well, if you want them exposed.
+ *
+ * @param <Value_>
+ */
+final class IntBreakImpl<Value_> implements Break<Value_, Integer> {
+
+    private final IntSequenceImpl<Value_> nextSequence;
+
+    IntBreakImpl(IntSequenceImpl<Value_> nextSequence) {
+        this.nextSequence = nextSequence;
+    }
+
+    private IntSequenceImpl<Value_> getPreviousSequence() {
+        return nextSequence.getSourceTree().getSequenceBefore(nextSequence);
+    }
+
+    @Override
+    public boolean isFirst() {
+        return getPreviousSequence().isFirst();
+    }
+
+    @Override
+    public boolean isLast() {
+        return nextSequence.isLast();
+    }
+
+    @Override
+    public @NonNull Value_ getPreviousSequenceEnd() {
+        return getPreviousSequence().getLastItem();
+    }
+
+    @Override
+    public @NonNull Value_ getNextSequenceStart() {
+        return nextSequence.getFirstItem();
+    }
+
+    @Override
+    public @NonNull Integer getLength() {
+        return nextSequence.start - getPreviousSequence().end;
+    }
+
+    @Override
+    public String toString() {
+        return "Break{" +
+                "previousSequence=" + getPreviousSequence() +
+                ", nextSequence=" + nextSequence +
+                ", length=" + getLength() +
+                '}';
+    }
+}
@@ -0,0 +1,503 @@
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import ai.timefold.solver.core.api.score.stream.common.Break;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
+import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link ConsecutiveSetTree} specialized for int points with a maximum difference of 1,
+ * which is what {@link ai.timefold.solver.core.api.score.stream.ConstraintCollectors#toConsecutiveSequences}
+ * needs.
+ * Instead of sorted maps of boxed points, it keeps the values of every point in an array over a window of points,
+ * a {@link BitSet} of the occupied points and every sequence as the run of occupied points it spans.
+ * Adding or removing a value only touches its own point and its direct neighbours.
+ * <p>
+ * This only pays off if the points are dense, such as day or timeslot indexes.
+ * Therefore {@link #add(Object, int)} refuses any value which would make the points span more than {@code maxSpan},
+ * after which the caller is expected to continue with a {@link #toConsecutiveSetTree() ConsecutiveSetTree} instead.
+ *
+ * @param <Value_> The type of value stored (examples: shifts)
+ */
+public final class IntConsecutiveSetTree<Value_> implements SequenceChain<Value_, Integer> {
+
+    public static final int DEFAULT_MAX_SPAN = 1 << 16;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Object[] EMPTY_POINT_VALUES = new Object[0];
+
+    private final int maxSpan;
+    private final Map<Value_, ValueCount<Value_>> valueCountMap = new HashMap<>();
+    private final BitSet occupiedPositions = new BitSet();
+    private final BitSet sequenceStartPositions = new BitSet();
+    private final Collection<Sequence<Value_, Integer>> sequenceView = new SequenceView();
+    private final Collection<Break<Value_, Integer>> breakView = new BreakView();
+    // Position = point - offset. Holds either a single value or a PointValues.
+    private Object[] pointValues = EMPTY_POINT_VALUES;
+    private IntSequenceImpl<Value_>[] startPositionToSequence = newSequenceArray(0);
+    private int offset = 0;
+    private int sequenceCount = 0;
+
+    public IntConsecutiveSetTree() {
+        this(DEFAULT_MAX_SPAN);
+    }
+
+    public IntConsecutiveSetTree(int maxSpan) {
+        if (maxSpan < 1) {
+            throw new IllegalArgumentException("The maxSpan (" + maxSpan + ") must be positive.");
+        }
+        this.maxSpan = maxSpan;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Value_> IntSequenceImpl<Value_>[] newSequenceArray(int capacity) {
+        return new IntSequenceImpl[capacity];
+    }
+
+    @Override
+    public @NonNull Collection<Sequence<Value_, Integer>> getConsecutiveSequences() {
+        return sequenceView;
+    }
+
+    @Override
+    public @NonNull Collection<Break<Value_, Integer>> getBreaks() {
+        return breakView;
+    }
+
+    @Override
+    public @Nullable Sequence<Value_, Integer> getFirstSequence() {
+        if (sequenceCount == 0) {
+            return null;
+        }
+        return startPositionToSequence[sequenceStartPositions.nextSetBit(0)];
+    }
+
+    @Override
+    public @Nullable Sequence<Value_, Integer> getLastSequence() {
+        if (sequenceCount == 0) {
+            return null;
+        }
+        return startPositionToSequence[sequenceStartPositions.length() - 1];
+    }
+
+    @Override
+    public @Nullable Break<Value_, Integer> getFirstBreak() {
+        if (sequenceCount <= 1) {
+            return null;
+        }
+        var firstPosition = sequenceStartPositions.nextSetBit(0);
+        return startPositionToSequence[sequenceStartPositions.nextSetBit(firstPosition + 1)].getPreviousBreak();
+    }
+
+    @Override
+    public @Nullable Break<Value_, Integer> getLastBreak() {
+        if (sequenceCount <= 1) {
+            return null;
+        }
+        return startPositionToSequence[sequenceStartPositions.length() - 1].getPreviousBreak();
+    }
+
+    /**
+     * @return false if the value was not added,
+     *         because it would have made the points span more than {@code maxSpan}
+     */
+    public boolean add(Value_ value, int valueIndex) {
+        var valueCount = valueCountMap.get(value);
+        if (valueCount != null) { // Item already in bag.
+            if (valueCount.index != valueIndex) {
+                throw new IllegalStateException(
+                        "Impossible state: the item (" + value + ") is already in the bag with a different index ("
+                                + valueCount.index + " vs " + valueIndex + ").\n" +
+                                "Maybe the index map function is not deterministic?");
+            }
+            valueCount.count++;
+            return true;
+        }
+        if (!ensureCapacity(valueIndex)) {
+            return false;
+        }
+
+        // Adding item to the bag.
+        valueCountMap.put(value, new ValueCount<>(value, valueIndex));
+        var position = valueIndex - offset;
+        var existingPointValue = pointValues[position];
+        if (existingPointValue != null) { // The point is already in a sequence.
+            pointValues[position] = PointValues.add(existingPointValue, value);
+            getSequenceAt(position).invalidate();
+            return true;
+        }
+        pointValues[position] = value;
+        occupiedPositions.set(position);
+        var extendsPrevious = position > 0 && occupiedPositions.get(position - 1);
+        var extendsNext = occupiedPositions.get(position + 1);
+        if (extendsPrevious && extendsNext) {
+            // We need to merge the two bags
+            var previousSequence = getSequenceAt(position - 1);
+            var nextSequence = removeSequenceStart(position + 1);
+            previousSequence.setEnd(nextSequence.end);
+            sequenceCount--;
+        } else if (extendsPrevious) {
+            getSequenceAt(position - 1).setEnd(valueIndex);
+        } else if (extendsNext) {
+            var nextSequence = removeSequenceStart(position + 1);
+            nextSequence.setStart(valueIndex);
+            putSequenceStart(position, nextSequence);
+        } else {
+            putSequenceStart(position, new IntSequenceImpl<>(this, valueIndex));
+            sequenceCount++;
+        }
+        return true;
+    }
+
+    public boolean remove(Value_ value) {
+        var valueCount = valueCountMap.get(value);
+        if (valueCount == null) { // Item not in bag.
+            return false;
+        }
+        valueCount.count--;
+        if (valueCount.count > 0) { // Item still in bag.
+            return true;
+        }
+
+        // Item is removed from bag
+        valueCountMap.remove(value);
+        var valueIndex = valueCount.index;
+        var position = valueIndex - offset;
+        var sequence = getSequenceAt(position);
+        var remainingPointValue = PointValues.remove(pointValues[position], valueCount.value);
+        pointValues[position] = remainingPointValue;
+        if (remainingPointValue != null) { // Other items remain in the same point.
+            sequence.invalidate();
+            return true;
+        }
+        occupiedPositions.clear(position);
+        if (sequence.start == valueIndex) {
+            removeSequenceStart(position);
+            if (sequence.end == valueIndex) { // Bag is empty.
+                sequenceCount--;
+            } else {
+                sequence.setStart(valueIndex + 1);
+                putSequenceStart(position + 1, sequence);
+            }
+        } else if (sequence.end == valueIndex) {
+            sequence.setEnd(valueIndex - 1);
+        } else { // Need to split bag into two halves.
+            putSequenceStart(position + 1, new IntSequenceImpl<>(this, valueIndex + 1, sequence.end));
+            sequence.setEnd(valueIndex - 1);
+            sequenceCount++;
+        }
+        return true;
+    }
+
+    /**
+     * @return a new tree with the same values, which has no limit on how far apart the points are
+     */
+    public ConsecutiveSetTree<Value_, Integer, Integer> toConsecutiveSetTree() {
+        var tree = new ConsecutiveSetTree<Value_, Integer, Integer>((a, b) -> b - a, Integer::sum, 1, 0);
+        for (var valueCount : valueCountMap.values()) {
+            for (var i = 0; i < valueCount.count; i++) {
+                tree.add(valueCount.value, valueCount.index);
+            }
+        }
+        return tree;
+    }
+
+    private boolean ensureCapacity(int valueIndex) {
+        var capacity = pointValues.length;
+        if (occupiedPositions.isEmpty()) {
+            if (capacity == 0) {
+                capacity = INITIAL_CAPACITY;
+                pointValues = new Object[capacity];
+                startPositionToSequence = newSequenceArray(capacity);
+            }
+            // Nothing to move, so center the window around the new point.
+            offset = clampOffset(valueIndex - (long) capacity / 2, capacity);
+            return true;
+        }
+        var first = offset + (long) occupiedPositions.nextSetBit(0);
+        var last = offset + (long) occupiedPositions.length() - 1;
+        var min = Math.min(first, valueIndex);
+        var max = Math.max(last, valueIndex);
+        if (max - min >= maxSpan) {
+            return false;
+        }
+        if (valueIndex >= offset && valueIndex - (long) offset < capacity) {
+            return true;
+        }
+        var span = (int) (max - min + 1);
+        var newCapacity = Math.max(span, Math.min(Math.max(capacity * 2, span + span / 2), maxSpan));
+        // Leave the free space on the side that is growing.
+        var newOffset = clampOffset(valueIndex < first ? max - newCapacity + 1 : min, newCapacity);
+        var shift = offset - newOffset;
+        var newPointValues = new Object[newCapacity];
+        var newStartPositionToSequence = IntConsecutiveSetTree.<Value_> newSequenceArray(newCapacity);
+        var oldOccupiedPositions = (BitSet) occupiedPositions.clone();
+        var oldSequenceStartPositions = (BitSet) sequenceStartPositions.clone();
+        occupiedPositions.clear();
+        sequenceStartPositions.clear();
+        for (var position = oldOccupiedPositions.nextSetBit(0); position >= 0;
+                position = oldOccupiedPositions.nextSetBit(position + 1)) {
+            newPointValues[position + shift] = pointValues[position];
+            occupiedPositions.set(position + shift);
+        }
+        for (var position = oldSequenceStartPositions.nextSetBit(0); position >= 0;
+                position = oldSequenceStartPositions.nextSetBit(position + 1)) {
+            newStartPositionToSequence[position + shift] = startPositionToSequence[position];
+            sequenceStartPositions.set(position + shift);
+        }
+        pointValues = newPointValues;
+        startPositionToSequence = newStartPositionToSequence;
+        offset = newOffset;
+        return true;
+    }
+
+    private static int clampOffset(long offset, int capacity) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(offset, Integer.MAX_VALUE - (long) capacity + 1));
+    }
+
+    private void putSequenceStart(int position, IntSequenceImpl<Value_> sequence) {
+        startPositionToSequence[position] = sequence;
+        sequenceStartPositions.set(position);
+    }
+
+    private IntSequenceImpl<Value_> removeSequenceStart(int position) {
+        var sequence = startPositionToSequence[position];
+        startPositionToSequence[position] = null;
+        sequenceStartPositions.clear(position);
+        return sequence;
+    }
+
+    private IntSequenceImpl<Value_> getSequenceAt(int position) {
+        return startPositionToSequence[sequenceStartPositions.previousSetBit(position)];
+    }
+
+    // Package-private API for the sequences and breaks
+
+    @Nullable
+    IntSequenceImpl<Value_> getSequenceBefore(IntSequenceImpl<Value_> sequence) {
+        var position = sequenceStartPositions.previousSetBit(sequence.start - offset - 1);
+        return position < 0 ? null : startPositionToSequence[position];
+    }
+
+    @Nullable
+    IntSequenceImpl<Value_> getSequenceAfter(IntSequenceImpl<Value_> sequence) {
+        var position = sequenceStartPositions.nextSetBit(sequence.end - offset + 1);
+        return position < 0 ? null : startPositionToSequence[position];
+    }
+
+    boolean isFirst(IntSequenceImpl<Value_> sequence) {
+        return sequence.start - offset == sequenceStartPositions.nextSetBit(0);
+    }
+
+    boolean isLast(IntSequenceImpl<Value_> sequence) {
+        return sequence.end - offset == occupiedPositions.length() - 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    Value_ getFirstValue(int valueIndex) {
+        return (Value_) PointValues.first(pointValues[valueIndex - offset]);
+    }
+
+    @SuppressWarnings("unchecked")
+    Value_ getLastValue(int valueIndex) {
+        return (Value_) PointValues.last(pointValues[valueIndex - offset]);
+    }
+
+    int countValues(int startIndex, int endIndex) {
+        var count = 0;
+        for (var position = startIndex - offset; position <= endIndex - offset; position++) {
+            count += PointValues.size(pointValues[position]);
+        }
+        return count;
+    }
+
+    Object[] getValues(int startIndex, int endIndex, int count) {
+        var values = new Object[count];
+        var i = 0;
+        for (var position = startIndex - offset; position <= endIndex - offset; position++) {
+            i = PointValues.copyTo(pointValues[position], values, i);
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return "Sequences {" +
+                "sequenceList=" + getConsecutiveSequences() +
+                ", breakList=" + getBreaks() +
+                '}';
+    }
+
+    private final class SequenceView extends AbstractCollection<Sequence<Value_, Integer>> {
+
+        @Override
+        public Iterator<Sequence<Value_, Integer>> iterator() {
+            return new SequenceIterator<>(0);
+        }
+
+        @Override
+        public int size() {
+            return sequenceCount;
+        }
+
+    }
+
+    private final class BreakView extends AbstractCollection<Break<Value_, Integer>> {
+
+        @Override
+        public Iterator<Break<Value_, Integer>> iterator() {
+            // Every sequence but the first has a break before it.
+            return new SequenceIterator<>(1);
+        }
+
+        @Override
+        public int size() {
+            return Math.max(0, sequenceCount - 1);
+        }
+
+    }
+
+    private final class SequenceIterator<Element_> implements Iterator<Element_> {
+
+        private final boolean breaks;
+        private int nextPosition;
+
+        SequenceIterator(int skippedCount) {
+            this.breaks = skippedCount > 0;
+            var position = sequenceStartPositions.nextSetBit(0);
+            for (var i = 0; i < skippedCount && position >= 0; i++) {
+                position = sequenceStartPositions.nextSetBit(position + 1);
+            }
+            this.nextPosition = position;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextPosition >= 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Element_ next() {
+            if (nextPosition < 0) {
+                throw new NoSuchElementException();
+            }
+            var sequence = startPositionToSequence[nextPosition];
+            nextPosition = sequenceStartPositions.nextSetBit(nextPosition + 1);
+            return (Element_) (breaks ? sequence.getPreviousBreak() : sequence);
+        }
+
+    }
+
+    private static final class ValueCount<Value_> {
+
+        private final Value_ value;
+        private final int index;
+        private int count;
+
+        public ValueCount(Value_ value, int index) {
+            this.value = value;
+            this.index = index;
+            count = 1;
+        }
+
+    }
+
+    /**
+     * The values of a point with more than one value, ordered by identity hash code,
+     * so that they are in the same order as in {@link ConsecutiveSetTree}.
+     * A point with a single value holds that value directly.
+     */
+    private static final class PointValues {
+
+        private Object[] values;
+        private int size;
+
+        private PointValues(Object first, Object second) {
+            values = new Object[4];
+            values[0] = first;
+            size = 1;
+            insert(second);
+        }
+
+        static Object add(Object pointValue, Object value) {
+            if (pointValue instanceof PointValues multiple) {
+                multiple.insert(value);
+                return multiple;
+            }
+            return new PointValues(pointValue, value);
+        }
+
+        /**
+         * @return null if no values remain
+         */
+        static @Nullable Object remove(Object pointValue, Object value) {
+            if (!(pointValue instanceof PointValues multiple)) {
+                return null;
+            }
+            multiple.delete(value);
+            return multiple.size == 1 ? multiple.values[0] : multiple;
+        }
+
+        static Object first(Object pointValue) {
+            return pointValue instanceof PointValues multiple ? multiple.values[0] : pointValue;
+        }
+
+        static Object last(Object pointValue) {
+            return pointValue instanceof PointValues multiple ? multiple.values[multiple.size - 1] : pointValue;
+        }
+
+        static int size(Object pointValue) {
+            return pointValue instanceof PointValues multiple ? multiple.size : 1;
+        }
+
+        static int copyTo(Object pointValue, Object[] target, int targetIndex) {
+            if (pointValue instanceof PointValues multiple) {
+                System.arraycopy(multiple.values, 0, target, targetIndex, multiple.size);
+                return targetIndex + multiple.size;
+            }
+            target[targetIndex] = pointValue;
+            return targetIndex + 1;
+        }
+
+        private void insert(Object value) {
+            if (size == values.length) {
+                var newValues = new Object[size * 2];
+                System.arraycopy(values, 0, newValues, 0, size);
+                values = newValues;
+            }
+            var hash = System.identityHashCode(value);
+            var i = size;
+            while (i > 0 && System.identityHashCode(values[i - 1]) > hash) {
+                values[i] = values[i - 1];
+                i--;
+            }
+            values[i] = value;
+            size++;
+        }
+
+        private void delete(Object value) {
+            for (var i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    System.arraycopy(values, i + 1, values, i, size - i - 1);
+                    values[--size] = null;
+                    return;
+                }
+            }
+            throw new IllegalStateException("Impossible state: the value (" + value + ") is not in its point ("
+                    + Arrays.toString(values) + ").");
+        }
+
+    }
+
+}
@@ -0,0 +1,124 @@
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import ai.timefold.solver.core.api.score.stream.common.Break;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A run of consecutive points in an {@link IntConsecutiveSetTree}.
+ * When adding fields, remember to add them to the JSON serialization code as well, if you want them exposed.
+ *
+ * @param <Value_>
+ */
+final class IntSequenceImpl<Value_> implements Sequence<Value_, Integer> {
+
+    private final IntConsecutiveSetTree<Value_> sourceTree;
+    private final IntBreakImpl<Value_> previousBreak;
+    int start;
+    int end;
+
+    // Memorized calculations
+    private int count;
+    private Collection<Value_> items;
+
+    IntSequenceImpl(IntConsecutiveSetTree<Value_> sourceTree, int index) {
+        this(sourceTree, index, index);
+    }
+
+    IntSequenceImpl(IntConsecutiveSetTree<Value_> sourceTree, int start, int end) {
+        this.sourceTree = sourceTree;
+        this.previousBreak = new IntBreakImpl<>(this);
+        this.start = start;
+        this.end = end;
+        invalidate();
+    }
+
+    IntConsecutiveSetTree<Value_> getSourceTree() {
+        return sourceTree;
+    }
+
+    @Override
+    public @NonNull Value_ getFirstItem() {
+        return sourceTree.getFirstValue(start);
+    }
+
+    @Override
+    public @NonNull Value_ getLastItem() {
+        return sourceTree.getLastValue(end);
+    }
+
+    @Override
+    public @Nullable Break<Value_, Integer> getPreviousBreak() {
+        return isFirst() ? null : previousBreak;
+    }
+
+    @Override
+    public @Nullable Break<Value_, Integer> getNextBreak() {
+        var nextSequence = sourceTree.getSequenceAfter(this);
+        return nextSequence == null ? null : nextSequence.previousBreak;
+    }
+
+    @Override
+    public boolean isFirst() {
+        return sourceTree.isFirst(this);
+    }
+
+    @Override
+    public boolean isLast() {
+        return sourceTree.isLast(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NonNull Collection<Value_> getItems() {
+        if (items == null) {
+            var values = (Value_[]) sourceTree.getValues(start, end, getCount());
+            return items = Collections.unmodifiableList(Arrays.asList(values));
+        }
+        return items;
+    }
+
+    @Override
+    public int getCount() {
+        if (count < 0) {
+            return count = sourceTree.countValues(start, end);
+        }
+        return count;
+    }
+
+    @Override
+    public @NonNull Integer getLength() {
+        return end - start + 1;
+    }
+
+    void setStart(int start) {
+        this.start = start;
+        invalidate();
+    }
+
+    void setEnd(int end) {
+        this.end = end;
+        invalidate();
+    }
+
+    // Called when the items in the sequence change
+    void invalidate() {
+        count = -1;
+        items = null;
+    }
+
+    @Override
+    public String toString() {
+        return getItems().stream()
+                .map(Object::toString)
+                .collect(Collectors.joining(", ", "Sequence [", "]"));
+    }
+}
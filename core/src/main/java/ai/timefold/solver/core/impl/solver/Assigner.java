@@ -17,16 +17,29 @@ final class Assigner<Solution_, Score_ extends Score<Score_>, Recommendation_, I
     private final ScoreAnalysisFetchPolicy fetchPolicy;
     private final Solution_ originalSolution;
     private final In_ originalElement;
+    private final int resultLimit;
+    private final int threadCount;
+    private final boolean restoreElement;
 
     public Assigner(DefaultSolverFactory<Solution_> solverFactory, Function<In_, Out_> propositionFunction,
             RecommendationConstructor<Score_, Recommendation_, Out_> recommendationConstructor,
-            ScoreAnalysisFetchPolicy fetchPolicy, Solution_ originalSolution, In_ originalElement) {
+            ScoreAnalysisFetchPolicy fetchPolicy, Solution_ originalSolution, In_ originalElement,
+            int resultLimit, int threadCount, boolean restoreElement) {
         this.solverFactory = Objects.requireNonNull(solverFactory);
         this.propositionFunction = Objects.requireNonNull(propositionFunction);
         this.recommendationConstructor = Objects.requireNonNull(recommendationConstructor);
         this.fetchPolicy = Objects.requireNonNull(fetchPolicy);
         this.originalSolution = Objects.requireNonNull(originalSolution);
         this.originalElement = Objects.requireNonNull(originalElement);
+        if (resultLimit < 1) {
+            throw new IllegalArgumentException("The resultLimit (%d) must be at least 1.".formatted(resultLimit));
+        }
+        this.resultLimit = resultLimit;
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("The threadCount (%d) must be at least 1.".formatted(threadCount));
+        }
+        this.threadCount = threadCount;
+        this.restoreElement = restoreElement;
     }
 
     @Override
@@ -41,10 +54,9 @@ final class Assigner<Solution_, Score_ extends Score<Score_>, Recommendation_, I
                     Assignment Recommendation API requires at most one uninitialized element in the solution."""
                     .formatted(originalSolution, uninitializedCount));
         }
-        var originalScoreAnalysis = scoreDirector.buildScoreAnalysis(fetchPolicy);
         var clonedElement = scoreDirector.lookUpWorkingObject(originalElement);
         var processor = new AssignmentProcessor<>(solverFactory, propositionFunction, recommendationConstructor, fetchPolicy,
-                clonedElement, originalScoreAnalysis);
+                originalSolution, clonedElement, resultLimit, threadCount, restoreElement);
         return processor.apply(scoreDirector);
     }
 
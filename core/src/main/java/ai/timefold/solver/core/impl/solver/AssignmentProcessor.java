@@ -1,9 +1,15 @@
 package ai.timefold.solver.core.impl.solver;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.score.Score;
@@ -18,72 +24,57 @@ import ai.timefold.solver.core.impl.domain.variable.inverserelation.SingletonInv
 import ai.timefold.solver.core.impl.heuristic.move.LegacyMoveAdapter;
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.ChangeMove;
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.chained.ChainedChangeMove;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ListAssignMove;
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ListUnassignMove;
 import ai.timefold.solver.core.impl.move.director.MoveDirector;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
 import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
 import ai.timefold.solver.core.preview.api.domain.metamodel.PositionInList;
 import ai.timefold.solver.core.preview.api.move.Move;
 
 final class AssignmentProcessor<Solution_, Score_ extends Score<Score_>, Recommendation_, In_, Out_>
         implements Function<InnerScoreDirector<Solution_, Score_>, List<Recommendation_>> {
 
+    /**
+     * Every move thread first clones the solution, triggers all its variable listeners and analyzes its score,
+     * all from scratch.
+     * A thread which evaluates fewer moves than this does not make up for that.
+     */
+    private static final int MINIMUM_MOVE_COUNT_PER_THREAD = 16;
+
     private final DefaultSolverFactory<Solution_> solverFactory;
     private final Function<In_, Out_> valueResultFunction;
     private final RecommendationConstructor<Score_, Recommendation_, Out_> recommendationConstructor;
     private final ScoreAnalysisFetchPolicy fetchPolicy;
-    private final ScoreAnalysis<Score_> originalScoreAnalysis;
+    private final Solution_ originalSolution;
     private final In_ clonedElement;
+    private final int resultLimit;
+    private final int threadCount;
+    private final boolean restoreElement;
 
     public AssignmentProcessor(DefaultSolverFactory<Solution_> solverFactory, Function<In_, Out_> valueResultFunction,
             RecommendationConstructor<Score_, Recommendation_, Out_> recommendationConstructor,
-            ScoreAnalysisFetchPolicy fetchPolicy, In_ clonedElement, ScoreAnalysis<Score_> originalScoreAnalysis) {
+            ScoreAnalysisFetchPolicy fetchPolicy, Solution_ originalSolution, In_ clonedElement, int resultLimit,
+            int threadCount, boolean restoreElement) {
         this.solverFactory = Objects.requireNonNull(solverFactory);
         this.valueResultFunction = valueResultFunction;
         this.recommendationConstructor = Objects.requireNonNull(recommendationConstructor);
         this.fetchPolicy = Objects.requireNonNull(fetchPolicy);
-        this.originalScoreAnalysis = Objects.requireNonNull(originalScoreAnalysis);
+        this.originalSolution = Objects.requireNonNull(originalSolution);
         this.clonedElement = clonedElement;
+        this.resultLimit = resultLimit;
+        this.threadCount = threadCount;
+        this.restoreElement = restoreElement;
     }
 
     @Override
     public List<Recommendation_> apply(InnerScoreDirector<Solution_, Score_> scoreDirector) {
-        // The cloned element may already be assigned.
-        // If it is, we need to unassign it before we can run the construction heuristic.
-        var moveDirector = scoreDirector.getMoveDirector();
-        var supplyManager = scoreDirector.getSupplyManager();
-        var solutionDescriptor = solverFactory.getSolutionDescriptor();
-        var listVariableDescriptor = solutionDescriptor.getListVariableDescriptor();
-        if (listVariableDescriptor != null) {
-            var demand = listVariableDescriptor.getStateDemand();
-            var listVariableStateSupply = supplyManager.demand(demand);
-            var elementPosition = listVariableStateSupply.getElementPosition(clonedElement);
-            if (elementPosition instanceof PositionInList positionInList) { // Unassign the cloned element.
-                var entity = positionInList.entity();
-                var index = positionInList.index();
-                wrapAndExecute(moveDirector, new ListUnassignMove<>(listVariableDescriptor, entity, index));
-            }
-            supplyManager.cancel(demand);
-        } else {
-            var entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(clonedElement.getClass());
-            for (var variableDescriptor : entityDescriptor.getGenuineVariableDescriptorList()) {
-                var basicVariableDescriptor = (BasicVariableDescriptor<Solution_>) variableDescriptor;
-                if (basicVariableDescriptor.getValue(clonedElement) == null) {
-                    // The variable is already unassigned.
-                    continue;
-                }
-                // Uninitialize the basic variable.
-                if (basicVariableDescriptor.isChained()) {
-                    var demand = new SingletonInverseVariableDemand<>(basicVariableDescriptor);
-                    var supply = supplyManager.demand(demand);
-                    wrapAndExecute(moveDirector, new ChainedChangeMove<>(basicVariableDescriptor, clonedElement, null, supply));
-                    supplyManager.cancel(demand);
-                } else {
-                    wrapAndExecute(moveDirector, new ChangeMove<>(basicVariableDescriptor, clonedElement, null));
-                }
-            }
-        }
-        scoreDirector.triggerVariableListeners();
+        // Move threads analyze the original score on their own clones instead.
+        var originalScoreAnalysis = threadCount == 1 ? scoreDirector.buildScoreAnalysis(fetchPolicy) : null;
+        var reassignment = unassign(scoreDirector, clonedElement);
 
         // The placers needs to be filtered.
         // If anything else than the cloned element is unassigned, we want to keep it unassigned.
@@ -100,7 +91,8 @@ final class AssignmentProcessor<Solution_, Score_ extends Score<Score_>, Recomme
         entityPlacer.phaseStarted(phaseScope);
         entityPlacer.stepStarted(stepScope);
 
-        try (scoreDirector) {
+        List<Recommendation_> recommendedAssignmentList;
+        try {
             var placementIterator = entityPlacer.iterator();
             if (!placementIterator.hasNext()) {
                 throw new IllegalStateException("""
@@ -108,19 +100,108 @@ final class AssignmentProcessor<Solution_, Score_ extends Score<Score_>, Recomme
                         """.formatted(entityPlacer));
             }
             var placement = placementIterator.next();
-            var recommendedAssignmentList = new ArrayList<Recommendation_>();
-            var moveIndex = 0L;
-            for (var move : placement) {
-                recommendedAssignmentList.add(execute(scoreDirector, move, moveIndex, clonedElement, valueResultFunction));
-                moveIndex++;
+            if (threadCount == 1) {
+                recommendedAssignmentList = executeSequentially(scoreDirector, placement, originalScoreAnalysis);
+            } else {
+                // Moves are selected on this thread, as the selectors are not thread-safe.
+                var moveList = new ArrayList<Move<Solution_>>();
+                placement.forEach(moveList::add);
+                var moveThreadCount = Math.min(threadCount, moveList.size() / MINIMUM_MOVE_COUNT_PER_THREAD);
+                if (moveThreadCount > 1) {
+                    recommendedAssignmentList = executeInParallel(moveList, moveThreadCount);
+                } else {
+                    // Too few moves for multiple threads; the original score needs to be analyzed here after all.
+                    reassignment.run();
+                    originalScoreAnalysis = scoreDirector.buildScoreAnalysis(fetchPolicy);
+                    // Unassigns the element from the same place, so the reassignment still applies.
+                    unassign(scoreDirector, clonedElement);
+                    recommendedAssignmentList = executeSequentially(scoreDirector, moveList, originalScoreAnalysis);
+                }
             }
-            recommendedAssignmentList.sort(null);
-            return recommendedAssignmentList;
         } finally {
             entityPlacer.stepEnded(stepScope);
             entityPlacer.phaseEnded(phaseScope);
             entityPlacer.solvingEnded(solverScope);
+            if (restoreElement) { // The score director will be used again afterwards, even if this failed.
+                reassignment.run();
+            }
+        }
+        recommendedAssignmentList.sort(null);
+        if (recommendedAssignmentList.size() > resultLimit) { // Only when the threads found more between them.
+            return new ArrayList<>(recommendedAssignmentList.subList(0, resultLimit));
+        }
+        return recommendedAssignmentList;
+    }
+
+    private List<Recommendation_> executeSequentially(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            Iterable<Move<Solution_>> moves, ScoreAnalysis<Score_> originalScoreAnalysis) {
+        var topRecommendations = new TopRecommendations();
+        var moveIndex = 0L;
+        for (var move : moves) {
+            execute(scoreDirector, move, moveIndex, clonedElement, originalScoreAnalysis, topRecommendations);
+            moveIndex++;
         }
+        return topRecommendations.toList();
+    }
+
+    /**
+     * @return never null, reassigns the element as it was before it was unassigned
+     */
+    private Runnable unassign(InnerScoreDirector<Solution_, Score_> scoreDirector, In_ element) {
+        // The element may already be assigned.
+        // If it is, we need to unassign it before we can run the construction heuristic.
+        var moveDirector = scoreDirector.getMoveDirector();
+        var supplyManager = scoreDirector.getSupplyManager();
+        var solutionDescriptor = solverFactory.getSolutionDescriptor();
+        var listVariableDescriptor = solutionDescriptor.getListVariableDescriptor();
+        var reassignMoveList = new ArrayList<Runnable>();
+        if (listVariableDescriptor != null) {
+            var demand = listVariableDescriptor.getStateDemand();
+            var listVariableStateSupply = supplyManager.demand(demand);
+            var elementPosition = listVariableStateSupply.getElementPosition(element);
+            if (elementPosition instanceof PositionInList positionInList) { // Unassign the element.
+                var entity = positionInList.entity();
+                var index = positionInList.index();
+                wrapAndExecute(moveDirector, new ListUnassignMove<>(listVariableDescriptor, entity, index));
+                reassignMoveList.add(() -> wrapAndExecute(moveDirector,
+                        new ListAssignMove<>(listVariableDescriptor, element, entity, index)));
+            }
+            supplyManager.cancel(demand);
+        } else {
+            var entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(element.getClass());
+            for (var variableDescriptor : entityDescriptor.getGenuineVariableDescriptorList()) {
+                var basicVariableDescriptor = (BasicVariableDescriptor<Solution_>) variableDescriptor;
+                var value = basicVariableDescriptor.getValue(element);
+                if (value == null) {
+                    // The variable is already unassigned.
+                    continue;
+                }
+                // Uninitialize the basic variable.
+                if (basicVariableDescriptor.isChained()) {
+                    executeChainedChangeMove(scoreDirector, basicVariableDescriptor, element, null);
+                    reassignMoveList
+                            .add(() -> executeChainedChangeMove(scoreDirector, basicVariableDescriptor, element, value));
+                } else {
+                    wrapAndExecute(moveDirector, new ChangeMove<>(basicVariableDescriptor, element, null));
+                    reassignMoveList.add(
+                            () -> wrapAndExecute(moveDirector, new ChangeMove<>(basicVariableDescriptor, element, value)));
+                }
+            }
+        }
+        scoreDirector.triggerVariableListeners();
+        return () -> {
+            reassignMoveList.forEach(Runnable::run);
+            scoreDirector.triggerVariableListeners();
+        };
+    }
+
+    private void executeChainedChangeMove(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            BasicVariableDescriptor<Solution_> variableDescriptor, Object entity, Object toValue) {
+        var supplyManager = scoreDirector.getSupplyManager();
+        var demand = new SingletonInverseVariableDemand<>(variableDescriptor);
+        var supply = supplyManager.demand(demand);
+        wrapAndExecute(scoreDirector.getMoveDirector(), new ChainedChangeMove<>(variableDescriptor, entity, toValue, supply));
+        supplyManager.cancel(demand);
     }
 
     private void wrapAndExecute(MoveDirector<Solution_, Score_> moveDirector,
@@ -151,15 +232,127 @@ final class AssignmentProcessor<Solution_, Score_ extends Score<Score_>, Recomme
         }
     }
 
-    private Recommendation_ execute(InnerScoreDirector<Solution_, Score_> scoreDirector, Move<Solution_> move, long moveIndex,
-            In_ clonedElement, Function<In_, Out_> propositionFunction) {
-        return scoreDirector.getMoveDirector().executeTemporary(move,
-                (moveDirector, score) -> {
+    /**
+     * Evaluates the moves on multiple threads.
+     * Every thread has its own score director with its own planning clone of the original solution,
+     * to which it {@link Move#rebase rebases} the moves.
+     * Every thread also analyzes the original score on its own clone,
+     * because constraint matches of different clones never equal each other.
+     * The recommendations keep the index of their move, so sorting them gives the same order as a sequential evaluation.
+     * Every thread keeps its own top recommendations;
+     * the best of all of them are among those, so the caller only needs to sort and limit their union.
+     */
+    private List<Recommendation_> executeInParallel(List<Move<Solution_>> moveList, int moveThreadCount) {
+        // Every thread takes the next unevaluated move, so a few slow moves do not hold up the others.
+        var nextIndex = new AtomicInteger(0);
+        var taskList = new ArrayList<Callable<List<Recommendation_>>>(moveThreadCount);
+        for (var i = 0; i < moveThreadCount; i++) {
+            taskList.add(() -> {
+                var topRecommendations = new TopRecommendations();
+                try (var moveThreadScoreDirector = buildMoveThreadScoreDirector()) {
+                    var moveThreadScoreAnalysis = moveThreadScoreDirector.buildScoreAnalysis(fetchPolicy);
+                    var moveThreadElement = moveThreadScoreDirector.lookUpWorkingObject(clonedElement);
+                    unassign(moveThreadScoreDirector, moveThreadElement);
+                    int index;
+                    while ((index = nextIndex.getAndIncrement()) < moveList.size()) {
+                        var move = moveList.get(index).rebase(moveThreadScoreDirector.getMoveDirector());
+                        execute(moveThreadScoreDirector, move, index, moveThreadElement, moveThreadScoreAnalysis,
+                                topRecommendations);
+                    }
+                }
+                return topRecommendations.toList();
+            });
+        }
+        var executor = Executors.newFixedThreadPool(moveThreadCount, solverFactory.buildThreadFactory(ChildThreadType.MOVE_THREAD));
+        try {
+            var recommendationList = new ArrayList<Recommendation_>();
+            for (var future : executor.invokeAll(taskList)) {
+                recommendationList.addAll(future.get());
+            }
+            return recommendationList;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Assignment Recommendation API was interrupted while evaluating placements.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Assignment Recommendation API failed to evaluate a placement.", e.getCause());
+        } finally {
+            ThreadUtils.shutdownAwaitOrKill(executor, "", "Assignment Recommendation API");
+        }
+    }
+
+    private InnerScoreDirector<Solution_, Score_> buildMoveThreadScoreDirector() {
+        // Cloning only reads the original solution, so every thread can clone it at the same time.
+        var scoreDirector = solverFactory.<Score_> getScoreDirectorFactory().createScoreDirectorBuilder()
+                .withLookUpEnabled(true)
+                .withConstraintMatchPolicy(ConstraintMatchPolicy.match(fetchPolicy))
+                .withExpectShadowVariablesInCorrectState(false)
+                .buildDerived();
+        scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(originalSolution));
+        scoreDirector.forceTriggerVariableListeners();
+        return scoreDirector;
+    }
+
+    private void execute(InnerScoreDirector<Solution_, Score_> scoreDirector, Move<Solution_> move, long moveIndex,
+            In_ evaluatedElement, ScoreAnalysis<Score_> referenceScoreAnalysis, TopRecommendations topRecommendations) {
+        scoreDirector.getMoveDirector().executeTemporary(move,
+                (score, undoMove) -> {
+                    // The score analysis and the proposition are by far the most expensive part,
+                    // so they are skipped for placements which would not make it into the result anyway.
+                    if (!topRecommendations.accepts(score.raw(), moveIndex)) {
+                        return null;
+                    }
                     var newScoreAnalysis = scoreDirector.buildScoreAnalysis(fetchPolicy);
-                    var newScoreDifference = newScoreAnalysis.diff(originalScoreAnalysis);
-                    var result = propositionFunction.apply(clonedElement);
-                    return recommendationConstructor.apply(moveIndex, result, newScoreDifference);
+                    var newScoreDifference = newScoreAnalysis.diff(referenceScoreAnalysis);
+                    var result = valueResultFunction.apply(evaluatedElement);
+                    topRecommendations.add(score.raw(), moveIndex,
+                            recommendationConstructor.apply(moveIndex, result, newScoreDifference));
+                    return null;
                 });
     }
 
+    /**
+     * Keeps the best {@link #resultLimit} recommendations seen so far, by score and then by move index,
+     * which is the same order as the one of the recommendations themselves.
+     * The score difference of a recommendation is its score minus the same original score,
+     * so the score of the placement is enough to compare them before the recommendation exists.
+     * Not thread-safe.
+     */
+    private final class TopRecommendations {
+
+        // The worst of the kept recommendations is at the head, so that it is the first one to go.
+        private final PriorityQueue<RankedRecommendation<Score_, Recommendation_>> queue =
+                new PriorityQueue<>(Comparator.<RankedRecommendation<Score_, Recommendation_>, Score_> comparing(
+                        RankedRecommendation::score)
+                        .thenComparing(RankedRecommendation::moveIndex, Comparator.reverseOrder()));
+
+        boolean accepts(Score_ score, long moveIndex) {
+            if (queue.size() < resultLimit) {
+                return true;
+            }
+            var worst = queue.peek();
+            return score.compareTo(worst.score()) > 0
+                    || (score.compareTo(worst.score()) == 0 && moveIndex < worst.moveIndex());
+        }
+
+        void add(Score_ score, long moveIndex, Recommendation_ recommendation) {
+            queue.add(new RankedRecommendation<>(score, moveIndex, recommendation));
+            if (queue.size() > resultLimit) {
+                queue.poll();
+            }
+        }
+
+        List<Recommendation_> toList() {
+            var recommendationList = new ArrayList<Recommendation_>(queue.size());
+            for (var rankedRecommendation : queue) {
+                recommendationList.add(rankedRecommendation.recommendation());
+            }
+            return recommendationList;
+        }
+
+    }
+
+    private record RankedRecommendation<Score_ extends Score<Score_>, Recommendation_>(Score_ score, long moveIndex,
+            Recommendation_ recommendation) {
+    }
+
 }
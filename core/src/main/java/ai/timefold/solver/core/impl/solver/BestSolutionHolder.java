@@ -10,6 +10,7 @@ import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import ai.timefold.solver.core.api.solver.Solver;
@@ -101,7 +102,8 @@ final class BestSolutionHolder<Solution_> {
                 .stream()
                 .flatMap(Collection::stream)
                 .toList();
-        return new BestSolutionContainingProblemChanges<>(latestVersionedBestSolution.bestSolution(), containedProblemChanges);
+        return new BestSolutionContainingProblemChanges<>(latestVersionedBestSolution.bestSolution().get(),
+                containedProblemChanges);
     }
 
     private synchronized @Nullable VersionedBestSolution<Solution_> resetVersionedBestSolution() {
@@ -121,10 +123,12 @@ final class BestSolutionHolder<Solution_> {
      * Sets the new best solution if all known problem changes have been processed
      * and thus are contained in this best solution.
      *
-     * @param bestSolution the new best solution that replaces the previous one if there is any
+     * @param bestSolution the new best solution that replaces the previous one if there is any;
+     *        only planning cloned by {@link #take()}, so that a best solution which is replaced before it is taken
+     *        is never planning cloned at all
      * @param isEveryProblemChangeProcessed a supplier that tells if all problem changes have been processed
      */
-    void set(Solution_ bestSolution, BooleanSupplier isEveryProblemChangeProcessed) {
+    void set(Supplier<Solution_> bestSolution, BooleanSupplier isEveryProblemChangeProcessed) {
         // The new best solution can be accepted only if there are no pending problem changes
         // nor any additional changes may come during this operation.
         // Otherwise, a race condition might occur
@@ -170,7 +174,7 @@ final class BestSolutionHolder<Solution_> {
                 .forEach(pendingProblemChange -> pendingProblemChange.cancel(false));
     }
 
-    private record VersionedBestSolution<Solution_>(Solution_ bestSolution, BigInteger version) {
+    private record VersionedBestSolution<Solution_>(Supplier<Solution_> bestSolution, BigInteger version) {
     }
 
 }
@@ -1,12 +1,19 @@
 package ai.timefold.solver.core.impl.solver;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import ai.timefold.solver.core.api.solver.SolverJobBuilder.FirstInitializedSolutionConsumer;
 
@@ -22,7 +29,14 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
     private final Semaphore firstSolutionConsumption = new Semaphore(1);
     private final Semaphore startSolverJobConsumption = new Semaphore(1);
     private final BestSolutionHolder<Solution_> bestSolutionHolder;
-    private final ExecutorService consumerExecutor = Executors.newSingleThreadExecutor();
+    private final ExecutorService ownConsumerExecutor; // Null when the consumers run on a shared executor.
+    private final SerialExecutor sharedConsumerExecutor; // Null when the consumers run on their own thread.
+    private final Executor consumerExecutor;
+    private final long bestSolutionConsumerIntervalNanos;
+    private volatile long lastBestSolutionConsumptionNanos;
+    // Completed when the bestSolutionConsumerInterval has passed, or earlier when the final best solution arrives.
+    private volatile CompletableFuture<Void> delayedConsumptionTrigger = null;
+    private volatile boolean finalBestSolutionArrived = false;
     private Solution_ firstInitializedSolution;
     private Solution_ initialSolution;
 
@@ -32,6 +46,24 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
             Consumer<? super Solution_> solverJobStartedConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
             BestSolutionHolder<Solution_> bestSolutionHolder) {
+        this(problemId, bestSolutionConsumer, finalBestSolutionConsumer, firstInitializedSolutionConsumer,
+                solverJobStartedConsumer, exceptionHandler, bestSolutionHolder, null, null);
+    }
+
+    /**
+     * @param bestSolutionConsumerInterval null or zero to consume every best solution as soon as the consumer is idle,
+     *        otherwise the minimum time between the start of two consecutive intermediate best solution consumptions
+     * @param consumerExecutor null to run the consumers on a new thread of their own,
+     *        otherwise an executor which may be shared with other solver jobs;
+     *        the consumers of this job still run one at a time, in order
+     */
+    public ConsumerSupport(ProblemId_ problemId, Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            FirstInitializedSolutionConsumer<? super Solution_> firstInitializedSolutionConsumer,
+            Consumer<? super Solution_> solverJobStartedConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            BestSolutionHolder<Solution_> bestSolutionHolder, Duration bestSolutionConsumerInterval,
+            Executor consumerExecutor) {
         this.problemId = problemId;
         this.bestSolutionConsumer = bestSolutionConsumer;
         this.finalBestSolutionConsumer = finalBestSolutionConsumer == null ? finalBestSolution -> {
@@ -41,12 +73,24 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
         this.solverJobStartedConsumer = solverJobStartedConsumer;
         this.exceptionHandler = exceptionHandler;
         this.bestSolutionHolder = bestSolutionHolder;
+        if (consumerExecutor == null) {
+            this.ownConsumerExecutor = Executors.newSingleThreadExecutor();
+            this.sharedConsumerExecutor = null;
+            this.consumerExecutor = ownConsumerExecutor;
+        } else {
+            this.ownConsumerExecutor = null;
+            this.sharedConsumerExecutor = new SerialExecutor(consumerExecutor);
+            this.consumerExecutor = sharedConsumerExecutor;
+        }
+        this.bestSolutionConsumerIntervalNanos =
+                bestSolutionConsumerInterval == null ? 0L : bestSolutionConsumerInterval.toNanos();
+        this.lastBestSolutionConsumptionNanos = System.nanoTime() - bestSolutionConsumerIntervalNanos;
         this.firstInitializedSolution = null;
         this.initialSolution = null;
     }
 
     // Called on the Solver thread.
-    void consumeIntermediateBestSolution(Solution_ bestSolution, BooleanSupplier isEveryProblemChangeProcessed) {
+    void consumeIntermediateBestSolution(Supplier<Solution_> bestSolution, BooleanSupplier isEveryProblemChangeProcessed) {
         /*
          * If the bestSolutionConsumer is not provided, the best solution is still set for the purpose of recording
          * problem changes.
@@ -90,6 +134,9 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
 
     // Called on the Solver thread after Solver#solve() returns.
     void consumeFinalBestSolution(Solution_ finalBestSolution) {
+        // Don't hold the solver thread until the bestSolutionConsumerInterval has passed.
+        finalBestSolutionArrived = true;
+        skipDelay(delayedConsumptionTrigger);
         try {
             acquireAll();
         } catch (InterruptedException e) {
@@ -100,9 +147,9 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
         // Situation:
         // The consumer is consuming the last but one best solution. The final best solution is waiting for the consumer.
         if (bestSolutionConsumer != null) {
-            scheduleIntermediateBestSolutionConsumption();
+            scheduleIntermediateBestSolutionConsumption(consumerExecutor);
         }
-        consumerExecutor.submit(() -> {
+        consumerExecutor.execute(() -> {
             try {
                 finalBestSolutionConsumer.accept(finalBestSolution);
             } catch (Throwable throwable) {
@@ -129,8 +176,40 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
             return; // There is no best solution to consume.
         }
         if (activeConsumption.tryAcquire()) {
-            scheduleIntermediateBestSolutionConsumption().thenRunAsync(this::tryConsumeWaitingIntermediateBestSolution,
-                    consumerExecutor);
+            // Any best solution that arrives in the meantime replaces the waiting one in the holder.
+            var delayNanos = finalBestSolutionArrived ? 0L
+                    : lastBestSolutionConsumptionNanos + bestSolutionConsumerIntervalNanos - System.nanoTime();
+            CompletableFuture<Void> consumption;
+            if (delayNanos > 0L) {
+                var trigger = new CompletableFuture<Void>();
+                delayedConsumptionTrigger = trigger;
+                CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, consumerExecutor)
+                        .execute(() -> trigger.complete(null));
+                // The final best solution may have arrived before the trigger was visible to consumeFinalBestSolution().
+                if (finalBestSolutionArrived) {
+                    skipDelay(trigger);
+                }
+                consumption = trigger.thenCompose(ignored -> scheduleWaitingIntermediateBestSolutionConsumption());
+            } else {
+                consumption = scheduleWaitingIntermediateBestSolutionConsumption();
+            }
+            consumption.thenRunAsync(this::tryConsumeWaitingIntermediateBestSolution, consumerExecutor);
+        }
+    }
+
+    private CompletableFuture<Void> scheduleWaitingIntermediateBestSolutionConsumption() {
+        try {
+            return scheduleIntermediateBestSolutionConsumption(consumerExecutor);
+        } catch (RejectedExecutionException e) {
+            // Otherwise no best solution would ever be consumed again.
+            activeConsumption.release();
+            throw e;
+        }
+    }
+
+    private static void skipDelay(CompletableFuture<Void> trigger) {
+        if (trigger != null) {
+            trigger.complete(null);
         }
     }
 
@@ -138,10 +217,11 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
      * Called both on the Solver thread and the Consumer thread.
      * Don't call without locking, otherwise multiple consumptions may be scheduled.
      */
-    private CompletableFuture<Void> scheduleIntermediateBestSolutionConsumption() {
+    private CompletableFuture<Void> scheduleIntermediateBestSolutionConsumption(Executor executor) {
         return CompletableFuture.runAsync(() -> {
             BestSolutionContainingProblemChanges<Solution_> bestSolutionContainingProblemChanges = bestSolutionHolder.take();
             if (bestSolutionContainingProblemChanges != null) {
+                lastBestSolutionConsumptionNanos = System.nanoTime();
                 try {
                     bestSolutionConsumer.accept(bestSolutionContainingProblemChanges.getBestSolution());
                     bestSolutionContainingProblemChanges.completeProblemChanges();
@@ -154,7 +234,7 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
                     activeConsumption.release();
                 }
             }
-        }, consumerExecutor);
+        }, executor);
     }
 
     /**
@@ -222,6 +302,68 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
     }
 
     private void disposeConsumerThread() {
-        consumerExecutor.shutdownNow();
+        if (ownConsumerExecutor != null) {
+            ownConsumerExecutor.shutdownNow();
+        } else {
+            sharedConsumerExecutor.shutdown();
+        }
     }
+
+    /**
+     * Runs the tasks of a single solver job one at a time, in order, on an executor shared by many solver jobs.
+     * Unlike a single thread executor, it does not hold on to a thread while there are no tasks.
+     */
+    private static final class SerialExecutor implements Executor {
+
+        private final Executor delegate;
+        private final Queue<Runnable> taskQueue = new ArrayDeque<>();
+        private Runnable activeTask = null;
+        private boolean shutdown = false;
+
+        SerialExecutor(Executor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized void execute(Runnable task) {
+            if (shutdown) {
+                // Same as a shut down single thread executor.
+                // Otherwise a CompletableFuture of the task would never complete.
+                throw new RejectedExecutionException("The consumer executor of the solver job is already shut down.");
+            }
+            taskQueue.add(() -> {
+                try {
+                    task.run();
+                } finally {
+                    scheduleNext();
+                }
+            });
+            if (activeTask == null) {
+                scheduleNext();
+            }
+        }
+
+        private synchronized void scheduleNext() {
+            activeTask = taskQueue.poll();
+            if (activeTask != null) {
+                try {
+                    delegate.execute(activeTask);
+                } catch (RejectedExecutionException e) {
+                    // Otherwise the tasks queued after this one would never be scheduled.
+                    activeTask = null;
+                    throw e;
+                }
+            }
+        }
+
+        /**
+         * Drops the tasks which have not started yet and rejects all tasks submitted afterwards.
+         */
+        synchronized void shutdown() {
+            shutdown = true;
+            taskQueue.clear();
+        }
+
+    }
+
 }
@@ -12,6 +12,7 @@ import ai.timefold.solver.core.api.solver.RecommendedAssignment;
 import ai.timefold.solver.core.api.solver.RecommendedFit;
 import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
 import ai.timefold.solver.core.api.solver.SolutionManager;
+import ai.timefold.solver.core.api.solver.SolutionSession;
 import ai.timefold.solver.core.api.solver.SolutionUpdatePolicy;
 import ai.timefold.solver.core.api.solver.SolverFactory;
 import ai.timefold.solver.core.api.solver.SolverManager;
@@ -136,12 +137,25 @@ public final class DefaultSolutionManager<Solution_, Score_ extends Score<Score_
                 .diff(oldSolution, newSolution);
     }
 
+    @Override
+    public @NonNull SolutionSession<Solution_, Score_> openSession(@NonNull Solution_ solution) {
+        return new DefaultSolutionSession<>(solverFactory, solution);
+    }
+
     @Override
     public @NonNull <In_, Out_> List<RecommendedAssignment<Out_, Score_>> recommendAssignment(@NonNull Solution_ solution,
             @NonNull In_ evaluatedEntityOrElement, @NonNull Function<In_, Out_> propositionFunction,
             @NonNull ScoreAnalysisFetchPolicy fetchPolicy) {
+        return recommendAssignment(solution, evaluatedEntityOrElement, propositionFunction, fetchPolicy, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public @NonNull <In_, Out_> List<RecommendedAssignment<Out_, Score_>> recommendAssignment(@NonNull Solution_ solution,
+            @NonNull In_ evaluatedEntityOrElement, @NonNull Function<In_, Out_> propositionFunction,
+            @NonNull ScoreAnalysisFetchPolicy fetchPolicy, int resultLimit, int threadCount) {
         var assigner = new Assigner<Solution_, Score_, RecommendedAssignment<Out_, Score_>, In_, Out_>(solverFactory,
-                propositionFunction, DefaultRecommendedAssignment::new, fetchPolicy, solution, evaluatedEntityOrElement);
+                propositionFunction, DefaultRecommendedAssignment::new, fetchPolicy, solution, evaluatedEntityOrElement,
+                resultLimit, threadCount, false);
         return callScoreDirector(solution, SolutionUpdatePolicy.UPDATE_ALL, assigner, ConstraintMatchPolicy.match(fetchPolicy),
                 true);
     }
@@ -150,7 +164,8 @@ public final class DefaultSolutionManager<Solution_, Score_ extends Score<Score_
     public <In_, Out_> List<RecommendedFit<Out_, Score_>> recommendFit(Solution_ solution, In_ fittedEntityOrElement,
             Function<In_, Out_> propositionFunction, ScoreAnalysisFetchPolicy fetchPolicy) {
         var assigner = new Assigner<Solution_, Score_, RecommendedFit<Out_, Score_>, In_, Out_>(solverFactory,
-                propositionFunction, DefaultRecommendedFit::new, fetchPolicy, solution, fittedEntityOrElement);
+                propositionFunction, DefaultRecommendedFit::new, fetchPolicy, solution, fittedEntityOrElement,
+                Integer.MAX_VALUE, 1, false);
         return callScoreDirector(solution, SolutionUpdatePolicy.UPDATE_ALL, assigner, ConstraintMatchPolicy.match(fetchPolicy),
                 true);
     }
@@ -0,0 +1,100 @@
+package ai.timefold.solver.core.impl.solver;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
+import ai.timefold.solver.core.api.solver.RecommendedAssignment;
+import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
+import ai.timefold.solver.core.api.solver.SolutionSession;
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.change.DefaultProblemChangeDirector;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Keeps one score director, and therefore one constraint stream session, for the lifetime of the session.
+ * Constraint matching is always enabled, as every query needs it.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class DefaultSolutionSession<Solution_, Score_ extends Score<Score_>>
+        implements SolutionSession<Solution_, Score_> {
+
+    private final DefaultSolverFactory<Solution_> solverFactory;
+    private final InnerScoreDirector<Solution_, Score_> scoreDirector;
+    private final DefaultProblemChangeDirector<Solution_> problemChangeDirector;
+    private boolean closed = false;
+
+    public DefaultSolutionSession(DefaultSolverFactory<Solution_> solverFactory, Solution_ solution) {
+        this.solverFactory = Objects.requireNonNull(solverFactory);
+        this.scoreDirector = solverFactory.<Score_> getScoreDirectorFactory().createScoreDirectorBuilder()
+                .withLookUpEnabled(true)
+                .withConstraintMatchPolicy(ConstraintMatchPolicy.ENABLED)
+                .withExpectShadowVariablesInCorrectState(false)
+                .build();
+        if (!scoreDirector.getConstraintMatchPolicy().isEnabled()) {
+            scoreDirector.close();
+            throw new IllegalStateException("""
+                    Requested constraint matching but score director doesn't support it.
+                    Maybe use Constraint Streams instead of Easy or Incremental score calculator?""");
+        }
+        scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(Objects.requireNonNull(solution)));
+        scoreDirector.forceTriggerVariableListeners();
+        this.problemChangeDirector = new DefaultProblemChangeDirector<>(scoreDirector);
+    }
+
+    @Override
+    public void applyProblemChange(@NonNull ProblemChange<Solution_> problemChange) {
+        assertNotClosed();
+        problemChange.doChange(scoreDirector.getWorkingSolution(), problemChangeDirector);
+        scoreDirector.triggerVariableListeners();
+    }
+
+    @Override
+    public @NonNull Solution_ update() {
+        assertNotClosed();
+        scoreDirector.triggerVariableListeners();
+        scoreDirector.calculateScore();
+        return scoreDirector.cloneWorkingSolution();
+    }
+
+    @Override
+    public @NonNull ScoreAnalysis<Score_> analyze(@NonNull ScoreAnalysisFetchPolicy fetchPolicy) {
+        assertNotClosed();
+        return scoreDirector.buildScoreAnalysis(Objects.requireNonNull(fetchPolicy, "fetchPolicy"));
+    }
+
+    @Override
+    public <In_, Out_> @NonNull List<RecommendedAssignment<Out_, Score_>> recommendAssignment(
+            @NonNull In_ evaluatedEntityOrElement, @NonNull Function<In_, Out_> propositionFunction,
+            @NonNull ScoreAnalysisFetchPolicy fetchPolicy, int resultLimit) {
+        assertNotClosed();
+        // Always on this thread, as move threads would each clone the working solution and calculate its score again.
+        var assigner = new Assigner<Solution_, Score_, RecommendedAssignment<Out_, Score_>, In_, Out_>(solverFactory,
+                propositionFunction, DefaultRecommendedAssignment::new, fetchPolicy, scoreDirector.getWorkingSolution(),
+                evaluatedEntityOrElement, resultLimit, 1, true);
+        return assigner.apply(scoreDirector);
+    }
+
+    private void assertNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("The %s is already closed."
+                    .formatted(SolutionSession.class.getSimpleName()));
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            scoreDirector.close();
+        }
+    }
+
+}
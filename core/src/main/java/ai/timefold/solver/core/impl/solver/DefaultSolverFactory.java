@@ -7,6 +7,8 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.OptionalInt;
+import java.util.concurrent.ThreadFactory;
+import java.util.stream.Stream;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
@@ -26,7 +28,9 @@ import ai.timefold.solver.core.config.solver.random.RandomType;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
 import ai.timefold.solver.core.config.util.ConfigUtils;
 import ai.timefold.solver.core.impl.AbstractFromConfigFactory;
+import ai.timefold.solver.core.impl.bavet.common.NodeNetworkProfiler;
 import ai.timefold.solver.core.impl.constructionheuristic.DefaultConstructionHeuristicPhaseFactory;
+import ai.timefold.solver.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
@@ -35,6 +39,7 @@ import ai.timefold.solver.core.impl.phase.PhaseFactory;
 import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
 import ai.timefold.solver.core.impl.score.director.ScoreDirectorFactory;
 import ai.timefold.solver.core.impl.score.director.ScoreDirectorFactoryFactory;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
 import ai.timefold.solver.core.impl.solver.change.DefaultProblemChangeDirector;
 import ai.timefold.solver.core.impl.solver.random.DefaultRandomFactory;
 import ai.timefold.solver.core.impl.solver.random.RandomFactory;
@@ -45,6 +50,7 @@ import ai.timefold.solver.core.impl.solver.termination.BasicPlumbingTermination;
 import ai.timefold.solver.core.impl.solver.termination.SolverTermination;
 import ai.timefold.solver.core.impl.solver.termination.TerminationFactory;
 import ai.timefold.solver.core.impl.solver.termination.UniversalTermination;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -117,18 +123,55 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                     metricsRequiringConstraintMatchSet);
         }
 
-        var castScoreDirector = scoreDirectorFactory.createScoreDirectorBuilder()
+        var scoreDirectorBuilder = scoreDirectorFactory.createScoreDirectorBuilder()
                 .withLookUpEnabled(true)
                 .withConstraintMatchPolicy(
-                        constraintMatchEnabled ? ConstraintMatchPolicy.ENABLED : ConstraintMatchPolicy.DISABLED)
-                .build();
+                        constraintMatchEnabled ? ConstraintMatchPolicy.ENABLED : ConstraintMatchPolicy.DISABLED);
+        var nodeNetworkProfilingMetricSet = Stream.of(SolverMetric.CONSTRAINT_NODE_PROFILE,
+                SolverMetric.CONSTRAINT_EVALUATION_TIME)
+                .filter(solverScope::isMetricEnabled)
+                .toList();
+        if (!nodeNetworkProfilingMetricSet.isEmpty()) {
+            if (scoreDirectorBuilder instanceof BavetConstraintStreamScoreDirector.Builder<?, ?> bavetBuilder) {
+                // The node profile reports exact times, the evaluation time can do with sampling.
+                var sampleInterval = nodeNetworkProfilingMetricSet.contains(SolverMetric.CONSTRAINT_NODE_PROFILE)
+                        ? 1
+                        : NodeNetworkProfiler.DEFAULT_SAMPLE_INTERVAL;
+                LOGGER.info("Enabling node network profiling as required by the enabled metrics ({}), "
+                        + "timing 1 in {} tuple operations. This will impact solver performance.",
+                        nodeNetworkProfilingMetricSet, sampleInterval);
+                bavetBuilder.withNodeNetworkProfilingSampleInterval(sampleInterval);
+            } else {
+                LOGGER.warn("The enabled metrics ({}) only apply to constraint streams, not to the score director ({}).",
+                        nodeNetworkProfilingMetricSet, scoreDirectorFactory.getClass().getSimpleName());
+            }
+        }
+        var castScoreDirector = scoreDirectorBuilder.build();
+        var previewFeaturesEnabled = solverConfig.getEnablePreviewFeatureSet();
+        if (previewFeaturesEnabled != null && previewFeaturesEnabled.contains(PreviewFeature.DELTA_CLONING)) {
+            if (solutionDescriptor.getSolutionCloner() instanceof FieldAccessingSolutionCloner<Solution_>) {
+                castScoreDirector.enableDeltaCloning();
+            } else {
+                LOGGER.warn("The preview feature ({}) only applies to the {}, not to the solution cloner ({}).",
+                        PreviewFeature.DELTA_CLONING, FieldAccessingSolutionCloner.class.getSimpleName(),
+                        solutionDescriptor.getSolutionCloner().getClass().getSimpleName());
+            }
+        }
+        if (previewFeaturesEnabled != null && previewFeaturesEnabled.contains(PreviewFeature.LAZY_CLONING)) {
+            if (solutionDescriptor.getSolutionCloner() instanceof FieldAccessingSolutionCloner<Solution_>) {
+                castScoreDirector.enableLazyCloning();
+            } else {
+                LOGGER.warn("The preview feature ({}) only applies to the {}, not to the solution cloner ({}).",
+                        PreviewFeature.LAZY_CLONING, FieldAccessingSolutionCloner.class.getSimpleName(),
+                        solutionDescriptor.getSolutionCloner().getClass().getSimpleName());
+            }
+        }
         solverScope.setScoreDirector(castScoreDirector);
         solverScope.setProblemChangeDirector(new DefaultProblemChangeDirector<>(castScoreDirector));
 
         var moveThreadCount = resolveMoveThreadCount(true);
         var bestSolutionRecaller = BestSolutionRecallerFactory.create().<Solution_> buildBestSolutionRecaller(environmentMode);
         var randomFactory = buildRandomFactory(environmentMode);
-        var previewFeaturesEnabled = solverConfig.getEnablePreviewFeatureSet();
 
         var configPolicy = new HeuristicConfigPolicy.Builder<Solution_>()
                 .withPreviewFeatureList(previewFeaturesEnabled)
@@ -192,7 +235,11 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         var environmentMode = solverConfig.determineEnvironmentMode();
         var scoreDirectorFactoryConfig_ =
                 Objects.requireNonNullElseGet(solverConfig.getScoreDirectorFactoryConfig(), ScoreDirectorFactoryConfig::new);
-        var scoreDirectorFactoryFactory = new ScoreDirectorFactoryFactory<Solution_, Score_>(scoreDirectorFactoryConfig_);
+        var bulkLoadThreadFactory = Boolean.TRUE.equals(scoreDirectorFactoryConfig_.getConstraintStreamParallelBulkLoad())
+                ? buildThreadFactory(ChildThreadType.BULK_LOAD_THREAD)
+                : null;
+        var scoreDirectorFactoryFactory =
+                new ScoreDirectorFactoryFactory<Solution_, Score_>(scoreDirectorFactoryConfig_, bulkLoadThreadFactory);
         return scoreDirectorFactoryFactory.buildScoreDirectorFactory(environmentMode, solutionDescriptor);
     }
 
@@ -262,6 +309,13 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         HeuristicConfigPolicy.ensurePreviewFeature(previewFeature, solverConfig.getEnablePreviewFeatureSet());
     }
 
+    public ThreadFactory buildThreadFactory(ChildThreadType childThreadType) {
+        return new HeuristicConfigPolicy.Builder<Solution_>()
+                .withThreadFactoryClass(solverConfig.getThreadFactoryClass())
+                .build()
+                .buildThreadFactory(childThreadType);
+    }
+
     // Required for testability as final classes cannot be mocked.
     static class MoveThreadCountResolver {
 
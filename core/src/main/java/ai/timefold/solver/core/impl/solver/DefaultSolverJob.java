@@ -9,6 +9,7 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
@@ -52,6 +53,8 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     private final FirstInitializedSolutionConsumer<? super Solution_> firstInitializedSolutionConsumer;
     private final Consumer<? super Solution_> solverJobStartedConsumer;
     private final BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
+    private final Duration bestSolutionConsumerInterval;
+    private final Executor consumerExecutor;
 
     private volatile SolverStatus solverStatus;
     private final CountDownLatch terminatedLatch;
@@ -69,7 +72,8 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             Consumer<? super Solution_> finalBestSolutionConsumer,
             FirstInitializedSolutionConsumer<? super Solution_> firstInitializedSolutionConsumer,
             Consumer<? super Solution_> solverJobStartedConsumer,
-            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            Duration bestSolutionConsumerInterval, Executor consumerExecutor) {
         this.solverManager = solverManager;
         this.problemId = problemId;
         if (!(solver instanceof DefaultSolver)) {
@@ -83,6 +87,8 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         this.firstInitializedSolutionConsumer = firstInitializedSolutionConsumer;
         this.solverJobStartedConsumer = solverJobStartedConsumer;
         this.exceptionHandler = exceptionHandler;
+        this.bestSolutionConsumerInterval = bestSolutionConsumerInterval;
+        this.consumerExecutor = consumerExecutor;
         solverStatus = SolverStatus.SOLVING_SCHEDULED;
         terminatedLatch = new CountDownLatch(1);
         solverStatusModifyingLock = new ReentrantLock();
@@ -115,7 +121,8 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
             solverStatus = SolverStatus.SOLVING_ACTIVE;
             // Create the consumer thread pool only when this solver job is active.
             consumerSupport = new ConsumerSupport<>(getProblemId(), bestSolutionConsumer, finalBestSolutionConsumer,
-                    firstInitializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, bestSolutionHolder);
+                    firstInitializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, bestSolutionHolder,
+                    bestSolutionConsumerInterval, consumerExecutor);
 
             Solution_ problem = problemFinder.apply(problemId);
             // add a phase lifecycle listener that unlock the solver status lock when solving started
@@ -147,7 +154,8 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     }
 
     private void onBestSolutionChangedEvent(BestSolutionChangedEvent<Solution_> bestSolutionChangedEvent) {
-        consumerSupport.consumeIntermediateBestSolution(bestSolutionChangedEvent.getNewBestSolution(),
+        // Only the best solutions which the consumer actually takes need to be planning cloned.
+        consumerSupport.consumeIntermediateBestSolution(bestSolutionChangedEvent::getNewBestSolution,
                 bestSolutionChangedEvent::isEveryProblemChangeProcessed);
     }
 
@@ -1,7 +1,9 @@
 package ai.timefold.solver.core.impl.solver;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -28,6 +30,10 @@ public final class DefaultSolverJobBuilder<Solution_, ProblemId_> implements Sol
     private Consumer<? super Solution_> solverJobStartedConsumer;
     private BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
     private SolverConfigOverride<Solution_> solverConfigOverride;
+    private Duration bestSolutionConsumerInterval;
+    private Executor consumerExecutor;
+    private int priority = 0;
+    private Object tenantId;
 
     public DefaultSolverJobBuilder(DefaultSolverManager<Solution_, ProblemId_> solverManager) {
         this.solverManager = Objects.requireNonNull(solverManager, "The SolverManager (" + solverManager + ") cannot be null.");
@@ -95,6 +101,38 @@ public final class DefaultSolverJobBuilder<Solution_, ProblemId_> implements Sol
         return this;
     }
 
+    @Override
+    public @NonNull SolverJobBuilder<Solution_, ProblemId_>
+            withBestSolutionConsumerInterval(@NonNull Duration bestSolutionConsumerInterval) {
+        Objects.requireNonNull(bestSolutionConsumerInterval,
+                "Invalid bestSolutionConsumerInterval (null) given to SolverJobBuilder.");
+        if (bestSolutionConsumerInterval.isNegative()) {
+            throw new IllegalArgumentException("The bestSolutionConsumerInterval (%s) cannot be negative."
+                    .formatted(bestSolutionConsumerInterval));
+        }
+        this.bestSolutionConsumerInterval = bestSolutionConsumerInterval;
+        return this;
+    }
+
+    @Override
+    public @NonNull SolverJobBuilder<Solution_, ProblemId_> withConsumerExecutor(@NonNull Executor consumerExecutor) {
+        this.consumerExecutor =
+                Objects.requireNonNull(consumerExecutor, "Invalid consumerExecutor (null) given to SolverJobBuilder.");
+        return this;
+    }
+
+    @Override
+    public @NonNull SolverJobBuilder<Solution_, ProblemId_> withPriority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    @Override
+    public @NonNull SolverJobBuilder<Solution_, ProblemId_> withTenantId(@NonNull Object tenantId) {
+        this.tenantId = Objects.requireNonNull(tenantId, "Invalid tenantId (null) given to SolverJobBuilder.");
+        return this;
+    }
+
     @Override
     public @NonNull SolverJob<Solution_, ProblemId_> run() {
         if (solverConfigOverride == null) {
@@ -104,10 +142,12 @@ public final class DefaultSolverJobBuilder<Solution_, ProblemId_> implements Sol
 
         if (this.bestSolutionConsumer == null) {
             return solverManager.solve(problemId, problemFinder, null, finalBestSolutionConsumer,
-                    initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride);
+                    initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride,
+                    bestSolutionConsumerInterval, consumerExecutor, priority, tenantId);
         } else {
             return solverManager.solveAndListen(problemId, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
-                    initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride);
+                    initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride,
+                    bestSolutionConsumerInterval, consumerExecutor, priority, tenantId);
         }
     }
 }
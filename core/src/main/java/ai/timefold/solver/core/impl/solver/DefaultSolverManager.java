@@ -1,12 +1,15 @@
 package ai.timefold.solver.core.impl.solver;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.function.BiConsumer;
@@ -24,6 +27,7 @@ import ai.timefold.solver.core.api.solver.SolverStatus;
 import ai.timefold.solver.core.api.solver.change.ProblemChange;
 import ai.timefold.solver.core.config.solver.SolverManagerConfig;
 import ai.timefold.solver.core.config.util.ConfigUtils;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
 
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
@@ -40,6 +44,8 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
     private final BiConsumer<ProblemId_, Throwable> defaultExceptionHandler;
     private final SolverFactory<Solution_> solverFactory;
     private final ExecutorService solverThreadPool;
+    private final Executor orchestrationExecutor; // Null unless the consumers of every job share virtual threads.
+    private final SolverJobScheduler<Solution_, ProblemId_> solverJobScheduler;
     private final ConcurrentMap<Object, DefaultSolverJob<Solution_, ProblemId_>> problemIdToSolverJobMap;
 
     public DefaultSolverManager(SolverFactory<Solution_> solverFactory, SolverManagerConfig solverManagerConfig) {
@@ -52,9 +58,31 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         var threadFactory = threadFactoryClass == null ? Executors.defaultThreadFactory()
                 : ConfigUtils.newInstance(solverManagerConfig, "threadFactoryClass", threadFactoryClass);
         solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount, threadFactory);
+        orchestrationExecutor = buildOrchestrationExecutor(solverManagerConfig);
+        // Terminating a preempted job early blocks until it has terminated.
+        var preemptionExecutor = orchestrationExecutor != null ? orchestrationExecutor
+                : (Executor) command -> Executors.defaultThreadFactory().newThread(command).start();
+        solverJobScheduler = new SolverJobScheduler<>(solverThreadPool, parallelSolverCount,
+                Objects.requireNonNullElse(solverManagerConfig.getPreemptiveScheduling(), false), preemptionExecutor,
+                orchestrationExecutor);
         problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
     }
 
+    private static Executor buildOrchestrationExecutor(SolverManagerConfig solverManagerConfig) {
+        if (!Objects.requireNonNullElse(solverManagerConfig.getVirtualThreadOrchestration(), false)) {
+            return null;
+        }
+        var virtualThreadFactory = ThreadUtils.newVirtualThreadFactory("TimefoldSolverManager-");
+        if (virtualThreadFactory == null) {
+            LOGGER.warn("The virtualThreadOrchestration is enabled, but this JVM ({}) does not support virtual threads. "
+                    + "Using a platform thread per solver job instead. "
+                    + "Maybe run on Java 21 or later?", Runtime.version());
+            return null;
+        }
+        // Every task gets a virtual thread of its own; the consumers of each job still run one at a time.
+        return command -> virtualThreadFactory.newThread(command).start();
+    }
+
     public SolverFactory<Solution_> getSolverFactory() {
         return solverFactory;
     }
@@ -83,12 +111,14 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             FirstInitializedSolutionConsumer<? super Solution_> initializedSolutionConsumer,
             Consumer<? super Solution_> solverJobStartedConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
-            SolverConfigOverride<Solution_> solverConfigOverride) {
+            SolverConfigOverride<Solution_> solverConfigOverride,
+            Duration bestSolutionConsumerInterval, Executor consumerExecutor, int priority, Object tenantId) {
         if (bestSolutionConsumer == null) {
             throw new IllegalStateException("The consumer bestSolutionConsumer is required.");
         }
         return solve(getProblemIdOrThrow(problemId), problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
-                initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride);
+                initializedSolutionConsumer, solverJobStartedConsumer, exceptionHandler, solverConfigOverride,
+                bestSolutionConsumerInterval, consumerExecutor, priority, tenantId);
     }
 
     SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
@@ -98,7 +128,8 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             FirstInitializedSolutionConsumer<? super Solution_> initializedSolutionConsumer,
             Consumer<? super Solution_> solverJobStartedConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
-            SolverConfigOverride<Solution_> configOverride) {
+            SolverConfigOverride<Solution_> configOverride,
+            Duration bestSolutionConsumerInterval, Executor consumerExecutor, int priority, Object tenantId) {
         var solver = solverFactory.buildSolver(configOverride);
         ((DefaultSolver<Solution_>) solver).setMonitorTagMap(Map.of("problem.id", problemId.toString()));
         BiConsumer<? super ProblemId_, ? super Throwable> finalExceptionHandler = (exceptionHandler != null)
@@ -112,11 +143,11 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
                     } else {
                         return new DefaultSolverJob<>(this, solver, problemId, problemFinder, bestSolutionConsumer,
                                 finalBestSolutionConsumer, initializedSolutionConsumer, solverJobStartedConsumer,
-                                finalExceptionHandler);
+                                finalExceptionHandler, bestSolutionConsumerInterval,
+                                consumerExecutor == null ? orchestrationExecutor : consumerExecutor);
                     }
                 });
-        var future = solverThreadPool.submit(solverJob);
-        solverJob.setFinalBestSolutionFuture(future);
+        solverJobScheduler.schedule(solverJob, priority, tenantId);
         return solverJob;
     }
 
@@ -150,11 +181,24 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             LOGGER.debug("Ignoring terminateEarly() call because problemId ({}) is not solving.", problemId);
             return;
         }
-        solverJob.terminateEarly();
+        if (orchestrationExecutor == null) {
+            solverJob.terminateEarly();
+            return;
+        }
+        // The termination and the wait for it happen on a virtual thread; the caller only waits for that thread.
+        try {
+            CompletableFuture.runAsync(solverJob::terminateEarly, orchestrationExecutor).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     @Override
     public void close() {
+        solverJobScheduler.close();
         solverThreadPool.shutdownNow();
         problemIdToSolverJobMap.values().forEach(DefaultSolverJob::close);
     }
@@ -0,0 +1,245 @@
+package ai.timefold.solver.core.impl.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decides which scheduled solver job starts solving next, instead of starting them in submission order.
+ * Higher priority jobs go first.
+ * Among jobs of the same priority, the jobs of the tenant with the fewest solving jobs go first,
+ * so that a burst of jobs of one tenant does not hold up the jobs of the other tenants.
+ * Otherwise, jobs go in submission order.
+ * <p>
+ * The solver thread pool has a thread for every job that may solve at the same time,
+ * so it never queues jobs itself.
+ * <p>
+ * With an admission executor, every scheduled job gets a (virtual) thread of its own,
+ * which waits for one of the {@code parallelSolverCount} solving permits
+ * and then solves the next job in start order on the solver thread pool.
+ * Otherwise, the thread of a job which ends starts the next job.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <ProblemId_> the ID type of submitted problem
+ */
+final class SolverJobScheduler<Solution_, ProblemId_> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SolverJobScheduler.class);
+
+    private final ExecutorService solverThreadPool;
+    private final int parallelSolverCount;
+    private final boolean preemptive;
+    private final Executor preemptionExecutor;
+    private final @Nullable Executor admissionExecutor;
+    private final Semaphore solvingPermits;
+    private final List<ScheduledJob<Solution_, ProblemId_>> pendingJobList = new ArrayList<>();
+    private final List<ScheduledJob<Solution_, ProblemId_>> solvingJobList = new ArrayList<>();
+    private final Map<Object, Integer> tenantSolvingJobCountMap = new HashMap<>();
+    private final Comparator<ScheduledJob<Solution_, ProblemId_>> startOrderComparator =
+            Comparator.<ScheduledJob<Solution_, ProblemId_>> comparingInt(job -> job.priority).reversed()
+                    .thenComparingInt(job -> tenantSolvingJobCountMap.getOrDefault(job.tenantId, 0))
+                    .thenComparingLong(job -> job.sequence);
+    private long sequence = 0L;
+    private int awaitingAdmissionCount = 0;
+    private boolean closed = false;
+
+    /**
+     * @param preemptionExecutor terminates preempted jobs, which blocks until they are terminated
+     * @param admissionExecutor null to start jobs from the thread of the job which ended,
+     *        otherwise runs a task per job which waits for a solving permit until the job has ended
+     */
+    SolverJobScheduler(ExecutorService solverThreadPool, int parallelSolverCount, boolean preemptive,
+            Executor preemptionExecutor, @Nullable Executor admissionExecutor) {
+        this.solverThreadPool = solverThreadPool;
+        this.parallelSolverCount = parallelSolverCount;
+        this.preemptive = preemptive;
+        this.preemptionExecutor = preemptionExecutor;
+        this.admissionExecutor = admissionExecutor;
+        this.solvingPermits = new Semaphore(parallelSolverCount);
+    }
+
+    /**
+     * @param tenantId null for the tenant shared by all jobs without a tenant
+     */
+    synchronized void schedule(DefaultSolverJob<Solution_, ProblemId_> solverJob, int priority,
+            @Nullable Object tenantId) {
+        if (closed) {
+            throw new RejectedExecutionException("Cannot schedule the problemId (%s) because the SolverManager is closed."
+                    .formatted(solverJob.getProblemId()));
+        }
+        var scheduledJob = new ScheduledJob<>(solverJob, new FutureTask<>(solverJob), priority, tenantId, sequence++);
+        // Before the job can start, as terminating it early relies on it.
+        solverJob.setFinalBestSolutionFuture(scheduledJob.futureTask);
+        pendingJobList.add(scheduledJob);
+        if (admissionExecutor == null) {
+            startPendingJobs();
+        } else {
+            awaitingAdmissionCount++;
+            admissionExecutor.execute(this::admitAndSolveNextJob);
+            if (preemptive) {
+                preemptLowerPriorityJobs();
+            }
+        }
+    }
+
+    /**
+     * Blocks until a solving permit is available.
+     * The solving job is not necessarily the job this task was started for,
+     * as a higher priority job may have been scheduled in the meantime.
+     */
+    private void admitAndSolveNextJob() {
+        try {
+            solvingPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The admission of a solver job was interrupted.", e);
+        }
+        try {
+            var nextJob = admitNextJob();
+            if (nextJob == null) {
+                return;
+            }
+            try {
+                solverThreadPool.submit(nextJob.futureTask).get();
+            } catch (RejectedExecutionException e) { // The SolverManager is closed.
+                nextJob.futureTask.cancel(false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("The admission of the problemId (%s) was interrupted."
+                        .formatted(nextJob.solverJob.getProblemId()), e);
+            } catch (ExecutionException e) { // The future task never throws, it keeps the exception instead.
+                throw new IllegalStateException("The problemId (%s) failed to run."
+                        .formatted(nextJob.solverJob.getProblemId()), e.getCause());
+            } finally {
+                jobEnded(nextJob);
+            }
+        } finally {
+            solvingPermits.release();
+        }
+    }
+
+    private synchronized @Nullable ScheduledJob<Solution_, ProblemId_> admitNextJob() {
+        awaitingAdmissionCount--;
+        // Jobs terminated early before they started are canceled and never run.
+        pendingJobList.removeIf(pendingJob -> pendingJob.futureTask.isDone());
+        if (closed || pendingJobList.isEmpty()) {
+            return null;
+        }
+        var nextJob = Collections.min(pendingJobList, startOrderComparator);
+        pendingJobList.remove(nextJob);
+        solvingJobList.add(nextJob);
+        tenantSolvingJobCountMap.merge(nextJob.tenantId, 1, Integer::sum);
+        return nextJob;
+    }
+
+    private void startPendingJobs() {
+        // Jobs terminated early before they started are canceled and never run.
+        pendingJobList.removeIf(pendingJob -> pendingJob.futureTask.isDone());
+        while (solvingJobList.size() < parallelSolverCount && !pendingJobList.isEmpty()) {
+            var nextJob = Collections.min(pendingJobList, startOrderComparator);
+            pendingJobList.remove(nextJob);
+            solvingJobList.add(nextJob);
+            tenantSolvingJobCountMap.merge(nextJob.tenantId, 1, Integer::sum);
+            solverThreadPool.execute(() -> {
+                try {
+                    nextJob.futureTask.run();
+                } finally {
+                    jobEnded(nextJob);
+                }
+            });
+        }
+        if (preemptive) {
+            preemptLowerPriorityJobs();
+        }
+    }
+
+    /**
+     * Every pending job which has a higher priority than a solving job
+     * takes the place of the lowest priority solving job, which is terminated early.
+     * Of solving jobs with the same priority, the one which started last has done the least work, so it goes first.
+     */
+    private void preemptLowerPriorityJobs() {
+        if (pendingJobList.isEmpty()) {
+            return;
+        }
+        var pendingPriorityList = pendingJobList.stream()
+                .map(pendingJob -> pendingJob.priority)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        // The highest priority pending jobs already have a place coming up,
+        // from the jobs preempted earlier or from a solving permit which is free but not taken yet.
+        var pendingIndex = (int) solvingJobList.stream().filter(solvingJob -> solvingJob.preempted).count()
+                + Math.max(0, parallelSolverCount - solvingJobList.size());
+        var preemptibleJobList = solvingJobList.stream()
+                .filter(solvingJob -> !solvingJob.preempted)
+                .sorted(Comparator.<ScheduledJob<Solution_, ProblemId_>> comparingInt(job -> job.priority)
+                        .thenComparing(job -> job.sequence, Comparator.reverseOrder()))
+                .toList();
+        for (var preemptibleJob : preemptibleJobList) {
+            if (pendingIndex >= pendingPriorityList.size()
+                    || pendingPriorityList.get(pendingIndex) <= preemptibleJob.priority) {
+                return;
+            }
+            LOGGER.info("Preempting problemId ({}) with priority ({}) for a job with priority ({}).",
+                    preemptibleJob.solverJob.getProblemId(), preemptibleJob.priority, pendingPriorityList.get(pendingIndex));
+            preemptibleJob.preempted = true;
+            preemptionExecutor.execute(preemptibleJob.solverJob::terminateEarly);
+            pendingIndex++;
+        }
+    }
+
+    private synchronized void jobEnded(ScheduledJob<Solution_, ProblemId_> scheduledJob) {
+        solvingJobList.remove(scheduledJob);
+        tenantSolvingJobCountMap.computeIfPresent(scheduledJob.tenantId, (tenantId, count) -> count == 1 ? null : count - 1);
+        if (!closed && admissionExecutor == null) {
+            startPendingJobs();
+        }
+    }
+
+    /**
+     * Jobs which have not started solving yet are canceled.
+     */
+    synchronized void close() {
+        closed = true;
+        pendingJobList.forEach(pendingJob -> pendingJob.futureTask.cancel(false));
+        pendingJobList.clear();
+        // Lets the tasks which still wait for a solving permit end without a job.
+        solvingPermits.release(awaitingAdmissionCount);
+    }
+
+    private static final class ScheduledJob<Solution_, ProblemId_> {
+
+        private final DefaultSolverJob<Solution_, ProblemId_> solverJob;
+        private final FutureTask<Solution_> futureTask;
+        private final int priority;
+        private final @Nullable Object tenantId;
+        private final long sequence;
+        private boolean preempted = false;
+
+        private ScheduledJob(DefaultSolverJob<Solution_, ProblemId_> solverJob, FutureTask<Solution_> futureTask,
+                int priority, @Nullable Object tenantId, long sequence) {
+            this.solverJob = solverJob;
+            this.futureTask = futureTask;
+            this.priority = priority;
+            this.tenantId = tenantId;
+            this.sequence = sequence;
+        }
+
+    }
+
+}
@@ -18,6 +18,13 @@ public final class DefaultProblemChangeDirector<Solution_> implements ProblemCha
         this.scoreDirector = scoreDirector;
     }
 
+    /**
+     * For internal changes which this API does not cover, such as list variable changes.
+     */
+    public InnerScoreDirector<Solution_, ?> getScoreDirector() {
+        return scoreDirector;
+    }
+
     @Override
     public <Entity> void addEntity(@NonNull Entity entity, @NonNull Consumer<Entity> entityConsumer) {
         Objects.requireNonNull(entity, () -> "Entity (" + entity + ") cannot be null.");
@@ -19,13 +19,14 @@ public class SolverEventSupport<Solution_> extends AbstractEventSupport<SolverEv
         this.solver = solver;
     }
 
-    public void fireBestSolutionChanged(SolverScope<Solution_> solverScope, Solution_ newBestSolution) {
+    public void fireBestSolutionChanged(SolverScope<Solution_> solverScope) {
         var it = getEventListeners().iterator();
         var timeMillisSpent = solverScope.getBestSolutionTimeMillisSpent();
         var bestScore = solverScope.getBestScore();
         if (it.hasNext()) {
-            var event = new BestSolutionChangedEvent<>(solver, timeMillisSpent, newBestSolution, bestScore.raw(),
-                    bestScore.fullyAssigned());
+            // The best solution might not be planning cloned yet, so leave that to the listeners which need it.
+            var event = new BestSolutionChangedEvent<>(solver, timeMillisSpent, solverScope.getBestSolutionSupplier(),
+                    bestScore.raw(), bestScore.fullyAssigned());
             do {
                 it.next().bestSolutionChanged(event);
             } while (it.hasNext());
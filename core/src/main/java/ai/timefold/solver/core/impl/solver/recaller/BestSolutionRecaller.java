@@ -1,5 +1,7 @@
 package ai.timefold.solver.core.impl.solver.recaller;
 
+import java.util.function.Supplier;
+
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.Solver;
@@ -75,7 +77,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         Solution_ newBestSolution = stepScope.getWorkingSolution();
         // Construction heuristics don't fire intermediate best solution changed events.
         // But the best solution and score are updated, so that unimproved* terminations work correctly.
-        updateBestSolutionWithoutFiring(solverScope, stepScope.getScore(), newBestSolution);
+        updateBestSolutionWithoutFiring(solverScope, stepScope.getScore(), () -> newBestSolution);
     }
 
     public <Score_ extends Score<Score_>> void processWorkingSolutionDuringStep(AbstractStepScope<Solution_> stepScope) {
@@ -86,10 +88,11 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         stepScope.setBestScoreImproved(bestScoreImproved);
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            var newBestSolution = stepScope.createOrGetClonedSolution();
+            var newBestSolution = stepScope.createOrGetSolutionSnapshot();
+            var scoreDirector = stepScope.getScoreDirector();
             var innerScore = InnerScore.withUnassignedCount(
-                    solverScope.getSolutionDescriptor().<Score_> getScore(newBestSolution),
-                    -stepScope.getScoreDirector().getWorkingInitScore());
+                    solverScope.getSolutionDescriptor().<Score_> getScore(scoreDirector.getWorkingSolution()),
+                    -scoreDirector.getWorkingInitScore());
             updateBestSolutionAndFire(solverScope, innerScore, newBestSolution);
         } else if (assertBestScoreIsUnmodified) {
             solverScope.assertScoreFromScratch(solverScope.getBestSolution());
@@ -108,7 +111,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            var newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+            var newBestSolution = solverScope.getScoreDirector().snapshotWorkingSolution();
             var innerScore = new InnerScore<>(moveScore.raw(), solverScope.getScoreDirector().getWorkingInitScore());
             updateBestSolutionAndFire(solverScope, innerScore, newBestSolution);
         } else if (assertBestScoreIsUnmodified) {
@@ -118,38 +121,39 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
 
     public void updateBestSolutionAndFire(SolverScope<Solution_> solverScope) {
         updateBestSolutionWithoutFiring(solverScope);
-        solverEventSupport.fireBestSolutionChanged(solverScope, solverScope.getBestSolution());
+        solverEventSupport.fireBestSolutionChanged(solverScope);
     }
 
     public void updateBestSolutionAndFireIfInitialized(SolverScope<Solution_> solverScope) {
         updateBestSolutionWithoutFiring(solverScope);
         if (solverScope.isBestSolutionInitialized()) {
-            solverEventSupport.fireBestSolutionChanged(solverScope, solverScope.getBestSolution());
+            solverEventSupport.fireBestSolutionChanged(solverScope);
         }
     }
 
     private void updateBestSolutionAndFire(SolverScope<Solution_> solverScope, InnerScore<?> bestScore,
-            Solution_ bestSolution) {
+            Supplier<Solution_> bestSolution) {
         updateBestSolutionWithoutFiring(solverScope, bestScore, bestSolution);
-        solverEventSupport.fireBestSolutionChanged(solverScope, solverScope.getBestSolution());
+        solverEventSupport.fireBestSolutionChanged(solverScope);
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private void updateBestSolutionWithoutFiring(SolverScope<Solution_> solverScope) {
-        var newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
-        var newBestScore = solverScope.getSolutionDescriptor().<Score> getScore(newBestSolution);
-        var innerScore = InnerScore.withUnassignedCount(newBestScore, -solverScope.getScoreDirector().getWorkingInitScore());
+        var scoreDirector = solverScope.getScoreDirector();
+        var newBestSolution = scoreDirector.snapshotWorkingSolution();
+        var newBestScore = solverScope.getSolutionDescriptor().<Score> getScore(scoreDirector.getWorkingSolution());
+        var innerScore = InnerScore.withUnassignedCount(newBestScore, -scoreDirector.getWorkingInitScore());
         updateBestSolutionWithoutFiring(solverScope, innerScore, newBestSolution);
     }
 
     private void updateBestSolutionWithoutFiring(SolverScope<Solution_> solverScope, InnerScore<?> bestScore,
-            Solution_ bestSolution) {
+            Supplier<Solution_> bestSolution) {
         if (bestScore.fullyAssigned()) {
             if (!solverScope.isBestSolutionInitialized()) {
                 solverScope.setStartingInitializedScore(bestScore.raw());
             }
         }
-        solverScope.setBestSolution(bestSolution);
+        solverScope.setBestSolutionSupplier(bestSolution);
         solverScope.setBestScore(bestScore);
         solverScope.setBestSolutionTimeMillis(solverScope.getClock().millis());
     }
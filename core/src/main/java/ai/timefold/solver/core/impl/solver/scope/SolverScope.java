@@ -14,6 +14,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
@@ -41,7 +42,7 @@ public class SolverScope<Solution_> {
 
     // Solution-derived fields have the potential for race conditions.
     private final AtomicReference<ProblemSizeStatistics> problemSizeStatistics = new AtomicReference<>();
-    private final AtomicReference<Solution_> bestSolution = new AtomicReference<>();
+    private final AtomicReference<Supplier<Solution_>> bestSolution = new AtomicReference<>();
     private final AtomicReference<InnerScore<?>> bestScore = new AtomicReference<>();
     private final AtomicLong startingSystemTimeMillis = resetAtomicLongTimeMillis(new AtomicLong());
     private final AtomicLong endingSystemTimeMillis = resetAtomicLongTimeMillis(new AtomicLong());
@@ -221,6 +222,16 @@ public class SolverScope<Solution_> {
     }
 
     public Solution_ getBestSolution() {
+        var bestSolutionSupplier = bestSolution.get();
+        return bestSolutionSupplier == null ? null : bestSolutionSupplier.get();
+    }
+
+    /**
+     * @return null if there is no best solution yet; its {@link Supplier#get()} might have to planning clone,
+     *         so only call it once the {@link PlanningSolution best solution} is actually needed
+     * @see #setBestSolutionSupplier(Supplier)
+     */
+    public Supplier<Solution_> getBestSolutionSupplier() {
         return bestSolution.get();
     }
 
@@ -231,7 +242,17 @@ public class SolverScope<Solution_> {
      * @param bestSolution never null
      */
     public void setBestSolution(Solution_ bestSolution) {
-        this.bestSolution.set(bestSolution);
+        this.bestSolution.set(() -> bestSolution);
+    }
+
+    /**
+     * As {@link #setBestSolution(Object)}, but the best solution need not be planning cloned yet,
+     * such as a snapshot taken by {@link InnerScoreDirector#snapshotWorkingSolution()}.
+     *
+     * @param bestSolutionSupplier never null, must return the same instance every time
+     */
+    public void setBestSolutionSupplier(Supplier<Solution_> bestSolutionSupplier) {
+        this.bestSolution.set(bestSolutionSupplier);
     }
 
     @SuppressWarnings("unchecked")
@@ -24,6 +24,15 @@ public final class ChildThreadPlumbingTermination<Solution_>
         return terminationEarlySuccessful;
     }
 
+    /**
+     * This method is thread-safe.
+     *
+     * @return true if termination has been requested
+     */
+    public synchronized boolean isTerminateChildren() {
+        return terminateChildren;
+    }
+
     @Override
     public synchronized boolean isSolverTerminated(SolverScope<Solution_> solverScope) {
         // Destroying a thread pool with solver threads will only cause it to interrupt those child solver threads
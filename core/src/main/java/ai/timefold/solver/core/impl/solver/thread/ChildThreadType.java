@@ -10,5 +10,9 @@ public enum ChildThreadType {
     /**
      * Used by multithreaded incremental solving.
      */
-    MOVE_THREAD;
+    MOVE_THREAD,
+    /**
+     * Used by the parallel bulk load of Constraint Streams.
+     */
+    BULK_LOAD_THREAD;
 }
@@ -1,8 +1,11 @@
 package ai.timefold.solver.core.impl.solver.thread;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
+import org.jspecify.annotations.Nullable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +50,25 @@ public class ThreadUtils {
         }
     }
 
+    /**
+     * Virtual threads only exist since Java 21, but this code is compiled for Java 17,
+     * so they are reached through reflection.
+     *
+     * @param namePrefix the threads are named after it, followed by a counter
+     * @return null if the JVM does not support virtual threads
+     */
+    public static @Nullable ThreadFactory newVirtualThreadFactory(String namePrefix) {
+        try {
+            var builderClass = Class.forName("java.lang.Thread$Builder");
+            var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            // Not a Java 21+ JVM, or a Java 19/20 JVM without preview features enabled.
+            return null;
+        }
+    }
+
     // ************************************************************************
     // Private constructor
     // ************************************************************************
@@ -0,0 +1,104 @@
+package ai.timefold.solver.core.impl.statistic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.bavet.common.NodeNetworkProfiler;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.TimeGauge;
+
+/**
+ * Publishes the time spent evaluating every constraint, as attributed by {@link NodeNetworkProfiler}.
+ * Unless {@link SolverMetric#CONSTRAINT_NODE_PROFILE} is enabled as well,
+ * the time is extrapolated from a sample of the tuple operations.
+ */
+public class ConstraintEvaluationTimeStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    private final Map<Solver<Solution_>, ConstraintEvaluationTimeStatisticListener<Solution_>> solverToPhaseLifecycleListenerMap =
+            new WeakHashMap<>();
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        var listener = solverToPhaseLifecycleListenerMap.remove(solver);
+        if (listener != null) {
+            ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+            listener.unregister();
+        }
+    }
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        var defaultSolver = (DefaultSolver<Solution_>) solver;
+        var listener = new ConstraintEvaluationTimeStatisticListener<Solution_>();
+        solverToPhaseLifecycleListenerMap.put(solver, listener);
+        defaultSolver.addPhaseLifecycleListener(listener);
+    }
+
+    private static class ConstraintEvaluationTimeStatisticListener<Solution_>
+            extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private final Map<ConstraintRef, ConstraintTimeHolder> constraintRefToTimeHolderMap = new HashMap<>();
+        private final List<Meter> meterList = new ArrayList<>();
+
+        @Override
+        public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+            // Setting the working solution starts a new session, for example after a problem change.
+            // The meters stay, but they need to read the profiler of the new session.
+            var solverScope = phaseScope.getSolverScope();
+            var profiler = ConstraintNodeProfileStatistic.getProfiler(solverScope);
+            if (profiler == null) {
+                return;
+            }
+            var tags = solverScope.getMonitoringTags();
+            for (var constraintRef : profiler.getConstraintRefs()) {
+                var holder = constraintRefToTimeHolderMap.computeIfAbsent(constraintRef, ref -> {
+                    var newHolder = new ConstraintTimeHolder(ref);
+                    meterList.add(TimeGauge.builder(SolverMetric.CONSTRAINT_EVALUATION_TIME.getMeterId(), newHolder,
+                            TimeUnit.NANOSECONDS, ConstraintTimeHolder::getTimeNanos)
+                            .tags(tags.and("constraint.package", ref.packageName(),
+                                    "constraint.name", ref.constraintName()))
+                            .register(Metrics.globalRegistry));
+                    return newHolder;
+                });
+                holder.profiler = profiler;
+            }
+        }
+
+        void unregister() {
+            meterList.forEach(Metrics.globalRegistry::remove);
+            meterList.clear();
+            constraintRefToTimeHolderMap.clear();
+        }
+
+    }
+
+    private static final class ConstraintTimeHolder {
+
+        private final ConstraintRef constraintRef;
+        // Read by the thread which publishes the meters.
+        private volatile NodeNetworkProfiler profiler = null;
+
+        ConstraintTimeHolder(ConstraintRef constraintRef) {
+            this.constraintRef = constraintRef;
+        }
+
+        double getTimeNanos() {
+            var currentProfiler = profiler;
+            return currentProfiler == null ? Double.NaN : currentProfiler.getConstraintTimeNanos(constraintRef);
+        }
+
+    }
+
+}
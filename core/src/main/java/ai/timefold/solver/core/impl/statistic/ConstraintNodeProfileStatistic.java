@@ -0,0 +1,140 @@
+package ai.timefold.solver.core.impl.statistic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import ai.timefold.solver.core.api.solver.Solver;
+import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
+import ai.timefold.solver.core.impl.bavet.common.NodeNetworkProfiler;
+import ai.timefold.solver.core.impl.bavet.common.NodeProfile;
+import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
+import ai.timefold.solver.core.impl.solver.DefaultSolver;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+
+public class ConstraintNodeProfileStatistic<Solution_> implements SolverStatistic<Solution_> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConstraintNodeProfileStatistic.class);
+
+    private final Map<Solver<Solution_>, ConstraintNodeProfileStatisticListener<Solution_>> solverToPhaseLifecycleListenerMap =
+            new WeakHashMap<>();
+
+    @Override
+    public void unregister(Solver<Solution_> solver) {
+        var listener = solverToPhaseLifecycleListenerMap.remove(solver);
+        if (listener != null) {
+            ((DefaultSolver<Solution_>) solver).removePhaseLifecycleListener(listener);
+            listener.unregister();
+        }
+    }
+
+    @Override
+    public void register(Solver<Solution_> solver) {
+        var defaultSolver = (DefaultSolver<Solution_>) solver;
+        var listener = new ConstraintNodeProfileStatisticListener<Solution_>();
+        solverToPhaseLifecycleListenerMap.put(solver, listener);
+        defaultSolver.addPhaseLifecycleListener(listener);
+    }
+
+    static NodeNetworkProfiler getProfiler(SolverScope<?> solverScope) {
+        if (solverScope.getScoreDirector() instanceof BavetConstraintStreamScoreDirector<?, ?> scoreDirector) {
+            return scoreDirector.getNodeNetworkProfiler();
+        }
+        return null;
+    }
+
+    private static String getNodeName(NodeProfile profile) {
+        var node = profile.getNode();
+        return node.getClass().getSimpleName() + "-" + node.getId();
+    }
+
+    private static class ConstraintNodeProfileStatisticListener<Solution_> extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private final Map<String, NodeProfileHolder> nodeNameToProfileHolderMap = new HashMap<>();
+        private final List<Meter> meterList = new ArrayList<>();
+
+        @Override
+        public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+            // Setting the working solution starts a new session, for example after a problem change.
+            // The meters stay, but they need to read the profiles of the new session.
+            var solverScope = phaseScope.getSolverScope();
+            var profiler = getProfiler(solverScope);
+            if (profiler == null) {
+                return;
+            }
+            var tags = solverScope.getMonitoringTags();
+            for (var profile : profiler.getProfileList()) {
+                var nodeName = getNodeName(profile);
+                var holder = nodeNameToProfileHolderMap.computeIfAbsent(nodeName,
+                        name -> registerMeters(tags.and("node", name)));
+                holder.profile = profile;
+            }
+        }
+
+        private NodeProfileHolder registerMeters(Tags tags) {
+            var holder = new NodeProfileHolder();
+            var meterId = SolverMetric.CONSTRAINT_NODE_PROFILE.getMeterId();
+            registerGauge(meterId + ".insert.count", tags, holder, NodeProfile::getInsertCount);
+            registerGauge(meterId + ".update.count", tags, holder, NodeProfile::getUpdateCount);
+            registerGauge(meterId + ".retract.count", tags, holder, NodeProfile::getRetractCount);
+            registerGauge(meterId + ".tuple.count", tags, holder, NodeProfile::getTupleCount);
+            meterList.add(TimeGauge.builder(meterId + ".time", holder, TimeUnit.NANOSECONDS,
+                    h -> h.get(NodeProfile::getTimeNanos))
+                    .tags(tags)
+                    .register(Metrics.globalRegistry));
+            return holder;
+        }
+
+        private void registerGauge(String name, Tags tags, NodeProfileHolder holder, ToLongFunction<NodeProfile> function) {
+            meterList.add(Gauge.builder(name, holder, h -> h.get(function))
+                    .tags(tags)
+                    .register(Metrics.globalRegistry));
+        }
+
+        @Override
+        public void solvingEnded(SolverScope<Solution_> solverScope) {
+            if (LOGGER.isDebugEnabled()) {
+                var profiler = getProfiler(solverScope);
+                if (profiler != null) {
+                    LOGGER.debug("Profiled constraint node network:{}{}", System.lineSeparator(),
+                            profiler.buildGraphvizDOT());
+                }
+            }
+        }
+
+        void unregister() {
+            meterList.forEach(Metrics.globalRegistry::remove);
+            meterList.clear();
+            nodeNameToProfileHolderMap.clear();
+        }
+
+    }
+
+    private static final class NodeProfileHolder {
+
+        // Read by the thread which publishes the meters.
+        private volatile NodeProfile profile = null;
+
+        double get(ToLongFunction<NodeProfile> function) {
+            var currentProfile = profile;
+            return currentProfile == null ? Double.NaN : function.applyAsLong(currentProfile);
+        }
+
+    }
+
+}
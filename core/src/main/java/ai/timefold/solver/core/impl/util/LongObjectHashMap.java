@@ -0,0 +1,198 @@
+package ai.timefold.solver.core.impl.util;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Open-addressing hash map with primitive {@code long} keys,
+ * which also serves {@code int} keys through widening.
+ * Unlike {@link java.util.HashMap}, it neither boxes keys nor allocates an entry object per mapping,
+ * which matters on the hot path of score calculation.
+ * <p>
+ * Collisions are resolved by linear probing,
+ * and removals shift the following entries back instead of leaving tombstones behind,
+ * so that lookups never slow down as mappings are added and removed over the course of solving.
+ * <p>
+ * This map does not support null values.
+ * It is not thread-safe.
+ *
+ * @param <V>
+ */
+@NullMarked
+public final class LongObjectHashMap<V> {
+
+    private static final int MINIMUM_CAPACITY = 8;
+
+    private long[] keys;
+    private @Nullable Object[] values;
+    private int mask;
+    private int size = 0;
+    private int resizeThreshold;
+
+    public LongObjectHashMap() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize the number of mappings the map should be able to hold without resizing
+     */
+    public LongObjectHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        // Keep the load factor at or below 0.5; linear probing degrades quickly above that.
+        var capacity = Integer.highestOneBit(Math.max(MINIMUM_CAPACITY, expectedSize) * 2 - 1) << 1;
+        return Math.max(MINIMUM_CAPACITY, capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = capacity >>> 1;
+    }
+
+    private int slot(long key) {
+        var hash = key * 0x9E3779B97F4A7C15L; // Fibonacci hashing spreads sequential keys.
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(long key) {
+        var index = slot(key);
+        while (true) {
+            var value = values[index];
+            if (value == null) {
+                return null;
+            } else if (keys[index] == key) {
+                return (V) value;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @return the previous value, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V put(long key, V value) {
+        var index = slot(key);
+        while (true) {
+            var oldValue = values[index];
+            if (oldValue == null) {
+                keys[index] = key;
+                values[index] = value;
+                if (++size > resizeThreshold) {
+                    rehash(keys.length << 1);
+                }
+                return null;
+            } else if (keys[index] == key) {
+                values[index] = value;
+                return (V) oldValue;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * @return the removed value, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V remove(long key) {
+        var index = slot(key);
+        while (true) {
+            var value = values[index];
+            if (value == null) {
+                return null;
+            } else if (keys[index] == key) {
+                size--;
+                shiftBack(index);
+                return (V) value;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Backward shift deletion: move every following entry of the probe sequence
+     * that would otherwise become unreachable into the gap.
+     */
+    private void shiftBack(int gap) {
+        var index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            var value = values[index];
+            if (value == null) {
+                values[gap] = null;
+                return;
+            }
+            var ideal = slot(keys[index]);
+            // Only move the entry if its ideal slot is not in the cyclic range (gap, index].
+            var isReachable = gap <= index ? (gap < ideal && ideal <= index) : (gap < ideal || ideal <= index);
+            if (!isReachable) {
+                keys[gap] = keys[index];
+                values[gap] = value;
+                gap = index;
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(newCapacity);
+        for (var i = 0; i < oldValues.length; i++) {
+            var value = oldValues[i];
+            if (value != null) {
+                var index = slot(oldKeys[i]);
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = value;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<V> valueConsumer) {
+        if (size == 0) {
+            return;
+        }
+        for (var value : values) {
+            if (value != null) {
+                valueConsumer.accept((V) value);
+            }
+        }
+    }
+
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + size;
+    }
+
+}
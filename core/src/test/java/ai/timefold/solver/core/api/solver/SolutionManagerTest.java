@@ -4,8 +4,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.score.Score;
@@ -1878,6 +1881,260 @@ public class SolutionManagerTest {
         assertThat(recommendationList).hasSize(4);
     }
 
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void recommendAssignmentListOnMultipleThreads(SolutionManagerSource SolutionManagerSource) {
+        var solution = generateListSolutionWithUnassignedValue(10);
+        var uninitializedValue = solution.getValueList().get(solution.getValueList().size() - 1);
+
+        var propositionThreadNameSet = ConcurrentHashMap.<String> newKeySet();
+        Function<TestdataListValueWithShadowHistory, Pair<String, Integer>> propositionFunction = v -> {
+            propositionThreadNameSet.add(Thread.currentThread().getName());
+            return new Pair<>(v.getEntity().getCode(), v.getIndex());
+        };
+        SolutionManager<TestdataListSolutionWithShadowHistory, SimpleScore> solutionManager =
+                SolutionManagerSource.createSolutionManager(SOLVER_FACTORY_LIST);
+        var recommendationList = solutionManager.recommendAssignment(solution, uninitializedValue, propositionFunction);
+        assertThat(propositionThreadNameSet).containsExactly(Thread.currentThread().getName());
+        propositionThreadNameSet.clear();
+        var parallelRecommendationList = solutionManager.recommendAssignment(solution, uninitializedValue,
+                propositionFunction, ScoreAnalysisFetchPolicy.FETCH_ALL, Integer.MAX_VALUE, 3);
+        assertThat(propositionThreadNameSet).isNotEmpty()
+                .doesNotContain(Thread.currentThread().getName());
+        // Every position in every list: 1 + 2 + ... + 10.
+        assertThat(parallelRecommendationList).hasSize(55);
+        // The order does not depend on how the placements are spread over the threads.
+        assertThat(parallelRecommendationList)
+                .map(RecommendedAssignment::proposition)
+                .containsExactlyElementsOf(recommendationList.stream().map(RecommendedAssignment::proposition).toList());
+        assertThat(parallelRecommendationList)
+                .map(recommendation -> recommendation.scoreAnalysisDiff().score())
+                .containsExactlyElementsOf(recommendationList.stream()
+                        .map(recommendation -> recommendation.scoreAnalysisDiff().score())
+                        .toList());
+        // The input solution is unchanged.
+        assertThat(uninitializedValue.getEntity()).isNull();
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void recommendAssignmentOnMultipleThreads(SolutionManagerSource SolutionManagerSource) {
+        // The move thread count of the solver configuration does not enable multiple threads by itself.
+        var moveThreadSolverFactory = SolverFactory.<TestdataSolution> create(new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withConstraintProviderClass(TestdataConstraintProvider.class)
+                .withMoveThreadCount("2"));
+        var solution = TestdataSolution.generateSolution(40, 3);
+        var evaluatedEntity = solution.getEntityList().get(1);
+
+        var propositionThreadNameSet = ConcurrentHashMap.<String> newKeySet();
+        Function<TestdataEntity, TestdataValue> propositionFunction = entity -> {
+            propositionThreadNameSet.add(Thread.currentThread().getName());
+            return entity.getValue();
+        };
+        SolutionManager<TestdataSolution, SimpleScore> solutionManager =
+                SolutionManagerSource.createSolutionManager(moveThreadSolverFactory);
+        var recommendationList = solutionManager.recommendAssignment(solution, evaluatedEntity, propositionFunction);
+        assertThat(propositionThreadNameSet).containsExactly(Thread.currentThread().getName());
+        propositionThreadNameSet.clear();
+        var parallelRecommendationList = solutionManager.recommendAssignment(solution, evaluatedEntity,
+                propositionFunction, ScoreAnalysisFetchPolicy.FETCH_ALL, Integer.MAX_VALUE, 2);
+        assertThat(propositionThreadNameSet).isNotEmpty()
+                .doesNotContain(Thread.currentThread().getName());
+        assertThat(parallelRecommendationList).hasSize(40);
+        assertThat(parallelRecommendationList)
+                .map(recommendation -> recommendation.proposition().getCode())
+                .containsExactlyElementsOf(recommendationList.stream()
+                        .map(recommendation -> recommendation.proposition().getCode())
+                        .toList());
+        assertThat(parallelRecommendationList)
+                .map(recommendation -> recommendation.scoreAnalysisDiff().constraintMap().keySet())
+                .containsExactlyElementsOf(recommendationList.stream()
+                        .map(recommendation -> recommendation.scoreAnalysisDiff().constraintMap().keySet())
+                        .toList());
+
+        // Too few placements to make up for the extra threads.
+        var smallSolution = TestdataSolution.generateSolution(7, 3);
+        var smallEvaluatedEntity = smallSolution.getEntityList().get(1);
+        propositionThreadNameSet.clear();
+        assertThat(solutionManager.recommendAssignment(smallSolution, smallEvaluatedEntity, propositionFunction,
+                ScoreAnalysisFetchPolicy.FETCH_ALL, Integer.MAX_VALUE, 4))
+                .map(recommendation -> recommendation.scoreAnalysisDiff().score())
+                .containsExactlyElementsOf(solutionManager.recommendAssignment(smallSolution, smallEvaluatedEntity,
+                        propositionFunction).stream()
+                        .map(recommendation -> recommendation.scoreAnalysisDiff().score())
+                        .toList());
+        assertThat(propositionThreadNameSet).containsExactly(Thread.currentThread().getName());
+
+        assertThatThrownBy(() -> solutionManager.recommendAssignment(solution, evaluatedEntity, propositionFunction,
+                ScoreAnalysisFetchPolicy.FETCH_ALL, Integer.MAX_VALUE, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("threadCount");
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void recommendAssignmentListWithResultLimit(SolutionManagerSource SolutionManagerSource) {
+        var solution = generateListSolutionWithUnassignedValue(10);
+        var uninitializedValue = solution.getValueList().get(solution.getValueList().size() - 1);
+
+        var propositionCount = new AtomicInteger();
+        Function<TestdataListValueWithShadowHistory, Pair<String, Integer>> propositionFunction = v -> {
+            propositionCount.incrementAndGet();
+            return new Pair<>(v.getEntity().getCode(), v.getIndex());
+        };
+        SolutionManager<TestdataListSolutionWithShadowHistory, SimpleScore> solutionManager =
+                SolutionManagerSource.createSolutionManager(SOLVER_FACTORY_LIST);
+        var recommendationList = summarize(solutionManager.recommendAssignment(solution, uninitializedValue,
+                propositionFunction));
+        assertThat(recommendationList).hasSize(55);
+        assertThat(propositionCount.getAndSet(0)).isEqualTo(55);
+
+        var limitedRecommendationList = summarize(solutionManager.recommendAssignment(solution, uninitializedValue,
+                propositionFunction, ScoreAnalysisFetchPolicy.FETCH_ALL, 5));
+        assertThat(limitedRecommendationList).containsExactlyElementsOf(recommendationList.subList(0, 5));
+        assertThat(propositionCount.getAndSet(0)).isLessThan(55);
+
+        assertThat(summarize(solutionManager.recommendAssignment(solution, uninitializedValue,
+                propositionFunction, ScoreAnalysisFetchPolicy.FETCH_ALL, 5, 3)))
+                .containsExactlyElementsOf(recommendationList.subList(0, 5));
+
+        try (var session = solutionManager.openSession(solution)) {
+            assertThat(summarize(session.recommendAssignment(uninitializedValue, propositionFunction,
+                    ScoreAnalysisFetchPolicy.FETCH_ALL, 1)))
+                    .containsExactlyElementsOf(recommendationList.subList(0, 1));
+        }
+        assertThatThrownBy(() -> solutionManager.recommendAssignment(solution, uninitializedValue, propositionFunction,
+                ScoreAnalysisFetchPolicy.FETCH_ALL, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("resultLimit");
+    }
+
+    /**
+     * @return the last value is unassigned, the entity {@code i} has {@code i} values
+     */
+    private static TestdataListSolutionWithShadowHistory generateListSolutionWithUnassignedValue(int entityCount) {
+        var entityList = new ArrayList<TestdataListEntityWithShadowHistory>();
+        var valueList = new ArrayList<TestdataListValueWithShadowHistory>();
+        for (var i = 0; i < entityCount; i++) {
+            var entityValueList = new ArrayList<TestdataListValueWithShadowHistory>();
+            for (var j = 0; j < i; j++) {
+                entityValueList.add(new TestdataListValueWithShadowHistory("v" + i + "-" + j));
+            }
+            valueList.addAll(entityValueList);
+            entityList.add(new TestdataListEntityWithShadowHistory("e" + i, entityValueList));
+        }
+        valueList.add(new TestdataListValueWithShadowHistory("uninitialized"));
+        var solution = new TestdataListSolutionWithShadowHistory();
+        solution.setEntityList(entityList);
+        solution.setValueList(valueList);
+        return solution;
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void openSession(SolutionManagerSource SolutionManagerSource) {
+        var solution = TestdataAllowsUnassignedSolution.generateSolution(3, 3);
+        var firstEntity = solution.getEntityList().get(0);
+        var evaluatedEntity = solution.getEntityList().get(2);
+        evaluatedEntity.setValue(null);
+        SolutionManager<TestdataAllowsUnassignedSolution, SimpleScore> solutionManager =
+                SolutionManagerSource.createSolutionManager(SOLVER_FACTORY_UNASSIGNED);
+
+        var session = solutionManager.openSession(solution);
+        assertThat(session.analyze().score()).isEqualTo(solutionManager.analyze(solution).score());
+        var recommendationList = summarize(
+                session.recommendAssignment(evaluatedEntity, TestdataAllowsUnassignedEntity::getValue));
+        assertThat(recommendationList)
+                .hasSize(4)
+                .containsExactlyElementsOf(summarize(solutionManager.recommendAssignment(solution, evaluatedEntity,
+                        TestdataAllowsUnassignedEntity::getValue)));
+        // The working solution of the session is back in its original state after a recommendation.
+        assertThat(summarize(session.recommendAssignment(evaluatedEntity, TestdataAllowsUnassignedEntity::getValue)))
+                .containsExactlyElementsOf(recommendationList);
+
+        var value = solution.getValueList().get(0);
+        session.applyProblemChange((workingSolution, problemChangeDirector) -> problemChangeDirector
+                .changeVariable(firstEntity, "value", entity -> entity.setValue(value)));
+        // The session works on a clone.
+        assertThat(firstEntity.getValue()).isNull();
+        var updatedSolution = session.update();
+        assertThat(updatedSolution).isNotSameAs(solution);
+        assertThat(updatedSolution.getEntityList().get(0).getValue().getCode()).isEqualTo(value.getCode());
+        assertThat(updatedSolution.getScore()).isEqualTo(session.analyze().score());
+        firstEntity.setValue(value);
+        assertThat(session.analyze().score()).isEqualTo(solutionManager.analyze(solution).score());
+        assertThat(summarize(session.recommendAssignment(evaluatedEntity, TestdataAllowsUnassignedEntity::getValue)))
+                .containsExactlyElementsOf(summarize(solutionManager.recommendAssignment(solution, evaluatedEntity,
+                        TestdataAllowsUnassignedEntity::getValue)));
+
+        session.close();
+        assertThatThrownBy(session::analyze).isInstanceOf(IllegalStateException.class);
+        session.close(); // Closing again does nothing.
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void openSessionFailedRecommendation(SolutionManagerSource SolutionManagerSource) {
+        var solution = TestdataAllowsUnassignedSolution.generateSolution(3, 3);
+        var evaluatedEntity = solution.getEntityList().get(2);
+        SolutionManager<TestdataAllowsUnassignedSolution, SimpleScore> solutionManager =
+                SolutionManagerSource.createSolutionManager(SOLVER_FACTORY_UNASSIGNED);
+
+        try (var session = solutionManager.openSession(solution)) {
+            var score = session.analyze().score();
+            assertThatThrownBy(() -> session.recommendAssignment(evaluatedEntity, entity -> {
+                throw new IllegalArgumentException("Proposition failed.");
+            }))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Proposition failed.");
+            // The evaluated entity is back where it was, so the session is still usable.
+            assertThat(session.analyze().score()).isEqualTo(score);
+            assertThat(session.update().getEntityList().get(2).getValue().getCode())
+                    .isEqualTo(evaluatedEntity.getValue().getCode());
+            assertThat(summarize(session.recommendAssignment(evaluatedEntity, TestdataAllowsUnassignedEntity::getValue)))
+                    .containsExactlyElementsOf(summarize(solutionManager.recommendAssignment(solution, evaluatedEntity,
+                            TestdataAllowsUnassignedEntity::getValue)));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(SolutionManagerSource.class)
+    void openSessionChainedAlreadyAssigned(SolutionManagerSource SolutionManagerSource) {
+        var a0 = new TestdataShadowingChainedAnchor("a0");
+        var b0 = new TestdataShadowingChainedAnchor("b0");
+        var b1 = new TestdataShadowingChainedEntity("b1", b0);
+        var c0 = new TestdataShadowingChainedAnchor("c0");
+        var c1 = new TestdataShadowingChainedEntity("c1", c0);
+        var evaluatedValue = new TestdataShadowingChainedEntity("c2", c1);
+        var solution = new TestdataShadowingChainedSolution("solution");
+        solution.setChainedAnchorList(Arrays.asList(a0, b0, c0));
+        solution.setChainedEntityList(Arrays.asList(b1, c1, evaluatedValue));
+        SolutionManager<TestdataShadowingChainedSolution, SimpleScore> solutionManager =
+                SolutionManagerSource.createSolutionManager(SOLVER_FACTORY_CHAINED);
+
+        try (var session = solutionManager.openSession(solution)) {
+            var score = session.analyze().score();
+            var recommendationList = summarize(
+                    session.recommendAssignment(evaluatedValue, TestdataShadowingChainedEntity::getChainedObject));
+            assertThat(recommendationList).hasSize(5);
+            // The evaluated value is back at the end of the "c" chain.
+            assertThat(session.analyze().score()).isEqualTo(score);
+            assertThat(summarize(
+                    session.recommendAssignment(evaluatedValue, TestdataShadowingChainedEntity::getChainedObject)))
+                    .containsExactlyElementsOf(recommendationList);
+        }
+        assertThat(evaluatedValue.getChainedObject()).isSameAs(c1);
+    }
+
+    private static <Proposition_> List<Pair<Proposition_, SimpleScore>>
+            summarize(List<RecommendedAssignment<Proposition_, SimpleScore>> recommendationList) {
+        return recommendationList.stream()
+                .map(recommendation -> new Pair<>(recommendation.proposition(), recommendation.scoreAnalysisDiff().score()))
+                .toList();
+    }
+
     @SuppressWarnings("unchecked")
     @ParameterizedTest
     @EnumSource(SolutionManagerSource.class)
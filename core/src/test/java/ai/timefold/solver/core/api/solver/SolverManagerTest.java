@@ -9,6 +9,7 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doCallRealMethod;
@@ -21,12 +22,16 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -50,6 +55,7 @@ import ai.timefold.solver.core.config.solver.SolverManagerConfig;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
 import ai.timefold.solver.core.impl.solver.DefaultSolverJob;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
 import ai.timefold.solver.core.testdomain.TestdataConstraintProvider;
 import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
@@ -697,6 +703,208 @@ class SolverManagerTest {
         }
     }
 
+    @Test
+    @Timeout(60)
+    void solveWithSharedConsumerExecutorAndBestSolutionConsumerInterval() throws ExecutionException, InterruptedException {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        var consumerExecutor = Executors.newSingleThreadExecutor();
+        try (var solverManager = SolverManager.<TestdataSolution, Long> create(solverConfig, new SolverManagerConfig())) {
+            var consumerThreadNames = Collections.synchronizedSet(new HashSet<String>());
+            var solverJobList = new ArrayList<SolverJob<TestdataSolution, Long>>();
+            var finalBestSolutionMap = new ConcurrentHashMap<Long, TestdataSolution>();
+            for (var problemId = 1L; problemId <= 2L; problemId++) {
+                var id = problemId;
+                solverJobList.add(solverManager.solveBuilder()
+                        .withProblemId(problemId)
+                        .withProblem(PlannerTestUtils.generateTestdataSolution("s" + problemId, 4))
+                        .withBestSolutionConsumer(bestSolution -> consumerThreadNames.add(Thread.currentThread().getName()))
+                        .withFinalBestSolutionConsumer(finalBestSolution -> {
+                            consumerThreadNames.add(Thread.currentThread().getName());
+                            finalBestSolutionMap.put(id, finalBestSolution);
+                        })
+                        .withBestSolutionConsumerInterval(Duration.ofMillis(10))
+                        .withConsumerExecutor(consumerExecutor)
+                        .run());
+            }
+            for (var solverJob : solverJobList) {
+                assertSolutionInitialized(solverJob.getFinalBestSolution());
+            }
+            await().atMost(Duration.ofSeconds(10)).until(() -> finalBestSolutionMap.size() == 2);
+            // Both solver jobs share the single thread of the consumer executor.
+            assertThat(consumerThreadNames).hasSize(1);
+            assertThat(consumerExecutor.isShutdown()).isFalse();
+        } finally {
+            consumerExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void solveWithVirtualThreadOrchestration() throws ExecutionException, InterruptedException {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        var solverManagerConfig = new SolverManagerConfig()
+                .withParallelSolverCount("1")
+                .withVirtualThreadOrchestration(true);
+        try (var solverManager = SolverManager.<TestdataSolution, Long> create(solverConfig, solverManagerConfig)) {
+            var consumerThreadNames = Collections.synchronizedSet(new HashSet<String>());
+            var solverJobList = new ArrayList<SolverJob<TestdataSolution, Long>>();
+            var finalBestSolutionMap = new ConcurrentHashMap<Long, TestdataSolution>();
+            for (var problemId = 1L; problemId <= 3L; problemId++) {
+                var id = problemId;
+                solverJobList.add(solverManager.solveBuilder()
+                        .withProblemId(problemId)
+                        .withProblem(PlannerTestUtils.generateTestdataSolution("s" + problemId, 4))
+                        .withBestSolutionConsumer(bestSolution -> consumerThreadNames.add(Thread.currentThread().getName()))
+                        .withFinalBestSolutionConsumer(finalBestSolution -> {
+                            consumerThreadNames.add(Thread.currentThread().getName());
+                            finalBestSolutionMap.put(id, finalBestSolution);
+                        })
+                        .run());
+            }
+            for (var solverJob : solverJobList) {
+                assertSolutionInitialized(solverJob.getFinalBestSolution());
+            }
+            await().atMost(Duration.ofSeconds(10)).until(() -> finalBestSolutionMap.size() == 3);
+            if (ThreadUtils.newVirtualThreadFactory("test-") != null) {
+                assertThat(consumerThreadNames).allMatch(name -> name.startsWith("TimefoldSolverManager-"));
+            } else { // Falls back to a platform thread per solver job.
+                assertThat(consumerThreadNames).noneMatch(name -> name.startsWith("TimefoldSolverManager-"));
+            }
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void solveInPriorityAndTenantOrder() throws InterruptedException, ExecutionException {
+        var startedCodeQueue = new LinkedBlockingQueue<String>();
+        var releaseLatchMap = new ConcurrentHashMap<String, CountDownLatch>();
+        var pausedPhaseConfig = new CustomPhaseConfig().withCustomPhaseCommands(
+                (ScoreDirector<TestdataSolution> scoreDirector, BooleanSupplier booleanSupplier) -> {
+                    var code = scoreDirector.getWorkingSolution().getCode();
+                    startedCodeQueue.add(code);
+                    try {
+                        releaseLatchMap.computeIfAbsent(code, key -> new CountDownLatch(1)).await();
+                    } catch (InterruptedException e) {
+                        fail("CountDownLatch failed.");
+                    }
+                });
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(pausedPhaseConfig, new ConstructionHeuristicPhaseConfig());
+        var solverManagerConfig = new SolverManagerConfig().withParallelSolverCount("2");
+        try (var solverManager = SolverManager.<TestdataSolution, String> create(solverConfig, solverManagerConfig)) {
+            var solverJobList = new ArrayList<SolverJob<TestdataSolution, String>>();
+            Consumer<String> release = code -> releaseLatchMap.computeIfAbsent(code, key -> new CountDownLatch(1))
+                    .countDown();
+            BiConsumer<String, Integer> submitForTenantA = (code, priority) -> solverJobList.add(solverManager.solveBuilder()
+                    .withProblemId(code)
+                    .withProblem(PlannerTestUtils.generateTestdataSolution(code, 4))
+                    .withPriority(priority)
+                    .withTenantId("A")
+                    .run());
+            submitForTenantA.accept("a1", 0);
+            submitForTenantA.accept("a2", 0);
+            assertThat(List.of(startedCodeQueue.take(), startedCodeQueue.take())).containsExactlyInAnyOrder("a1", "a2");
+
+            submitForTenantA.accept("a3", 0);
+            solverJobList.add(solverManager.solveBuilder()
+                    .withProblemId("b1")
+                    .withProblem(PlannerTestUtils.generateTestdataSolution("b1", 4))
+                    .withTenantId("B")
+                    .run());
+            submitForTenantA.accept("a4", 1);
+            assertThat(solverJobList.get(2).getSolverStatus()).isEqualTo(SOLVING_SCHEDULED);
+
+            // The higher priority job goes first.
+            release.accept("a1");
+            assertThat(startedCodeQueue.take()).isEqualTo("a4");
+            // Tenant A still has a solving job, so tenant B goes before the earlier job of tenant A.
+            release.accept("a4");
+            assertThat(startedCodeQueue.take()).isEqualTo("b1");
+            release.accept("b1");
+            assertThat(startedCodeQueue.take()).isEqualTo("a3");
+            release.accept("a2");
+            release.accept("a3");
+            for (var solverJob : solverJobList) {
+                assertSolutionInitialized(solverJob.getFinalBestSolution());
+                assertThat(solverJob.isTerminatedEarly()).isFalse();
+            }
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void preemptLowerPriorityJob() throws InterruptedException, ExecutionException {
+        var solvingStartedLatch = new CountDownLatch(1);
+        var startedPhaseConfig = new CustomPhaseConfig().withCustomPhaseCommands(
+                (ScoreDirector<TestdataSolution> scoreDirector, BooleanSupplier booleanSupplier) -> solvingStartedLatch
+                        .countDown());
+        // Solves until terminated.
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(startedPhaseConfig, new ConstructionHeuristicPhaseConfig(), new LocalSearchPhaseConfig());
+        var solverManagerConfig = new SolverManagerConfig()
+                .withParallelSolverCount("1")
+                .withPreemptiveScheduling(true);
+        try (var solverManager = SolverManager.<TestdataSolution, Long> create(solverConfig, solverManagerConfig)) {
+            var lowPriorityJob = solverManager.solve(1L, PlannerTestUtils.generateTestdataSolution("s1", 4));
+            solvingStartedLatch.await();
+            var highPriorityJob = solverManager.solveBuilder()
+                    .withProblemId(2L)
+                    .withProblem(PlannerTestUtils.generateTestdataSolution("s2", 4))
+                    .withPriority(1)
+                    .withConfigOverride(new SolverConfigOverride<TestdataSolution>()
+                            .withTerminationConfig(new TerminationConfig().withBestScoreLimit("0")))
+                    .run();
+
+            assertSolutionInitialized(highPriorityJob.getFinalBestSolution());
+            assertThat(highPriorityJob.isTerminatedEarly()).isFalse();
+            assertThat(lowPriorityJob.getFinalBestSolution()).isNotNull();
+            assertThat(lowPriorityJob.isTerminatedEarly()).isTrue();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void withoutPreemptiveSchedulingHigherPriorityJobWaits() throws InterruptedException, ExecutionException {
+        var solvingPausedLatch = new CountDownLatch(1);
+        var solvingStartedLatch = new CountDownLatch(1);
+        var pausedPhaseConfig = new CustomPhaseConfig().withCustomPhaseCommands(
+                (ScoreDirector<TestdataSolution> scoreDirector, BooleanSupplier booleanSupplier) -> {
+                    solvingStartedLatch.countDown();
+                    try {
+                        solvingPausedLatch.await();
+                    } catch (InterruptedException e) {
+                        fail("CountDownLatch failed.");
+                    }
+                });
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(pausedPhaseConfig, new ConstructionHeuristicPhaseConfig());
+        try (var solverManager = createSolverManagerWithOneSolver(solverConfig)) {
+            var lowPriorityJob = solverManager.solve(1L, PlannerTestUtils.generateTestdataSolution("s1", 4));
+            solvingStartedLatch.await();
+            var highPriorityJob = solverManager.solveBuilder()
+                    .withProblemId(2L)
+                    .withProblem(PlannerTestUtils.generateTestdataSolution("s2", 4))
+                    .withPriority(1)
+                    .run();
+            assertThat(highPriorityJob.getSolverStatus()).isEqualTo(SOLVING_SCHEDULED);
+            solvingPausedLatch.countDown();
+
+            assertSolutionInitialized(lowPriorityJob.getFinalBestSolution());
+            assertThat(lowPriorityJob.isTerminatedEarly()).isFalse();
+            assertSolutionInitialized(highPriorityJob.getFinalBestSolution());
+        }
+    }
+
+    @Test
+    void solveBuilderRejectsNegativeBestSolutionConsumerInterval() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        try (var solverManager = SolverManager.<TestdataSolution, Long> create(solverConfig, new SolverManagerConfig())) {
+            var solverJobBuilder = solverManager.solveBuilder();
+            assertThatThrownBy(() -> solverJobBuilder.withBestSolutionConsumerInterval(Duration.ofMillis(-1)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("bestSolutionConsumerInterval");
+        }
+    }
+
     @Test
     void testSolveBuilderForExistingSolvingMethods() {
         SolverJobBuilder<TestdataSolution, Long> solverJobBuilder = mock(SolverJobBuilder.class);
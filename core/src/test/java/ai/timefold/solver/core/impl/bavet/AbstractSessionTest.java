@@ -0,0 +1,109 @@
+package ai.timefold.solver.core.impl.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.count;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishEntity;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishSolution;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishValue;
+
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+class AbstractSessionTest {
+
+    @Test
+    void insertAllSameAsInsert() {
+        var solution = TestdataLavishSolution.generateSolution(2, 20, 3, 200);
+        var factList = new ArrayList<Object>();
+        factList.addAll(solution.getValueList());
+        factList.addAll(solution.getEntityList());
+        Collections.shuffle(factList, new Random(37)); // Mix the classes, so that the runs are short.
+
+        var session = buildSession(solution);
+        factList.forEach(session::insert);
+        var bulkSession = buildSession(solution);
+        bulkSession.insertAll(factList);
+        assertThat(bulkSession.calculateScore()).isEqualTo(session.calculateScore());
+        assertThat(bulkSession.getConstraintMatchTotalMap().values())
+                .extracting(ConstraintMatchTotal::getConstraintMatchCount)
+                .containsExactlyElementsOf(session.getConstraintMatchTotalMap().values().stream()
+                        .map(ConstraintMatchTotal::getConstraintMatchCount)
+                        .toList());
+    }
+
+    @Test
+    void insertAllIntoNonEmptySession() {
+        var solution = TestdataLavishSolution.generateSolution(2, 20, 3, 200);
+        var entityList = solution.getEntityList();
+        var firstHalf = entityList.subList(0, entityList.size() / 2);
+        var secondHalf = entityList.subList(entityList.size() / 2, entityList.size());
+
+        var session = buildSession(solution);
+        solution.getValueList().forEach(session::insert);
+        entityList.forEach(session::insert);
+        var bulkSession = buildSession(solution);
+        bulkSession.insertAll(solution.getValueList());
+        bulkSession.insertAll(firstHalf);
+        bulkSession.calculateScore();
+        bulkSession.insertAll(secondHalf);
+        assertThat(bulkSession.calculateScore()).isEqualTo(session.calculateScore());
+    }
+
+    @Test
+    void insertAllTwice() {
+        var solution = TestdataLavishSolution.generateSolution(2, 20, 3, 200);
+        var session = buildSession(solution);
+        var value = solution.getFirstValue();
+        assertThatThrownBy(() -> session.insertAll(List.of(value, value)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("already inserted");
+    }
+
+    private static BavetConstraintSession<SimpleScore> buildSession(TestdataLavishSolution solution) {
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore>(
+                TestdataLavishSolution.buildSolutionDescriptor(), new TestConstraintProvider(), EnvironmentMode.PHASE_ASSERT);
+        return scoreDirectorFactory.newSession(solution, ConstraintMatchPolicy.ENABLED, false);
+    }
+
+    private static final class TestConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachUniquePair(TestdataLavishEntity.class,
+                            Joiners.equal(TestdataLavishEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Same value"),
+                    constraintFactory.forEach(TestdataLavishEntity.class)
+                            .groupBy(TestdataLavishEntity::getEntityGroup, count())
+                            .penalize(SimpleScore.ONE, (entityGroup, count) -> count * count)
+                            .asConstraint("Entity group size"),
+                    constraintFactory.forEach(TestdataLavishValue.class)
+                            .ifNotExists(TestdataLavishEntity.class,
+                                    Joiners.equal(Function.identity(), TestdataLavishEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Unused value")
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,223 @@
+package ai.timefold.solver.core.impl.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.count;
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.countBi;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.common.NodeProfile;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
+import ai.timefold.solver.core.impl.solver.thread.DefaultSolverThreadFactory;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishEntity;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishEntityGroup;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishSolution;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishValue;
+
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+class ParallelNodeNetworkSettlerTest {
+
+    @Test
+    void sameScoreAsSequential() {
+        var solution = TestdataLavishSolution.generateSolution(2, 50, 3, 500);
+        var sequentialSession = buildSession(solution, new IndependentConstraintProvider(), false, null, 0);
+        var threadFactory = new CountingThreadFactory();
+        var parallelSession = buildSession(solution, new IndependentConstraintProvider(), false, threadFactory, 0);
+        assertSameAsSequential(solution, sequentialSession, parallelSession);
+        assertThat(threadFactory.threadCount.get()).isPositive();
+    }
+
+    @Test
+    void subNetworkCount() {
+        var solution = TestdataLavishSolution.generateSolution(2, 10, 3, 50);
+        var independentSession = buildSession(solution, new IndependentConstraintProvider(), false,
+                new CountingThreadFactory(), 0);
+        assertThat(independentSession.getInitialSettler().getSubNetworkCount()).isEqualTo(4);
+        var sharedSession = buildSession(solution, new SharedNodeConstraintProvider(), false,
+                new CountingThreadFactory(), 0);
+        assertThat(sharedSession.getInitialSettler().getSubNetworkCount()).isEqualTo(4);
+        sharedSession.calculateScore();
+        assertThat(sharedSession.getInitialSettler()).isNull();
+    }
+
+    @Test
+    void sharedNodes() {
+        var solution = TestdataLavishSolution.generateSolution(2, 50, 3, 500);
+        var sequentialSession = buildSession(solution, new SharedNodeConstraintProvider(), false, null, 0);
+        var parallelSession = buildSession(solution, new SharedNodeConstraintProvider(), false,
+                new CountingThreadFactory(), 0);
+        assertSameAsSequential(solution, sequentialSession, parallelSession);
+    }
+
+    @Test
+    void tupleRecycling() {
+        var solution = TestdataLavishSolution.generateSolution(2, 50, 3, 500);
+        var sequentialSession = buildSession(solution, new SharedNodeConstraintProvider(), false, null, 0);
+        var parallelSession = buildSession(solution, new SharedNodeConstraintProvider(), true,
+                new CountingThreadFactory(), 0);
+        assertSameAsSequential(solution, sequentialSession, parallelSession);
+    }
+
+    @Test
+    void profiling() {
+        var solution = TestdataLavishSolution.generateSolution(2, 50, 3, 500);
+        var sequentialSession = buildSession(solution, new SharedNodeConstraintProvider(), false, null, 1);
+        var parallelSession = buildSession(solution, new SharedNodeConstraintProvider(), false,
+                new CountingThreadFactory(), 1);
+        assertThat(parallelSession.calculateScore()).isEqualTo(sequentialSession.calculateScore());
+        assertThat(summarizeProfiles(parallelSession)).isEqualTo(summarizeProfiles(sequentialSession));
+        assertSameAsSequential(solution, sequentialSession, parallelSession);
+        assertThat(summarizeProfiles(parallelSession)).isEqualTo(summarizeProfiles(sequentialSession));
+    }
+
+    private static void assertSameAsSequential(TestdataLavishSolution solution,
+            BavetConstraintSession<SimpleScore> sequentialSession, BavetConstraintSession<SimpleScore> parallelSession) {
+        assertThat(parallelSession.calculateScore()).isEqualTo(sequentialSession.calculateScore());
+        assertThat(summarize(parallelSession.getConstraintMatchTotalMap()))
+                .isEqualTo(summarize(sequentialSession.getConstraintMatchTotalMap()));
+
+        // Subsequent settles are incremental, and must be unaffected by the parallel first settle.
+        var valueList = solution.getValueList();
+        for (var i = 0; i < solution.getEntityList().size(); i += 7) {
+            var entity = solution.getEntityList().get(i);
+            entity.setValue(valueList.get((valueList.indexOf(entity.getValue()) + 1) % valueList.size()));
+            sequentialSession.update(entity);
+            parallelSession.update(entity);
+            assertThat(parallelSession.calculateScore()).isEqualTo(sequentialSession.calculateScore());
+        }
+        assertThat(summarize(parallelSession.getConstraintMatchTotalMap()))
+                .isEqualTo(summarize(sequentialSession.getConstraintMatchTotalMap()));
+    }
+
+    private static BavetConstraintSession<SimpleScore> buildSession(TestdataLavishSolution solution,
+            ConstraintProvider constraintProvider, boolean tupleRecycling, ThreadFactory bulkLoadThreadFactory,
+            int profilingSampleInterval) {
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore>(
+                TestdataLavishSolution.buildSolutionDescriptor(), constraintProvider, EnvironmentMode.PHASE_ASSERT,
+                tupleRecycling, bulkLoadThreadFactory);
+        var session = scoreDirectorFactory.newSession(solution, ConstraintMatchPolicy.ENABLED, false,
+                profilingSampleInterval, null);
+        solution.getValueGroupList().forEach(session::insert);
+        solution.getValueList().forEach(session::insert);
+        solution.getEntityGroupList().forEach(session::insert);
+        solution.getEntityList().forEach(session::insert);
+        return session;
+    }
+
+    private static Map<String, Integer> summarize(Map<String, ConstraintMatchTotal<SimpleScore>> constraintMatchTotalMap) {
+        return constraintMatchTotalMap.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                        entry -> entry.getValue().getConstraintMatchCount()));
+    }
+
+    private static Map<Long, String> summarizeProfiles(BavetConstraintSession<SimpleScore> session) {
+        return session.getProfiler().getProfileList().stream()
+                .collect(Collectors.toMap(profile -> profile.getNode().getId(), ParallelNodeNetworkSettlerTest::summarize));
+    }
+
+    private static String summarize(NodeProfile profile) {
+        return "%d/%d/%d/%d".formatted(profile.getInsertCount(), profile.getUpdateCount(), profile.getRetractCount(),
+                profile.getTupleCount());
+    }
+
+    private static final class CountingThreadFactory implements ThreadFactory {
+
+        private final ThreadFactory delegate = new DefaultSolverThreadFactory("BulkLoadTest");
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(@NonNull Runnable runnable) {
+            threadCount.incrementAndGet();
+            return delegate.newThread(runnable);
+        }
+
+    }
+
+    /**
+     * Every constraint ends up in a sub-network of its own, as they only share the forEach nodes.
+     */
+    private static final class IndependentConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataLavishEntity.class)
+                            .join(TestdataLavishEntity.class,
+                                    Joiners.equal(TestdataLavishEntity::getEntityGroup),
+                                    Joiners.equal(TestdataLavishEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Same group and value"),
+                    constraintFactory.forEach(TestdataLavishEntity.class)
+                            .groupBy(TestdataLavishEntity::getValue, count())
+                            .filter((value, count) -> count > 5)
+                            .penalize(SimpleScore.ONE, (value, count) -> count - 5)
+                            .asConstraint("Overused value"),
+                    constraintFactory.forEach(TestdataLavishValue.class)
+                            .ifNotExists(TestdataLavishEntity.class,
+                                    Joiners.equal(Function.identity(), TestdataLavishEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Unused value"),
+                    constraintFactory.forEach(TestdataLavishEntityGroup.class)
+                            .reward(SimpleScore.ONE)
+                            .asConstraint("Entity group")
+            };
+        }
+
+    }
+
+    /**
+     * Ends up in 4 sub-networks:
+     * the first two constraints share their join,
+     * the third constraint merges two branches that start from different forEach nodes,
+     * and the last two constraints have no nodes other than their forEach nodes.
+     */
+    private static final class SharedNodeConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+            var sameGroup = constraintFactory.forEach(TestdataLavishEntity.class)
+                    .join(TestdataLavishEntity.class, Joiners.equal(TestdataLavishEntity::getEntityGroup));
+            var valueCount = constraintFactory.forEach(TestdataLavishEntity.class)
+                    .groupBy(TestdataLavishEntity::getValue, count());
+            var usedValue = constraintFactory.forEach(TestdataLavishValue.class)
+                    .ifExists(TestdataLavishEntity.class,
+                            Joiners.equal(Function.identity(), TestdataLavishEntity::getValue));
+            return new Constraint[] {
+                    sameGroup.filter((entity, otherEntity) -> entity.getValue() == otherEntity.getValue())
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Same group and value"),
+                    sameGroup.groupBy((entity, otherEntity) -> entity.getValue(), countBi())
+                            .penalize(SimpleScore.ONE, (value, count) -> count)
+                            .asConstraint("Group pairs per value"),
+                    valueCount.join(usedValue, Joiners.equal((value, count) -> value, Function.identity()))
+                            .penalize(SimpleScore.ONE, (value, count, usedValue2) -> count)
+                            .asConstraint("Used value count"),
+                    constraintFactory.forEach(TestdataLavishEntityGroup.class)
+                            .filter(entityGroup -> entityGroup.getCode().hashCode() % 2 == 0)
+                            .reward(SimpleScore.ONE)
+                            .asConstraint("Entity group"),
+                    constraintFactory.forEach(TestdataLavishEntity.class)
+                            .filter(entity -> entity.getCode().hashCode() % 2 == 0)
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Even entity")
+            };
+        }
+
+    }
+
+}
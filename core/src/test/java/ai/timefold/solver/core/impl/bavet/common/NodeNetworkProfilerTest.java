@@ -0,0 +1,166 @@
+package ai.timefold.solver.core.impl.bavet.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.function.Function;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.bavet.uni.AbstractForEachUniNode;
+import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishEntity;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishSolution;
+import ai.timefold.solver.core.testdomain.score.lavish.TestdataLavishValue;
+
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+class NodeNetworkProfilerTest {
+
+    private final BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+            new BavetConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                    new TestConstraintProvider(), EnvironmentMode.PHASE_ASSERT);
+
+    @Test
+    void profile() {
+        var solution = TestdataLavishSolution.generateSolution(2, 10, 3, 50);
+        var session = buildSession(solution, 1, false);
+        var profiler = session.getProfiler();
+        assertThat(profiler).isNotNull();
+
+        var entityCount = solution.getEntityList().size();
+        var valueCount = solution.getValueList().size();
+        var entityForEachProfile = getForEachProfile(profiler, TestdataLavishEntity.class);
+        assertThat(entityForEachProfile.getInsertCount()).isEqualTo(entityCount);
+        assertThat(entityForEachProfile.getTupleCount()).isEqualTo(entityCount);
+        assertThat(getForEachProfile(profiler, TestdataLavishValue.class).getInsertCount()).isEqualTo(valueCount);
+        // The join receives every entity on both its inputs.
+        var joinProfile = profiler.getProfileList().stream()
+                .filter(profile -> profile.getNode() instanceof AbstractJoinNode<?, ?, ?>)
+                .findFirst()
+                .orElseThrow();
+        assertThat(joinProfile.getInsertCount()).isEqualTo(2L * entityCount);
+        assertThat(joinProfile.getUpdateCount()).isZero();
+        assertThat(profiler.getProfileList())
+                .extracting(profile -> profile.getNode().getId())
+                .isSorted();
+
+        var entity = solution.getEntityList().get(0);
+        entity.setValue(solution.getValueList().get(1));
+        session.update(entity);
+        session.calculateScore();
+        assertThat(entityForEachProfile.getUpdateCount()).isOne();
+        assertThat(joinProfile.getUpdateCount()).isEqualTo(2L);
+
+        session.retract(entity);
+        session.calculateScore();
+        assertThat(entityForEachProfile.getRetractCount()).isOne();
+        assertThat(entityForEachProfile.getTupleCount()).isEqualTo(entityCount - 1L);
+        assertThat(joinProfile.getTupleCount()).isEqualTo(2L * (entityCount - 1L));
+
+        assertThat(profiler.buildGraphvizDOT())
+                .startsWith("digraph {")
+                .contains("%d ins, 1 upd, 1 ret".formatted(entityCount));
+    }
+
+    @Test
+    void sameScoreAsUnprofiled() {
+        var solution = TestdataLavishSolution.generateSolution(2, 10, 3, 50);
+        var profiledSession = buildSession(solution, 1, false);
+        var session = buildSession(solution, 0, false);
+        assertThat(session.getProfiler()).isNull();
+        assertThat(profiledSession.calculateScore()).isEqualTo(session.calculateScore());
+    }
+
+    @Test
+    void sampled() {
+        var solution = TestdataLavishSolution.generateSolution(2, 10, 3, 50);
+        var profiler = buildSession(solution, 16, false).getProfiler();
+        assertThat(profiler.getSampleInterval()).isEqualTo(16);
+        // Sampling only affects the time, every tuple operation is still counted.
+        assertThat(getForEachProfile(profiler, TestdataLavishEntity.class).getInsertCount())
+                .isEqualTo(solution.getEntityList().size());
+        assertThatThrownBy(() -> buildSession(solution, 3, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("power of 2");
+    }
+
+    @Test
+    void constraintTime() {
+        var solution = TestdataLavishSolution.generateSolution(2, 10, 3, 50);
+        var profiler = buildSession(solution, 1, false).getProfiler();
+        assertThat(profiler.getConstraintRefs())
+                .extracting(ConstraintRef::constraintName)
+                .containsExactlyInAnyOrder("Same value", "Unused value");
+        var sameValueRef = getConstraintRef(profiler, "Same value");
+        var unusedValueRef = getConstraintRef(profiler, "Unused value");
+        assertThat(profiler.getConstraintTimeNanos(sameValueRef)).isPositive();
+        assertThat(profiler.getConstraintTimeNanos(unusedValueRef)).isPositive();
+        assertThat(profiler.getConstraintTimeNanos(ConstraintRef.of("unknown", "Unknown"))).isZero();
+        // The entity forEach node is shared by both constraints, yet the constraints add up to the whole network.
+        var networkTimeNanos = profiler.getProfileList().stream()
+                .mapToLong(NodeProfile::getTimeNanos)
+                .sum();
+        assertThat(profiler.getConstraintTimeNanos(sameValueRef) + profiler.getConstraintTimeNanos(unusedValueRef))
+                .isGreaterThanOrEqualTo(networkTimeNanos - 2); // Rounding.
+    }
+
+    @Test
+    void derivedNotProfiled() {
+        var solution = TestdataLavishSolution.generateSolution(2, 10, 3, 50);
+        assertThat(buildSession(solution, 1, true).getProfiler()).isNull();
+    }
+
+    private static ConstraintRef getConstraintRef(NodeNetworkProfiler profiler, String constraintName) {
+        return profiler.getConstraintRefs().stream()
+                .filter(constraintRef -> constraintRef.constraintName().equals(constraintName))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static NodeProfile getForEachProfile(NodeNetworkProfiler profiler, Class<?> forEachClass) {
+        return profiler.getProfileList().stream()
+                .filter(profile -> profile.getNode() instanceof AbstractForEachUniNode<?> forEachNode
+                        && forEachNode.getForEachClass() == forEachClass)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private BavetConstraintSession<SimpleScore> buildSession(TestdataLavishSolution solution, int profilingSampleInterval,
+            boolean derived) {
+        var session = scoreDirectorFactory.newSession(solution, ConstraintMatchPolicy.DISABLED, derived,
+                profilingSampleInterval, null);
+        solution.getValueList().forEach(session::insert);
+        solution.getEntityList().forEach(session::insert);
+        session.calculateScore();
+        return session;
+    }
+
+    private static final class TestConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataLavishEntity.class)
+                            .join(TestdataLavishEntity.class, Joiners.equal(TestdataLavishEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Same value"),
+                    constraintFactory.forEach(TestdataLavishValue.class)
+                            .ifNotExists(TestdataLavishEntity.class,
+                                    Joiners.equal(Function.identity(), TestdataLavishEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Unused value")
+            };
+        }
+
+    }
+
+}
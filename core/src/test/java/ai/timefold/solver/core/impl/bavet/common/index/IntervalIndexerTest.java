@@ -0,0 +1,130 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.bavet.bi.joiner.DefaultBiJoiner;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+import org.junit.jupiter.api.Test;
+
+class IntervalIndexerTest extends AbstractIndexerTest {
+
+    record Shift(String employee, int start, int end) {
+
+    }
+
+    private final DefaultBiJoiner<Shift, Shift> joiner =
+            (DefaultBiJoiner<Shift, Shift>) Joiners.overlapping(Shift::start, Shift::end);
+
+    @Test
+    void buildIndexer() {
+        assertThat(new IndexerFactory<>(joiner).buildIndexer(true))
+                .isInstanceOf(IntervalIndexer.class);
+        assertThat(new IndexerFactory<>(joiner).buildIndexer(false))
+                .isInstanceOf(IntervalIndexer.class);
+        var equalAndOverlappingJoiner = (DefaultBiJoiner<Shift, Shift>) Joiners.<Shift, String> equal(Shift::employee)
+                .and(Joiners.overlapping(Shift::start, Shift::end));
+        assertThat(new IndexerFactory<>(equalAndOverlappingJoiner).buildIndexer(true))
+                .isInstanceOf(EqualsIndexer.class);
+        var greaterThanAndLessThanJoiner = (DefaultBiJoiner<Shift, Shift>) Joiners.<Shift, Integer> greaterThan(Shift::end)
+                .and(Joiners.lessThan(Shift::start));
+        assertThat(new IndexerFactory<>(greaterThanAndLessThanJoiner).buildIndexer(true))
+                .isInstanceOf(ComparisonIndexer.class);
+    }
+
+    @Test
+    void put() {
+        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThat(indexer.size(IndexKeys.of(20, 10))).isEqualTo(0);
+        indexer.put(IndexKeys.of(10, 20), newTuple("Ann-10-20"));
+        assertThat(indexer.size(IndexKeys.of(20, 10))).isEqualTo(1);
+        assertThat(indexer.isEmpty()).isFalse();
+    }
+
+    @Test
+    void removeTwice() {
+        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var annEntry = indexer.put(IndexKeys.of(10, 20), newTuple("Ann-10-20"));
+
+        indexer.remove(IndexKeys.of(10, 20), annEntry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(IndexKeys.of(10, 20), annEntry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visitLeft() {
+        // The left indexer stores (leftStart, leftEnd) and is queried with (rightEnd, rightStart).
+        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var annTuple = newTuple("Ann-10-20");
+        indexer.put(IndexKeys.of(10, 20), annTuple);
+        var bethTuple = newTuple("Beth-15-30");
+        indexer.put(IndexKeys.of(15, 30), bethTuple);
+        var carlTuple = newTuple("Carl-30-40");
+        indexer.put(IndexKeys.of(30, 40), carlTuple);
+
+        assertThat(getTuples(indexer, 20, 0)).containsOnly(annTuple, bethTuple);
+        assertThat(getTuples(indexer, 25, 20)).containsOnly(bethTuple);
+        assertThat(getTuples(indexer, 31, 30)).containsOnly(carlTuple);
+        assertThat(getTuples(indexer, 10, 0)).isEmpty();
+        assertThat(getTuples(indexer, 50, 40)).isEmpty();
+    }
+
+    @Test
+    void visitRight() {
+        // The right indexer stores (rightEnd, rightStart) and is queried with (leftStart, leftEnd).
+        var indexer = new IndexerFactory<>(joiner).buildIndexer(false);
+        var annTuple = newTuple("Ann-10-20");
+        indexer.put(IndexKeys.of(20, 10), annTuple);
+        var bethTuple = newTuple("Beth-15-30");
+        indexer.put(IndexKeys.of(30, 15), bethTuple);
+
+        assertThat(getTuples(indexer, 0, 20)).containsOnly(annTuple, bethTuple);
+        assertThat(getTuples(indexer, 20, 25)).containsOnly(bethTuple);
+        assertThat(getTuples(indexer, 30, 40)).isEmpty();
+    }
+
+    @Test
+    void randomizedAgainstBruteForce() {
+        var random = new Random(37);
+        var indexer = new IndexerFactory<>(joiner).<UniTuple<Shift>> buildIndexer(true);
+        var shiftList = new ArrayList<Shift>();
+        var entryList = new ArrayList<ElementAwareListEntry<UniTuple<Shift>>>();
+        for (var i = 0; i < 10_000; i++) {
+            if (shiftList.isEmpty() || random.nextInt(3) != 0) {
+                var start = random.nextInt(1_000);
+                var shift = new Shift("Shift-" + i, start, start + 1 + random.nextInt(50));
+                shiftList.add(shift);
+                entryList.add(indexer.put(IndexKeys.of(shift.start(), shift.end()), new UniTuple<>(shift, 0)));
+            } else {
+                var index = random.nextInt(shiftList.size());
+                var shift = shiftList.remove(index);
+                indexer.remove(IndexKeys.of(shift.start(), shift.end()), entryList.remove(index));
+            }
+            if (i % 100 == 0) {
+                var queryStart = random.nextInt(1_000);
+                var queryEnd = queryStart + 1 + random.nextInt(50);
+                var expected = shiftList.stream()
+                        .filter(shift -> shift.start() < queryEnd && shift.end() > queryStart)
+                        .toList();
+                var queryKeys = IndexKeys.of(queryEnd, queryStart);
+                assertThat(indexer.size(queryKeys)).isEqualTo(expected.size());
+                assertThat(getTuples(indexer, queryEnd, queryStart))
+                        .extracting(tuple -> tuple.factA)
+                        .containsExactlyInAnyOrderElementsOf(expected);
+            }
+        }
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+}
@@ -0,0 +1,115 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.bavet.bi.joiner.DefaultBiJoiner;
+import ai.timefold.solver.core.impl.bavet.common.tuple.UniTuple;
+
+import org.junit.jupiter.api.Test;
+
+class PrimitiveEqualsIndexerTest extends AbstractIndexerTest {
+
+    private final DefaultBiJoiner<Person, Person> joiner =
+            (DefaultBiJoiner<Person, Person>) Joiners.equalInt(Person::age);
+
+    @Test
+    void buildIndexer() {
+        assertThat(new IndexerFactory<>(joiner).buildIndexer(true))
+                .isInstanceOf(PrimitiveEqualsIndexer.class);
+        var equalAndEqualIntJoiner = (DefaultBiJoiner<Person, Person>) Joiners.<Person, String> equal(Person::gender)
+                .and(Joiners.equalInt(Person::age));
+        // Consecutive equal joiners are merged into a composite key.
+        assertThat(new IndexerFactory<>(equalAndEqualIntJoiner).buildIndexer(true))
+                .isInstanceOf(EqualsIndexer.class);
+        var equalIntAndLessThanJoiner = (DefaultBiJoiner<Person, Person>) Joiners.<Person> equalInt(Person::age)
+                .and(Joiners.lessThan(Person::gender));
+        assertThat(new IndexerFactory<>(equalIntAndLessThanJoiner).buildIndexer(true))
+                .isInstanceOf(PrimitiveEqualsIndexer.class);
+    }
+
+    @Test
+    void isEmpty() {
+        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThat(getTuples(indexer, 40)).isEmpty();
+    }
+
+    @Test
+    void put() {
+        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var annTuple = newTuple("Ann-F-40");
+        assertThat(indexer.size(IndexKeys.of(40))).isEqualTo(0);
+        indexer.put(IndexKeys.of(40), annTuple);
+        assertThat(indexer.size(IndexKeys.of(40))).isEqualTo(1);
+        assertThat(indexer.isEmpty()).isFalse();
+    }
+
+    @Test
+    void removeTwice() {
+        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+        var annTuple = newTuple("Ann-F-40");
+        var annEntry = indexer.put(IndexKeys.of(40), annTuple);
+
+        indexer.remove(IndexKeys.of(40), annEntry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(IndexKeys.of(40), annEntry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visit() {
+        var indexer = new IndexerFactory<>(joiner).buildIndexer(true);
+
+        var annTuple = newTuple("Ann-F-40");
+        indexer.put(IndexKeys.of(40), annTuple);
+        var bethTuple = newTuple("Beth-F-30");
+        indexer.put(IndexKeys.of(30), bethTuple);
+        var carlTuple = newTuple("Carl-M-4000");
+        indexer.put(IndexKeys.of(4000), carlTuple);
+        var ednaTuple = newTuple("Edna-F-40");
+        indexer.put(IndexKeys.of(40), ednaTuple);
+
+        assertThat(getTuples(indexer, 40)).containsOnly(annTuple, ednaTuple);
+        assertThat(getTuples(indexer, 30)).containsOnly(bethTuple);
+        assertThat(getTuples(indexer, 4000)).containsOnly(carlTuple);
+        assertThat(getTuples(indexer, 20)).isEmpty();
+    }
+
+    @Test
+    void visitWithDownstreamIndexer() {
+        var equalIntAndLessThanJoiner = (DefaultBiJoiner<Person, Person>) Joiners.<Person> equalInt(Person::age)
+                .and(Joiners.lessThan(Person::gender));
+        var indexer = new IndexerFactory<>(equalIntAndLessThanJoiner).buildIndexer(true);
+
+        var annTuple = newTuple("Ann-F-40");
+        indexer.put(IndexKeys.of(40, "F"), annTuple);
+        var bethTuple = newTuple("Beth-F-30");
+        indexer.put(IndexKeys.of(30, "F"), bethTuple);
+        var carlTuple = newTuple("Carl-M-40");
+        indexer.put(IndexKeys.of(40, "M"), carlTuple);
+
+        assertThat(getTuples(indexer, 40, "M")).containsOnly(annTuple);
+        assertThat(getTuples(indexer, 40, "N")).containsOnly(annTuple, carlTuple);
+        assertThat(getTuples(indexer, 30, "F")).isEmpty();
+    }
+
+    @Test
+    void reapplyReusesUnchangedKey() {
+        var keysExtractor = new IndexerFactory<>(joiner).<Person> buildUniLeftKeysExtractor();
+        var tuple = new UniTuple<>(new Person("F", 4000), 0);
+        var oldIndexKeys = keysExtractor.apply(tuple);
+        assertThat(keysExtractor.reapply(tuple, oldIndexKeys)).isSameAs(oldIndexKeys);
+
+        tuple.factA = new Person("F", 5000);
+        assertThat(keysExtractor.reapply(tuple, oldIndexKeys))
+                .isNotEqualTo(oldIndexKeys)
+                .isEqualTo(keysExtractor.apply(tuple));
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+}
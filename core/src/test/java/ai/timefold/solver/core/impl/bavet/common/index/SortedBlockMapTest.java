@@ -0,0 +1,94 @@
+package ai.timefold.solver.core.impl.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+class SortedBlockMapTest {
+
+    @Test
+    void putGetRemove() {
+        var map = new SortedBlockMap<Integer, String>(Comparator.naturalOrder());
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(1)).isNull();
+        assertThat(map.remove(1)).isNull();
+        assertThat(map.put(2, "a")).isNull();
+        assertThat(map.put(1, "b")).isNull();
+        assertThat(map.put(2, "c")).isEqualTo("a");
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get(1)).isEqualTo("b");
+        assertThat(map.get(2)).isEqualTo("c");
+        assertThat(map.get(3)).isNull();
+        assertThat(map.remove(1)).isEqualTo("b");
+        assertThat(map.remove(1)).isNull();
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.remove(2)).isEqualTo("c");
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    void forEachHead() {
+        var map = new SortedBlockMap<Integer, Integer>(Comparator.naturalOrder());
+        for (var i = 0; i < 200; i += 2) { // Spans multiple blocks.
+            map.put(i, i);
+        }
+        assertThat(head(map, -1, true)).isEmpty();
+        assertThat(head(map, 0, false)).isEmpty();
+        assertThat(head(map, 0, true)).containsExactly(0);
+        assertThat(head(map, 5, false)).containsExactly(0, 2, 4);
+        assertThat(head(map, 4, false)).containsExactly(0, 2);
+        assertThat(head(map, 4, true)).containsExactly(0, 2, 4);
+        assertThat(head(map, 1_000, false)).hasSize(100);
+        assertThat(map.sumHead(5, false, (value, ignored) -> 1, null)).isEqualTo(3);
+        assertThat(map.sumHead(1_000, false, (value, ignored) -> 1, null)).isEqualTo(100);
+    }
+
+    @Test
+    void forEachHeadReversed() {
+        var map = new SortedBlockMap<Integer, Integer>(Comparator.<Integer> naturalOrder().reversed());
+        for (var i = 0; i < 10; i++) {
+            map.put(i, i);
+        }
+        assertThat(head(map, 6, false)).containsExactly(9, 8, 7);
+        assertThat(head(map, 6, true)).containsExactly(9, 8, 7, 6);
+    }
+
+    @Test
+    void randomizedAgainstTreeMap() {
+        var random = new Random(37);
+        var map = new SortedBlockMap<Integer, Integer>(Comparator.naturalOrder());
+        var expectedMap = new TreeMap<Integer, Integer>();
+        for (var i = 0; i < 100_000; i++) {
+            // Small key range to force plenty of block splits, merges and re-insertions.
+            var key = random.nextInt(2_000);
+            if (random.nextInt(3) != 0) {
+                assertThat(map.put(key, i)).isEqualTo(expectedMap.put(key, i));
+            } else {
+                assertThat(map.remove(key)).isEqualTo(expectedMap.remove(key));
+            }
+            assertThat(map.size()).isEqualTo(expectedMap.size());
+            if (i % 1_000 == 0) {
+                var boundary = random.nextInt(2_100) - 50;
+                var inclusive = random.nextBoolean();
+                assertThat(head(map, boundary, inclusive))
+                        .containsExactlyElementsOf(expectedMap.headMap(boundary, inclusive).values());
+            }
+        }
+        for (var key = 0; key < 2_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expectedMap.get(key));
+        }
+    }
+
+    private static List<Integer> head(SortedBlockMap<Integer, Integer> map, int boundary, boolean inclusive) {
+        var values = new ArrayList<Integer>();
+        map.forEachHead(boundary, inclusive, (value, list, ignored) -> list.add(value), values, null);
+        return values;
+    }
+
+}
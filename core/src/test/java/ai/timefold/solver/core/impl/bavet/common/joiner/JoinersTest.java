@@ -31,6 +31,29 @@ class JoinersTest {
         });
     }
 
+    @Test
+    void equalIntBi() {
+        DefaultBiJoiner<BigInteger, BigDecimal> joiner =
+                (DefaultBiJoiner<BigInteger, BigDecimal>) Joiners.equalInt(BigInteger::intValue, BigDecimal::intValue);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.getRightMapping(0)).isInstanceOf(PrimitiveKeyMapping.class);
+            softly.assertThat(joiner.matches(BigInteger.valueOf(1000), BigDecimal.valueOf(1000))).isTrue();
+            softly.assertThat(joiner.matches(BigInteger.ONE, BigDecimal.ZERO)).isFalse();
+        });
+    }
+
+    @Test
+    void equalLongBi() {
+        DefaultBiJoiner<BigInteger, BigDecimal> joiner =
+                (DefaultBiJoiner<BigInteger, BigDecimal>) Joiners.equalLong(BigInteger::longValue, BigDecimal::longValue);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.getRightMapping(0)).isInstanceOf(PrimitiveKeyMapping.class);
+            softly.assertThat(joiner.matches(BigInteger.valueOf(Long.MAX_VALUE), BigDecimal.valueOf(Long.MAX_VALUE)))
+                    .isTrue();
+            softly.assertThat(joiner.matches(BigInteger.ONE, BigDecimal.ZERO)).isFalse();
+        });
+    }
+
     @Test
     void equalTri() {
         BiFunction<BigInteger, BigInteger, Long> leftMapping = (a, b) -> a.add(b).longValue();
@@ -43,6 +66,33 @@ class JoinersTest {
         });
     }
 
+    @Test
+    void equalIntTri() {
+        DefaultTriJoiner<BigInteger, BigInteger, BigDecimal> joiner =
+                (DefaultTriJoiner<BigInteger, BigInteger, BigDecimal>) Joiners.equalInt(
+                        (BigInteger a, BigInteger b) -> a.add(b).intValue(), BigDecimal::intValue);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.getLeftMapping(0)).isInstanceOf(PrimitiveKeyMapping.class);
+            softly.assertThat(joiner.getRightMapping(0)).isInstanceOf(PrimitiveKeyMapping.class);
+            softly.assertThat(joiner.matches(BigInteger.valueOf(1000), BigInteger.ZERO, BigDecimal.valueOf(1000)))
+                    .isTrue();
+            softly.assertThat(joiner.matches(BigInteger.ONE, BigInteger.ZERO, BigDecimal.ZERO)).isFalse();
+        });
+    }
+
+    @Test
+    void equalLongTri() {
+        DefaultTriJoiner<BigInteger, BigInteger, BigDecimal> joiner =
+                (DefaultTriJoiner<BigInteger, BigInteger, BigDecimal>) Joiners.equalLong(
+                        (BigInteger a, BigInteger b) -> a.add(b).longValue(), BigDecimal::longValue);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.getLeftMapping(0)).isInstanceOf(PrimitiveKeyMapping.class);
+            softly.assertThat(joiner.matches(BigInteger.valueOf(Long.MAX_VALUE), BigInteger.ZERO,
+                    BigDecimal.valueOf(Long.MAX_VALUE))).isTrue();
+            softly.assertThat(joiner.matches(BigInteger.ONE, BigInteger.ZERO, BigDecimal.ZERO)).isFalse();
+        });
+    }
+
     @Test
     void equalQuad() {
         TriFunction<BigInteger, BigInteger, BigInteger, Long> leftMapping = (a, b, c) -> a.add(b).add(c).longValue();
@@ -55,6 +105,30 @@ class JoinersTest {
         });
     }
 
+    @Test
+    void equalIntQuad() {
+        DefaultQuadJoiner<BigInteger, BigInteger, BigInteger, BigDecimal> joiner =
+                (DefaultQuadJoiner<BigInteger, BigInteger, BigInteger, BigDecimal>) Joiners.equalInt(
+                        (BigInteger a, BigInteger b, BigInteger c) -> a.add(b).add(c).intValue(), BigDecimal::intValue);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.getLeftMapping(0)).isInstanceOf(PrimitiveKeyMapping.class);
+            softly.assertThat(joiner.matches(BigInteger.TEN, BigInteger.ZERO, BigInteger.ZERO, BigDecimal.TEN)).isTrue();
+            softly.assertThat(joiner.matches(BigInteger.ONE, BigInteger.ZERO, BigInteger.ZERO, BigDecimal.ZERO)).isFalse();
+        });
+    }
+
+    @Test
+    void equalLongQuad() {
+        DefaultQuadJoiner<BigInteger, BigInteger, BigInteger, BigDecimal> joiner =
+                (DefaultQuadJoiner<BigInteger, BigInteger, BigInteger, BigDecimal>) Joiners.equalLong(
+                        (BigInteger a, BigInteger b, BigInteger c) -> a.add(b).add(c).longValue(), BigDecimal::longValue);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.getLeftMapping(0)).isInstanceOf(PrimitiveKeyMapping.class);
+            softly.assertThat(joiner.matches(BigInteger.TEN, BigInteger.ZERO, BigInteger.ZERO, BigDecimal.TEN)).isTrue();
+            softly.assertThat(joiner.matches(BigInteger.ONE, BigInteger.ZERO, BigInteger.ZERO, BigDecimal.ZERO)).isFalse();
+        });
+    }
+
     @Test
     void equalPenta() {
         QuadFunction<BigInteger, BigInteger, BigInteger, BigInteger, Long> leftMapping = (a, b, c, d) -> a.add(b).add(c).add(d)
@@ -71,6 +145,36 @@ class JoinersTest {
         });
     }
 
+    @Test
+    void equalIntPenta() {
+        DefaultPentaJoiner<BigInteger, BigInteger, BigInteger, BigInteger, BigDecimal> joiner =
+                (DefaultPentaJoiner<BigInteger, BigInteger, BigInteger, BigInteger, BigDecimal>) Joiners.equalInt(
+                        (BigInteger a, BigInteger b, BigInteger c, BigInteger d) -> a.add(b).add(c).add(d).intValue(),
+                        BigDecimal::intValue);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.getLeftMapping(0)).isInstanceOf(PrimitiveKeyMapping.class);
+            softly.assertThat(joiner.matches(BigInteger.TEN, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO,
+                    BigDecimal.TEN)).isTrue();
+            softly.assertThat(joiner.matches(BigInteger.ONE, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO,
+                    BigDecimal.ZERO)).isFalse();
+        });
+    }
+
+    @Test
+    void equalLongPenta() {
+        DefaultPentaJoiner<BigInteger, BigInteger, BigInteger, BigInteger, BigDecimal> joiner =
+                (DefaultPentaJoiner<BigInteger, BigInteger, BigInteger, BigInteger, BigDecimal>) Joiners.equalLong(
+                        (BigInteger a, BigInteger b, BigInteger c, BigInteger d) -> a.add(b).add(c).add(d).longValue(),
+                        BigDecimal::longValue);
+        assertSoftly(softly -> {
+            softly.assertThat(joiner.getLeftMapping(0)).isInstanceOf(PrimitiveKeyMapping.class);
+            softly.assertThat(joiner.matches(BigInteger.TEN, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO,
+                    BigDecimal.TEN)).isTrue();
+            softly.assertThat(joiner.matches(BigInteger.ONE, BigInteger.ZERO, BigInteger.ZERO, BigInteger.ZERO,
+                    BigDecimal.ZERO)).isFalse();
+        });
+    }
+
     @Test
     void lessThanBi() {
         Function<BigInteger, Long> leftMapping = BigInteger::longValue;
@@ -0,0 +1,37 @@
+package ai.timefold.solver.core.impl.bavet.common.tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class AbstractTupleTest {
+
+    @Test
+    void storeBeyondInlineSize() {
+        var storeSize = AbstractTuple.INLINE_STORE_SIZE + 3;
+        var tuple = new UniTuple<>("A", storeSize);
+        for (var i = 0; i < storeSize; i++) {
+            tuple.setStore(i, "value" + i);
+        }
+        for (var i = 0; i < storeSize; i++) {
+            assertThat(tuple.<String> getStore(i)).isEqualTo("value" + i);
+        }
+        assertThat(tuple.<String> removeStore(AbstractTuple.INLINE_STORE_SIZE)).isEqualTo("value4");
+        assertThat(tuple.<String> getStore(AbstractTuple.INLINE_STORE_SIZE)).isNull();
+        tuple.clearStore();
+        for (var i = 0; i < storeSize; i++) {
+            assertThat(tuple.<String> getStore(i)).isNull();
+        }
+    }
+
+    @Test
+    void storeBeyondStoreSizeFails() {
+        var tuple = new UniTuple<>("A", 2);
+        assertThatThrownBy(() -> tuple.setStore(2, "value")).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> tuple.getStore(3)).isInstanceOf(IndexOutOfBoundsException.class);
+        var emptyTuple = new UniTuple<>("A", 0);
+        assertThatThrownBy(() -> emptyTuple.getStore(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+}
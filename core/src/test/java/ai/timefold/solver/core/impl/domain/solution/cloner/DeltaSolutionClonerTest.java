@@ -0,0 +1,89 @@
+package ai.timefold.solver.core.impl.domain.solution.cloner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+import ai.timefold.solver.core.testdomain.chained.TestdataChainedEntity;
+import ai.timefold.solver.core.testdomain.chained.TestdataChainedSolution;
+import ai.timefold.solver.core.testdomain.list.TestdataListEntity;
+import ai.timefold.solver.core.testdomain.list.TestdataListSolution;
+import ai.timefold.solver.core.testdomain.list.TestdataListValue;
+
+import org.junit.jupiter.api.Test;
+
+class DeltaSolutionClonerTest {
+
+    @Test
+    void reuseUnchangedEntityClones() {
+        var solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        var cloner = new DeltaSolutionCloner<>(solutionDescriptor, new FieldAccessingSolutionCloner<>(solutionDescriptor));
+        var solution = TestdataSolution.generateSolution(3, 4);
+        var entityList = solution.getEntityList();
+
+        var firstClone = cloner.cloneSolution(solution);
+        assertThat(firstClone).isNotSameAs(solution);
+        assertThat(firstClone.getEntityList()).doesNotContainAnyElementsOf(entityList);
+        assertThat(cloner.getReusableCloneCount()).isEqualTo(entityList.size());
+
+        var changedEntity = entityList.get(1);
+        cloner.entityChanged(changedEntity);
+        changedEntity.setValue(solution.getValueList().get(2));
+        var secondClone = cloner.cloneSolution(solution);
+        assertThat(secondClone).isNotSameAs(firstClone);
+        assertThat(secondClone.getEntityList()).isNotSameAs(firstClone.getEntityList());
+        assertThat(secondClone.getEntityList().get(0)).isSameAs(firstClone.getEntityList().get(0));
+        assertThat(secondClone.getEntityList().get(1))
+                .isNotSameAs(firstClone.getEntityList().get(1))
+                .isNotSameAs(changedEntity);
+        assertThat(secondClone.getEntityList().get(1).getValue()).isSameAs(solution.getValueList().get(2));
+        assertThat(firstClone.getEntityList().get(1).getValue()).isSameAs(solution.getValueList().get(1));
+        assertThat(secondClone.getEntityList().get(2)).isSameAs(firstClone.getEntityList().get(2));
+        assertThat(secondClone.getEntityList().get(3)).isSameAs(firstClone.getEntityList().get(3));
+    }
+
+    @Test
+    void resetClonesEverything() {
+        var solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        var cloner = new DeltaSolutionCloner<>(solutionDescriptor, new FieldAccessingSolutionCloner<>(solutionDescriptor));
+        var solution = TestdataSolution.generateSolution(3, 4);
+
+        var firstClone = cloner.cloneSolution(solution);
+        cloner.reset();
+        assertThat(cloner.getReusableCloneCount()).isZero();
+        var secondClone = cloner.cloneSolution(solution);
+        assertThat(secondClone.getEntityList()).doesNotContainAnyElementsOf(firstClone.getEntityList());
+
+        // Another working solution has other entities, so it starts over as well.
+        var otherSolution = TestdataSolution.generateSolution(3, 4);
+        var otherClone = cloner.cloneSolution(otherSolution);
+        assertThat(otherClone.getEntityList())
+                .doesNotContainAnyElementsOf(secondClone.getEntityList())
+                .doesNotContainAnyElementsOf(otherSolution.getEntityList());
+        assertThat(cloner.getReusableCloneCount()).isEqualTo(otherSolution.getEntityList().size());
+    }
+
+    @Test
+    void entitiesReferencingClonesNotReused() {
+        var chainedSolutionDescriptor = TestdataChainedSolution.buildSolutionDescriptor();
+        var chainedSolutionCloner = new FieldAccessingSolutionCloner<>(chainedSolutionDescriptor);
+        assertThat(chainedSolutionCloner.isCloneReusable(TestdataChainedEntity.class)).isFalse();
+        var chainedCloner = new DeltaSolutionCloner<>(chainedSolutionDescriptor, chainedSolutionCloner);
+        chainedCloner.cloneSolution(TestdataChainedSolution.generateUninitializedSolution(2, 3));
+        assertThat(chainedCloner.getReusableCloneCount()).isZero();
+
+        var listSolutionDescriptor = TestdataListSolution.buildSolutionDescriptor();
+        var listSolutionCloner = new FieldAccessingSolutionCloner<>(listSolutionDescriptor);
+        assertThat(List.of(TestdataListEntity.class, TestdataListValue.class))
+                .noneMatch(listSolutionCloner::isCloneReusable);
+        var listCloner = new DeltaSolutionCloner<>(listSolutionDescriptor, listSolutionCloner);
+        listCloner.cloneSolution(TestdataListSolution.generateInitializedSolution(4, 2));
+        assertThat(listCloner.getReusableCloneCount()).isZero();
+
+        var solutionCloner = new FieldAccessingSolutionCloner<>(TestdataSolution.buildSolutionDescriptor());
+        assertThat(solutionCloner.isCloneReusable(TestdataEntity.class)).isTrue();
+    }
+
+}
@@ -0,0 +1,88 @@
+package ai.timefold.solver.core.impl.domain.solution.cloner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+import ai.timefold.solver.core.testdomain.list.TestdataListSolution;
+
+import org.junit.jupiter.api.Test;
+
+class LazySolutionClonerTest {
+
+    @Test
+    void snapshotIgnoresLaterChanges() {
+        var solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        var cloner = new LazySolutionCloner<>(solutionDescriptor, new FieldAccessingSolutionCloner<>(solutionDescriptor));
+        var solution = TestdataSolution.generateSolution(3, 4);
+        var valueList = solution.getValueList();
+        var entityList = solution.getEntityList();
+        solution.setScore(SimpleScore.of(-1));
+
+        var firstSnapshot = cloner.snapshot(solution);
+        entityList.get(1).setValue(valueList.get(2));
+        solution.setScore(SimpleScore.of(-2));
+        var secondSnapshot = cloner.snapshot(solution);
+        entityList.get(1).setValue(null);
+
+        var firstClone = firstSnapshot.get();
+        assertThat(firstSnapshot.get()).isSameAs(firstClone);
+        assertThat(firstClone).isNotSameAs(solution);
+        assertThat(firstClone.getScore()).isEqualTo(SimpleScore.of(-1));
+        assertThat(firstClone.getEntityList()).doesNotContainAnyElementsOf(entityList);
+        assertThat(firstClone.getEntityList().get(1).getValue()).isSameAs(valueList.get(1));
+
+        var secondClone = secondSnapshot.get();
+        assertThat(secondClone.getScore()).isEqualTo(SimpleScore.of(-2));
+        assertThat(secondClone.getEntityList()).doesNotContainAnyElementsOf(firstClone.getEntityList());
+        assertThat(secondClone.getEntityList().get(1).getValue()).isSameAs(valueList.get(2));
+        assertThat(entityList.get(1).getValue()).isNull();
+    }
+
+    @Test
+    void snapshotListVariable() {
+        var solutionDescriptor = TestdataListSolution.buildSolutionDescriptor();
+        var cloner = new LazySolutionCloner<>(solutionDescriptor, new FieldAccessingSolutionCloner<>(solutionDescriptor));
+        var solution = TestdataListSolution.generateInitializedSolution(4, 2);
+        var firstEntity = solution.getEntityList().get(0);
+        var secondEntity = solution.getEntityList().get(1);
+        var movedValue = firstEntity.getValueList().get(0);
+
+        var snapshot = cloner.snapshot(solution);
+        firstEntity.getValueList().remove(movedValue);
+        secondEntity.getValueList().add(movedValue);
+        movedValue.setEntity(secondEntity);
+
+        var clone = snapshot.get();
+        var cloneFirstEntity = clone.getEntityList().get(0);
+        var cloneMovedValue = cloneFirstEntity.getValueList().get(0);
+        assertThat(cloneFirstEntity.getValueList()).hasSize(2);
+        assertThat(clone.getEntityList().get(1).getValueList()).hasSize(2);
+        assertThat(cloneMovedValue)
+                .isNotSameAs(movedValue)
+                .isSameAs(clone.getValueList().get(solution.getValueList().indexOf(movedValue)));
+        assertThat(cloneMovedValue.getEntity()).isSameAs(cloneFirstEntity);
+    }
+
+    @Test
+    void addedEntityOutdatesBase() {
+        var solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        var cloner = new LazySolutionCloner<>(solutionDescriptor, new FieldAccessingSolutionCloner<>(solutionDescriptor));
+        var solution = TestdataSolution.generateSolution(3, 4);
+
+        var firstSnapshot = cloner.snapshot(solution);
+        var addedEntity = new TestdataEntity("added", solution.getValueList().get(0));
+        solution.getEntityList().add(addedEntity);
+        var secondSnapshot = cloner.snapshot(solution);
+
+        assertThat(firstSnapshot.get().getEntityList()).hasSize(4);
+        var secondClone = secondSnapshot.get();
+        assertThat(secondClone.getEntityList()).hasSize(5);
+        assertThat(secondClone.getEntityList().get(4))
+                .isNotSameAs(addedEntity)
+                .extracting(TestdataEntity::getValue)
+                .isSameAs(solution.getValueList().get(0));
+    }
+
+}
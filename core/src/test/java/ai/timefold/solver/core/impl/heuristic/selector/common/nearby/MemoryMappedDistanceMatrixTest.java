@@ -0,0 +1,111 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common.nearby;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MemoryMappedDistanceMatrixTest {
+
+    private static double distance(int originIndex, int destinationIndex) {
+        return originIndex * 1000.0 + destinationIndex + 0.5;
+    }
+
+    @Test
+    void writeAndOpen(@TempDir Path tempDir) {
+        var path = tempDir.resolve("distances.bin");
+        MemoryMappedDistanceMatrix.write(path, 30, 7, MemoryMappedDistanceMatrixTest::distance);
+        var matrix = MemoryMappedDistanceMatrix.open(path);
+        assertThat(matrix.getOriginCount()).isEqualTo(30);
+        assertThat(matrix.getDestinationCount()).isEqualTo(7);
+        for (var originIndex = 0; originIndex < 30; originIndex++) {
+            for (var destinationIndex = 0; destinationIndex < 7; destinationIndex++) {
+                assertThat(matrix.getDistance(originIndex, destinationIndex))
+                        .isEqualTo((float) distance(originIndex, destinationIndex));
+            }
+        }
+        assertThatThrownBy(() -> matrix.getDistance(30, 0)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> matrix.getDistance(0, 7)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void writeReplacesExistingFile(@TempDir Path tempDir) {
+        var path = tempDir.resolve("distances.bin");
+        MemoryMappedDistanceMatrix.write(path, 10, 10, MemoryMappedDistanceMatrixTest::distance);
+        MemoryMappedDistanceMatrix.write(path, 2, 3, (originIndex, destinationIndex) -> 1.0);
+        var matrix = MemoryMappedDistanceMatrix.open(path);
+        assertThat(matrix.getOriginCount()).isEqualTo(2);
+        assertThat(matrix.getDestinationCount()).isEqualTo(3);
+        assertThat(matrix.getDistance(1, 2)).isEqualTo(1.0f);
+    }
+
+    @Test
+    void emptyMatrix(@TempDir Path tempDir) {
+        var path = tempDir.resolve("distances.bin");
+        MemoryMappedDistanceMatrix.write(path, 0, 0, MemoryMappedDistanceMatrixTest::distance);
+        var matrix = MemoryMappedDistanceMatrix.open(path);
+        assertThat(matrix.getOriginCount()).isZero();
+        assertThat(matrix.getDestinationCount()).isZero();
+    }
+
+    @Test
+    void openInvalidFile(@TempDir Path tempDir) throws IOException {
+        var shortPath = tempDir.resolve("short.bin");
+        Files.write(shortPath, new byte[] { 1, 2, 3 });
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> MemoryMappedDistanceMatrix.open(shortPath))
+                .withMessageContaining("too short");
+        var otherPath = tempDir.resolve("other.bin");
+        Files.write(otherPath, new byte[32]);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> MemoryMappedDistanceMatrix.open(otherPath))
+                .withMessageContaining("not a distance matrix file");
+        var truncatedPath = tempDir.resolve("truncated.bin");
+        MemoryMappedDistanceMatrix.write(truncatedPath, 4, 4, MemoryMappedDistanceMatrixTest::distance);
+        var bytes = Files.readAllBytes(truncatedPath);
+        Files.write(truncatedPath, Arrays.copyOf(bytes, bytes.length - Float.BYTES));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> MemoryMappedDistanceMatrix.open(truncatedPath))
+                .withMessageContaining("expected size");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> MemoryMappedDistanceMatrix.open(tempDir.resolve("missing.bin")))
+                .withMessageContaining("missing.bin");
+    }
+
+    @Test
+    void distanceMeter(@TempDir Path tempDir) {
+        var path = tempDir.resolve("distances.bin");
+        MemoryMappedDistanceMatrix.write(path, 5, 5,
+                (originIndex, destinationIndex) -> Math.abs(destinationIndex - originIndex));
+        var distanceMeter = new IndexDistanceMeter(MemoryMappedDistanceMatrix.open(path));
+        assertThat(distanceMeter.getNearbyDistance("1", "4")).isEqualTo(3.0);
+        assertThat(distanceMeter.getNearbyDistance("4", "0")).isEqualTo(4.0);
+        assertThat(distanceMeter.getNearbyDistance("2", "2")).isZero();
+    }
+
+    private static final class IndexDistanceMeter extends MemoryMappedNearbyDistanceMeter<String, String> {
+
+        private IndexDistanceMeter(MemoryMappedDistanceMatrix distanceMatrix) {
+            super(distanceMatrix);
+        }
+
+        @Override
+        protected int getOriginIndex(String origin) {
+            return Integer.parseInt(origin);
+        }
+
+        @Override
+        protected int getDestinationIndex(String destination) {
+            return Integer.parseInt(destination);
+        }
+
+    }
+
+}
@@ -0,0 +1,132 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common.nearby;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class NearbyDistanceMatrixTest {
+
+    // Points on a line, the distance is the difference of their coordinates.
+    private static final NearbyDistanceMeter<Point, Point> DISTANCE_METER = (origin, destination) -> Math
+            .abs(destination.coordinate() - origin.coordinate());
+
+    private static final Point A = new Point("A", 0);
+    private static final Point B = new Point("B", 10);
+    private static final Point C = new Point("C", 3);
+    private static final Point D = new Point("D", -2);
+    private static final Point E = new Point("E", 7);
+    private static final List<Point> POINTS = List.of(A, B, C, D, E);
+
+    private static NearbyDistanceMatrix<Point, Point> buildMatrix(NearbyDistanceMeter<Point, Point> distanceMeter,
+            int nearbySizeMaximum) {
+        return new NearbyDistanceMatrix<>(distanceMeter, POINTS.size(), origin -> POINTS.iterator(), true,
+                nearbySizeMaximum);
+    }
+
+    @Test
+    void sortsNearestFirstAndExcludesOrigin() {
+        var matrix = buildMatrix(DISTANCE_METER, Integer.MAX_VALUE);
+        assertThat(matrix.getDestinationList(A)).containsExactly(D, C, E, B);
+        assertThat(matrix.getDestinationList(B)).containsExactly(E, C, A, D);
+        assertThat(matrix.getDestinationList(C)).containsExactly(A, E, D, B);
+        assertThat(matrix.getNearbySize(A)).isEqualTo(4);
+        assertThat(matrix.getDestination(A, 0)).isSameAs(D);
+        assertThat(matrix.getDestination(A, 3)).isSameAs(B);
+    }
+
+    @Test
+    void keepsOnlyTheNearest() {
+        var matrix = buildMatrix(DISTANCE_METER, 2);
+        assertThat(matrix.getDestinationList(A)).containsExactly(D, C);
+        assertThat(matrix.getDestinationList(B)).containsExactly(E, C);
+        // The nearby size still counts every destination.
+        assertThat(matrix.getNearbySize(A)).isEqualTo(4);
+    }
+
+    @Test
+    void breaksTiesByDestinationOrder() {
+        var matrix = new NearbyDistanceMatrix<Point, Point>((origin, destination) -> 1.0, POINTS.size(),
+                origin -> POINTS.iterator(), true, 3);
+        assertThat(matrix.getDestinationList(C)).containsExactly(A, B, D);
+    }
+
+    @Test
+    void measuresEveryOriginOnlyOnce() {
+        var measurementCount = new AtomicInteger();
+        var matrix = buildMatrix((origin, destination) -> {
+            measurementCount.incrementAndGet();
+            return DISTANCE_METER.getNearbyDistance(origin, destination);
+        }, Integer.MAX_VALUE);
+        matrix.getDestinationList(A);
+        matrix.getNearbySize(A);
+        matrix.getDestination(A, 1);
+        // An origin is not measured against itself.
+        var destinationCount = POINTS.size() - 1;
+        assertThat(measurementCount.get()).isEqualTo(destinationCount);
+        matrix.precompute(POINTS.iterator(), false);
+        assertThat(measurementCount.get()).isEqualTo(POINTS.size() * destinationCount);
+        matrix.getDestinationList(B);
+        assertThat(measurementCount.get()).isEqualTo(POINTS.size() * destinationCount);
+    }
+
+    @Test
+    void destinationsOriginDependent() {
+        // Every origin only has the points to its right as destinations.
+        var matrix = new NearbyDistanceMatrix<Point, Point>(DISTANCE_METER, POINTS.size(),
+                origin -> POINTS.stream().filter(point -> point.coordinate() > origin.coordinate()).iterator(), false,
+                Integer.MAX_VALUE);
+        matrix.precompute(POINTS.iterator(), true);
+        assertThat(matrix.getDestinationList(A)).containsExactly(C, E, B);
+        assertThat(matrix.getDestinationList(E)).containsExactly(B);
+        assertThat(matrix.getDestinationList(B)).isEmpty();
+        assertThat(matrix.getNearbySize(B)).isZero();
+    }
+
+    @Test
+    void parallelPrecomputationMatchesLazyComputation() {
+        var pointList = IntStream.range(0, 500)
+                .mapToObj(i -> new Point("P" + i, (i * 7919) % 1000))
+                .toList();
+        var parallelMatrix = new NearbyDistanceMatrix<Point, Point>(DISTANCE_METER, pointList.size(),
+                origin -> pointList.iterator(), true, 20);
+        parallelMatrix.precompute(pointList.iterator(), true);
+        var lazyMatrix = new NearbyDistanceMatrix<Point, Point>(DISTANCE_METER, pointList.size(),
+                origin -> pointList.iterator(), true, 20);
+        for (var point : pointList) {
+            assertThat(parallelMatrix.getDestinationList(point))
+                    .hasSize(20)
+                    .containsExactlyElementsOf(lazyMatrix.getDestinationList(point));
+        }
+    }
+
+    @Test
+    void parallelPrecomputationReadsDestinationsOnce() {
+        var destinationReadCount = new AtomicInteger();
+        var matrix = new NearbyDistanceMatrix<Point, Point>(DISTANCE_METER, POINTS.size(), origin -> {
+            destinationReadCount.incrementAndGet();
+            return POINTS.iterator();
+        }, true, Integer.MAX_VALUE);
+        matrix.precompute(POINTS.iterator(), true);
+        assertThat(destinationReadCount.get()).isOne();
+        assertThat(matrix.getDestinationList(A)).containsExactly(D, C, E, B);
+    }
+
+    private record Point(String code, int coordinate) {
+
+        @Override
+        public boolean equals(Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,130 @@
+package ai.timefold.solver.core.impl.heuristic.selector.common.nearby;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.Random;
+
+import ai.timefold.solver.core.config.heuristic.selector.common.nearby.NearbySelectionConfig;
+import ai.timefold.solver.core.config.heuristic.selector.common.nearby.NearbySelectionDistributionType;
+import ai.timefold.solver.core.testutil.TestRandom;
+
+import org.junit.jupiter.api.Test;
+
+class NearbyRandomFactoryTest {
+
+    @Test
+    void originalSelection() {
+        assertThat(NearbyRandomFactory.create(new NearbySelectionConfig()).buildNearbyRandom(false)).isNull();
+        var config = new NearbySelectionConfig()
+                .withLinearDistributionSizeMaximum(10);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> NearbyRandomFactory.create(config).buildNearbyRandom(false))
+                .withMessageContaining("randomSelection");
+    }
+
+    @Test
+    void defaultDistribution() {
+        var nearbyRandom = NearbyRandomFactory.create(new NearbySelectionConfig()).buildNearbyRandom(true);
+        assertThat(nearbyRandom).isEqualTo(new LinearDistributionNearbyRandom(Integer.MAX_VALUE));
+        assertThat(nearbyRandom.getOverallSizeMaximum()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void blockDistribution() {
+        var config = new NearbySelectionConfig()
+                .withNearbySelectionDistributionType(NearbySelectionDistributionType.BLOCK_DISTRIBUTION)
+                .withBlockDistributionSizeMaximum(20);
+        var nearbyRandom = NearbyRandomFactory.create(config).buildNearbyRandom(true);
+        assertThat(nearbyRandom).isEqualTo(new BlockDistributionNearbyRandom(1, 20, 1.0, 0.0));
+        assertThat(nearbyRandom.getOverallSizeMaximum()).isEqualTo(20);
+    }
+
+    @Test
+    void linearDistribution() {
+        var config = new NearbySelectionConfig()
+                .withLinearDistributionSizeMaximum(40);
+        var nearbyRandom = NearbyRandomFactory.create(config).buildNearbyRandom(true);
+        assertThat(nearbyRandom).isEqualTo(new LinearDistributionNearbyRandom(40));
+        assertThat(nearbyRandom.getOverallSizeMaximum()).isEqualTo(40);
+    }
+
+    @Test
+    void multipleDistributions() {
+        var config = new NearbySelectionConfig()
+                .withBlockDistributionSizeMaximum(20)
+                .withLinearDistributionSizeMaximum(40);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> NearbyRandomFactory.create(config).buildNearbyRandom(true));
+    }
+
+    @Test
+    void enterpriseDistributions() {
+        var parabolicConfig = new NearbySelectionConfig()
+                .withParabolicDistributionSizeMaximum(40);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> NearbyRandomFactory.create(parabolicConfig).buildNearbyRandom(true))
+                .withMessageContaining("Enterprise");
+        var betaConfig = new NearbySelectionConfig()
+                .withNearbySelectionDistributionType(NearbySelectionDistributionType.BETA_DISTRIBUTION);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> NearbyRandomFactory.create(betaConfig).buildNearbyRandom(true))
+                .withMessageContaining("Enterprise");
+    }
+
+    @Test
+    void blockDistributionNextInt() {
+        var nearbyRandom = new BlockDistributionNearbyRandom(1, 3, 1.0, 0.0);
+        var random = new TestRandom(2);
+        assertThat(nearbyRandom.nextInt(random, 10)).isEqualTo(2);
+        random.assertIntBoundJustRequested(3);
+        // The block is never larger than the nearby size.
+        random.reset(1);
+        assertThat(nearbyRandom.nextInt(random, 2)).isEqualTo(1);
+        random.assertIntBoundJustRequested(2);
+    }
+
+    @Test
+    void blockDistributionSizeRatio() {
+        var nearbyRandom = new BlockDistributionNearbyRandom(2, 100, 0.1, 0.0);
+        var random = new TestRandom(0);
+        nearbyRandom.nextInt(random, 50);
+        random.assertIntBoundJustRequested(5);
+        // The block is at least the size minimum.
+        random.reset(0);
+        nearbyRandom.nextInt(random, 10);
+        random.assertIntBoundJustRequested(2);
+    }
+
+    @Test
+    void blockDistributionInvalid() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BlockDistributionNearbyRandom(0, 10, 1.0, 0.0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BlockDistributionNearbyRandom(5, 4, 1.0, 0.0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BlockDistributionNearbyRandom(1, 10, 0.0, 0.0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BlockDistributionNearbyRandom(1, 10, 1.0, 1.5));
+    }
+
+    @Test
+    void linearDistributionNextInt() {
+        var nearbyRandom = new LinearDistributionNearbyRandom(100);
+        assertThat(nearbyRandom.nextInt(new TestRandom(0.0), 10)).isZero();
+        assertThat(nearbyRandom.nextInt(new TestRandom(0.75), 10)).isEqualTo(5);
+        assertThat(nearbyRandom.nextInt(new TestRandom(0.9999999999), 10)).isEqualTo(9);
+        // The size maximum bounds the nearby index.
+        assertThat(new LinearDistributionNearbyRandom(4).nextInt(new TestRandom(0.9999999999), 10)).isEqualTo(3);
+    }
+
+    @Test
+    void linearDistributionFavorsNearest() {
+        var nearbyRandom = new LinearDistributionNearbyRandom(10);
+        var random = new Random(37);
+        var counts = new int[10];
+        for (var i = 0; i < 100_000; i++) {
+            counts[nearbyRandom.nextInt(random, 20)]++;
+        }
+        for (var i = 1; i < counts.length; i++) {
+            assertThat(counts[i]).isLessThan(counts[i - 1]);
+        }
+    }
+
+}
@@ -14,12 +14,14 @@ import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.api.solver.SolverFactory;
 import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
 import ai.timefold.solver.core.config.localsearch.LocalSearchType;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.config.solver.monitoring.MonitoringConfig;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
 import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
 import ai.timefold.solver.core.impl.solver.DefaultSolver;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.testdomain.TestdataEasyScoreCalculator;
 import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 import ai.timefold.solver.core.testdomain.TestdataValue;
@@ -360,6 +362,57 @@ class DefaultLocalSearchPhaseTest extends AbstractMeterTest {
         assertThat(solution).isNotNull();
     }
 
+    @Test
+    void solveMultiThreaded() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withMoveThreadCount("2")
+                .withMoveThreadBufferSize(3);
+        ((LocalSearchPhaseConfig) solverConfig.getPhaseConfigList().get(1))
+                .withTerminationConfig(new TerminationConfig().withBestScoreLimit("0"));
+
+        var solution = PlannerTestUtils.solve(solverConfig, TestdataSolution.generateUninitializedSolution(6, 6));
+        assertThat(solution.getEntityList())
+                .extracting(TestdataEntity::getValue)
+                .doesNotHaveDuplicates()
+                .doesNotContainNull();
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.ZERO);
+    }
+
+    @Test
+    void solveMultiThreadedIsReproducible() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withMoveThreadCount("3");
+        ((LocalSearchPhaseConfig) solverConfig.getPhaseConfigList().get(1))
+                .withTerminationConfig(new TerminationConfig().withStepCountLimit(20));
+
+        var solution1 = PlannerTestUtils.solve(solverConfig, TestdataSolution.generateUninitializedSolution(5, 8));
+        var solution2 = PlannerTestUtils.solve(solverConfig, TestdataSolution.generateUninitializedSolution(5, 8));
+        assertThat(solution1.getEntityList())
+                .extracting(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(solution2.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .toList());
+        assertThat(solution1.getScore()).isEqualTo(solution2.getScore());
+    }
+
+    @Test
+    void solveMultiThreadedListVariable() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataListSolution.class, TestdataListEntity.class, TestdataListValue.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withMoveThreadCount("2");
+
+        var solution = TestdataListSolution.generateUninitializedSolution(6, 2);
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution.getEntityList())
+                .flatMap(TestdataListEntity::getValueList)
+                .hasSize(6);
+    }
+
     @Test
     void solveMultiVarChainedVariable() {
         var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataChainedSolution.class, TestdataChainedEntity.class);
@@ -0,0 +1,232 @@
+package ai.timefold.solver.core.impl.partitionedsearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.calculator.EasyScoreCalculator;
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.partitionedsearch.PartitionedSearchPhaseConfig;
+import ai.timefold.solver.core.config.phase.custom.CustomPhaseConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.partitionedsearch.partitioner.SolutionPartitioner;
+import ai.timefold.solver.core.impl.solver.recaller.BestSolutionRecallerFactory;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.termination.ChildThreadPlumbingTermination;
+import ai.timefold.solver.core.testdomain.TestdataEasyScoreCalculator;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+import ai.timefold.solver.core.testdomain.list.TestdataListEntity;
+import ai.timefold.solver.core.testdomain.list.TestdataListSolution;
+import ai.timefold.solver.core.testdomain.list.TestdataListValue;
+import ai.timefold.solver.core.testutil.PlannerTestUtils;
+
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+class DefaultPartitionedSearchPhaseTest {
+
+    @Test
+    void solve() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEasyScoreCalculatorClass(TestdataEasyScoreCalculator.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withPhases(new PartitionedSearchPhaseConfig()
+                        .withSolutionPartitionerClass(TestdataSolutionPartitioner.class)
+                        .withSolutionPartitionerCustomProperties(Map.of("partSize", "2"))
+                        .withRunnablePartThreadLimit("2")
+                        .withPhaseConfigs(new ConstructionHeuristicPhaseConfig(),
+                                new LocalSearchPhaseConfig()
+                                        .withTerminationConfig(new TerminationConfig().withBestScoreLimit("0"))));
+
+        var solution = PlannerTestUtils.solve(solverConfig, TestdataSolution.generateUninitializedSolution(6, 6));
+        assertThat(solution.getEntityList())
+                .extracting(TestdataEntity::getValue)
+                .doesNotHaveDuplicates()
+                .doesNotContainNull();
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.ZERO);
+    }
+
+    @Test
+    void solveListVariable() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataListSolution.class, TestdataListEntity.class, TestdataListValue.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withPhases(new PartitionedSearchPhaseConfig()
+                        .withSolutionPartitionerClass(TestdataListSolutionPartitioner.class)
+                        .withRunnablePartThreadLimit(PartitionedSearchPhaseConfig.ACTIVE_THREAD_COUNT_UNLIMITED)
+                        .withPhaseConfigs(new ConstructionHeuristicPhaseConfig(),
+                                new LocalSearchPhaseConfig()
+                                        .withTerminationConfig(new TerminationConfig().withStepCountLimit(10))));
+
+        var solution = PlannerTestUtils.solve(solverConfig, TestdataListSolution.generateUninitializedSolution(6, 2));
+        assertListVariableConsistent(solution, 6);
+    }
+
+    @Test
+    void solveInitializedListVariable() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataListSolution.class, TestdataListEntity.class, TestdataListValue.class)
+                .withEasyScoreCalculatorClass(ConcentratingEasyScoreCalculator.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withPhases(new PartitionedSearchPhaseConfig()
+                        .withSolutionPartitionerClass(TestdataListSolutionPartitioner.class)
+                        .withPhaseConfigs(new LocalSearchPhaseConfig()
+                                .withTerminationConfig(new TerminationConfig().withStepCountLimit(20))));
+
+        // Every partition has 2 entities, so elements move between the lists of a partition.
+        var problem = TestdataListSolution.generateInitializedSolution(12, 4);
+        var solution = PlannerTestUtils.solve(solverConfig, problem);
+        assertListVariableConsistent(solution, 12);
+        assertThat(solution.getScore()).isGreaterThan(SimpleScore.of(4 * 3 * 3));
+    }
+
+    @Test
+    void failingPartitionFailsSolver() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new PartitionedSearchPhaseConfig()
+                        .withSolutionPartitionerClass(TestdataSolutionPartitioner.class)
+                        .withPhaseConfigs(new CustomPhaseConfig()
+                                .<TestdataSolution> withCustomPhaseCommands((scoreDirector, isPhaseTerminated) -> {
+                                    throw new UnsupportedOperationException("Failing partition");
+                                })));
+
+        var problem = TestdataSolution.generateUninitializedSolution(3, 3);
+        assertThatIllegalStateException()
+                .isThrownBy(() -> PlannerTestUtils.solve(solverConfig, problem))
+                .withRootCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void partitionSolverTerminatesEarly() {
+        var partitionTermination = new ChildThreadPlumbingTermination<TestdataSolution>();
+        var partitionSolver = new PartitionSolver<>(
+                BestSolutionRecallerFactory.create().<TestdataSolution> buildBestSolutionRecaller(EnvironmentMode.PHASE_ASSERT),
+                partitionTermination, partitionTermination, List.of(), mock(SolverScope.class));
+        assertThat(partitionSolver.isTerminateEarly()).isFalse();
+        assertThat(partitionSolver.terminateEarly()).isTrue();
+        assertThat(partitionSolver.isTerminateEarly()).isTrue();
+        assertThat(partitionSolver.terminateEarly()).isFalse();
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> partitionSolver.addProblemChange((solution, problemChangeDirector) -> {
+                }))
+                .withMessageContaining("problem changes");
+    }
+
+    private static void assertListVariableConsistent(TestdataListSolution solution, int valueCount) {
+        assertThat(solution.getEntityList())
+                .flatMap(TestdataListEntity::getValueList)
+                .hasSize(valueCount)
+                .doesNotHaveDuplicates();
+        for (var entity : solution.getEntityList()) {
+            var valueList = entity.getValueList();
+            for (var i = 0; i < valueList.size(); i++) {
+                assertThat(valueList.get(i).getEntity()).isSameAs(entity);
+                assertThat(valueList.get(i).getIndex()).isEqualTo(i);
+            }
+        }
+    }
+
+    /**
+     * Rewards putting the values in as few lists as possible.
+     */
+    public static class ConcentratingEasyScoreCalculator implements EasyScoreCalculator<TestdataListSolution, SimpleScore> {
+
+        @Override
+        public @NonNull SimpleScore calculateScore(@NonNull TestdataListSolution solution) {
+            var score = 0;
+            for (var entity : solution.getEntityList()) {
+                score += entity.getValueList().size() * entity.getValueList().size();
+            }
+            return SimpleScore.of(score);
+        }
+
+    }
+
+    /**
+     * Every partition has a disjoint part of the entities and the values.
+     */
+    public static class TestdataSolutionPartitioner implements SolutionPartitioner<TestdataSolution> {
+
+        private int partSize = 1;
+
+        @SuppressWarnings("unused")
+        public void setPartSize(int partSize) {
+            this.partSize = partSize;
+        }
+
+        @Override
+        public List<TestdataSolution> splitWorkingSolution(ScoreDirector<TestdataSolution> scoreDirector,
+                Integer runnablePartThreadLimit) {
+            var originalSolution = scoreDirector.getWorkingSolution();
+            var entityList = originalSolution.getEntityList();
+            var valueList = originalSolution.getValueList();
+            var partList = new ArrayList<TestdataSolution>();
+            for (var fromIndex = 0; fromIndex < entityList.size(); fromIndex += partSize) {
+                var toIndex = Math.min(fromIndex + partSize, entityList.size());
+                var part = new TestdataSolution(originalSolution.getCode() + "-" + partList.size());
+                part.setValueList(new ArrayList<>(valueList.subList(fromIndex, toIndex)));
+                part.setEntityList(entityList.subList(fromIndex, toIndex).stream()
+                        .map(entity -> new TestdataEntity(entity.getCode(), entity.getValue()))
+                        .toList());
+                partList.add(part);
+            }
+            return partList;
+        }
+
+    }
+
+    /**
+     * Splits the entities in 2 partitions,
+     * each with the values which are assigned to its entities or which share its index parity.
+     */
+    public static class TestdataListSolutionPartitioner implements SolutionPartitioner<TestdataListSolution> {
+
+        @Override
+        public @NonNull List<TestdataListSolution> splitWorkingSolution(ScoreDirector<TestdataListSolution> scoreDirector,
+                Integer runnablePartThreadLimit) {
+            var originalSolution = scoreDirector.getWorkingSolution();
+            var partList = new ArrayList<TestdataListSolution>();
+            for (var partIndex = 0; partIndex < 2; partIndex++) {
+                var partEntityList = new ArrayList<TestdataListEntity>();
+                var partValueList = new ArrayList<TestdataListValue>();
+                var originalEntityList = originalSolution.getEntityList();
+                for (var entityIndex = partIndex; entityIndex < originalEntityList.size(); entityIndex += 2) {
+                    var originalEntity = originalEntityList.get(entityIndex);
+                    var partEntity = new TestdataListEntity(originalEntity.getCode());
+                    for (var originalValue : originalEntity.getValueList()) {
+                        var partValue = new TestdataListValue(originalValue.getCode());
+                        partValue.setEntity(partEntity);
+                        partValue.setIndex(partEntity.getValueList().size());
+                        partEntity.getValueList().add(partValue);
+                        partValueList.add(partValue);
+                    }
+                    partEntityList.add(partEntity);
+                }
+                var originalValueList = originalSolution.getValueList();
+                for (var valueIndex = partIndex; valueIndex < originalValueList.size(); valueIndex += 2) {
+                    var originalValue = originalValueList.get(valueIndex);
+                    if (originalValue.getEntity() == null) {
+                        partValueList.add(new TestdataListValue(originalValue.getCode()));
+                    }
+                }
+                var part = new TestdataListSolution();
+                part.setEntityList(partEntityList);
+                part.setValueList(partValueList);
+                partList.add(part);
+            }
+            return partList;
+        }
+
+    }
+
+}
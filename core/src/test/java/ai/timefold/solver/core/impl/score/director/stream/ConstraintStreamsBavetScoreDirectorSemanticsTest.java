@@ -1,5 +1,7 @@
 package ai.timefold.solver.core.impl.score.director.stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
 import ai.timefold.solver.core.config.score.director.ScoreDirectorFactoryConfig;
 import ai.timefold.solver.core.config.solver.EnvironmentMode;
@@ -7,6 +9,7 @@ import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescripto
 import ai.timefold.solver.core.impl.score.director.AbstractScoreDirectorSemanticsTest;
 import ai.timefold.solver.core.impl.score.director.ScoreDirectorFactory;
 import ai.timefold.solver.core.impl.score.director.ScoreDirectorFactoryFactory;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.constraintconfiguration.TestdataConstraintConfigurationSolution;
 import ai.timefold.solver.core.testdomain.constraintconfiguration.TestdataConstraintWeightConstraintProvider;
 import ai.timefold.solver.core.testdomain.list.pinned.TestdataPinnedListConstraintProvider;
@@ -14,6 +17,8 @@ import ai.timefold.solver.core.testdomain.list.pinned.TestdataPinnedListSolution
 import ai.timefold.solver.core.testdomain.list.pinned.index.TestdataPinnedWithIndexListConstraintProvider;
 import ai.timefold.solver.core.testdomain.list.pinned.index.TestdataPinnedWithIndexListSolution;
 
+import org.junit.jupiter.api.Test;
+
 final class ConstraintStreamsBavetScoreDirectorSemanticsTest extends AbstractScoreDirectorSemanticsTest {
 
     @Override
@@ -49,4 +54,29 @@ final class ConstraintStreamsBavetScoreDirectorSemanticsTest extends AbstractSco
         return scoreDirectorFactoryFactory.buildScoreDirectorFactory(EnvironmentMode.PHASE_ASSERT, solutionDescriptor);
     }
 
+    @Test
+    void addedEntitiesInsertedBeforeOtherChanges() {
+        var solutionDescriptor = TestdataConstraintConfigurationSolution.buildSolutionDescriptor();
+        var scoreDirectorFactory = buildScoreDirectorFactoryWithConstraintConfiguration(solutionDescriptor);
+        var solution = TestdataConstraintConfigurationSolution.generateSolution(1, 1);
+        try (var scoreDirector = scoreDirectorFactory.buildScoreDirector()) {
+            scoreDirector.setWorkingSolution(solution);
+            assertThat(scoreDirector.calculateScore().raw()).isEqualTo(SimpleScore.of(1));
+
+            // The added entities are inserted in bulk, before the removal reaches the session.
+            var addedEntity = new TestdataEntity("added", solution.getValueList().get(0));
+            var removedEntity = new TestdataEntity("removed", solution.getValueList().get(0));
+            for (var entity : new TestdataEntity[] { addedEntity, removedEntity }) {
+                scoreDirector.beforeEntityAdded(entity);
+                solution.getEntityList().add(entity);
+                scoreDirector.afterEntityAdded(entity);
+            }
+            scoreDirector.beforeEntityRemoved(removedEntity);
+            solution.getEntityList().remove(removedEntity);
+            scoreDirector.afterEntityRemoved(removedEntity);
+            scoreDirector.triggerVariableListeners();
+            assertThat(scoreDirector.calculateScore().raw()).isEqualTo(SimpleScore.of(2));
+        }
+    }
+
 }
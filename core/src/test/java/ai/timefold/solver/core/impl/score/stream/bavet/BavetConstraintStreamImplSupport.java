@@ -10,15 +10,19 @@ import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
 import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
 import ai.timefold.solver.core.impl.score.stream.common.ConstraintStreamImplSupport;
 
-public record BavetConstraintStreamImplSupport(ConstraintMatchPolicy constraintMatchPolicy)
+public record BavetConstraintStreamImplSupport(ConstraintMatchPolicy constraintMatchPolicy, boolean tupleRecycling)
         implements
             ConstraintStreamImplSupport {
 
+    public BavetConstraintStreamImplSupport(ConstraintMatchPolicy constraintMatchPolicy) {
+        this(constraintMatchPolicy, false);
+    }
+
     @Override
     public <Score_ extends Score<Score_>, Solution_> InnerScoreDirector<Solution_, Score_> buildScoreDirector(
             SolutionDescriptor<Solution_> solutionDescriptorSupplier, ConstraintProvider constraintProvider) {
         var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<Solution_, Score_>(solutionDescriptorSupplier,
-                constraintProvider, EnvironmentMode.PHASE_ASSERT);
+                constraintProvider, EnvironmentMode.PHASE_ASSERT, tupleRecycling);
         return scoreDirectorFactory.createScoreDirectorBuilder()
                 .withConstraintMatchPolicy(constraintMatchPolicy)
                 .build();
@@ -26,6 +30,6 @@ public record BavetConstraintStreamImplSupport(ConstraintMatchPolicy constraintM
 
     @Override
     public <Solution_> ConstraintFactory buildConstraintFactory(SolutionDescriptor<Solution_> solutionDescriptorSupplier) {
-        return new BavetConstraintFactory<>(solutionDescriptorSupplier, EnvironmentMode.PHASE_ASSERT);
+        return new BavetConstraintFactory<>(solutionDescriptorSupplier, EnvironmentMode.PHASE_ASSERT, tupleRecycling);
     }
 }
@@ -0,0 +1,16 @@
+package ai.timefold.solver.core.impl.score.stream.bavet.bi;
+
+import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintStreamImplSupport;
+import ai.timefold.solver.core.impl.score.stream.common.bi.AbstractBiConstraintStreamTest;
+
+/**
+ * Runs the same tests as {@link BavetBiConstraintStreamTest}, with dead tuples being recycled.
+ */
+final class BavetBiConstraintStreamTupleRecyclingTest extends AbstractBiConstraintStreamTest {
+
+    public BavetBiConstraintStreamTupleRecyclingTest(ConstraintMatchPolicy constraintMatchPolicy) {
+        super(new BavetConstraintStreamImplSupport(constraintMatchPolicy, true));
+    }
+
+}
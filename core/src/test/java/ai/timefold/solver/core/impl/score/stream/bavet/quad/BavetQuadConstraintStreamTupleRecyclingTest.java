@@ -0,0 +1,16 @@
+package ai.timefold.solver.core.impl.score.stream.bavet.quad;
+
+import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintStreamImplSupport;
+import ai.timefold.solver.core.impl.score.stream.common.quad.AbstractQuadConstraintStreamTest;
+
+/**
+ * Runs the same tests as {@link BavetQuadConstraintStreamTest}, with dead tuples being recycled.
+ */
+final class BavetQuadConstraintStreamTupleRecyclingTest extends AbstractQuadConstraintStreamTest {
+
+    public BavetQuadConstraintStreamTupleRecyclingTest(ConstraintMatchPolicy constraintMatchPolicy) {
+        super(new BavetConstraintStreamImplSupport(constraintMatchPolicy, true));
+    }
+
+}
@@ -0,0 +1,16 @@
+package ai.timefold.solver.core.impl.score.stream.bavet.tri;
+
+import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintStreamImplSupport;
+import ai.timefold.solver.core.impl.score.stream.common.tri.AbstractTriConstraintStreamTest;
+
+/**
+ * Runs the same tests as {@link BavetTriConstraintStreamTest}, with dead tuples being recycled.
+ */
+final class BavetTriConstraintStreamTupleRecyclingTest extends AbstractTriConstraintStreamTest {
+
+    public BavetTriConstraintStreamTupleRecyclingTest(ConstraintMatchPolicy constraintMatchPolicy) {
+        super(new BavetConstraintStreamImplSupport(constraintMatchPolicy, true));
+    }
+
+}
@@ -0,0 +1,16 @@
+package ai.timefold.solver.core.impl.score.stream.bavet.uni;
+
+import ai.timefold.solver.core.impl.score.constraint.ConstraintMatchPolicy;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintStreamImplSupport;
+import ai.timefold.solver.core.impl.score.stream.common.uni.AbstractUniConstraintStreamTest;
+
+/**
+ * Runs the same tests as {@link BavetUniConstraintStreamTest}, with dead tuples being recycled.
+ */
+final class BavetUniConstraintStreamTupleRecyclingTest extends AbstractUniConstraintStreamTest {
+
+    public BavetUniConstraintStreamTupleRecyclingTest(ConstraintMatchPolicy constraintMatchPolicy) {
+        super(new BavetConstraintStreamImplSupport(constraintMatchPolicy, true));
+    }
+
+}
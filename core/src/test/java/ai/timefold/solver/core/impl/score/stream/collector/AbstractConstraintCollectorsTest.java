@@ -1,9 +1,15 @@
 package ai.timefold.solver.core.impl.score.stream.collector;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
+import ai.timefold.solver.core.api.score.stream.common.Break;
 import ai.timefold.solver.core.api.score.stream.common.ConnectedRangeChain;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
 import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.impl.score.stream.collector.connected_ranges.ConnectedRangeTracker;
 import ai.timefold.solver.core.impl.score.stream.collector.consecutive.ConsecutiveSetTree;
@@ -129,6 +135,30 @@ public abstract class AbstractConstraintCollectorsTest {
                 });
     }
 
+    /**
+     * Compares by what the sequences and breaks expose,
+     * as the collector need not use the same {@link SequenceChain} implementation as {@link #buildSequenceChain(Integer...)}.
+     */
+    protected static <Value_, Difference_ extends Comparable<Difference_>> void assertSequenceChain(Object collector,
+            SequenceChain<Value_, Difference_> actualResult, SequenceChain<Value_, Difference_> expectedResult) {
+        var description = "Collector (" + collector + ") did not produce expected result.";
+        assertThat(actualResult.getConsecutiveSequences())
+                .as(description)
+                .extracting(sequence -> List.copyOf(sequence.getItems()), Sequence::getLength, Sequence::isFirst,
+                        Sequence::isLast)
+                .containsExactlyElementsOf(expectedResult.getConsecutiveSequences().stream()
+                        .map(sequence -> tuple(List.copyOf(sequence.getItems()), sequence.getLength(), sequence.isFirst(),
+                                sequence.isLast()))
+                        .toList());
+        assertThat(actualResult.getBreaks())
+                .as(description)
+                .extracting(Break::getPreviousSequenceEnd, Break::getNextSequenceStart, Break::getLength)
+                .containsExactlyElementsOf(expectedResult.getBreaks().stream()
+                        .map(sequenceBreak -> tuple(sequenceBreak.getPreviousSequenceEnd(),
+                                sequenceBreak.getNextSequenceStart(), sequenceBreak.getLength()))
+                        .toList());
+    }
+
     protected ConnectedRangeChain<Interval, Integer, Integer> buildConsecutiveUsage(Interval... data) {
         return Arrays.stream(data).collect(
                 () -> new ConnectedRangeTracker<>(Interval::start, Interval::end, (a, b) -> b - a),
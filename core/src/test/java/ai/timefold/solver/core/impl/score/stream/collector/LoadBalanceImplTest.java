@@ -0,0 +1,74 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LoadBalanceImplTest {
+
+    @Test
+    void loadsIsLiveUnmodifiableView() {
+        var loadBalance = new LoadBalanceImpl<String>();
+        var loads = loadBalance.loads();
+        assertThat(loads).isEmpty();
+
+        var retractA = loadBalance.registerBalanced("A", 2, 1);
+        loadBalance.registerBalanced("B", 0, 0);
+        loadBalance.registerBalanced(null, 4, 0);
+        assertThat(loads).hasSize(3)
+                .containsEntry("A", 3L)
+                .containsEntry("B", 0L)
+                .containsEntry(null, 4L);
+        assertThatThrownBy(() -> loads.put("C", 1L)).isInstanceOf(UnsupportedOperationException.class);
+
+        retractA.run();
+        assertThat(loads).hasSize(2).doesNotContainKey("A");
+    }
+
+    @Test
+    void manyBalancedItems() {
+        var random = new Random(37);
+        var loadBalance = new LoadBalanceImpl<Integer>();
+        var retractorList = new ArrayList<Runnable>();
+        var expectedLoadMap = new HashMap<Integer, Long>();
+        var expectedCountMap = new HashMap<Integer, Integer>();
+        for (var i = 0; i < 5_000; i++) {
+            if (!retractorList.isEmpty() && random.nextDouble() < 0.4) {
+                retractorList.remove(random.nextInt(retractorList.size())).run();
+            } else {
+                var balanced = random.nextInt(1_000);
+                var load = random.nextInt(10);
+                var registered = loadBalance.registerBalanced(balanced, load, 0);
+                expectedLoadMap.merge(balanced, (long) load, Long::sum);
+                expectedCountMap.merge(balanced, 1, Integer::sum);
+                retractorList.add(() -> {
+                    registered.run();
+                    if (expectedCountMap.merge(balanced, -1, Integer::sum) == 0) {
+                        expectedCountMap.remove(balanced);
+                        expectedLoadMap.remove(balanced);
+                    } else {
+                        expectedLoadMap.merge(balanced, (long) -load, Long::sum);
+                    }
+                });
+            }
+        }
+        assertThat(loadBalance.loads()).isEqualTo(expectedLoadMap);
+
+        var mean = expectedLoadMap.values().stream().mapToLong(Long::longValue).average().orElseThrow();
+        var squaredDeviation = expectedLoadMap.values().stream()
+                .mapToDouble(load -> (load - mean) * (load - mean))
+                .sum();
+        assertThat(loadBalance.unfairness().doubleValue()).isCloseTo(Math.sqrt(squaredDeviation), within(0.01));
+
+        retractorList.forEach(Runnable::run);
+        assertThat(loadBalance.loads()).isEmpty();
+        assertThat(loadBalance.unfairness()).isZero();
+    }
+
+}
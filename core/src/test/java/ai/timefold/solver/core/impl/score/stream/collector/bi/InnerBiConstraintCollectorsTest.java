@@ -33,6 +33,7 @@ import java.util.function.BiFunction;
 import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
 import ai.timefold.solver.core.api.score.stream.bi.BiConstraintCollector;
 import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
+import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.impl.score.stream.collector.AbstractConstraintCollectorsTest;
 import ai.timefold.solver.core.impl.util.Pair;
 import ai.timefold.solver.core.impl.util.Quadruple;
@@ -1048,23 +1049,23 @@ final class InnerBiConstraintCollectorsTest extends AbstractConstraintCollectors
         // Add first value, sequence is [2]
         int firstValue = 2;
         Runnable firstRetractor = accumulate(collector, container, firstValue, 0);
-        assertResultRecursive(collector, container, buildSequenceChain(2));
+        assertSequenceChainResult(collector, container, buildSequenceChain(2));
         // Add second value, sequence is [1,2]
         int secondValue = 1;
         Runnable secondRetractor = accumulate(collector, container, secondValue, 0);
-        assertResultRecursive(collector, container, buildSequenceChain(1, 2));
+        assertSequenceChainResult(collector, container, buildSequenceChain(1, 2));
         // Add third value, same as the second. Sequence is [{1,1},2}]
         Runnable thirdRetractor = accumulate(collector, container, secondValue, 0);
-        assertResultRecursive(collector, container, buildSequenceChain(1, 1, 2));
+        assertSequenceChainResult(collector, container, buildSequenceChain(1, 1, 2));
         // Retract one instance of the second value; we only have two values now.
         secondRetractor.run();
-        assertResultRecursive(collector, container, buildSequenceChain(1, 2));
+        assertSequenceChainResult(collector, container, buildSequenceChain(1, 2));
         // Retract final instance of the second value; we only have one value now.
         thirdRetractor.run();
-        assertResultRecursive(collector, container, buildSequenceChain(2));
+        assertSequenceChainResult(collector, container, buildSequenceChain(2));
         // Retract last value; there are no values now.
         firstRetractor.run();
-        assertResultRecursive(collector, container, buildSequenceChain());
+        assertSequenceChainResult(collector, container, buildSequenceChain());
     }
 
     @Override
@@ -1203,15 +1204,11 @@ final class InnerBiConstraintCollectorsTest extends AbstractConstraintCollectors
                 .isEqualTo(expectedResult);
     }
 
-    private static <A, B, Container_, Result_> void assertResultRecursive(
-            BiConstraintCollector<A, B, Container_, Result_> collector,
-            Object container, Result_ expectedResult) {
+    private static <A, B, Container_> void assertSequenceChainResult(
+            BiConstraintCollector<A, B, Container_, SequenceChain<Integer, Integer>> collector,
+            Object container, SequenceChain<Integer, Integer> expectedResult) {
         var actualResult = collector.finisher().apply((Container_) container);
-        assertThat(actualResult)
-                .as("Collector (" + collector + ") did not produce expected result.")
-                .usingRecursiveComparison()
-                .ignoringFields("sourceTree", "indexFunction", "sequenceList", "startItemToSequence")
-                .isEqualTo(expectedResult);
+        assertSequenceChain(collector, actualResult, expectedResult);
     }
 
     private static <Container_> void assertUnfairness(
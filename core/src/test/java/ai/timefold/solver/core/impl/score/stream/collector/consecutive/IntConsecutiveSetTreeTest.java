@@ -0,0 +1,168 @@
+package ai.timefold.solver.core.impl.score.stream.collector.consecutive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import ai.timefold.solver.core.api.score.stream.common.Break;
+import ai.timefold.solver.core.api.score.stream.common.Sequence;
+import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+class IntConsecutiveSetTreeTest {
+
+    @Test
+    void testSequencesAndBreaks() {
+        var tree = new IntConsecutiveSetTree<AtomicInteger>();
+        var first = atomic(1);
+        var second = atomic(2);
+        var duplicate = atomic(2);
+        var third = atomic(5);
+        tree.add(third, 5);
+        tree.add(second, 2);
+        tree.add(first, 1);
+        tree.add(duplicate, 2);
+
+        var sequenceList = new IterableList<>(tree.getConsecutiveSequences());
+        var breakList = new IterableList<>(tree.getBreaks());
+        assertThat(sequenceList).hasSize(2);
+        assertThat(sequenceList.get(0).getItems()).hasSize(3).startsWith(first);
+        assertThat(sequenceList.get(0).getLength()).isEqualTo(2);
+        assertThat(sequenceList.get(0).isFirst()).isTrue();
+        assertThat(sequenceList.get(1).getItems()).containsExactly(third);
+        assertThat(sequenceList.get(1).isLast()).isTrue();
+        assertThat(breakList).hasSize(1);
+        assertThat(breakList.get(0).getNextSequenceStart()).isSameAs(third);
+        assertThat(breakList.get(0).getLength()).isEqualTo(3);
+        assertThat(tree.getFirstBreak()).isSameAs(tree.getLastBreak()).isSameAs(breakList.get(0));
+
+        // Filling the gap merges both sequences.
+        tree.add(atomic(3), 3);
+        tree.add(atomic(4), 4);
+        assertThat(sequenceList).hasSize(1);
+        assertThat(sequenceList.get(0).getCount()).isEqualTo(6);
+        assertThat(sequenceList.get(0).getLastItem()).isSameAs(third);
+        assertThat(breakList).isEmpty();
+        assertThat(tree.getFirstBreak()).isNull();
+
+        // Removing a point in the middle splits it again.
+        tree.remove(first);
+        tree.remove(second);
+        assertThat(sequenceList).hasSize(1);
+        tree.remove(duplicate);
+        assertThat(sequenceList).hasSize(1);
+        assertThat(sequenceList.get(0).getCount()).isEqualTo(3);
+        assertThat(sequenceList.get(0).getLength()).isEqualTo(3);
+    }
+
+    @Test
+    void testIndexMismatch() {
+        var tree = new IntConsecutiveSetTree<AtomicInteger>();
+        var value = atomic(1);
+        tree.add(value, 1);
+        assertThatIllegalStateException().isThrownBy(() -> tree.add(value, 2));
+    }
+
+    @Test
+    void testMaxSpan() {
+        var tree = new IntConsecutiveSetTree<Integer>(10);
+        assertThat(tree.add(100, 100)).isTrue();
+        assertThat(tree.add(109, 109)).isTrue();
+        assertThat(tree.add(110, 110)).isFalse();
+        assertThat(tree.add(90, 90)).isFalse();
+        assertThat(tree.getConsecutiveSequences()).hasSize(2);
+
+        tree.remove(100);
+        tree.remove(109);
+        // An empty tree accepts any point again.
+        assertThat(tree.add(Integer.MIN_VALUE, Integer.MIN_VALUE)).isTrue();
+        assertThat(tree.add(Integer.MIN_VALUE + 1, Integer.MIN_VALUE + 1)).isTrue();
+        assertThat(tree.getConsecutiveSequences()).hasSize(1);
+    }
+
+    @Test
+    void testToConsecutiveSetTree() {
+        var tree = new IntConsecutiveSetTree<Integer>();
+        for (var value : List.of(1, 2, 2, 4, 7, 8)) {
+            tree.add(value, value);
+        }
+        var consecutiveSetTree = tree.toConsecutiveSetTree();
+        assertSameSequenceChain(consecutiveSetTree, tree);
+
+        // The duplicate is only removed from the copy once it has been removed twice.
+        consecutiveSetTree.remove(2);
+        assertSameSequenceChain(consecutiveSetTree, tree);
+    }
+
+    @Test
+    void testRandomSequences() {
+        var random = new Random(1);
+        // A small span makes the window grow and move in both directions.
+        var tree = new IntConsecutiveSetTree<Integer>(128);
+        var expectedTree = new ConsecutiveSetTree<Integer, Integer, Integer>((a, b) -> b - a, Integer::sum, 1, 0);
+        var addedList = new ArrayList<Integer>();
+
+        for (var i = 0; i < 2000; i++) {
+            if (!addedList.isEmpty() && random.nextDouble() < 0.45) {
+                var value = addedList.remove(random.nextInt(addedList.size()));
+                tree.remove(value);
+                expectedTree.remove(value);
+            } else {
+                // Two values share every point, and adding an equal value only increases its count.
+                var value = Integer.valueOf(random.nextInt(96) + 1000);
+                var index = value / 2 - 500;
+                assertThat(tree.add(value, index)).isTrue();
+                expectedTree.add(value, index);
+                addedList.add(value);
+            }
+            assertSameSequenceChain(tree, expectedTree);
+        }
+    }
+
+    private static <Value_> void assertSameSequenceChain(SequenceChain<Value_, Integer> actual,
+            SequenceChain<Value_, Integer> expected) {
+        assertThat(actual.getConsecutiveSequences())
+                .extracting(sequence -> List.copyOf(sequence.getItems()), Sequence::getCount, Sequence::getLength,
+                        Sequence::isFirst, Sequence::isLast)
+                .containsExactlyElementsOf(expected.getConsecutiveSequences().stream()
+                        .map(sequence -> tuple(List.copyOf(sequence.getItems()), sequence.getCount(),
+                                sequence.getLength(), sequence.isFirst(), sequence.isLast()))
+                        .toList());
+        assertThat(actual.getBreaks())
+                .extracting(Break::getPreviousSequenceEnd, Break::getNextSequenceStart, Break::getLength, Break::isFirst,
+                        Break::isLast)
+                .containsExactlyElementsOf(expected.getBreaks().stream()
+                        .map(sequenceBreak -> tuple(sequenceBreak.getPreviousSequenceEnd(),
+                                sequenceBreak.getNextSequenceStart(), sequenceBreak.getLength(), sequenceBreak.isFirst(),
+                                sequenceBreak.isLast()))
+                        .toList());
+        if (expected.getFirstSequence() == null) {
+            assertThat(actual.getFirstSequence()).isNull();
+            assertThat(actual.getLastSequence()).isNull();
+        } else {
+            assertThat(actual.getFirstSequence().getItems()).containsExactlyElementsOf(expected.getFirstSequence().getItems());
+            assertThat(actual.getLastSequence().getItems()).containsExactlyElementsOf(expected.getLastSequence().getItems());
+        }
+        if (expected.getFirstBreak() == null) {
+            assertThat(actual.getFirstBreak()).isNull();
+            assertThat(actual.getLastBreak()).isNull();
+        } else {
+            assertThat(actual.getFirstBreak().getLength()).isEqualTo(expected.getFirstBreak().getLength());
+            assertThat(actual.getLastBreak().getLength()).isEqualTo(expected.getLastBreak().getLength());
+        }
+    }
+
+    private static AtomicInteger atomic(int value) {
+        return new AtomicInteger(value);
+    }
+
+}
@@ -31,6 +31,7 @@ import java.util.SortedSet;
 
 import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
 import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
+import ai.timefold.solver.core.api.score.stream.common.SequenceChain;
 import ai.timefold.solver.core.api.score.stream.quad.QuadConstraintCollector;
 import ai.timefold.solver.core.impl.score.stream.collector.AbstractConstraintCollectorsTest;
 import ai.timefold.solver.core.impl.util.Pair;
@@ -1101,23 +1102,23 @@ final class InnerQuadConstraintCollectorsTest extends AbstractConstraintCollecto
         // Add first value, sequence is [2]
         int firstValue = 2;
         Runnable firstRetractor = accumulate(collector, container, firstValue, 0, 0, 0);
-        assertResultRecursive(collector, container, buildSequenceChain(2));
+        assertSequenceChainResult(collector, container, buildSequenceChain(2));
         // Add second value, sequence is [1,2]
         int secondValue = 1;
         Runnable secondRetractor = accumulate(collector, container, secondValue, 0, 0, 0);
-        assertResultRecursive(collector, container, buildSequenceChain(1, 2));
+        assertSequenceChainResult(collector, container, buildSequenceChain(1, 2));
         // Add third value, same as the second. Sequence is [{1,1},2}]
         Runnable thirdRetractor = accumulate(collector, container, secondValue, 0, 0, 0);
-        assertResultRecursive(collector, container, buildSequenceChain(1, 1, 2));
+        assertSequenceChainResult(collector, container, buildSequenceChain(1, 1, 2));
         // Retract one instance of the second value; we only have two values now.
         secondRetractor.run();
-        assertResultRecursive(collector, container, buildSequenceChain(1, 2));
+        assertSequenceChainResult(collector, container, buildSequenceChain(1, 2));
         // Retract final instance of the second value; we only have one value now.
         thirdRetractor.run();
-        assertResultRecursive(collector, container, buildSequenceChain(2));
+        assertSequenceChainResult(collector, container, buildSequenceChain(2));
         // Retract last value; there are no values now.
         firstRetractor.run();
-        assertResultRecursive(collector, container, buildSequenceChain());
+        assertSequenceChainResult(collector, container, buildSequenceChain());
     }
 
     @Override
@@ -1259,15 +1260,11 @@ final class InnerQuadConstraintCollectorsTest extends AbstractConstraintCollecto
                 .isEqualTo(expectedResult);
     }
 
-    private static <A, B, C, D, Container_, Result_> void assertResultRecursive(
-            QuadConstraintCollector<A, B, C, D, Container_, Result_> collector,
-            Object container, Result_ expectedResult) {
+    private static <A, B, C, D, Container_> void assertSequenceChainResult(
+            QuadConstraintCollector<A, B, C, D, Container_, SequenceChain<Integer, Integer>> collector,
+            Object container, SequenceChain<Integer, Integer> expectedResult) {
         var actualResult = collector.finisher().apply((Container_) container);
-        assertThat(actualResult)
-                .as("Collector (" + collector + ") did not produce expected result.")
-                .usingRecursiveComparison()
-                .ignoringFields("sourceTree", "indexFunction", "sequenceList", "startItemToSequence")
-                .isEqualTo(expectedResult);
+        assertSequenceChain(collector, actualResult, expectedResult);
     }
 
     private static <Container_> void assertUnfairness(
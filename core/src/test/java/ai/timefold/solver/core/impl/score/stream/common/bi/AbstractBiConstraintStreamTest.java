@@ -6,6 +6,7 @@ import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.max;
 import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.min;
 import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.toSet;
 import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static ai.timefold.solver.core.api.score.stream.Joiners.equalInt;
 import static ai.timefold.solver.core.api.score.stream.Joiners.filtering;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
@@ -585,6 +586,47 @@ public abstract class AbstractBiConstraintStreamTest extends AbstractConstraintS
         assertScore(scoreDirector);
     }
 
+    @TestTemplate
+    public void ifExists_1EqualInt() {
+        var solution = TestdataLavishSolution.generateSolution(1, 5, 1, 1);
+        var entity1 = solution.getFirstEntity();
+        entity1.setIntegerProperty(1);
+        var entity2 = new TestdataLavishEntity("MyEntity 2", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        entity2.setIntegerProperty(2);
+        solution.getEntityList().add(entity2);
+        var entity3 = new TestdataLavishEntity("MyEntity 3", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        entity3.setIntegerProperty(3);
+        solution.getEntityList().add(entity3);
+
+        var scoreDirector =
+                buildScoreDirector(factory -> factory.forEachUniquePair(TestdataLavishEntity.class)
+                        .ifExists(TestdataLavishEntity.class,
+                                equalInt((TestdataLavishEntity a, TestdataLavishEntity b) -> a.getIntegerProperty()
+                                        + b.getIntegerProperty(), TestdataLavishEntity::getIntegerProperty))
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint(TEST_CONSTRAINT_NAME));
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2));
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        entity3.setIntegerProperty(5);
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertScore(scoreDirector);
+
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(0);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2),
+                assertMatch(entity1, entity3));
+    }
+
     @Override
     @TestTemplate
     public void ifExistsDoesNotIncludeUnassigned() {
@@ -6,7 +6,10 @@ import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.max;
 import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.min;
 import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.toSet;
 import static ai.timefold.solver.core.api.score.stream.Joiners.equal;
+import static ai.timefold.solver.core.api.score.stream.Joiners.equalInt;
 import static ai.timefold.solver.core.api.score.stream.Joiners.filtering;
+import static ai.timefold.solver.core.api.score.stream.Joiners.lessThan;
+import static ai.timefold.solver.core.api.score.stream.Joiners.overlapping;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
@@ -285,6 +288,89 @@ public abstract class AbstractUniConstraintStreamTest
                 assertMatch(entity3, entity3));
     }
 
+    @TestTemplate
+    public void join_1EqualInt() {
+        var solution = TestdataLavishSolution.generateSolution(1, 5, 1, 1);
+        var entity1 = solution.getFirstEntity();
+        entity1.setIntegerProperty(1000);
+        var entity2 = new TestdataLavishEntity("MyEntity 2", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        entity2.setIntegerProperty(2000);
+        solution.getEntityList().add(entity2);
+        var entity3 = new TestdataLavishEntity("MyEntity 3", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        entity3.setIntegerProperty(1000);
+        solution.getEntityList().add(entity3);
+
+        var scoreDirector =
+                buildScoreDirector(factory -> factory.forEach(TestdataLavishEntity.class)
+                        .join(TestdataLavishEntity.class,
+                                equalInt(TestdataLavishEntity::getIntegerProperty),
+                                lessThan(TestdataLavishEntity::getCode))
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint(TEST_CONSTRAINT_NAME));
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity3));
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setIntegerProperty(1000);
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2),
+                assertMatch(entity1, entity3),
+                assertMatch(entity2, entity3));
+
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(2000);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatch(entity2, entity3));
+    }
+
+    @TestTemplate
+    public void join_overlapping() {
+        var solution = TestdataLavishSolution.generateSolution(1, 5, 1, 1);
+        var entity1 = solution.getFirstEntity();
+        entity1.setIntegerProperty(0);
+        var entity2 = new TestdataLavishEntity("MyEntity 2", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        entity2.setIntegerProperty(5);
+        solution.getEntityList().add(entity2);
+        var entity3 = new TestdataLavishEntity("MyEntity 3", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        entity3.setIntegerProperty(20);
+        solution.getEntityList().add(entity3);
+
+        // Every entity occupies the interval [integerProperty, integerProperty + 10).
+        var scoreDirector =
+                buildScoreDirector(factory -> factory.forEachUniquePair(TestdataLavishEntity.class,
+                        overlapping(TestdataLavishEntity::getIntegerProperty, entity -> entity.getIntegerProperty() + 10))
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint(TEST_CONSTRAINT_NAME));
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2));
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        entity3.setIntegerProperty(10);
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity3));
+
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setIntegerProperty(-10);
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        assertScore(scoreDirector);
+    }
+
     /**
      * A join must not presume that left inserts/retracts always happen before right inserts/retracts,
      * if node sharing is active.
@@ -1668,6 +1754,105 @@ public abstract class AbstractUniConstraintStreamTest
                 assertMatchWithScore(-1, 2, 1));
     }
 
+    @TestTemplate
+    public void groupByInt() {
+        var solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
+        var entity1 = new TestdataLavishEntity("MyEntity 1", solution.getFirstEntityGroup(), solution.getFirstValue());
+        entity1.setIntegerProperty(2);
+        solution.getEntityList().add(entity1);
+        var entity2 = new TestdataLavishEntity("MyEntity 2", solution.getFirstEntityGroup(), solution.getFirstValue());
+        entity2.setIntegerProperty(3);
+        solution.getEntityList().add(entity2);
+
+        var scoreDirector =
+                buildScoreDirector(factory -> factory.forEach(TestdataLavishEntity.class)
+                        .groupByInt(TestdataLavishEntity::getIntegerProperty)
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint(TEST_CONSTRAINT_NAME));
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-1, 1),
+                assertMatchWithScore(-1, 2),
+                assertMatchWithScore(-1, 3));
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(3);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-1, 1),
+                assertMatchWithScore(-1, 3));
+
+        scoreDirector.beforeEntityRemoved(entity2);
+        solution.getEntityList().remove(entity2);
+        scoreDirector.afterEntityRemoved(entity2);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-1, 1),
+                assertMatchWithScore(-1, 3));
+    }
+
+    @TestTemplate
+    public void groupByInt_1Collector() {
+        var solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
+        var entity1 = new TestdataLavishEntity("MyEntity 1", solution.getFirstEntityGroup(), solution.getFirstValue());
+        entity1.setIntegerProperty(-1);
+        solution.getEntityList().add(entity1);
+        var entity2 = new TestdataLavishEntity("MyEntity 2", solution.getFirstEntityGroup(), solution.getFirstValue());
+        entity2.setIntegerProperty(Integer.MAX_VALUE);
+        solution.getEntityList().add(entity2);
+
+        var scoreDirector =
+                buildScoreDirector(factory -> factory.forEach(TestdataLavishEntity.class)
+                        .groupByInt(TestdataLavishEntity::getIntegerProperty, count())
+                        .penalize(SimpleScore.ONE, (integerProperty, count) -> count)
+                        .asConstraint(TEST_CONSTRAINT_NAME));
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-7, 1, 7),
+                assertMatchWithScore(-1, -1, 1),
+                assertMatchWithScore(-1, Integer.MAX_VALUE, 1));
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(1);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-8, 1, 8),
+                assertMatchWithScore(-1, Integer.MAX_VALUE, 1));
+    }
+
+    @TestTemplate
+    public void groupByLong_1Collector() {
+        var solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
+        solution.getEntityList().forEach(entity -> entity.setLongProperty(1L));
+        var entity1 = new TestdataLavishEntity("MyEntity 1", solution.getFirstEntityGroup(), solution.getFirstValue());
+        entity1.setLongProperty(Long.MIN_VALUE);
+        solution.getEntityList().add(entity1);
+
+        var scoreDirector =
+                buildScoreDirector(factory -> factory.forEach(TestdataLavishEntity.class)
+                        .groupByLong(TestdataLavishEntity::getLongProperty, count())
+                        .penalize(SimpleScore.ONE, (longProperty, count) -> count)
+                        .asConstraint(TEST_CONSTRAINT_NAME));
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-7, 1L, 7),
+                assertMatchWithScore(-1, Long.MIN_VALUE, 1));
+
+        // Incremental
+        scoreDirector.beforeEntityRemoved(entity1);
+        solution.getEntityList().remove(entity1);
+        scoreDirector.afterEntityRemoved(entity1);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-7, 1L, 7));
+    }
+
     @Override
     @TestTemplate
     public void groupBy_2Mapping0Collector() {
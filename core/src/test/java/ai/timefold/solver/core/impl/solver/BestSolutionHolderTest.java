@@ -40,25 +40,37 @@ class BestSolutionHolderTest {
         TestdataSolution solution1 = TestdataSolution.generateSolution();
         TestdataSolution solution2 = TestdataSolution.generateSolution();
 
-        bestSolutionHolder.set(solution1, () -> true);
+        bestSolutionHolder.set(() -> solution1, () -> true);
         assertThat(bestSolutionHolder.take().getBestSolution()).isSameAs(solution1);
         assertThat(bestSolutionHolder.take()).isNull();
 
-        bestSolutionHolder.set(solution1, () -> true);
-        bestSolutionHolder.set(solution2, () -> false);
+        bestSolutionHolder.set(() -> solution1, () -> true);
+        bestSolutionHolder.set(() -> solution2, () -> false);
         assertThat(bestSolutionHolder.take().getBestSolution()).isSameAs(solution1);
 
-        bestSolutionHolder.set(solution1, () -> true);
-        bestSolutionHolder.set(solution2, () -> true);
+        bestSolutionHolder.set(() -> solution1, () -> true);
+        bestSolutionHolder.set(() -> solution2, () -> true);
         assertThat(bestSolutionHolder.take().getBestSolution()).isSameAs(solution2);
     }
 
+    @Test
+    void replacedBestSolutionNeverCloned() {
+        BestSolutionHolder<TestdataSolution> bestSolutionHolder = new BestSolutionHolder<>();
+        TestdataSolution solution = TestdataSolution.generateSolution();
+
+        bestSolutionHolder.set(() -> {
+            throw new IllegalStateException("The best solution was replaced before it was taken.");
+        }, () -> true);
+        bestSolutionHolder.set(() -> solution, () -> true);
+        assertThat(bestSolutionHolder.take().getBestSolution()).isSameAs(solution);
+    }
+
     @Test
     void completeProblemChanges() {
         BestSolutionHolder<TestdataSolution> bestSolutionHolder = new BestSolutionHolder<>();
 
         CompletableFuture<Void> problemChange1 = addProblemChange(bestSolutionHolder);
-        bestSolutionHolder.set(TestdataSolution.generateSolution(), () -> true);
+        bestSolutionHolder.set(() -> TestdataSolution.generateSolution(), () -> true);
         CompletableFuture<Void> problemChange2 = addProblemChange(bestSolutionHolder);
 
         bestSolutionHolder.take().completeProblemChanges();
@@ -66,8 +78,8 @@ class BestSolutionHolderTest {
         assertThat(problemChange2).isNotCompleted();
 
         CompletableFuture<Void> problemChange3 = addProblemChange(bestSolutionHolder);
-        bestSolutionHolder.set(TestdataSolution.generateSolution(), () -> true);
-        bestSolutionHolder.set(TestdataSolution.generateSolution(), () -> true);
+        bestSolutionHolder.set(() -> TestdataSolution.generateSolution(), () -> true);
+        bestSolutionHolder.set(() -> TestdataSolution.generateSolution(), () -> true);
         CompletableFuture<Void> problemChange4 = addProblemChange(bestSolutionHolder);
 
         bestSolutionHolder.take().completeProblemChanges();
@@ -82,7 +94,7 @@ class BestSolutionHolderTest {
         BestSolutionHolder<TestdataSolution> bestSolutionHolder = new BestSolutionHolder<>();
 
         CompletableFuture<Void> problemChange = addProblemChange(bestSolutionHolder);
-        bestSolutionHolder.set(TestdataSolution.generateSolution(), () -> true);
+        bestSolutionHolder.set(() -> TestdataSolution.generateSolution(), () -> true);
 
         bestSolutionHolder.cancelPendingChanges();
 
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -12,6 +13,9 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -72,6 +76,127 @@ class ConsumerSupportTest {
         }
     }
 
+    @Test
+    @Timeout(60)
+    void coalesceWithinBestSolutionConsumerInterval() throws InterruptedException {
+        var interval = Duration.ofMillis(200);
+        var firstConsumptionCompleted = new CountDownLatch(1);
+        var consumptionCompleted = new CountDownLatch(1);
+        var consumedSolutions = Collections.synchronizedList(new ArrayList<TestdataSolution>());
+        var consumptionNanos = Collections.synchronizedList(new ArrayList<Long>());
+        var bestSolutionHolder = new BestSolutionHolder<TestdataSolution>();
+        consumerSupport = new ConsumerSupport<>(1L, testdataSolution -> {
+            consumptionNanos.add(System.nanoTime());
+            consumedSolutions.add(testdataSolution);
+            firstConsumptionCompleted.countDown();
+            if (testdataSolution.getEntityList().size() == 4) { // The last best solution.
+                consumptionCompleted.countDown();
+            }
+        }, null, null, null, null, bestSolutionHolder, interval, null);
+
+        consumeIntermediateBestSolution(TestdataSolution.generateSolution(1, 1));
+        firstConsumptionCompleted.await();
+        // Best solutions faster than the interval only leave the last one to be consumed.
+        for (var i = 2; i <= 4; i++) {
+            consumeIntermediateBestSolution(TestdataSolution.generateSolution(i, i));
+        }
+
+        consumptionCompleted.await();
+        assertThat(consumedSolutions).hasSize(2);
+        assertThat(consumedSolutions.get(0).getEntityList()).hasSize(1);
+        assertThat(consumedSolutions.get(1).getEntityList()).hasSize(4);
+        assertThat(consumptionNanos.get(1) - consumptionNanos.get(0)).isGreaterThanOrEqualTo(interval.toNanos());
+    }
+
+    @Test
+    @Timeout(60)
+    void finalBestSolutionSkipsBestSolutionConsumerInterval() throws InterruptedException {
+        var firstConsumptionCompleted = new CountDownLatch(1);
+        var finalConsumptionCompleted = new CountDownLatch(1);
+        var consumedSolutions = Collections.synchronizedList(new ArrayList<TestdataSolution>());
+        var bestSolutionHolder = new BestSolutionHolder<TestdataSolution>();
+        consumerSupport = new ConsumerSupport<>(1L, testdataSolution -> {
+            consumedSolutions.add(testdataSolution);
+            firstConsumptionCompleted.countDown();
+        }, finalBestSolution -> {
+            consumedSolutions.add(finalBestSolution);
+            finalConsumptionCompleted.countDown();
+        }, null, null, null, bestSolutionHolder, Duration.ofDays(1), null);
+
+        consumeIntermediateBestSolution(TestdataSolution.generateSolution(1, 1));
+        firstConsumptionCompleted.await();
+        // Waits for the interval, unless the final best solution arrives first.
+        consumeIntermediateBestSolution(TestdataSolution.generateSolution(2, 2));
+        consumerSupport.consumeFinalBestSolution(TestdataSolution.generateSolution(3, 3));
+
+        finalConsumptionCompleted.await();
+        assertThat(consumedSolutions)
+                .extracting(solution -> solution.getEntityList().size())
+                .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Timeout(60)
+    void sharedConsumerExecutorRecoversFromRejection() throws InterruptedException {
+        var rejected = new AtomicBoolean(false);
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var consumptionCompleted = new CountDownLatch(1);
+            var bestSolutionHolder = new BestSolutionHolder<TestdataSolution>();
+            consumerSupport = new ConsumerSupport<>(1L, testdataSolution -> consumptionCompleted.countDown(),
+                    null, null, null, null, bestSolutionHolder, null, task -> {
+                        if (rejected.compareAndSet(false, true)) {
+                            throw new RejectedExecutionException("Rejected once.");
+                        }
+                        executor.execute(task);
+                    });
+
+            assertThatExceptionOfType(RejectedExecutionException.class)
+                    .isThrownBy(() -> consumeIntermediateBestSolution(TestdataSolution.generateSolution(1, 1)));
+            consumeIntermediateBestSolution(TestdataSolution.generateSolution(2, 2));
+            consumptionCompleted.await();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void sharedConsumerExecutor() throws ExecutionException, InterruptedException {
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var consumerThreadNames = Collections.synchronizedList(new ArrayList<String>());
+            var finalBestSolutionRef = new AtomicReference<TestdataSolution>();
+            var finalConsumptionCompleted = new CountDownLatch(1);
+            var bestSolutionHolder = new BestSolutionHolder<TestdataSolution>();
+            consumerSupport = new ConsumerSupport<>(1L,
+                    testdataSolution -> consumerThreadNames.add(Thread.currentThread().getName()),
+                    finalBestSolution -> {
+                        consumerThreadNames.add(Thread.currentThread().getName());
+                        finalBestSolutionRef.set(finalBestSolution);
+                        finalConsumptionCompleted.countDown();
+                    }, null, null, null, bestSolutionHolder, null, executor);
+
+            var futureProblemChange = addProblemChange(bestSolutionHolder);
+            consumeIntermediateBestSolution(TestdataSolution.generateSolution());
+            var finalBestSolution = TestdataSolution.generateSolution();
+            consumerSupport.consumeFinalBestSolution(finalBestSolution);
+            futureProblemChange.get();
+            finalConsumptionCompleted.await();
+            consumerSupport.close();
+            assertThat(finalBestSolutionRef.get()).isSameAs(finalBestSolution);
+            assertThat(consumerThreadNames).isNotEmpty()
+                    .allMatch(threadName -> threadName.startsWith("pool-"));
+            // The solver job does not shut down an executor it does not own.
+            assertThat(executor.isShutdown()).isFalse();
+            // Tasks of the solver job are rejected afterwards, instead of being dropped without ever completing.
+            assertThatExceptionOfType(RejectedExecutionException.class)
+                    .isThrownBy(() -> consumeIntermediateBestSolution(TestdataSolution.generateSolution()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     @Timeout(60)
     void problemChangesComplete_afterFinalBestSolutionIsConsumed() throws ExecutionException, InterruptedException {
@@ -136,6 +261,6 @@ class ConsumerSupportTest {
     }
 
     private void consumeIntermediateBestSolution(TestdataSolution bestSolution) {
-        consumerSupport.consumeIntermediateBestSolution(bestSolution, () -> true);
+        consumerSupport.consumeIntermediateBestSolution(() -> bestSolution, () -> true);
     }
 }
@@ -5,11 +5,13 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -20,6 +22,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
@@ -35,6 +38,7 @@ import ai.timefold.solver.core.api.score.constraint.Indictment;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.api.solver.SolutionManager;
 import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.api.solver.event.BestSolutionChangedEvent;
 import ai.timefold.solver.core.api.solver.phase.PhaseCommand;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicType;
@@ -64,8 +68,10 @@ import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.score.DummySimpleScoreEasyScoreCalculator;
 import ai.timefold.solver.core.impl.score.constraint.DefaultConstraintMatchTotal;
 import ai.timefold.solver.core.impl.score.constraint.DefaultIndictment;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 import ai.timefold.solver.core.preview.api.domain.metamodel.PlanningSolutionMetaModel;
 import ai.timefold.solver.core.preview.api.domain.metamodel.PlanningVariableMetaModel;
+import ai.timefold.solver.core.testdomain.TestdataConstraintProvider;
 import ai.timefold.solver.core.testdomain.TestdataEntity;
 import ai.timefold.solver.core.testdomain.TestdataSolution;
 import ai.timefold.solver.core.testdomain.TestdataValue;
@@ -129,6 +135,66 @@ class DefaultSolverTest extends AbstractMeterTest {
                 .filter(e -> e.getValue() == null)).isEmpty();
     }
 
+    @Test
+    void solveWithDeltaCloning() {
+        var solverConfig = new SolverConfig()
+                .withPreviewFeature(PreviewFeature.DELTA_CLONING)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withEasyScoreCalculatorClass(FirstValueEasyScoreCalculator.class)
+                .withTerminationConfig(new TerminationConfig()
+                        .withBestScoreLimit("0")) // Should get there quickly.
+                .withPhases(new LocalSearchPhaseConfig());
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        var solver = solverFactory.buildSolver();
+
+        // Consecutive best solutions share their unchanged entities, which must therefore never change.
+        var bestSolutionToValueCodesMap = new IdentityHashMap<TestdataSolution, List<String>>();
+        solver.addEventListener(event -> bestSolutionToValueCodesMap.put(event.getNewBestSolution(),
+                getValueCodes(event.getNewBestSolution())));
+        var solution = solver.solve(TestdataSolution.generateSolution(5, 10));
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.ZERO);
+        assertThat(bestSolutionToValueCodesMap).hasSizeGreaterThan(1);
+        bestSolutionToValueCodesMap.forEach(
+                (bestSolution, valueCodes) -> assertThat(getValueCodes(bestSolution)).isEqualTo(valueCodes));
+    }
+
+    @Test
+    void solveWithLazyCloning() {
+        var solverConfig = new SolverConfig()
+                .withPreviewFeature(PreviewFeature.LAZY_CLONING)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withEasyScoreCalculatorClass(FirstValueEasyScoreCalculator.class)
+                .withTerminationConfig(new TerminationConfig()
+                        .withBestScoreLimit("0")) // Should get there quickly.
+                .withPhases(new LocalSearchPhaseConfig());
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        var solver = solverFactory.buildSolver();
+
+        // Only clone the best solutions after solving, long after the working solution has moved on.
+        var eventList = new ArrayList<BestSolutionChangedEvent<TestdataSolution>>();
+        solver.addEventListener(eventList::add);
+        var solution = solver.solve(TestdataSolution.generateSolution(5, 10));
+        assertThat(solution.getScore()).isEqualTo(SimpleScore.ZERO);
+        assertThat(eventList).hasSizeGreaterThan(1);
+        var scoreCalculator = new FirstValueEasyScoreCalculator();
+        for (var event : eventList) {
+            var bestSolution = event.getNewBestSolution();
+            assertThat(event.getNewBestSolution()).isSameAs(bestSolution);
+            assertThat(bestSolution.getScore()).isEqualTo(event.getNewBestScore());
+            assertThat(scoreCalculator.calculateScore(bestSolution)).isEqualTo(event.getNewBestScore());
+        }
+    }
+
+    private static List<String> getValueCodes(TestdataSolution solution) {
+        return solution.getEntityList().stream()
+                .map(entity -> entity.getValue().getCode())
+                .toList();
+    }
+
     @Test
     void solveWithMoveStreams() {
         var solverConfig = new SolverConfig()
@@ -829,6 +895,78 @@ class DefaultSolverTest extends AbstractMeterTest {
         }
     }
 
+    @Test
+    void solveConstraintNodeProfileMetrics() {
+        var meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withScoreDirectorFactory(
+                        new ScoreDirectorFactoryConfig().withConstraintProviderClass(TestdataConstraintProvider.class))
+                .withMonitoringConfig(new MonitoringConfig()
+                        .withSolverMetricList(List.of(SolverMetric.CONSTRAINT_NODE_PROFILE)));
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+
+        var solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        solver.setMonitorTagMap(Map.of("solver.id", UUID.randomUUID().toString()));
+        var solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2")));
+
+        var insertCount = new AtomicLong();
+        var updateCount = new AtomicLong();
+        var tupleCount = new AtomicLong();
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void solvingEnded(SolverScope<TestdataSolution> solverScope) {
+                // The meters are removed once solving has ended.
+                meterRegistry.publish();
+                var meterId = SolverMetric.CONSTRAINT_NODE_PROFILE.getMeterId();
+                var node = ":node=ForEachExcludingUnassignedUniNode-0";
+                insertCount.set(meterRegistry.getMeasurement(meterId + ".insert.count" + node, "VALUE").longValue());
+                updateCount.set(meterRegistry.getMeasurement(meterId + ".update.count" + node, "VALUE").longValue());
+                tupleCount.set(meterRegistry.getMeasurement(meterId + ".tuple.count" + node, "VALUE").longValue());
+            }
+        });
+        solver.solve(solution);
+        assertThat(insertCount.get()).isEqualTo(2L);
+        assertThat(updateCount.get()).isPositive();
+        assertThat(tupleCount.get()).isEqualTo(2L);
+    }
+
+    @Test
+    void solveConstraintEvaluationTimeMetrics() {
+        var meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withScoreDirectorFactory(
+                        new ScoreDirectorFactoryConfig().withConstraintProviderClass(TestdataConstraintProvider.class))
+                .withMonitoringConfig(new MonitoringConfig()
+                        .withSolverMetricList(List.of(SolverMetric.CONSTRAINT_EVALUATION_TIME)));
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+
+        var solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        solver.setMonitorTagMap(Map.of("solver.id", UUID.randomUUID().toString()));
+        var solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2")));
+
+        var evaluationTime = new AtomicReference<BigDecimal>();
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void solvingEnded(SolverScope<TestdataSolution> solverScope) {
+                // The meters are removed once solving has ended.
+                meterRegistry.publish();
+                evaluationTime.set(meterRegistry.getMeasurement(SolverMetric.CONSTRAINT_EVALUATION_TIME.getMeterId()
+                        + ":constraint.name=Always penalize,constraint.package=" + TestdataSolution.class.getPackageName(),
+                        "VALUE"));
+            }
+        });
+        solver.solve(solution);
+        assertThat(evaluationTime.get()).isPositive();
+    }
+
     @Test
     void solveMetricsError() {
         var meterRegistry = new TestMeterRegistry();
@@ -1520,6 +1658,18 @@ class DefaultSolverTest extends AbstractMeterTest {
     /**
      * Penalizes the number of values which are not the first value.
      */
+    public static final class FirstValueEasyScoreCalculator implements EasyScoreCalculator<TestdataSolution, SimpleScore> {
+
+        @Override
+        public @NonNull SimpleScore calculateScore(@NonNull TestdataSolution testdataSolution) {
+            var firstValue = testdataSolution.getValueList().get(0);
+            return SimpleScore.of(-(int) testdataSolution.getEntityList().stream()
+                    .filter(e -> e.getValue() != firstValue)
+                    .count());
+        }
+
+    }
+
     public static final class TestingEasyScoreCalculator implements EasyScoreCalculator<TestdataSolution, SimpleScore> {
 
         @Override
@@ -0,0 +1,196 @@
+package ai.timefold.solver.core.impl.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import ai.timefold.solver.core.config.heuristic.selector.common.nearby.NearbySelectionConfig;
+import ai.timefold.solver.core.config.heuristic.selector.common.nearby.NearbySelectionDistributionType;
+import ai.timefold.solver.core.config.heuristic.selector.list.DestinationSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.value.ValueSelectorConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchType;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
+import ai.timefold.solver.core.impl.score.DummySimpleScoreEasyScoreCalculator;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataObject;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+import ai.timefold.solver.core.testdomain.TestdataValue;
+import ai.timefold.solver.core.testdomain.list.TestDistanceMeter;
+import ai.timefold.solver.core.testdomain.list.TestdataListEntity;
+import ai.timefold.solver.core.testdomain.list.TestdataListSolution;
+import ai.timefold.solver.core.testdomain.list.TestdataListValue;
+import ai.timefold.solver.core.testdomain.list.unassignedvar.TestAllowsUnassignedValuesDistanceMeter;
+import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListEntity;
+import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListSolution;
+import ai.timefold.solver.core.testdomain.list.unassignedvar.TestdataAllowsUnassignedValuesListValue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+class NearbySelectionSolverTest {
+
+    private static final int STEP_COUNT_LIMIT = 20;
+
+    private static SolverConfig buildListSolverConfig() {
+        return new SolverConfig()
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withSolutionClass(TestdataListSolution.class)
+                .withEntityClasses(TestdataListEntity.class, TestdataListValue.class)
+                .withEasyScoreCalculatorClass(DummySimpleScoreEasyScoreCalculator.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig(), buildLocalSearchPhaseConfig());
+    }
+
+    private static LocalSearchPhaseConfig buildLocalSearchPhaseConfig() {
+        return new LocalSearchPhaseConfig()
+                .withTerminationConfig(new TerminationConfig().withStepCountLimit(STEP_COUNT_LIMIT));
+    }
+
+    private static TestdataListSolution generateListSolution(int valueCount, int entityCount) {
+        var solution = new TestdataListSolution();
+        solution.setEntityList(IntStream.range(0, entityCount)
+                .mapToObj(i -> new TestdataListEntity(String.valueOf(i * valueCount / entityCount)))
+                .toList());
+        // The codes are coordinates, so the values are at different distances from each other.
+        solution.setValueList(IntStream.range(0, valueCount)
+                .mapToObj(i -> new TestdataListValue(String.valueOf((i * 37) % valueCount)))
+                .toList());
+        return solution;
+    }
+
+    private static void assertAllValuesAssigned(TestdataListSolution solution) {
+        var assignedValueCount = solution.getEntityList().stream()
+                .map(TestdataListEntity::getValueList)
+                .mapToInt(List::size)
+                .sum();
+        assertThat(assignedValueCount).isEqualTo(solution.getValueList().size());
+    }
+
+    @Test
+    void solveListVariableWithNearbyAutoConfiguration() {
+        var solverConfig = buildListSolverConfig()
+                .withNearbyDistanceMeterClass(TestDistanceMeter.class);
+        var solution = SolverFactory.<TestdataListSolution> create(solverConfig).buildSolver()
+                .solve(generateListSolution(20, 3));
+        assertAllValuesAssigned(solution);
+    }
+
+    private static ListChangeMoveSelectorConfig buildNearbyListChangeMoveSelectorConfig(
+            NearbySelectionConfig nearbySelectionConfig) {
+        return new ListChangeMoveSelectorConfig()
+                .withValueSelectorConfig(new ValueSelectorConfig().withId("valueSelector"))
+                .withDestinationSelectorConfig(new DestinationSelectorConfig()
+                        .withNearbySelectionConfig(nearbySelectionConfig
+                                .withOriginValueSelectorConfig(new ValueSelectorConfig()
+                                        .withMimicSelectorRef("valueSelector"))
+                                .withNearbyDistanceMeterClass(TestDistanceMeter.class)));
+    }
+
+    @Test
+    void solveListVariableWithNearbyOriginalSelection() {
+        var moveSelectorConfig = buildNearbyListChangeMoveSelectorConfig(new NearbySelectionConfig());
+        var solverConfig = buildListSolverConfig()
+                .withPhases(new ConstructionHeuristicPhaseConfig(),
+                        buildLocalSearchPhaseConfig()
+                                .withLocalSearchType(LocalSearchType.VARIABLE_NEIGHBORHOOD_DESCENT)
+                                .withMoveSelectorConfig(moveSelectorConfig));
+        var solution = SolverFactory.<TestdataListSolution> create(solverConfig).buildSolver()
+                .solve(generateListSolution(12, 3));
+        assertAllValuesAssigned(solution);
+    }
+
+    @Test
+    void solveListVariableWithBlockDistributionAndParallelPrecomputation() {
+        var moveSelectorConfig = buildNearbyListChangeMoveSelectorConfig(new NearbySelectionConfig()
+                .withNearbySelectionDistributionType(NearbySelectionDistributionType.BLOCK_DISTRIBUTION)
+                .withBlockDistributionSizeMaximum(10)
+                .withParallelDistanceMatrixPrecomputation(true));
+        var solverConfig = buildListSolverConfig()
+                .withPhases(new ConstructionHeuristicPhaseConfig(),
+                        buildLocalSearchPhaseConfig().withMoveSelectorConfig(moveSelectorConfig));
+        var solution = SolverFactory.<TestdataListSolution> create(solverConfig).buildSolver()
+                .solve(generateListSolution(40, 4));
+        assertAllValuesAssigned(solution);
+    }
+
+    @Test
+    void solveListVariableAllowingUnassignedValuesWithNearbyAutoConfiguration() {
+        var solution = new TestdataAllowsUnassignedValuesListSolution();
+        solution.setEntityList(IntStream.range(0, 3)
+                .mapToObj(i -> new TestdataAllowsUnassignedValuesListEntity(String.valueOf(i * 5)))
+                .toList());
+        solution.setValueList(IntStream.range(0, 15)
+                .mapToObj(i -> new TestdataAllowsUnassignedValuesListValue(String.valueOf(i)))
+                .toList());
+        var solverConfig = new SolverConfig()
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withSolutionClass(TestdataAllowsUnassignedValuesListSolution.class)
+                .withEntityClasses(TestdataAllowsUnassignedValuesListEntity.class,
+                        TestdataAllowsUnassignedValuesListValue.class)
+                .withEasyScoreCalculatorClass(DummySimpleScoreEasyScoreCalculator.class)
+                .withNearbyDistanceMeterClass(TestAllowsUnassignedValuesDistanceMeter.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig(), buildLocalSearchPhaseConfig());
+        var bestSolution = SolverFactory.<TestdataAllowsUnassignedValuesListSolution> create(solverConfig)
+                .buildSolver()
+                .solve(solution);
+        assertThat(bestSolution.getScore()).isNotNull();
+    }
+
+    @Test
+    void solveBasicVariableWithNearbyAutoConfiguration() {
+        var solverConfig = new SolverConfig()
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withEasyScoreCalculatorClass(DummySimpleScoreEasyScoreCalculator.class)
+                .withNearbyDistanceMeterClass(TestdataObjectDistanceMeter.class)
+                .withPhases(new ConstructionHeuristicPhaseConfig(), buildLocalSearchPhaseConfig());
+        var solution = new TestdataSolution("s1");
+        solution.setValueList(IntStream.range(0, 5)
+                .mapToObj(i -> new TestdataValue(String.valueOf(i * 2)))
+                .toList());
+        solution.setEntityList(IntStream.range(0, 10)
+                .mapToObj(i -> new TestdataEntity(String.valueOf(i)))
+                .toList());
+        var bestSolution = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver()
+                .solve(solution);
+        assertThat(bestSolution.getEntityList())
+                .allSatisfy(entity -> assertThat(entity.getValue()).isNotNull());
+    }
+
+    @Test
+    void failsWithEnterpriseDistribution() {
+        var moveSelectorConfig = buildNearbyListChangeMoveSelectorConfig(new NearbySelectionConfig()
+                .withParabolicDistributionSizeMaximum(10));
+        var solverConfig = buildListSolverConfig()
+                .withPhases(new ConstructionHeuristicPhaseConfig(),
+                        buildLocalSearchPhaseConfig().withMoveSelectorConfig(moveSelectorConfig));
+        var solver = SolverFactory.<TestdataListSolution> create(solverConfig);
+        assertThatThrownBy(solver::buildSolver)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Enterprise");
+    }
+
+    /**
+     * Places the entities and the values in a 1-dimensional space, at the coordinate of their code.
+     */
+    public static final class TestdataObjectDistanceMeter implements NearbyDistanceMeter<TestdataObject, TestdataObject> {
+
+        @Override
+        public double getNearbyDistance(TestdataObject origin, TestdataObject destination) {
+            return Math.abs(Integer.parseInt(destination.getCode()) - Integer.parseInt(origin.getCode()));
+        }
+
+    }
+
+}
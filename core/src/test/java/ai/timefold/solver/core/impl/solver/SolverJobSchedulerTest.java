@@ -0,0 +1,127 @@
+package ai.timefold.solver.core.impl.solver;
+
+import static ai.timefold.solver.core.api.solver.SolverStatus.SOLVING_SCHEDULED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.BooleanSupplier;
+
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.api.solver.SolverManager;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import ai.timefold.solver.core.config.phase.custom.CustomPhaseConfig;
+import ai.timefold.solver.core.config.solver.SolverManagerConfig;
+import ai.timefold.solver.core.testdomain.TestdataEntity;
+import ai.timefold.solver.core.testdomain.TestdataSolution;
+import ai.timefold.solver.core.testutil.PlannerTestUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class SolverJobSchedulerTest {
+
+    // Stands in for a virtual thread per task, which this JVM may not have.
+    private static final Executor ADMISSION_EXECUTOR =
+            command -> Executors.defaultThreadFactory().newThread(command).start();
+
+    private final LinkedBlockingQueue<String> startedCodeQueue = new LinkedBlockingQueue<>();
+    private final ConcurrentHashMap<String, CountDownLatch> releaseLatchMap = new ConcurrentHashMap<>();
+    private SolverFactory<TestdataSolution> solverFactory;
+    private DefaultSolverManager<TestdataSolution, String> solverManager;
+    private ExecutorService solverThreadPool;
+
+    @BeforeEach
+    void setUp() {
+        var pausedPhaseConfig = new CustomPhaseConfig().withCustomPhaseCommands(
+                (ScoreDirector<TestdataSolution> scoreDirector, BooleanSupplier booleanSupplier) -> {
+                    var code = scoreDirector.getWorkingSolution().getCode();
+                    startedCodeQueue.add(code);
+                    try {
+                        releaseLatch(code).await();
+                    } catch (InterruptedException e) {
+                        fail("CountDownLatch failed.");
+                    }
+                });
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(pausedPhaseConfig, new ConstructionHeuristicPhaseConfig());
+        solverFactory = SolverFactory.create(solverConfig);
+        // Only unregisters the jobs when they end; its own scheduler stays unused.
+        solverManager = (DefaultSolverManager<TestdataSolution, String>) SolverManager
+                .<TestdataSolution, String> create(solverConfig, new SolverManagerConfig());
+        solverThreadPool = Executors.newFixedThreadPool(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        solverThreadPool.shutdownNow();
+        solverManager.close();
+    }
+
+    private CountDownLatch releaseLatch(String code) {
+        return releaseLatchMap.computeIfAbsent(code, key -> new CountDownLatch(1));
+    }
+
+    private DefaultSolverJob<TestdataSolution, String> buildSolverJob(String code) {
+        var problem = PlannerTestUtils.generateTestdataSolution(code, 4);
+        return new DefaultSolverJob<>(solverManager, solverFactory.buildSolver(), code, problemId -> problem, null, null,
+                null, null, (problemId, throwable) -> fail("Solving failed for problemId (%s).".formatted(problemId)),
+                null, null);
+    }
+
+    @Test
+    @Timeout(60)
+    void admitInPriorityOrder() throws InterruptedException, ExecutionException {
+        var solverJobScheduler = new SolverJobScheduler<TestdataSolution, String>(solverThreadPool, 1, false,
+                ADMISSION_EXECUTOR, ADMISSION_EXECUTOR);
+        var job1 = buildSolverJob("s1");
+        var job2 = buildSolverJob("s2");
+        var job3 = buildSolverJob("s3");
+        solverJobScheduler.schedule(job1, 0, null);
+        assertThat(startedCodeQueue.take()).isEqualTo("s1");
+        solverJobScheduler.schedule(job2, 0, null);
+        solverJobScheduler.schedule(job3, 1, null);
+        assertThat(job2.getSolverStatus()).isEqualTo(SOLVING_SCHEDULED);
+        assertThat(job3.getSolverStatus()).isEqualTo(SOLVING_SCHEDULED);
+
+        // The higher priority job goes first, although its admission task was started last.
+        releaseLatch("s1").countDown();
+        assertThat(startedCodeQueue.take()).isEqualTo("s3");
+        releaseLatch("s3").countDown();
+        assertThat(startedCodeQueue.take()).isEqualTo("s2");
+        releaseLatch("s2").countDown();
+        for (var solverJob : List.of(job1, job2, job3)) {
+            assertThat(solverJob.getFinalBestSolution()).isNotNull();
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void closeCancelsJobsAwaitingAdmission() throws InterruptedException, ExecutionException {
+        var solverJobScheduler = new SolverJobScheduler<TestdataSolution, String>(solverThreadPool, 1, false,
+                ADMISSION_EXECUTOR, ADMISSION_EXECUTOR);
+        var solvingJob = buildSolverJob("s1");
+        var pendingJob = buildSolverJob("s2");
+        solverJobScheduler.schedule(solvingJob, 0, null);
+        assertThat(startedCodeQueue.take()).isEqualTo("s1");
+        solverJobScheduler.schedule(pendingJob, 0, null);
+
+        solverJobScheduler.close();
+        releaseLatch("s1").countDown();
+        assertThat(solvingJob.getFinalBestSolution()).isNotNull();
+        // Canceled, so it returns the problem instead of solving it.
+        assertThat(pendingJob.getFinalBestSolution().getCode()).isEqualTo("s2");
+        assertThat(startedCodeQueue).isEmpty();
+    }
+
+}
@@ -95,7 +95,8 @@ class BestSolutionRecallerTest {
                 .thenReturn(stepScore.innerScore.raw());
         when(scoreDirector.getWorkingInitScore()).thenReturn(-stepScore.innerScore.unassignedCount());
         doReturn(stepScore.innerScore).when(stepScope).getScore();
-        when(stepScope.createOrGetClonedSolution()).thenReturn(stepSolution);
+        when(scoreDirector.getWorkingSolution()).thenReturn(stepSolution);
+        when(stepScope.createOrGetSolutionSnapshot()).thenReturn(() -> stepSolution);
 
         BestSolutionRecaller<TestdataSolution> recaller = createBestSolutionRecaller();
         recaller.processWorkingSolutionDuringStep(stepScope);
@@ -178,7 +179,7 @@ class BestSolutionRecallerTest {
         var moveSolution = moveScore.solution;
         when(solverScope.getScoreDirector().getSolutionDescriptor().getScore(moveSolution))
                 .thenReturn(moveScore.innerScore.raw());
-        when(solverScope.getScoreDirector().cloneWorkingSolution()).thenReturn(moveSolution);
+        when(solverScope.getScoreDirector().snapshotWorkingSolution()).thenReturn(() -> moveSolution);
 
         BestSolutionRecaller<TestdataSolution> recaller = createBestSolutionRecaller();
         recaller.processWorkingSolutionDuringMove(moveScore.innerScore, stepScope);
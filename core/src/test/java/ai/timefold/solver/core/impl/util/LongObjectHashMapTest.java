@@ -0,0 +1,65 @@
+package ai.timefold.solver.core.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LongObjectHashMapTest {
+
+    @Test
+    void putGetRemove() {
+        var map = new LongObjectHashMap<String>();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.put(1L, "a")).isNull();
+        assertThat(map.put(Long.MIN_VALUE, "b")).isNull();
+        assertThat(map.put(-1L, "c")).isNull();
+        assertThat(map.put(1L, "d")).isEqualTo("a");
+        assertThat(map.size()).isEqualTo(3);
+        assertThat(map.get(1L)).isEqualTo("d");
+        assertThat(map.get(Long.MIN_VALUE)).isEqualTo("b");
+        assertThat(map.get(2L)).isNull();
+        assertThat(map.containsKey(-1L)).isTrue();
+        assertThat(map.remove(-1L)).isEqualTo("c");
+        assertThat(map.remove(-1L)).isNull();
+        assertThat(map.containsKey(-1L)).isFalse();
+        assertThat(map.size()).isEqualTo(2);
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(1L)).isNull();
+    }
+
+    @Test
+    void forEachValue() {
+        var map = new LongObjectHashMap<String>();
+        map.put(1L, "a");
+        map.put(100L, "b");
+        var values = new ArrayList<String>();
+        map.forEachValue(values::add);
+        assertThat(values).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    void randomizedAgainstHashMap() {
+        var random = new Random(37);
+        var map = new LongObjectHashMap<Long>(2);
+        var expectedMap = new HashMap<Long, Long>();
+        for (var i = 0; i < 100_000; i++) {
+            // Small key range to force plenty of collisions, removals and re-insertions.
+            var key = (long) random.nextInt(2_000) - 1_000;
+            if (random.nextBoolean()) {
+                assertThat(map.put(key, (long) i)).isEqualTo(expectedMap.put(key, (long) i));
+            } else {
+                assertThat(map.remove(key)).isEqualTo(expectedMap.remove(key));
+            }
+            assertThat(map.size()).isEqualTo(expectedMap.size());
+        }
+        for (var key = -1_000L; key < 1_000L; key++) {
+            assertThat(map.get(key)).isEqualTo(expectedMap.get(key));
+        }
+    }
+
+}